@@ -31,6 +31,7 @@ import com.powsybl.openloadflow.dc.DcOuterLoop;
 import com.powsybl.openloadflow.dc.DcValueVoltageInitializer;
 import com.powsybl.openloadflow.dc.equations.DcApproximationType;
 import com.powsybl.openloadflow.dc.equations.DcEquationSystemCreationParameters;
+import com.powsybl.openloadflow.equations.JacobianMatrix;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
 import com.powsybl.openloadflow.graph.NaiveGraphConnectivityFactory;
 import com.powsybl.openloadflow.lf.AbstractLoadFlowParameters;
@@ -312,6 +313,10 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
 
     public static final String ALLOW_NON_LINEAR_SHUNT_ZERO_SECTION_PARAM_NAME = "allowNonLinearShuntZeroSection";
 
+    public static final String JACOBIAN_MATRIX_THREAD_COUNT_PARAM_NAME = "jacobianMatrixThreadCount";
+
+    public static final String NETWORK_LOADING_THREAD_COUNT_PARAM_NAME = "networkLoadingThreadCount";
+
     public static <E extends Enum<E>> List<Object> getEnumPossibleValues(Class<E> enumClass) {
         return EnumSet.allOf(enumClass).stream().map(Enum::name).collect(Collectors.toList());
     }
@@ -631,7 +636,13 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
             AC_DC_NETWORK_DEFAULT_VALUE, ParameterScope.FUNCTIONAL, MODEL_CATEGORY_KEY),
         new Parameter(ALLOW_NON_LINEAR_SHUNT_ZERO_SECTION_PARAM_NAME, ParameterType.BOOLEAN,
             "Allow Non-Linear Shunt Compensator zero section position",
-            LfNetworkParameters.ALLOW_NON_LINEAR_SHUNT_ZERO_SECTION_DEFAULT_VALUE, ParameterScope.FUNCTIONAL, MODEL_CATEGORY_KEY)
+            LfNetworkParameters.ALLOW_NON_LINEAR_SHUNT_ZERO_SECTION_DEFAULT_VALUE, ParameterScope.FUNCTIONAL, MODEL_CATEGORY_KEY),
+        new Parameter(JACOBIAN_MATRIX_THREAD_COUNT_PARAM_NAME, ParameterType.INTEGER,
+            "Number of threads used to build the Jacobian matrix",
+            JacobianMatrix.DEFAULT_THREAD_COUNT, ParameterScope.TECHNICAL, PERFORMANCE_CATEGORY_KEY),
+        new Parameter(NETWORK_LOADING_THREAD_COUNT_PARAM_NAME, ParameterType.INTEGER,
+            "Number of threads used to load the networks of the independent components",
+            LfNetworkParameters.NETWORK_LOADING_THREAD_COUNT_DEFAULT_VALUE, ParameterScope.TECHNICAL, PERFORMANCE_CATEGORY_KEY)
     );
 
     public enum VoltageInitModeOverride {
@@ -838,6 +849,10 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
 
     private boolean allowNonLinearShuntZeroSection = LfNetworkParameters.ALLOW_NON_LINEAR_SHUNT_ZERO_SECTION_DEFAULT_VALUE;
 
+    private int jacobianMatrixThreadCount = JacobianMatrix.DEFAULT_THREAD_COUNT;
+
+    private int networkLoadingThreadCount = LfNetworkParameters.NETWORK_LOADING_THREAD_COUNT_DEFAULT_VALUE;
+
     public static double checkParameterValue(double parameterValue, boolean condition, String parameterName) {
         if (!condition) {
             throw new IllegalArgumentException("Invalid value for parameter " + parameterName + ": " + parameterValue);
@@ -1664,6 +1679,28 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
         return this;
     }
 
+    public int getJacobianMatrixThreadCount() {
+        return jacobianMatrixThreadCount;
+    }
+
+    public OpenLoadFlowParameters setJacobianMatrixThreadCount(int jacobianMatrixThreadCount) {
+        this.jacobianMatrixThreadCount = checkParameterValue(jacobianMatrixThreadCount,
+                jacobianMatrixThreadCount >= 1,
+                JACOBIAN_MATRIX_THREAD_COUNT_PARAM_NAME);
+        return this;
+    }
+
+    public int getNetworkLoadingThreadCount() {
+        return networkLoadingThreadCount;
+    }
+
+    public OpenLoadFlowParameters setNetworkLoadingThreadCount(int networkLoadingThreadCount) {
+        this.networkLoadingThreadCount = checkParameterValue(networkLoadingThreadCount,
+                networkLoadingThreadCount >= 1,
+                NETWORK_LOADING_THREAD_COUNT_PARAM_NAME);
+        return this;
+    }
+
     public static OpenLoadFlowParameters load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -1806,6 +1843,8 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
         config.getOptionalBooleanProperty(FIX_VOLTAGE_TARGETS_PARAM_NAME).ifPresent(this::setFixVoltageTargets);
         config.getOptionalBooleanProperty(AC_DC_NETWORK_PARAM_NAME).ifPresent(this::setAcDcNetwork);
         config.getOptionalBooleanProperty(ALLOW_NON_LINEAR_SHUNT_ZERO_SECTION_PARAM_NAME).ifPresent(this::setAllowNonLinearShuntZeroSection);
+        config.getOptionalIntProperty(JACOBIAN_MATRIX_THREAD_COUNT_PARAM_NAME).ifPresent(this::setJacobianMatrixThreadCount);
+        config.getOptionalIntProperty(NETWORK_LOADING_THREAD_COUNT_PARAM_NAME).ifPresent(this::setNetworkLoadingThreadCount);
     }
 
     public OpenLoadFlowParameters update(Map<String, String> properties) {
@@ -1982,11 +2021,15 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .ifPresent(prop -> this.setAcDcNetwork(Boolean.parseBoolean(prop)));
         Optional.ofNullable(properties.get(ALLOW_NON_LINEAR_SHUNT_ZERO_SECTION_PARAM_NAME))
                 .ifPresent(prop -> this.setAllowNonLinearShuntZeroSection(Boolean.parseBoolean(prop)));
+        Optional.ofNullable(properties.get(JACOBIAN_MATRIX_THREAD_COUNT_PARAM_NAME))
+                .ifPresent(prop -> this.setJacobianMatrixThreadCount(Integer.parseInt(prop)));
+        Optional.ofNullable(properties.get(NETWORK_LOADING_THREAD_COUNT_PARAM_NAME))
+                .ifPresent(prop -> this.setNetworkLoadingThreadCount(Integer.parseInt(prop)));
         return this;
     }
 
     public Map<String, Object> toMap() {
-        Map<String, Object> map = LinkedHashMap.newLinkedHashMap(82);
+        Map<String, Object> map = LinkedHashMap.newLinkedHashMap(84);
         map.put(SLACK_BUS_SELECTION_MODE_PARAM_NAME, slackBusSelectionMode);
         map.put(SLACK_BUSES_IDS_PARAM_NAME, slackBusesIds);
         map.put(SLACK_DISTRIBUTION_FAILURE_BEHAVIOR_PARAM_NAME, slackDistributionFailureBehavior);
@@ -2069,6 +2112,8 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
         map.put(FIX_VOLTAGE_TARGETS_PARAM_NAME, fixVoltageTargets);
         map.put(AC_DC_NETWORK_PARAM_NAME, acDcNetwork);
         map.put(ALLOW_NON_LINEAR_SHUNT_ZERO_SECTION_PARAM_NAME, allowNonLinearShuntZeroSection);
+        map.put(JACOBIAN_MATRIX_THREAD_COUNT_PARAM_NAME, jacobianMatrixThreadCount);
+        map.put(NETWORK_LOADING_THREAD_COUNT_PARAM_NAME, networkLoadingThreadCount);
         return map;
     }
 
@@ -2236,7 +2281,8 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setGeneratorsWithZeroMwTargetAreNotStarted(parametersExt.isGeneratorsWithZeroMwTargetAreNotStarted())
                 .setAcDcNetwork(parametersExt.isAcDcNetwork())
                 .setDetailedReport(parametersExt.getReportedFeatures().contains(OpenLoadFlowParameters.ReportedFeatures.NETWORK_LOADING))
-                .setAllowNonLinearShuntZeroSection(parametersExt.isAllowNonLinearShuntZeroSection());
+                .setAllowNonLinearShuntZeroSection(parametersExt.isAllowNonLinearShuntZeroSection())
+                .setNetworkLoadingThreadCount(parametersExt.getNetworkLoadingThreadCount());
     }
 
     public static AcLoadFlowParameters createAcParameters(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
@@ -2275,7 +2321,7 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
 
         var networkParameters = getNetworkParameters(parameters, parametersExt, slackBusSelector, connectivityFactory, breakers);
 
-        var equationSystemCreationParameters = new AcEquationSystemCreationParameters(forceA1Var);
+        var equationSystemCreationParameters = new AcEquationSystemCreationParameters(forceA1Var, parametersExt.getJacobianMatrixThreadCount());
 
         VoltageInitializer voltageInitializer = getExtendedVoltageInitializer(parameters, parametersExt, networkParameters, matrixFactory);
 
@@ -2295,6 +2341,7 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setSlackDistributionFailureBehavior(parametersExt.getSlackDistributionFailureBehavior())
                 .setSolverFactory(solverFactory, parameters)
                 .setFixVoltageTargets(parametersExt.isFixVoltageTargets())
+                .setJacobianMatrixThreadCount(parametersExt.getJacobianMatrixThreadCount())
                 .setVoltageRemoteControlRobustMode(parametersExt.isVoltageRemoteControlRobustMode())
                 .setMinRealisticVoltage(parametersExt.minRealisticVoltage)
                 .setMaxRealisticVoltage(parametersExt.maxRealisticVoltage)
@@ -2356,7 +2403,8 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setGeneratorsWithZeroMwTargetAreNotStarted(parametersExt.isGeneratorsWithZeroMwTargetAreNotStarted())
                 .setAcDcNetwork(parametersExt.isAcDcNetwork())
                 .setDetailedReport(parametersExt.reportedFeatures.contains(ReportedFeatures.NETWORK_LOADING))
-                .setAllowNonLinearShuntZeroSection(parametersExt.isAllowNonLinearShuntZeroSection());
+                .setAllowNonLinearShuntZeroSection(parametersExt.isAllowNonLinearShuntZeroSection())
+                .setNetworkLoadingThreadCount(parametersExt.getNetworkLoadingThreadCount());
 
         var equationSystemCreationParameters = new DcEquationSystemCreationParameters()
                 .setUpdateFlows(true)
@@ -2376,7 +2424,8 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setOuterLoops(createDcOuterLoops(parameters, parametersExt))
                 .setMaxOuterLoopIterations(parametersExt.getMaxOuterLoopIterations())
                 .setSlackBusPMaxMismatch(parametersExt.getSlackBusPMaxMismatch())
-                .setAreaInterchangePMaxMismatch(parametersExt.getAreaInterchangePMaxMismatch());
+                .setAreaInterchangePMaxMismatch(parametersExt.getAreaInterchangePMaxMismatch())
+                .setJacobianMatrixThreadCount(parametersExt.getJacobianMatrixThreadCount());
     }
 
     static GraphConnectivityFactory<LfBus, LfBranch> getConnectivityFactory(OpenLoadFlowParameters parametersExt,
@@ -2503,7 +2552,9 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 extension1.getIncrementalShuntControlOuterLoopMaxSectionShift() == extension2.getIncrementalShuntControlOuterLoopMaxSectionShift() &&
                 extension1.isFixVoltageTargets() == extension2.isFixVoltageTargets() &&
                 extension1.isAcDcNetwork() == extension2.isAcDcNetwork() &&
-                extension1.isAllowNonLinearShuntZeroSection() == extension2.isAllowNonLinearShuntZeroSection();
+                extension1.isAllowNonLinearShuntZeroSection() == extension2.isAllowNonLinearShuntZeroSection() &&
+                extension1.getJacobianMatrixThreadCount() == extension2.getJacobianMatrixThreadCount() &&
+                extension1.getNetworkLoadingThreadCount() == extension2.getNetworkLoadingThreadCount();
     }
 
     public static OpenLoadFlowParameters clone(OpenLoadFlowParameters extension) {
@@ -2589,7 +2640,9 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setIncrementalShuntControlOuterLoopMaxSectionShift(extension.getIncrementalShuntControlOuterLoopMaxSectionShift())
                 .setFixVoltageTargets(extension.isFixVoltageTargets())
                 .setAcDcNetwork(extension.isAcDcNetwork())
-                .setAllowNonLinearShuntZeroSection(extension.isAllowNonLinearShuntZeroSection());
+                .setAllowNonLinearShuntZeroSection(extension.isAllowNonLinearShuntZeroSection())
+                .setJacobianMatrixThreadCount(extension.getJacobianMatrixThreadCount())
+                .setNetworkLoadingThreadCount(extension.getNetworkLoadingThreadCount());
     }
 
     public static LoadFlowParameters clone(LoadFlowParameters parameters) {
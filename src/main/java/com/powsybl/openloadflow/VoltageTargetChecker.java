@@ -23,6 +23,8 @@ import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
 import com.powsybl.openloadflow.util.Reports;
 import org.apache.commons.lang3.mutable.MutableInt;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.math3.complex.Complex;
 import org.jgrapht.Graph;
 import org.jgrapht.graph.Pseudograph;
 import org.jgrapht.traverse.BreadthFirstIterator;
@@ -105,24 +107,32 @@ public class VoltageTargetChecker {
                                           VoltageTargetCheck.LfResult result) {
         Graph<LfBus, LfBranch> graph = createGraph(network);
 
+        // pairs of neighbor controlled buses, grouped by controlled bus so that impedance matrix columns are shared
+        List<Pair<LfBus, LfBus>> busPairs = new ArrayList<>();
+        for (LfBus controlledBus : controlledBuses) {
+            exploreNeighbors(graph, controlledBus, parameters.getControlledBusNeighborsExplorationDepth())
+                    .stream().filter(controlledBuses::contains)
+                    .forEach(neighborControlledBus -> busPairs.add(Pair.of(controlledBus, neighborControlledBus)));
+        }
+        if (busPairs.isEmpty()) {
+            return;
+        }
+
         var ySystem = AdmittanceEquationSystem.create(network, new VariableSet<>());
+        Map<Pair<LfBus, LfBus>, Complex> zByBusPair;
         try (var y = AdmittanceMatrix.create(ySystem, parameters.getMatrixFactory())) {
-            for (LfBus controlledBus : controlledBuses) {
-                Set<LfBus> neighborControlledBuses = exploreNeighbors(graph, controlledBus, parameters.getControlledBusNeighborsExplorationDepth())
-                        .stream().filter(controlledBuses::contains)
-                        .collect(Collectors.toSet());
-                if (!neighborControlledBuses.isEmpty()) {
-                    for (LfBus neighborControlledBus : neighborControlledBuses) {
-                        double z = y.getZ(controlledBus, neighborControlledBus).abs();
-                        double dv = Math.abs(controlledBus.getHighestPriorityTargetV().orElseThrow() - neighborControlledBus.getHighestPriorityTargetV().orElseThrow());
-                        double targetVoltagePlausibilityIndicator = dv / z;
-                        LOGGER.debug("Indicator: {}/{} dv = {} dz = {} indicator = {}",
-                                controlledBus.getId(), neighborControlledBus.getId(), dv, z, targetVoltagePlausibilityIndicator);
-                        if (targetVoltagePlausibilityIndicator > parameters.getTargetVoltagePlausibilityIndicatorThreshold()) {
-                            result.lfIncompatibleTarget().add(new VoltageTargetCheck.LfIncompatibleTarget(controlledBus, neighborControlledBus, targetVoltagePlausibilityIndicator));
-                        }
-                    }
-                }
+            zByBusPair = y.getZ(busPairs);
+        }
+        for (Pair<LfBus, LfBus> busPair : busPairs) {
+            LfBus controlledBus = busPair.getLeft();
+            LfBus neighborControlledBus = busPair.getRight();
+            double z = zByBusPair.get(busPair).abs();
+            double dv = Math.abs(controlledBus.getHighestPriorityTargetV().orElseThrow() - neighborControlledBus.getHighestPriorityTargetV().orElseThrow());
+            double targetVoltagePlausibilityIndicator = dv / z;
+            LOGGER.debug("Indicator: {}/{} dv = {} dz = {} indicator = {}",
+                    controlledBus.getId(), neighborControlledBus.getId(), dv, z, targetVoltagePlausibilityIndicator);
+            if (targetVoltagePlausibilityIndicator > parameters.getTargetVoltagePlausibilityIndicatorThreshold()) {
+                result.lfIncompatibleTarget().add(new VoltageTargetCheck.LfIncompatibleTarget(controlledBus, neighborControlledBus, targetVoltagePlausibilityIndicator));
             }
         }
     }
@@ -44,8 +44,8 @@ public class AcJacobianMatrix extends JacobianMatrix<AcVariableType, AcEquationT
     };
 
     public AcJacobianMatrix(EquationSystem<AcVariableType, AcEquationType> equationSystem, MatrixFactory matrixFactory,
-                            LfNetwork network) {
-        super(equationSystem, matrixFactory);
+                            LfNetwork network, int threadCount) {
+        super(equationSystem, matrixFactory, threadCount);
         this.network = Objects.requireNonNull(network);
         network.addListener(networkListener);
     }
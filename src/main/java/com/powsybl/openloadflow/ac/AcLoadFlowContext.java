@@ -17,6 +17,7 @@ import com.powsybl.openloadflow.equations.EquationVector;
 import com.powsybl.openloadflow.equations.JacobianMatrix;
 import com.powsybl.openloadflow.equations.TargetVector;
 import com.powsybl.openloadflow.lf.AbstractLoadFlowContext;
+import com.powsybl.openloadflow.network.LfBranchFlowReader;
 import com.powsybl.openloadflow.network.LfNetwork;
 
 /**
@@ -37,7 +38,7 @@ public class AcLoadFlowContext extends AbstractLoadFlowContext<AcVariableType, A
     @Override
     public JacobianMatrix<AcVariableType, AcEquationType> getJacobianMatrix() {
         if (jacobianMatrix == null) {
-            jacobianMatrix = new AcJacobianMatrix(getEquationSystem(), parameters.getMatrixFactory(), network);
+            jacobianMatrix = new AcJacobianMatrix(getEquationSystem(), parameters.getMatrixFactory(), network, parameters.getJacobianMatrixThreadCount());
         }
         return jacobianMatrix;
     }
@@ -89,5 +90,9 @@ public class AcLoadFlowContext extends AbstractLoadFlowContext<AcVariableType, A
         if (equationVector != null) {
             equationVector.close();
         }
+        if (equationSystem != null && parameters.isVectorized() && !parameters.isAsymmetrical()) {
+            // flows must not be read anymore from the network vector of this context
+            network.setBranchFlowReader(LfBranchFlowReader.NONE);
+        }
     }
 }
@@ -241,6 +241,7 @@ public class AcLoadFlowParameters extends AbstractLoadFlowParameters<AcLoadFlowP
                 ", fixVoltageTargets=" + fixVoltageTargets +
                 ", vectorized=" + vectorized +
                 ", voltageInitReport=" + voltageInitReport +
+                ", jacobianMatrixThreadCount=" + jacobianMatrixThreadCount +
                 ')';
     }
 }
@@ -12,24 +12,44 @@ package com.powsybl.openloadflow.ac.equations;
  */
 public class AcEquationSystemCreationParameters {
 
+    public static final int DEFAULT_THREAD_COUNT = 1;
+
     private final boolean forceA1Var;
 
+    private final int threadCount;
+
     public AcEquationSystemCreationParameters() {
         this(false);
     }
 
     public AcEquationSystemCreationParameters(boolean forceA1Var) {
+        this(forceA1Var, DEFAULT_THREAD_COUNT);
+    }
+
+    public AcEquationSystemCreationParameters(boolean forceA1Var, int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threadCount);
+        }
         this.forceA1Var = forceA1Var;
+        this.threadCount = threadCount;
     }
 
     public boolean isForceA1Var() {
         return forceA1Var;
     }
 
+    /**
+     * Number of threads used to create the branch equation terms of large networks.
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
     @Override
     public String toString() {
         return "AcEquationSystemCreationParameters(" +
                 "forceA1Var=" + forceA1Var +
+                ", threadCount=" + threadCount +
                 ')';
     }
 }
@@ -7,6 +7,7 @@
  */
 package com.powsybl.openloadflow.ac.equations;
 
+import com.google.common.collect.Lists;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.AcDcConverter;
 import com.powsybl.iidm.network.TwoSides;
@@ -17,6 +18,7 @@ import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.TransformerPhaseControl.Mode;
 import com.powsybl.openloadflow.util.Evaluable;
 import com.powsybl.openloadflow.util.EvaluableConstants;
+import com.powsybl.openloadflow.util.mt.MultiThreadHelper;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,17 +34,29 @@ import static com.powsybl.openloadflow.equations.EquationTerm.setActive;
  */
 public class AcEquationSystemCreator {
 
+    /**
+     * Minimum number of branches for branch equation terms to be created on several threads.
+     */
+    private static final int DEFAULT_PARALLEL_MIN_BRANCH_COUNT = 10000;
+
     protected final LfNetwork network;
 
     protected final AcEquationSystemCreationParameters creationParameters;
 
+    private final int parallelMinBranchCount;
+
     public AcEquationSystemCreator(LfNetwork network) {
         this(network, new AcEquationSystemCreationParameters());
     }
 
     public AcEquationSystemCreator(LfNetwork network, AcEquationSystemCreationParameters creationParameters) {
+        this(network, creationParameters, DEFAULT_PARALLEL_MIN_BRANCH_COUNT);
+    }
+
+    AcEquationSystemCreator(LfNetwork network, AcEquationSystemCreationParameters creationParameters, int parallelMinBranchCount) {
         this.network = Objects.requireNonNull(network);
         this.creationParameters = Objects.requireNonNull(creationParameters);
+        this.parallelMinBranchCount = parallelMinBranchCount;
     }
 
     protected void createBusEquation(LfBus bus,
@@ -702,90 +716,115 @@ public class AcEquationSystemCreator {
         return branch.isVoltageController() || branch.isTransformerReactivePowerController();
     }
 
-    protected void createImpedantBranch(LfBranch branch, LfBus bus1, LfBus bus2,
-                                        EquationSystem<AcVariableType, AcEquationType> equationSystem) {
+    /**
+     * Equation terms of an impedant branch, created without modifying the equation system so that terms of several
+     * branches can be created concurrently.
+     */
+    private static final class ImpedantBranchTerms {
+
         // effective equations, could be closed one or open one
-        Evaluable p1 = null;
-        Evaluable q1 = null;
-        Evaluable p2 = null;
-        Evaluable q2 = null;
-        Evaluable i1 = null;
-        Evaluable i2 = null;
+        private Evaluable p1;
+        private Evaluable q1;
+        private Evaluable p2;
+        private Evaluable q2;
+        private Evaluable i1;
+        private Evaluable i2;
 
         // closed equations, could be null because line already open on base case
-        EquationTerm<AcVariableType, AcEquationType> closedP1 = null;
-        EquationTerm<AcVariableType, AcEquationType> closedQ1 = null;
-        SingleEquationTerm<AcVariableType, AcEquationType> closedI1 = null;
-        EquationTerm<AcVariableType, AcEquationType> closedP2 = null;
-        EquationTerm<AcVariableType, AcEquationType> closedQ2 = null;
-        SingleEquationTerm<AcVariableType, AcEquationType> closedI2 = null;
+        private EquationTerm<AcVariableType, AcEquationType> closedP1;
+        private EquationTerm<AcVariableType, AcEquationType> closedQ1;
+        private SingleEquationTerm<AcVariableType, AcEquationType> closedI1;
+        private EquationTerm<AcVariableType, AcEquationType> closedP2;
+        private EquationTerm<AcVariableType, AcEquationType> closedQ2;
+        private SingleEquationTerm<AcVariableType, AcEquationType> closedI2;
 
         // open equations, could be null because only necessary if already open and never closed, or open during simulation
-        EquationTerm<AcVariableType, AcEquationType> openP1 = null;
-        EquationTerm<AcVariableType, AcEquationType> openQ1 = null;
-        SingleEquationTerm<AcVariableType, AcEquationType> openI1 = null;
-        EquationTerm<AcVariableType, AcEquationType> openP2 = null;
-        EquationTerm<AcVariableType, AcEquationType> openQ2 = null;
-        SingleEquationTerm<AcVariableType, AcEquationType> openI2 = null;
+        private EquationTerm<AcVariableType, AcEquationType> openP1;
+        private EquationTerm<AcVariableType, AcEquationType> openQ1;
+        private SingleEquationTerm<AcVariableType, AcEquationType> openI1;
+        private EquationTerm<AcVariableType, AcEquationType> openP2;
+        private EquationTerm<AcVariableType, AcEquationType> openQ2;
+        private SingleEquationTerm<AcVariableType, AcEquationType> openI2;
+
+        private final boolean deriveA1;
+        private final boolean deriveR1;
+
+        private ImpedantBranchTerms(boolean deriveA1, boolean deriveR1) {
+            this.deriveA1 = deriveA1;
+            this.deriveR1 = deriveR1;
+        }
+    }
 
+    protected void createImpedantBranch(LfBranch branch, LfBus bus1, LfBus bus2,
+                                        EquationSystem<AcVariableType, AcEquationType> equationSystem) {
+        addImpedantBranchTerms(branch, bus1, bus2, equationSystem, createImpedantBranchTerms(branch, bus1, bus2, equationSystem));
+    }
+
+    private ImpedantBranchTerms createImpedantBranchTerms(LfBranch branch, LfBus bus1, LfBus bus2,
+                                                          EquationSystem<AcVariableType, AcEquationType> equationSystem) {
         boolean deriveA1 = isDeriveA1(branch, creationParameters);
         boolean deriveR1 = isDeriveR1(branch);
+        ImpedantBranchTerms terms = new ImpedantBranchTerms(deriveA1, deriveR1);
         if (bus1 != null && bus2 != null) {
-            closedP1 = createClosedBranchSide1ActiveFlowEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
-            closedQ1 = createClosedBranchSide1ReactiveFlowEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
-            closedP2 = createClosedBranchSide2ActiveFlowEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
-            closedQ2 = createClosedBranchSide2ReactiveFlowEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
-            closedI1 = createClosedBranchSide1CurrentMagnitudeEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
-            closedI2 = createClosedBranchSide2CurrentMagnitudeEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
+            terms.closedP1 = createClosedBranchSide1ActiveFlowEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
+            terms.closedQ1 = createClosedBranchSide1ReactiveFlowEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
+            terms.closedP2 = createClosedBranchSide2ActiveFlowEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
+            terms.closedQ2 = createClosedBranchSide2ReactiveFlowEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
+            terms.closedI1 = createClosedBranchSide1CurrentMagnitudeEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
+            terms.closedI2 = createClosedBranchSide2CurrentMagnitudeEquationTerm(branch, bus1, bus2, deriveA1, deriveR1, equationSystem);
             if (branch.isDisconnectionAllowedSide1()) {
-                openP2 = new OpenBranchSide1ActiveFlowEquationTerm(branch, bus2, equationSystem.getVariableSet());
-                openQ2 = new OpenBranchSide1ReactiveFlowEquationTerm(branch, bus2, equationSystem.getVariableSet());
-                openI2 = new OpenBranchSide1CurrentMagnitudeEquationTerm(branch, bus2, equationSystem.getVariableSet());
+                terms.openP2 = new OpenBranchSide1ActiveFlowEquationTerm(branch, bus2, equationSystem.getVariableSet());
+                terms.openQ2 = new OpenBranchSide1ReactiveFlowEquationTerm(branch, bus2, equationSystem.getVariableSet());
+                terms.openI2 = new OpenBranchSide1CurrentMagnitudeEquationTerm(branch, bus2, equationSystem.getVariableSet());
             }
             if (branch.isDisconnectionAllowedSide2()) {
-                openP1 = new OpenBranchSide2ActiveFlowEquationTerm(branch, bus1, equationSystem.getVariableSet());
-                openQ1 = new OpenBranchSide2ReactiveFlowEquationTerm(branch, bus1, equationSystem.getVariableSet());
-                openI1 = new OpenBranchSide2CurrentMagnitudeEquationTerm(branch, bus1, equationSystem.getVariableSet(), deriveR1);
+                terms.openP1 = new OpenBranchSide2ActiveFlowEquationTerm(branch, bus1, equationSystem.getVariableSet());
+                terms.openQ1 = new OpenBranchSide2ReactiveFlowEquationTerm(branch, bus1, equationSystem.getVariableSet());
+                terms.openI1 = new OpenBranchSide2CurrentMagnitudeEquationTerm(branch, bus1, equationSystem.getVariableSet(), deriveR1);
             }
-            p1 = closedP1;
-            q1 = closedQ1;
-            i1 = closedI1;
-            p2 = closedP2;
-            q2 = closedQ2;
-            i2 = closedI2;
+            terms.p1 = terms.closedP1;
+            terms.q1 = terms.closedQ1;
+            terms.i1 = terms.closedI1;
+            terms.p2 = terms.closedP2;
+            terms.q2 = terms.closedQ2;
+            terms.i2 = terms.closedI2;
         } else if (bus1 != null) {
-            openP1 = new OpenBranchSide2ActiveFlowEquationTerm(branch, bus1, equationSystem.getVariableSet());
-            openQ1 = new OpenBranchSide2ReactiveFlowEquationTerm(branch, bus1, equationSystem.getVariableSet());
-            openI1 = new OpenBranchSide2CurrentMagnitudeEquationTerm(branch, bus1, equationSystem.getVariableSet(), deriveR1);
-            p1 = openP1;
-            q1 = openQ1;
-            i1 = openI1;
-            p2 = EvaluableConstants.ZERO;
-            q2 = EvaluableConstants.ZERO;
-            i2 = EvaluableConstants.ZERO;
+            terms.openP1 = new OpenBranchSide2ActiveFlowEquationTerm(branch, bus1, equationSystem.getVariableSet());
+            terms.openQ1 = new OpenBranchSide2ReactiveFlowEquationTerm(branch, bus1, equationSystem.getVariableSet());
+            terms.openI1 = new OpenBranchSide2CurrentMagnitudeEquationTerm(branch, bus1, equationSystem.getVariableSet(), deriveR1);
+            terms.p1 = terms.openP1;
+            terms.q1 = terms.openQ1;
+            terms.i1 = terms.openI1;
+            terms.p2 = EvaluableConstants.ZERO;
+            terms.q2 = EvaluableConstants.ZERO;
+            terms.i2 = EvaluableConstants.ZERO;
         } else if (bus2 != null) {
-            openP2 = new OpenBranchSide1ActiveFlowEquationTerm(branch, bus2, equationSystem.getVariableSet());
-            openQ2 = new OpenBranchSide1ReactiveFlowEquationTerm(branch, bus2, equationSystem.getVariableSet());
-            openI2 = new OpenBranchSide1CurrentMagnitudeEquationTerm(branch, bus2, equationSystem.getVariableSet());
-            p1 = EvaluableConstants.ZERO;
-            q1 = EvaluableConstants.ZERO;
-            i1 = EvaluableConstants.ZERO;
-            p2 = openP2;
-            q2 = openQ2;
-            i2 = openI2;
+            terms.openP2 = new OpenBranchSide1ActiveFlowEquationTerm(branch, bus2, equationSystem.getVariableSet());
+            terms.openQ2 = new OpenBranchSide1ReactiveFlowEquationTerm(branch, bus2, equationSystem.getVariableSet());
+            terms.openI2 = new OpenBranchSide1CurrentMagnitudeEquationTerm(branch, bus2, equationSystem.getVariableSet());
+            terms.p1 = EvaluableConstants.ZERO;
+            terms.q1 = EvaluableConstants.ZERO;
+            terms.i1 = EvaluableConstants.ZERO;
+            terms.p2 = terms.openP2;
+            terms.q2 = terms.openQ2;
+            terms.i2 = terms.openI2;
         }
+        return terms;
+    }
 
+    private void addImpedantBranchTerms(LfBranch branch, LfBus bus1, LfBus bus2,
+                                        EquationSystem<AcVariableType, AcEquationType> equationSystem, ImpedantBranchTerms terms) {
         createImpedantBranchEquations(branch, bus1, bus2, equationSystem,
-                p1, q1, i1,
-                p2, q2, i2,
-                closedP1, closedQ1, closedI1,
-                closedP2, closedQ2, closedI2,
-                openP1, openQ1, openI1,
-                openP2, openQ2, openI2);
+                terms.p1, terms.q1, terms.i1,
+                terms.p2, terms.q2, terms.i2,
+                terms.closedP1, terms.closedQ1, terms.closedI1,
+                terms.closedP2, terms.closedQ2, terms.closedI2,
+                terms.openP1, terms.openQ1, terms.openI1,
+                terms.openP2, terms.openQ2, terms.openI2);
 
-        createGeneratorReactivePowerControlBranchEquation(branch, bus1, bus2, equationSystem, deriveA1, deriveR1);
+        createGeneratorReactivePowerControlBranchEquation(branch, bus1, bus2, equationSystem, terms.deriveA1, terms.deriveR1);
 
-        createTransformerPhaseControlEquations(branch, bus1, bus2, equationSystem, deriveA1, deriveR1);
+        createTransformerPhaseControlEquations(branch, bus1, bus2, equationSystem, terms.deriveA1, terms.deriveR1);
 
         updateBranchEquations(branch);
 
@@ -1151,8 +1190,7 @@ public class AcEquationSystemCreator {
         AbstractEquationSystemUpdater.updateHvdcAcEmulationEquations(hvdc);
     }
 
-    private void createImpedantBranchEquations(LfBranch branch,
-                                               EquationSystem<AcVariableType, AcEquationType> equationSystem) {
+    private static void clearAdditionalTerms(LfBranch branch) {
         branch.getAdditionalOpenP1().clear();
         branch.getAdditionalOpenQ1().clear();
         branch.getAdditionalClosedP1().clear();
@@ -1161,6 +1199,11 @@ public class AcEquationSystemCreator {
         branch.getAdditionalOpenQ2().clear();
         branch.getAdditionalClosedP2().clear();
         branch.getAdditionalClosedQ2().clear();
+    }
+
+    private void createImpedantBranchEquations(LfBranch branch,
+                                               EquationSystem<AcVariableType, AcEquationType> equationSystem) {
+        clearAdditionalTerms(branch);
 
         // create zero and non zero impedance branch equations
         if (branch.isZeroImpedance(LoadFlowModel.AC)) {
@@ -1170,9 +1213,67 @@ public class AcEquationSystemCreator {
         }
     }
 
+    /**
+     * Parallel creation of branch equation terms is disabled for creators overriding the impedant branch creation
+     * with terms that are not only based on bus voltage and branch phase shift and ratio variables.
+     */
+    protected boolean isParallelBranchTermCreationSupported() {
+        return true;
+    }
+
     private void createBranchesEquations(EquationSystem<AcVariableType, AcEquationType> equationSystem) {
-        for (LfBranch branch : network.getBranches()) {
-            createImpedantBranchEquations(branch, equationSystem);
+        List<LfBranch> branches = network.getBranches();
+        int threadCount = creationParameters.getThreadCount();
+        if (threadCount > 1 && branches.size() >= parallelMinBranchCount && isParallelBranchTermCreationSupported()) {
+            createBranchesEquationsParallel(branches, threadCount, equationSystem);
+        } else {
+            for (LfBranch branch : branches) {
+                createImpedantBranchEquations(branch, equationSystem);
+            }
+        }
+    }
+
+    /**
+     * Same as the sequential creation but terms of non zero impedance branches are created concurrently, by chunks
+     * of contiguous branches (one per thread, on the shared executor), into per chunk buffers. Variables are created
+     * beforehand so that term constructors only read the variable set. Terms are then added to the equation system
+     * in the branch order, so that equations and terms are the same as the sequential creation ones.
+     */
+    private void createBranchesEquationsParallel(List<LfBranch> branches, int threadCount,
+                                                 EquationSystem<AcVariableType, AcEquationType> equationSystem) {
+        VariableSet<AcVariableType> variableSet = equationSystem.getVariableSet();
+        for (LfBus bus : network.getBuses()) {
+            variableSet.getVariable(bus.getNum(), AcVariableType.BUS_V);
+            variableSet.getVariable(bus.getNum(), AcVariableType.BUS_PHI);
+        }
+        for (LfBranch branch : branches) {
+            if (isDeriveA1(branch, creationParameters)) {
+                variableSet.getVariable(branch.getNum(), AcVariableType.BRANCH_ALPHA1);
+            }
+            if (isDeriveR1(branch)) {
+                variableSet.getVariable(branch.getNum(), AcVariableType.BRANCH_RHO1);
+            }
+        }
+
+        int chunkSize = (branches.size() + threadCount - 1) / threadCount;
+        List<List<ImpedantBranchTerms>> chunksTerms = MultiThreadHelper.map(Lists.partition(branches, chunkSize), MultiThreadHelper.getSharedExecutor(), chunk -> {
+            List<ImpedantBranchTerms> chunkTerms = new ArrayList<>(chunk.size());
+            for (LfBranch branch : chunk) {
+                chunkTerms.add(branch.isZeroImpedance(LoadFlowModel.AC) ? null
+                                                                         : createImpedantBranchTerms(branch, branch.getBus1(), branch.getBus2(), equationSystem));
+            }
+            return chunkTerms;
+        });
+
+        for (int i = 0; i < branches.size(); i++) {
+            LfBranch branch = branches.get(i);
+            clearAdditionalTerms(branch);
+            ImpedantBranchTerms terms = chunksTerms.get(i / chunkSize).get(i % chunkSize);
+            if (terms == null) {
+                createNonImpedantBranch(branch, branch.getBus1(), branch.getBus2(), equationSystem, branch.isSpanningTreeEdge(LoadFlowModel.AC));
+            } else {
+                addImpedantBranchTerms(branch, branch.getBus1(), branch.getBus2(), equationSystem, terms);
+            }
         }
     }
 
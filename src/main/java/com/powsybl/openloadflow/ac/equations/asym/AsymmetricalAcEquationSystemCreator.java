@@ -98,6 +98,11 @@ public class AsymmetricalAcEquationSystemCreator extends AcEquationSystemCreator
         }
     }
 
+    @Override
+    protected boolean isParallelBranchTermCreationSupported() {
+        return false;
+    }
+
     @Override
     protected void createImpedantBranch(LfBranch branch, LfBus bus1, LfBus bus2, EquationSystem<AcVariableType, AcEquationType> equationSystem) {
         // positive sequence
@@ -18,15 +18,23 @@ import java.util.Objects;
  */
 public abstract class AbstractBranchEquationTermArrayEvaluator implements EquationTermArray.Evaluator<AcVariableType> {
 
+    protected final AcNetworkVector networkVector;
+
     protected final AcBranchVector branchVector;
 
     protected final VariableSet<AcVariableType> variableSet;
 
-    protected AbstractBranchEquationTermArrayEvaluator(AcBranchVector branchVector, VariableSet<AcVariableType> variableSet) {
-        this.branchVector = Objects.requireNonNull(branchVector);
+    protected AbstractBranchEquationTermArrayEvaluator(AcNetworkVector networkVector, VariableSet<AcVariableType> variableSet) {
+        this.networkVector = Objects.requireNonNull(networkVector);
+        this.branchVector = networkVector.getBranchVector();
         this.variableSet = Objects.requireNonNull(variableSet);
     }
 
+    @Override
+    public void update() {
+        networkVector.update();
+    }
+
     @Override
     public boolean isDisabled(int branchNum) {
         return branchVector.disabled[branchNum];
@@ -22,13 +22,14 @@ import java.util.Objects;
  */
 public abstract class AbstractClosedBranchEquationTermArrayEvaluator extends AbstractBranchEquationTermArrayEvaluator {
 
-    protected final AcBusVector busVector;
-
-    protected AbstractClosedBranchEquationTermArrayEvaluator(AcBranchVector branchVector, AcBusVector busVector, VariableSet<AcVariableType> variableSet) {
-        super(branchVector, variableSet);
-        this.busVector = Objects.requireNonNull(busVector);
+    protected AbstractClosedBranchEquationTermArrayEvaluator(AcNetworkVector networkVector, VariableSet<AcVariableType> variableSet) {
+        super(networkVector, variableSet);
     }
 
+    /**
+     * Read only, so that sensitivities can be calculated concurrently: the network vector is expected to be up to
+     * date, which is the case after a Jacobian matrix solve or an explicit {@link #update()}.
+     */
     @Override
     public double calculateSensi(int branchNum, DenseMatrix dx, int column) {
         Objects.requireNonNull(dx);
@@ -66,11 +67,11 @@ public abstract class AbstractClosedBranchEquationTermArrayEvaluator extends Abs
     }
 
     public double r1(int branchNum) {
-        return branchVector.r1State[branchNum];
+        return networkVector.getR1(branchNum);
     }
 
     public double a1(int branchNum) {
-        return branchVector.a1State[branchNum];
+        return networkVector.getA1(branchNum);
     }
 
     public Variable<AcVariableType> getV1Var(int branchNum) {
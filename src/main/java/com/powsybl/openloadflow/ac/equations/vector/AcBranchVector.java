@@ -12,7 +12,6 @@ import com.powsybl.openloadflow.ac.equations.AcEquationSystemCreator;
 import com.powsybl.openloadflow.network.LfBranch;
 import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.PiModel;
-import com.powsybl.openloadflow.util.Evaluable;
 import net.jafama.FastMath;
 
 import java.util.List;
@@ -55,9 +54,6 @@ public class AcBranchVector {
     public final int[] a1Row;
     public final int[] r1Row;
 
-    final double[] r1State;
-    final double[] a1State;
-
     final double[] p1;
     final double[] p2;
     final double[] q1;
@@ -121,9 +117,6 @@ public class AcBranchVector {
         a1Row = new int[size];
         r1Row = new int[size];
 
-        r1State = new double[size];
-        a1State = new double[size];
-
         p1 = new double[size];
         p2 = new double[size];
         q1 = new double[size];
@@ -189,28 +182,4 @@ public class AcBranchVector {
     public int getSize() {
         return disabled.length;
     }
-
-    public Evaluable getP1(int branchNum) {
-        return () -> p1[branchNum];
-    }
-
-    public Evaluable getP2(int branchNum) {
-        return () -> p2[branchNum];
-    }
-
-    public Evaluable getQ1(int branchNum) {
-        return () -> q1[branchNum];
-    }
-
-    public Evaluable getQ2(int branchNum) {
-        return () -> q2[branchNum];
-    }
-
-    public Evaluable getI1(int branchNum) {
-        return () -> i1[branchNum];
-    }
-
-    public Evaluable getI2(int branchNum) {
-        return () -> i2[branchNum];
-    }
 }
@@ -12,7 +12,8 @@ import com.powsybl.openloadflow.network.LfBus;
 import java.util.List;
 
 /**
- * Vectorized view of the buses. Only variables related the buses at the moment.
+ * Vectorized view of the buses. Only variable rows of the buses: voltages and angles are read from the state vector
+ * during the resolution, and are stored in the network bus columns otherwise, so nothing is copied here.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
@@ -21,18 +22,8 @@ public class AcBusVector {
     public final int[] vRow;
     public final int[] phRow;
 
-    public final boolean[] disabled;
-
-    public final double[] v;
-    public final double[] ph;
-
     public AcBusVector(List<LfBus> buses) {
         vRow = new int[buses.size()];
         phRow = new int[buses.size()];
-
-        disabled = new boolean[buses.size()];
-
-        v = new double[buses.size()];
-        ph = new double[buses.size()];
     }
 }
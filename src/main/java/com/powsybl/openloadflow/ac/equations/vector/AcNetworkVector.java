@@ -25,11 +25,15 @@ import static com.powsybl.openloadflow.network.PiModel.A2;
 
 /**
  * Vectorized view of the network and variables of the equation system.
+ * <p>
+ * Bus voltages and angles, as well as branch transformer variables, are not copied: they are read directly from the
+ * state vector array through precomputed row indices. Power flows and their derivatives are lazily recomputed when
+ * the state vector version has changed since their last computation.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class AcNetworkVector extends AbstractLfNetworkListener
-        implements EquationSystemIndexListener<AcVariableType, AcEquationType>, StateVectorListener {
+        implements EquationSystemIndexListener<AcVariableType, AcEquationType> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AcNetworkVector.class);
 
@@ -38,6 +42,8 @@ public class AcNetworkVector extends AbstractLfNetworkListener
     private final AcBusVector busVector;
     private final AcBranchVector branchVector;
     private boolean variablesInvalid = true;
+    private boolean flowsInvalid = true;
+    private long stateVersion = -1;
 
     public AcNetworkVector(LfNetwork network, EquationSystem<AcVariableType, AcEquationType> equationSystem,
                            AcEquationSystemCreationParameters creationParameters) {
@@ -62,9 +68,74 @@ public class AcNetworkVector extends AbstractLfNetworkListener
         // update vectorized variables and then listen for variables change in equation system
         updateVariables();
         equationSystem.getIndex().addListener(this);
+    }
+
+    /**
+     * Update variables and power flows if needed. Cheap to call when nothing has changed since last update.
+     */
+    public void update() {
+        updateVariables();
+        StateVector stateVector = equationSystem.getStateVector();
+        long version = stateVector.getVersion();
+        if (flowsInvalid || version != stateVersion) {
+            updateNetworkState();
+            stateVersion = version;
+            flowsInvalid = false;
+        }
+    }
+
+    double[] getState() {
+        return equationSystem.getStateVector().get();
+    }
 
-        // listen for state vector change to update vectorized network
-        equationSystem.getStateVector().addListener(this);
+    /**
+     * Get the current value of the transformer ratio of a branch, from the state vector if it is a variable.
+     */
+    public double getR1(int branchNum) {
+        int r1Row = branchVector.r1Row[branchNum];
+        return r1Row != -1 ? getState()[r1Row] : branchVector.r1[branchNum];
+    }
+
+    /**
+     * Get the current value of the transformer phase shift of a branch, from the state vector if it is a variable.
+     */
+    public double getA1(int branchNum) {
+        int a1Row = branchVector.a1Row[branchNum];
+        return a1Row != -1 ? getState()[a1Row] : branchVector.a1[branchNum];
+    }
+
+    /**
+     * Check if the current flows of a branch are the vectorized closed branch terms of this network vector, so that
+     * they can be read from the branch vector arrays.
+     */
+    private boolean isVectorizedFlow(LfBranch branch) {
+        int branchNum = branch.getNum();
+        return branch.getP1() instanceof EquationTermArray.EquationTermArrayElementImpl<?, ?> p1Term
+                && p1Term.getEvaluator() instanceof AbstractBranchEquationTermArrayEvaluator evaluator
+                && evaluator.networkVector == this
+                && branch.getP1() == branch.getClosedP1()
+                && branch.getI1() == branch.getClosedI1()
+                && branch.getI2() == branch.getClosedI2()
+                && !branchVector.disabled[branchNum]
+                && isBranchConnectedSide1(branchNum)
+                && isBranchConnectedSide2(branchNum);
+    }
+
+    /**
+     * Read the flows and currents of a branch directly from the branch vector arrays, recomputing all of them at once
+     * only if the state has changed since last update.
+     *
+     * @return the flows and currents of the branch, or null if the flows of this branch are not vectorized
+     */
+    public LfBranch.LfBranchResults readBranchFlows(LfBranch branch) {
+        if (!isVectorizedFlow(branch)) {
+            return null;
+        }
+        update();
+        int branchNum = branch.getNum();
+        return new LfBranch.LfBranchResults(branchVector.p1[branchNum], branchVector.p2[branchNum],
+                                            branchVector.q1[branchNum], branchVector.q2[branchNum],
+                                            branchVector.i1[branchNum], branchVector.i2[branchNum]);
     }
 
     /**
@@ -117,6 +188,7 @@ public class AcNetworkVector extends AbstractLfNetworkListener
         LOGGER.debug("AC variable vector update in {} us", stopwatch.elapsed(TimeUnit.MICROSECONDS));
 
         variablesInvalid = false;
+        flowsInvalid = true;
     }
 
     public void copyVariablesToBranches() {
@@ -148,19 +220,6 @@ public class AcNetworkVector extends AbstractLfNetworkListener
         return ksi + a1 - A2 + ph1 - ph2;
     }
 
-    public void updateBuses(double[] state) {
-        for (int busNum = 0; busNum < busVector.v.length; busNum++) {
-            if (!busVector.disabled[busNum]) {
-                if (busVector.vRow[busNum] != -1) {
-                    busVector.v[busNum] = state[busVector.vRow[busNum]];
-                }
-                if (busVector.phRow[busNum] != -1) {
-                    busVector.ph[busNum] = state[busVector.phRow[busNum]];
-                }
-            }
-        }
-    }
-
     /**
      * Update all power flows and their derivatives.
      */
@@ -171,15 +230,10 @@ public class AcNetworkVector extends AbstractLfNetworkListener
 
             if (!branchVector.disabled[branchNum]) {
 
-                branchVector.r1State[branchNum] = branchVector.r1Row[branchNum] != -1 ? state[branchVector.r1Row[branchNum]]
-                        : branchVector.r1[branchNum];
-                branchVector.a1State[branchNum] = branchVector.a1Row[branchNum] != -1 ? state[branchVector.a1Row[branchNum]]
-                        : branchVector.a1[branchNum];
-
                 if (isBranchConnectedSide1(branchNum) && isBranchConnectedSide2(branchNum)) {
                     double ph1 = state[branchVector.ph1Row[branchNum]];
                     double ph2 = state[branchVector.ph2Row[branchNum]];
-                    double a1 = branchVector.a1State[branchNum];
+                    double a1 = branchVector.a1Row[branchNum] != -1 ? state[branchVector.a1Row[branchNum]] : branchVector.a1[branchNum];
 
                     double theta1 = theta1(
                             branchVector.ksi[branchNum],
@@ -198,7 +252,7 @@ public class AcNetworkVector extends AbstractLfNetworkListener
 
                     double v1 = state[branchVector.v1Row[branchNum]];
                     double v2 = state[branchVector.v2Row[branchNum]];
-                    double r1 = branchVector.r1State[branchNum];
+                    double r1 = branchVector.r1Row[branchNum] != -1 ? state[branchVector.r1Row[branchNum]] : branchVector.r1[branchNum];
 
                     // p1
                     updateP1AndDerivatives(branchNum, v1, r1, v2, sinTheta1, cosTheta1);
@@ -225,20 +279,17 @@ public class AcNetworkVector extends AbstractLfNetworkListener
     public void updateNetworkState() {
         Stopwatch stopwatch = Stopwatch.createStarted();
 
-        double[] state = equationSystem.getStateVector().get();
-        updateBuses(state);
-        updateClosedBranches(state);
+        updateClosedBranches(getState());
         stopwatch.stop();
         LOGGER.debug("AC network vector update in {} us", stopwatch.elapsed(TimeUnit.MICROSECONDS));
     }
 
     @Override
     public void onDisableChange(LfElement element, boolean disabled) {
-        if (element.getType() == ElementType.BUS) {
-            busVector.disabled[element.getNum()] = disabled;
-        } else if (element.getType() == ElementType.BRANCH) {
+        if (element.getType() == ElementType.BRANCH) {
             branchVector.disabled[element.getNum()] = disabled;
         }
+        flowsInvalid = true;
     }
 
     @Override
@@ -248,6 +299,7 @@ public class AcNetworkVector extends AbstractLfNetworkListener
         } else {
             branchVector.connected2[branch.getNum()] = connected;
         }
+        flowsInvalid = true;
     }
 
     @Override
@@ -267,6 +319,7 @@ public class AcNetworkVector extends AbstractLfNetworkListener
         branchVector.g2[branch.getNum()] = piModel.getG2();
         branchVector.a1[branch.getNum()] = piModel.getA1();
         branchVector.r1[branch.getNum()] = piModel.getR1();
+        flowsInvalid = true;
     }
 
     @Override
@@ -314,12 +367,6 @@ public class AcNetworkVector extends AbstractLfNetworkListener
         // nothing to do
     }
 
-    @Override
-    public void onStateUpdate() {
-        updateVariables();
-        updateNetworkState();
-    }
-
     private void updateP1AndDerivatives(int branchNum, double v1, double r1, double v2, double sinTheta1, double cosTheta1) {
         branchVector.p1[branchNum] = ClosedBranchSide1ActiveFlowEquationTerm.p1(
             branchVector.y[branchNum],
@@ -42,16 +42,16 @@ public class AcVectorizedEquationSystemCreator extends AcEquationSystemCreator {
         EquationArray<AcVariableType, AcEquationType> qArray = equationSystem.createEquationArray(AcEquationType.BUS_TARGET_Q);
 
         closedP1Array = new EquationTermArray<>(ElementType.BRANCH,
-            new ClosedBranchSide1ActiveFlowEquationTermArrayEvaluator(networkVector.getBranchVector(), networkVector.getBusVector(), equationSystem.getVariableSet()));
+            new ClosedBranchSide1ActiveFlowEquationTermArrayEvaluator(networkVector, equationSystem.getVariableSet()));
         pArray.addTermArray(closedP1Array);
         closedP2Array = new EquationTermArray<>(ElementType.BRANCH,
-            new ClosedBranchSide2ActiveFlowEquationTermArrayEvaluator(networkVector.getBranchVector(), networkVector.getBusVector(), equationSystem.getVariableSet()));
+            new ClosedBranchSide2ActiveFlowEquationTermArrayEvaluator(networkVector, equationSystem.getVariableSet()));
         pArray.addTermArray(closedP2Array);
         closedQ1Array = new EquationTermArray<>(ElementType.BRANCH,
-            new ClosedBranchSide1ReactiveFlowEquationTermArrayEvaluator(networkVector.getBranchVector(), networkVector.getBusVector(), equationSystem.getVariableSet()));
+            new ClosedBranchSide1ReactiveFlowEquationTermArrayEvaluator(networkVector, equationSystem.getVariableSet()));
         qArray.addTermArray(closedQ1Array);
         closedQ2Array = new EquationTermArray<>(ElementType.BRANCH,
-            new ClosedBranchSide2ReactiveFlowEquationTermArrayEvaluator(networkVector.getBranchVector(), networkVector.getBusVector(), equationSystem.getVariableSet()));
+            new ClosedBranchSide2ReactiveFlowEquationTermArrayEvaluator(networkVector, equationSystem.getVariableSet()));
         qArray.addTermArray(closedQ2Array);
 
         networkVector.startListening();
@@ -62,6 +62,9 @@ public class AcVectorizedEquationSystemCreator extends AcEquationSystemCreator {
         closedP2Array.compress();
         closedQ1Array.compress();
         closedQ2Array.compress();
+
+        // result extraction reads closed branch flows in bulk from the network vector
+        network.setBranchFlowReader(networkVector::readBranchFlows);
     }
 
     @Override
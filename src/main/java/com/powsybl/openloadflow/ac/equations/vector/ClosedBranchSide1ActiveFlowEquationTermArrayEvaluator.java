@@ -16,8 +16,8 @@ import com.powsybl.openloadflow.equations.VariableSet;
  */
 public class ClosedBranchSide1ActiveFlowEquationTermArrayEvaluator extends AbstractClosedBranchEquationTermArrayEvaluator {
 
-    public ClosedBranchSide1ActiveFlowEquationTermArrayEvaluator(AcBranchVector branchVector, AcBusVector busVector, VariableSet<AcVariableType> variableSet) {
-        super(branchVector, busVector, variableSet);
+    public ClosedBranchSide1ActiveFlowEquationTermArrayEvaluator(AcNetworkVector networkVector, VariableSet<AcVariableType> variableSet) {
+        super(networkVector, variableSet);
     }
 
     @Override
@@ -29,28 +29,32 @@ public class ClosedBranchSide1ActiveFlowEquationTermArrayEvaluator extends Abstr
         double y = branchVector.y[branchNum];
         double ksi = branchVector.ksi[branchNum];
         double g1 = branchVector.g1[branchNum];
-        double v1 = busVector.v[branchVector.bus1Num[branchNum]];
-        double v2 = busVector.v[branchVector.bus2Num[branchNum]];
-        double ph1 = busVector.ph[branchVector.bus1Num[branchNum]];
-        double ph2 = busVector.ph[branchVector.bus2Num[branchNum]];
-        double a1 = branchVector.a1State[branchNum];
-        double r1 = branchVector.r1State[branchNum];
+        double[] state = networkVector.getState();
+        double v1 = state[branchVector.v1Row[branchNum]];
+        double v2 = state[branchVector.v2Row[branchNum]];
+        double ph1 = state[branchVector.ph1Row[branchNum]];
+        double ph2 = state[branchVector.ph2Row[branchNum]];
+        double a1 = networkVector.getA1(branchNum);
+        double r1 = networkVector.getR1(branchNum);
         return ClosedBranchSide1ActiveFlowEquationTerm.calculateSensi(g1, y, ksi, v1, ph1, a1, r1, v2, ph2,
                 dph1, dph2, dv1, dv2, da1, dr1);
     }
 
     @Override
     public double[] eval() {
+        networkVector.update();
         return branchVector.p1;
     }
 
     @Override
     public double eval(int branchNum) {
+        networkVector.update();
         return branchVector.p1[branchNum];
     }
 
     @Override
     public double[][] evalDer() {
+        networkVector.update();
         return new double[][] {
             branchVector.dp1dv1,
             branchVector.dp1dv2,
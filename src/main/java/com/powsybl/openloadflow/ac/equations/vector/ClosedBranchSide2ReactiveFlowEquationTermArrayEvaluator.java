@@ -16,8 +16,8 @@ import com.powsybl.openloadflow.equations.VariableSet;
  */
 public class ClosedBranchSide2ReactiveFlowEquationTermArrayEvaluator extends AbstractClosedBranchEquationTermArrayEvaluator {
 
-    public ClosedBranchSide2ReactiveFlowEquationTermArrayEvaluator(AcBranchVector branchVector, AcBusVector busVector, VariableSet<AcVariableType> variableSet) {
-        super(branchVector, busVector, variableSet);
+    public ClosedBranchSide2ReactiveFlowEquationTermArrayEvaluator(AcNetworkVector networkVector, VariableSet<AcVariableType> variableSet) {
+        super(networkVector, variableSet);
     }
 
     @Override
@@ -29,27 +29,31 @@ public class ClosedBranchSide2ReactiveFlowEquationTermArrayEvaluator extends Abs
         double y = branchVector.y[branchNum];
         double ksi = branchVector.ksi[branchNum];
         double b2 = branchVector.b2[branchNum];
-        double v1 = busVector.v[branchVector.bus1Num[branchNum]];
-        double v2 = busVector.v[branchVector.bus2Num[branchNum]];
-        double ph1 = busVector.ph[branchVector.bus1Num[branchNum]];
-        double ph2 = busVector.ph[branchVector.bus2Num[branchNum]];
-        double a1 = branchVector.a1State[branchNum];
-        double r1 = branchVector.r1State[branchNum];
+        double[] state = networkVector.getState();
+        double v1 = state[branchVector.v1Row[branchNum]];
+        double v2 = state[branchVector.v2Row[branchNum]];
+        double ph1 = state[branchVector.ph1Row[branchNum]];
+        double ph2 = state[branchVector.ph2Row[branchNum]];
+        double a1 = networkVector.getA1(branchNum);
+        double r1 = networkVector.getR1(branchNum);
         return ClosedBranchSide2ReactiveFlowEquationTerm.calculateSensi(y, ksi, b2, v1, ph1, r1, a1, v2, ph2, dph1, dph2, dv1, dv2, da1, dr1);
     }
 
     @Override
     public double[] eval() {
+        networkVector.update();
         return branchVector.q2;
     }
 
     @Override
     public double eval(int branchNum) {
+        networkVector.update();
         return branchVector.q2[branchNum];
     }
 
     @Override
     public double[][] evalDer() {
+        networkVector.update();
         return new double[][] {
             branchVector.dq2dv1,
             branchVector.dq2dv2,
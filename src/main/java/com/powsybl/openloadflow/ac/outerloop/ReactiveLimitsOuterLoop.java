@@ -17,6 +17,8 @@ import com.powsybl.openloadflow.lf.outerloop.OuterLoopStatus;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.openloadflow.util.Reports;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,19 +65,15 @@ public class ReactiveLimitsOuterLoop implements AcOuterLoop {
 
     private static final class ContextData {
 
-        private final Map<String, MutableInt> pvPqSwitchCount = new HashMap<>();
+        // PV -> PQ switch count indexed by bus num
+        private final TIntIntMap pvPqSwitchCount = new TIntIntHashMap();
 
-        void incrementPvPqSwitchCount(String busId) {
-            pvPqSwitchCount.computeIfAbsent(busId, k -> new MutableInt(0))
-                    .increment();
+        void incrementPvPqSwitchCount(LfBus bus) {
+            pvPqSwitchCount.adjustOrPutValue(bus.getNum(), 1, 1);
         }
 
-        int getPvPqSwitchCount(String busId) {
-            MutableInt counter = pvPqSwitchCount.get(busId);
-            if (counter == null) {
-                return 0;
-            }
-            return counter.getValue();
+        int getPvPqSwitchCount(LfBus bus) {
+            return pvPqSwitchCount.get(bus.getNum()); // no entry value is 0
         }
     }
 
@@ -147,7 +145,7 @@ public class ReactiveLimitsOuterLoop implements AcOuterLoop {
                 controllerBus.freezeGenerationTargetQAndDisableGeneratorVoltageControl(pvToPqBus.qLimit);
                 controllerBus.setQLimitType(pvToPqBus.limitType);
                 // increment PV -> PQ switch counter
-                contextData.incrementPvPqSwitchCount(controllerBus.getId());
+                contextData.incrementPvPqSwitchCount(controllerBus);
 
                 switch (pvToPqBus.limitType) {
                     case MAX_Q:
@@ -192,7 +190,7 @@ public class ReactiveLimitsOuterLoop implements AcOuterLoop {
         for (PqToPvBus pqToPvBus : pqToPvBuses) {
             LfBus controllerBus = pqToPvBus.controllerBus;
 
-            int pvPqSwitchCount = contextData.getPvPqSwitchCount(controllerBus.getId());
+            int pvPqSwitchCount = contextData.getPvPqSwitchCount(controllerBus);
             if (pvPqSwitchCount >= maxPqPvSwitch) {
                 pqPvNodes.add(Reports.createRootReportPvPqSwitchLimit(reportNode, controllerBus, pvPqSwitchCount, log, LOGGER));
             } else {
@@ -11,25 +11,29 @@ import com.powsybl.math.matrix.DenseMatrix;
 import com.powsybl.math.matrix.LUDecomposition;
 import com.powsybl.math.matrix.Matrix;
 import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.openloadflow.equations.Equation;
 import com.powsybl.openloadflow.equations.EquationSystem;
 import com.powsybl.openloadflow.equations.JacobianMatrix;
 import com.powsybl.openloadflow.network.LfBus;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.math3.complex.Complex;
 
-import java.util.Objects;
+import java.util.*;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class AdmittanceMatrix implements AutoCloseable {
 
+    public static final int DEFAULT_MAX_RHS_COLUMN_COUNT = 64;
+
     private final EquationSystem<AdmittanceVariableType, AdmittanceEquationType> equationSystem;
 
     private final Matrix matrix;
 
     private LUDecomposition lu;
 
-    private DenseMatrix e; // impedance extractor
+    private int maxRhsColumnCount = DEFAULT_MAX_RHS_COLUMN_COUNT;
 
     public AdmittanceMatrix(EquationSystem<AdmittanceVariableType, AdmittanceEquationType> equationSystem, Matrix matrix) {
         this.equationSystem = Objects.requireNonNull(equationSystem);
@@ -47,43 +51,103 @@ public class AdmittanceMatrix implements AutoCloseable {
         return matrix;
     }
 
+    public int getMaxRhsColumnCount() {
+        return maxRhsColumnCount;
+    }
+
+    /**
+     * Set the maximum number of impedance matrix columns computed by a single solve in {@link #getZ(Collection)}, which
+     * bounds the size of the dense right hand side matrix.
+     */
+    public AdmittanceMatrix setMaxRhsColumnCount(int maxRhsColumnCount) {
+        if (maxRhsColumnCount < 2) {
+            throw new IllegalArgumentException("Invalid max RHS column count: " + maxRhsColumnCount);
+        }
+        this.maxRhsColumnCount = maxRhsColumnCount;
+        return this;
+    }
+
+    private LUDecomposition getLu() {
+        if (lu == null) {
+            lu = matrix.decomposeLU();
+        }
+        return lu;
+    }
+
+    private Equation<AdmittanceVariableType, AdmittanceEquationType> getIxEquation(LfBus bus) {
+        return equationSystem.getEquation(bus.getNum(), AdmittanceEquationType.BUS_ADM_IX).orElseThrow();
+    }
+
+    private Equation<AdmittanceVariableType, AdmittanceEquationType> getIyEquation(LfBus bus) {
+        return equationSystem.getEquation(bus.getNum(), AdmittanceEquationType.BUS_ADM_IY).orElseThrow();
+    }
+
     /**
      * Get equivalent impedance between 2 buses.
      */
     public Complex getZ(LfBus bus1, LfBus bus2) {
         Objects.requireNonNull(bus1);
         Objects.requireNonNull(bus2);
-        var i1xEq = equationSystem.getEquation(bus1.getNum(), AdmittanceEquationType.BUS_ADM_IX).orElseThrow();
-        var i1yEq = equationSystem.getEquation(bus1.getNum(), AdmittanceEquationType.BUS_ADM_IY).orElseThrow();
-        var i2xEq = equationSystem.getEquation(bus2.getNum(), AdmittanceEquationType.BUS_ADM_IX).orElseThrow();
-        var i2yEq = equationSystem.getEquation(bus2.getNum(), AdmittanceEquationType.BUS_ADM_IY).orElseThrow();
-        if (e == null) {
-            e = new DenseMatrix(matrix.getRowCount(), 4);
+        Pair<LfBus, LfBus> busPair = Pair.of(bus1, bus2);
+        return getZ(List.of(busPair)).get(busPair);
+    }
+
+    /**
+     * Get equivalent impedances between many pairs of buses. The impedance matrix columns of all the buses of the
+     * pairs are computed together by multiple right hand sides solves of at most {@link #getMaxRhsColumnCount()}
+     * columns, so that a bus shared by several pairs is only solved once per block. Pairs sharing buses should be
+     * given consecutively to get the best reuse.
+     */
+    public Map<Pair<LfBus, LfBus>, Complex> getZ(Collection<Pair<LfBus, LfBus>> busPairs) {
+        Objects.requireNonNull(busPairs);
+        Map<Pair<LfBus, LfBus>, Complex> zByBusPair = new HashMap<>(busPairs.size());
+        Map<LfBus, Integer> columnByBus = new LinkedHashMap<>();
+        List<Pair<LfBus, LfBus>> blockBusPairs = new ArrayList<>();
+        for (Pair<LfBus, LfBus> busPair : busPairs) {
+            LfBus bus1 = Objects.requireNonNull(busPair.getLeft());
+            LfBus bus2 = Objects.requireNonNull(busPair.getRight());
+            int newColumnCount = columnByBus.size()
+                    + (columnByBus.containsKey(bus1) ? 0 : 1)
+                    + (columnByBus.containsKey(bus2) || bus2 == bus1 ? 0 : 1);
+            if (newColumnCount > maxRhsColumnCount) {
+                computeZ(columnByBus, blockBusPairs, zByBusPair);
+                columnByBus.clear();
+                blockBusPairs.clear();
+            }
+            columnByBus.putIfAbsent(bus1, columnByBus.size());
+            columnByBus.putIfAbsent(bus2, columnByBus.size());
+            blockBusPairs.add(busPair);
         }
-        e.reset();
-        e.set(i1xEq.getColumn(), 0, 1.0);
-        e.set(i1yEq.getColumn(), 1, 1.0);
-        e.set(i2xEq.getColumn(), 2, 1.0);
-        e.set(i2yEq.getColumn(), 3, 1.0);
-        if (lu == null) {
-            lu = matrix.decomposeLU();
+        if (!blockBusPairs.isEmpty()) {
+            computeZ(columnByBus, blockBusPairs, zByBusPair);
+        }
+        return zByBusPair;
+    }
+
+    private void computeZ(Map<LfBus, Integer> columnByBus, List<Pair<LfBus, LfBus>> busPairs, Map<Pair<LfBus, LfBus>, Complex> zByBusPair) {
+        // impedance extractor: one column per bus, with a unit current injection on the bus
+        DenseMatrix e = new DenseMatrix(matrix.getRowCount(), columnByBus.size());
+        for (Map.Entry<LfBus, Integer> busAndColumn : columnByBus.entrySet()) {
+            e.set(getIxEquation(busAndColumn.getKey()).getColumn(), busAndColumn.getValue(), 1.0);
+        }
+        getLu().solveTransposed(e);
+        for (Pair<LfBus, LfBus> busPair : busPairs) {
+            LfBus bus1 = busPair.getLeft();
+            LfBus bus2 = busPair.getRight();
+            int i1x = getIxEquation(bus1).getColumn();
+            int i1y = getIyEquation(bus1).getColumn();
+            int i2x = getIxEquation(bus2).getColumn();
+            int i2y = getIyEquation(bus2).getColumn();
+            int column1 = columnByBus.get(bus1);
+            int column2 = columnByBus.get(bus2);
+            Complex z12 = new Complex(e.get(i1x, column2), e.get(i1y, column2));
+            Complex z21 = new Complex(e.get(i2x, column1), e.get(i2y, column1));
+            Complex z11 = new Complex(e.get(i1x, column1), e.get(i1y, column1));
+            Complex z22 = new Complex(e.get(i2x, column2), e.get(i2y, column2));
+            // z = (z11 * z22 - z12 * z21) / z12
+            // Divide before substract to reduce numerical errors
+            zByBusPair.put(busPair, z11.multiply(z22.divide(z12)).subtract(z12.multiply(z21).divide(z12)));
         }
-        lu.solveTransposed(e);
-        double z12x = e.get(i1xEq.getColumn(), 2);
-        double z12y = e.get(i1yEq.getColumn(), 2);
-        double z21x = e.get(i2xEq.getColumn(), 0);
-        double z21y = e.get(i2yEq.getColumn(), 0);
-        double z11x = e.get(i1xEq.getColumn(), 0);
-        double z11y = e.get(i1yEq.getColumn(), 0);
-        double z22x = e.get(i2xEq.getColumn(), 2);
-        double z22y = e.get(i2yEq.getColumn(), 2);
-        Complex z12 = new Complex(z12x, z12y);
-        Complex z21 = new Complex(z21x, z21y);
-        Complex z11 = new Complex(z11x, z11y);
-        Complex z22 = new Complex(z22x, z22y);
-        // z = (z11 * z22 - z12 * z21) / z12
-        // Divide before substract to reduce numerical errors
-        return z11.multiply(z22.divide(z12)).subtract(z12.multiply(z21).divide(z12));
     }
 
     @Override
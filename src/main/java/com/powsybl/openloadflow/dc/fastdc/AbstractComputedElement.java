@@ -18,8 +18,6 @@ import java.util.Objects;
  */
 abstract class AbstractComputedElement {
     private int computedElementIndex = -1; // index of the element in the rhs for +1-1
-    private int localIndex = -1; // local index of the element : index of the element in the matrix used in the setAlphas method
-    private double alphaForWoodburyComputation = Double.NaN;
     private final LfBranch lfBranch;
     private final ClosedBranchSide1DcFlowEquationTerm branchEquation;
 
@@ -36,22 +34,6 @@ abstract class AbstractComputedElement {
         this.computedElementIndex = index;
     }
 
-    public int getLocalIndex() {
-        return localIndex;
-    }
-
-    public void setLocalIndex(final int index) {
-        this.localIndex = index;
-    }
-
-    public double getAlphaForWoodburyComputation() {
-        return alphaForWoodburyComputation;
-    }
-
-    public void setAlphaForWoodburyComputation(double alphaForPostContingencyStates) {
-        this.alphaForWoodburyComputation = alphaForPostContingencyStates;
-    }
-
     public LfBranch getLfBranch() {
         return lfBranch;
     }
@@ -47,14 +47,6 @@ public interface ComputedElement {
 
     void setComputedElementIndex(int index);
 
-    int getLocalIndex();
-
-    void setLocalIndex(int index);
-
-    double getAlphaForWoodburyComputation();
-
-    void setAlphaForWoodburyComputation(double alphaForPostContingencyStates);
-
     LfBranch getLfBranch();
 
     ClosedBranchSide1DcFlowEquationTerm getLfBranchEquation();
@@ -76,13 +68,6 @@ public interface ComputedElement {
         }
     }
 
-    static void setLocalIndexes(Collection<? extends ComputedElement> elements) {
-        int index = 0;
-        for (ComputedElement element : elements) {
-            element.setLocalIndex(index++);
-        }
-    }
-
     /**
      * Fills the right hand side with +1/-1 to model a branch contingency or action.
      */
@@ -17,13 +17,16 @@ import com.powsybl.openloadflow.dc.equations.AbstractClosedBranchDcFlowEquationT
 import com.powsybl.openloadflow.dc.equations.ClosedBranchSide1DcFlowEquationTerm;
 import com.powsybl.openloadflow.dc.equations.DcEquationSystemCreationParameters;
 import com.powsybl.openloadflow.dc.equations.DcEquationType;
+import com.powsybl.openloadflow.dc.equations.DcVariableType;
 import com.powsybl.openloadflow.equations.Equation;
+import com.powsybl.openloadflow.equations.EquationTerm;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.action.AbstractLfBranchAction;
 import com.powsybl.openloadflow.network.action.AbstractLfTapChangerAction;
 import com.powsybl.openloadflow.network.action.LfAction;
 import com.powsybl.openloadflow.network.action.LfGeneratorAction;
 import com.powsybl.openloadflow.network.action.LfLoadAction;
+import com.powsybl.openloadflow.util.Derivable;
 
 import java.util.*;
 
@@ -47,6 +50,12 @@ public class WoodburyEngine {
 
     private final DenseMatrix actionsStates;
 
+    /**
+     * Values of the monitored functions on the contingency and action elements states, indexed as the flow transfer
+     * factors. They only depend on the function, so they are shared by all the states columns.
+     */
+    private final Map<Derivable<DcVariableType>, double[]> elementsValuesByFunction = new IdentityHashMap<>();
+
     public WoodburyEngine(DcEquationSystemCreationParameters creationParameters, List<ComputedContingencyElement> contingencyElements,
                           DenseMatrix contingenciesStates) {
         this.creationParameters = Objects.requireNonNull(creationParameters);
@@ -179,6 +188,10 @@ public class WoodburyEngine {
     }
 
     private double calculatePower(PiModel piModel) {
+        return calculatePower(creationParameters, piModel);
+    }
+
+    private static double calculatePower(DcEquationSystemCreationParameters creationParameters, PiModel piModel) {
         return AbstractClosedBranchDcFlowEquationTerm.computePower(creationParameters.isUseTransformerRatio(), creationParameters.getDcApproximationType(), piModel);
     }
 
@@ -239,9 +252,13 @@ public class WoodburyEngine {
 
     /**
      * Compute the flow transfer factors needed to calculate the post-contingency state values.
+     * Factors are returned in a local array indexed by contingency elements followed by action elements, so that the
+     * computed elements, which may be shared between engines, are not modified and engines can be used in parallel.
      */
-    private void setAlphas(DenseMatrix states, int columnState) {
-        if (contingencyElements.size() + actionElements.size() == 1) {
+    private double[] calculateAlphas(DenseMatrix states, int columnState) {
+        int size = contingencyElements.size() + actionElements.size();
+        double[] alphas = new double[size];
+        if (size == 1) {
             ComputedElement element = actionElements.isEmpty() ? contingencyElements.iterator().next()
                     : actionElements.iterator().next();
             LfBranch lfBranch = element.getLfBranch();
@@ -250,62 +267,224 @@ public class WoodburyEngine {
             // we solve a*alpha = b
             double a = getAlphaMatrixValue(lfBranch, p1, element, true);
             double b = getAlphaRhsValue(states, p1, columnState, element);
-            element.setAlphaForWoodburyComputation(b / a);
+            alphas[0] = b / a;
         } else {
-            // set local indexes of computed elements to use them in small matrix computation
-            ComputedElement.setLocalIndexes(contingencyElements);
-            ComputedElement.setLocalIndexes(actionElements);
-            int size = contingencyElements.size() + actionElements.size();
+            // local index of a computed element in small matrix computation is its position in the elements lists
             DenseMatrix rhs = new DenseMatrix(size, 1);
             DenseMatrix matrix = new DenseMatrix(size, size);
 
-            for (ComputedContingencyElement contingencyElement : contingencyElements) {
-                int i = contingencyElement.getLocalIndex();
+            for (int i = 0; i < contingencyElements.size(); i++) {
+                ComputedContingencyElement contingencyElement = contingencyElements.get(i);
                 LfBranch lfBranch = contingencyElement.getLfBranch();
                 ClosedBranchSide1DcFlowEquationTerm p1 = contingencyElement.getLfBranchEquation();
                 rhs.set(i, 0, getAlphaRhsValue(states, p1, columnState, contingencyElement));
 
                 // loop on contingencies to fill top-left quadrant of the matrix
-                for (ComputedContingencyElement contingencyElement2 : contingencyElements) {
-                    int j = contingencyElement2.getLocalIndex();
-                    double value = getAlphaMatrixValue(lfBranch, p1, contingencyElement2, i == j);
+                for (int j = 0; j < contingencyElements.size(); j++) {
+                    double value = getAlphaMatrixValue(lfBranch, p1, contingencyElements.get(j), i == j);
                     matrix.set(i, j, value);
                 }
 
                 // loop on actions to fill top-right quadrant of the matrix
-                for (ComputedElement actionElement : actionElements) {
-                    int j = contingencyElements.size() + actionElement.getLocalIndex();
-                    double value = getAlphaMatrixValue(lfBranch, p1, actionElement, false);
-                    matrix.set(i, j, value);
+                for (int j = 0; j < actionElements.size(); j++) {
+                    double value = getAlphaMatrixValue(lfBranch, p1, actionElements.get(j), false);
+                    matrix.set(i, contingencyElements.size() + j, value);
                 }
             }
 
-            for (ComputedElement actionElement : actionElements) {
-                int i = contingencyElements.size() + actionElement.getLocalIndex();
+            for (int i = 0; i < actionElements.size(); i++) {
+                ComputedElement actionElement = actionElements.get(i);
                 LfBranch lfBranch = actionElement.getLfBranch();
                 ClosedBranchSide1DcFlowEquationTerm p1 = actionElement.getLfBranchEquation();
-                rhs.set(i, 0, getAlphaRhsValue(states, p1, columnState, actionElement));
+                rhs.set(contingencyElements.size() + i, 0, getAlphaRhsValue(states, p1, columnState, actionElement));
 
                 // loop on contingencies to fill bottom-left quadrant of the matrix
-                for (ComputedContingencyElement contingencyElement : contingencyElements) {
-                    int j = contingencyElement.getLocalIndex();
-                    double value = getAlphaMatrixValue(lfBranch, p1, contingencyElement, false);
-                    matrix.set(i, j, value);
+                for (int j = 0; j < contingencyElements.size(); j++) {
+                    double value = getAlphaMatrixValue(lfBranch, p1, contingencyElements.get(j), false);
+                    matrix.set(contingencyElements.size() + i, j, value);
                 }
 
                 // loop on actions to fill bottom-right quadrant of the matrix
-                for (ComputedElement actionElement2 : actionElements) {
-                    int j = contingencyElements.size() + actionElement2.getLocalIndex();
-                    double value = getAlphaMatrixValue(lfBranch, p1, actionElement2, i == j);
-                    matrix.set(i, j, value);
+                for (int j = 0; j < actionElements.size(); j++) {
+                    double value = getAlphaMatrixValue(lfBranch, p1, actionElements.get(j), i == j);
+                    matrix.set(contingencyElements.size() + i, contingencyElements.size() + j, value);
                 }
             }
             try (LUDecomposition lu = matrix.decomposeLU()) {
                 lu.solve(rhs); // rhs now contains state matrix
             }
-            contingencyElements.forEach(element -> element.setAlphaForWoodburyComputation(rhs.get(element.getLocalIndex(), 0)));
-            actionElements.forEach(element -> element.setAlphaForWoodburyComputation(rhs.get(contingencyElements.size() + element.getLocalIndex(), 0)));
+            for (int i = 0; i < size; i++) {
+                alphas[i] = rhs.get(i, 0);
+            }
+        }
+        return alphas;
+    }
+
+    private static double getAngleDifference(DenseMatrix states, int column, ClosedBranchSide1DcFlowEquationTerm p1) {
+        return states.get(p1.getPh1Var().getRow(), column) - states.get(p1.getPh2Var().getRow(), column);
+    }
+
+    /**
+     * Flow transfer factors of a batch of contingencies losing one or two branches: for each contingency, the
+     * contingencies states columns of its elements (-1 if none) and the associated factors.
+     */
+    private record BatchAlphas(int[] columns1, int[] columns2, double[] alphas1, double[] alphas2) {
+    }
+
+    /**
+     * Compute the flow transfer factors of a batch of contingencies, each of them losing one or two branches, by
+     * solving in closed form the 1x1 or 2x2 Woodbury systems, so that no engine, matrix or LU decomposition is created
+     * per contingency.
+     */
+    private static BatchAlphas calculateBatchAlphas(DcEquationSystemCreationParameters creationParameters,
+                                                    List<List<ComputedContingencyElement>> contingenciesElements,
+                                                    DenseMatrix contingenciesStates, double[] preContingencyStates) {
+        int contingencyCount = contingenciesElements.size();
+        int[] columns1 = new int[contingencyCount];
+        int[] columns2 = new int[contingencyCount];
+        double[] alphas1 = new double[contingencyCount];
+        double[] alphas2 = new double[contingencyCount];
+        DenseMatrix preContingencyStatesMatrix = new DenseMatrix(preContingencyStates.length, 1, preContingencyStates);
+        for (int k = 0; k < contingencyCount; k++) {
+            List<ComputedContingencyElement> elements = contingenciesElements.get(k);
+            columns1[k] = -1;
+            columns2[k] = -1;
+            if (elements.size() == 1) {
+                ComputedContingencyElement element = elements.getFirst();
+                ClosedBranchSide1DcFlowEquationTerm p1 = element.getLfBranchEquation();
+                columns1[k] = element.getComputedElementIndex();
+                double a = 1d / calculatePower(creationParameters, element.getLfBranch().getPiModel())
+                        - getAngleDifference(contingenciesStates, columns1[k], p1);
+                alphas1[k] = getAngleDifference(preContingencyStatesMatrix, 0, p1) / a;
+            } else if (elements.size() == 2) {
+                ComputedContingencyElement element1 = elements.get(0);
+                ComputedContingencyElement element2 = elements.get(1);
+                ClosedBranchSide1DcFlowEquationTerm p1 = element1.getLfBranchEquation();
+                ClosedBranchSide1DcFlowEquationTerm p2 = element2.getLfBranchEquation();
+                columns1[k] = element1.getComputedElementIndex();
+                columns2[k] = element2.getComputedElementIndex();
+                double a11 = 1d / calculatePower(creationParameters, element1.getLfBranch().getPiModel())
+                        - getAngleDifference(contingenciesStates, columns1[k], p1);
+                double a12 = -getAngleDifference(contingenciesStates, columns2[k], p1);
+                double a21 = -getAngleDifference(contingenciesStates, columns1[k], p2);
+                double a22 = 1d / calculatePower(creationParameters, element2.getLfBranch().getPiModel())
+                        - getAngleDifference(contingenciesStates, columns2[k], p2);
+                double b1 = getAngleDifference(preContingencyStatesMatrix, 0, p1);
+                double b2 = getAngleDifference(preContingencyStatesMatrix, 0, p2);
+                double det = a11 * a22 - a12 * a21;
+                alphas1[k] = (b1 * a22 - a12 * b2) / det;
+                alphas2[k] = (a11 * b2 - a21 * b1) / det;
+            } else if (!elements.isEmpty()) {
+                throw new IllegalArgumentException("Only contingencies with one or two branches can be batched");
+            }
+        }
+        return new BatchAlphas(columns1, columns2, alphas1, alphas2);
+    }
+
+    /**
+     * Batched calculation of the post-contingency states of many contingencies, without any action, each of them
+     * losing one or two branches. The post-contingency states are the pre-contingency states plus the product of the
+     * contingencies states by the flow transfer factors, which has at most two non zero values per contingency and is
+     * so applied column by column. States are written into the given arrays, which can be reused from one batch to
+     * another so that no state vector is allocated per contingency.
+     *
+     * @param postContingencyStates the arrays receiving the post-contingency states, indexed as the given contingencies.
+     */
+    public static void toPostContingencyStates(DcEquationSystemCreationParameters creationParameters,
+                                               List<List<ComputedContingencyElement>> contingenciesElements,
+                                               DenseMatrix contingenciesStates, double[] preContingencyStates,
+                                               double[][] postContingencyStates) {
+        Objects.requireNonNull(creationParameters);
+        Objects.requireNonNull(contingenciesElements);
+        Objects.requireNonNull(contingenciesStates);
+        Objects.requireNonNull(preContingencyStates);
+        Objects.requireNonNull(postContingencyStates);
+        if (postContingencyStates.length != contingenciesElements.size()) {
+            throw new IllegalArgumentException("Contingencies and post-contingency states have different sizes");
+        }
+
+        BatchAlphas batchAlphas = calculateBatchAlphas(creationParameters, contingenciesElements, contingenciesStates, preContingencyStates);
+        for (int k = 0; k < contingenciesElements.size(); k++) {
+            double[] states = postContingencyStates[k];
+            System.arraycopy(preContingencyStates, 0, states, 0, preContingencyStates.length);
+            if (batchAlphas.columns1()[k] != -1) {
+                for (int row = 0; row < states.length; row++) {
+                    states[row] += batchAlphas.alphas1()[k] * contingenciesStates.get(row, batchAlphas.columns1()[k]);
+                }
+            }
+            if (batchAlphas.columns2()[k] != -1) {
+                for (int row = 0; row < states.length; row++) {
+                    states[row] += batchAlphas.alphas2()[k] * contingenciesStates.get(row, batchAlphas.columns2()[k]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Batched calculation of the post-contingency active power flows of some monitored branches, for many
+     * contingencies without any action, each of them losing one or two branches. No post-contingency state vector is
+     * created: the flow variations are computed as a single dense product of the sensitivities of the monitored flows
+     * to the contingency elements of the batch (monitored rows of the contingencies states) by the flow transfer
+     * factors of the contingencies.
+     *
+     * @param monitoredFlows the flow equation terms of the monitored branches.
+     * @param preContingencyFlows the pre-contingency values of the monitored flows.
+     * @return the post-contingency flows, with a row per monitored flow and a column per contingency.
+     */
+    public static DenseMatrix toPostContingencyFlows(DcEquationSystemCreationParameters creationParameters,
+                                                     List<List<ComputedContingencyElement>> contingenciesElements,
+                                                     DenseMatrix contingenciesStates, double[] preContingencyStates,
+                                                     List<? extends EquationTerm<?, ?>> monitoredFlows, double[] preContingencyFlows) {
+        Objects.requireNonNull(creationParameters);
+        Objects.requireNonNull(contingenciesElements);
+        Objects.requireNonNull(contingenciesStates);
+        Objects.requireNonNull(preContingencyStates);
+        Objects.requireNonNull(monitoredFlows);
+        Objects.requireNonNull(preContingencyFlows);
+        if (monitoredFlows.size() != preContingencyFlows.length) {
+            throw new IllegalArgumentException("Monitored flows and pre-contingency flows have different sizes");
+        }
+
+        BatchAlphas batchAlphas = calculateBatchAlphas(creationParameters, contingenciesElements, contingenciesStates, preContingencyStates);
+
+        // only the contingencies states columns used by the batch are needed, they are renumbered locally
+        Map<Integer, Integer> localColumnByColumn = new LinkedHashMap<>();
+        for (int k = 0; k < contingenciesElements.size(); k++) {
+            if (batchAlphas.columns1()[k] != -1) {
+                localColumnByColumn.putIfAbsent(batchAlphas.columns1()[k], localColumnByColumn.size());
+            }
+            if (batchAlphas.columns2()[k] != -1) {
+                localColumnByColumn.putIfAbsent(batchAlphas.columns2()[k], localColumnByColumn.size());
+            }
+        }
+
+        DenseMatrix postContingencyFlows = new DenseMatrix(monitoredFlows.size(), contingenciesElements.size());
+        if (!localColumnByColumn.isEmpty()) {
+            // sensitivities of the monitored flows to the contingency elements
+            DenseMatrix flowSensitivities = new DenseMatrix(monitoredFlows.size(), localColumnByColumn.size());
+            for (Map.Entry<Integer, Integer> e : localColumnByColumn.entrySet()) {
+                for (int m = 0; m < monitoredFlows.size(); m++) {
+                    flowSensitivities.set(m, e.getValue(), monitoredFlows.get(m).calculateSensi(contingenciesStates, e.getKey()));
+                }
+            }
+            // flow transfer factors of the contingencies
+            DenseMatrix alphas = new DenseMatrix(localColumnByColumn.size(), contingenciesElements.size());
+            for (int k = 0; k < contingenciesElements.size(); k++) {
+                if (batchAlphas.columns1()[k] != -1) {
+                    alphas.add(localColumnByColumn.get(batchAlphas.columns1()[k]), k, batchAlphas.alphas1()[k]);
+                }
+                if (batchAlphas.columns2()[k] != -1) {
+                    alphas.add(localColumnByColumn.get(batchAlphas.columns2()[k]), k, batchAlphas.alphas2()[k]);
+                }
+            }
+            postContingencyFlows = flowSensitivities.times(alphas);
+        }
+        for (int k = 0; k < contingenciesElements.size(); k++) {
+            for (int m = 0; m < monitoredFlows.size(); m++) {
+                postContingencyFlows.add(m, k, preContingencyFlows[m]);
+            }
         }
+        return postContingencyFlows;
     }
 
     /**
@@ -315,12 +494,11 @@ public class WoodburyEngine {
         Objects.requireNonNull(preContingencyStates);
 
         for (int columnIndex = 0; columnIndex < preContingencyStates.getColumnCount(); columnIndex++) {
-            setAlphas(preContingencyStates, columnIndex);
+            double[] alphas = calculateAlphas(preContingencyStates, columnIndex);
             for (int rowIndex = 0; rowIndex < preContingencyStates.getRowCount(); rowIndex++) {
                 double postContingencyValue = preContingencyStates.get(rowIndex, columnIndex);
-                for (ComputedContingencyElement contingencyElement : contingencyElements) {
-                    postContingencyValue += contingencyElement.getAlphaForWoodburyComputation()
-                            * contingenciesStates.get(rowIndex, contingencyElement.getComputedElementIndex());
+                for (int i = 0; i < contingencyElements.size(); i++) {
+                    postContingencyValue += alphas[i] * contingenciesStates.get(rowIndex, contingencyElements.get(i).getComputedElementIndex());
                 }
                 preContingencyStates.set(rowIndex, columnIndex, postContingencyValue);
             }
@@ -333,10 +511,10 @@ public class WoodburyEngine {
     public void toPostContingencyAndOperatorStrategyStates(DenseMatrix preContingencyStates) {
         Objects.requireNonNull(preContingencyStates);
         for (int columnIndex = 0; columnIndex < preContingencyStates.getColumnCount(); columnIndex++) {
-            setAlphas(preContingencyStates, columnIndex);
+            double[] alphas = calculateAlphas(preContingencyStates, columnIndex);
             for (int rowIndex = 0; rowIndex < preContingencyStates.getRowCount(); rowIndex++) {
                 double postContingencyAndOperatorStrategyValue = preContingencyStates.get(rowIndex, columnIndex);
-                postContingencyAndOperatorStrategyValue = addToPostContingencyAndOperatorStrategyValue(postContingencyAndOperatorStrategyValue, rowIndex);
+                postContingencyAndOperatorStrategyValue = addToPostContingencyAndOperatorStrategyValue(postContingencyAndOperatorStrategyValue, rowIndex, alphas);
                 preContingencyStates.set(rowIndex, columnIndex, postContingencyAndOperatorStrategyValue);
             }
         }
@@ -344,23 +522,68 @@ public class WoodburyEngine {
 
     public void toPostContingencyAndOperatorStrategyStates(double[] preContingencyStates) {
         Objects.requireNonNull(preContingencyStates);
-        setAlphas(new DenseMatrix(preContingencyStates.length, 1, preContingencyStates), 0);
+        double[] alphas = calculateAlphas(new DenseMatrix(preContingencyStates.length, 1, preContingencyStates), 0);
         for (int rowIndex = 0; rowIndex < preContingencyStates.length; rowIndex++) {
             double postContingencyAndOperatorStrategyValue = preContingencyStates[rowIndex];
-            postContingencyAndOperatorStrategyValue = addToPostContingencyAndOperatorStrategyValue(postContingencyAndOperatorStrategyValue, rowIndex);
+            postContingencyAndOperatorStrategyValue = addToPostContingencyAndOperatorStrategyValue(postContingencyAndOperatorStrategyValue, rowIndex, alphas);
             preContingencyStates[rowIndex] = postContingencyAndOperatorStrategyValue;
         }
     }
 
-    private double addToPostContingencyAndOperatorStrategyValue(double postContingencyAndOperatorStrategyValue, int rowIndex) {
+    /**
+     * Compute the flow transfer factors of each column of the given pre-contingency states, without modifying them.
+     *
+     * @return the flow transfer factors, indexed by column and then by contingency elements followed by action elements.
+     */
+    public double[][] calculatePostContingencyAndOperatorStrategyAlphas(DenseMatrix preContingencyStates) {
+        Objects.requireNonNull(preContingencyStates);
+        double[][] alphas = new double[preContingencyStates.getColumnCount()][];
+        for (int columnIndex = 0; columnIndex < preContingencyStates.getColumnCount(); columnIndex++) {
+            alphas[columnIndex] = calculateAlphas(preContingencyStates, columnIndex);
+        }
+        return alphas;
+    }
+
+    /**
+     * Evaluate a monitored function on the post-contingency and post-actions states, without computing these states.
+     * As the function is linear in the states, the Woodbury update is directly applied in the monitored function space:
+     * the value is the pre-contingency one plus the flow transfer factors weighted values of the function on the
+     * contingency and action elements states. Per column, the cost is so proportional to the number of elements
+     * instead of the size of the states.
+     */
+    public double calculatePostContingencyAndOperatorStrategySensi(Derivable<DcVariableType> function, DenseMatrix preContingencyStates,
+                                                                   int column, double[] alphas) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(preContingencyStates);
+        Objects.requireNonNull(alphas);
+        double value = function.calculateSensi(preContingencyStates, column);
+        double[] elementsValues = elementsValuesByFunction.computeIfAbsent(function, this::calculateElementsValues);
+        for (int i = 0; i < elementsValues.length; i++) {
+            value += alphas[i] * elementsValues[i];
+        }
+        return value;
+    }
+
+    private double[] calculateElementsValues(Derivable<DcVariableType> function) {
+        double[] elementsValues = new double[contingencyElements.size() + actionElements.size()];
+        for (int i = 0; i < contingencyElements.size(); i++) {
+            elementsValues[i] = function.calculateSensi(contingenciesStates, contingencyElements.get(i).getComputedElementIndex());
+        }
+        for (int i = 0; i < actionElements.size(); i++) {
+            elementsValues[contingencyElements.size() + i] = function.calculateSensi(actionsStates, actionElements.get(i).getComputedElementIndex());
+        }
+        return elementsValues;
+    }
+
+    private double addToPostContingencyAndOperatorStrategyValue(double postContingencyAndOperatorStrategyValue, int rowIndex, double[] alphas) {
         double updatedPostContingencyAndOperatorStrategyValue = postContingencyAndOperatorStrategyValue;
-        for (ComputedContingencyElement contingencyElement : contingencyElements) {
-            updatedPostContingencyAndOperatorStrategyValue += contingencyElement.getAlphaForWoodburyComputation()
-                    * contingenciesStates.get(rowIndex, contingencyElement.getComputedElementIndex());
+        for (int i = 0; i < contingencyElements.size(); i++) {
+            updatedPostContingencyAndOperatorStrategyValue += alphas[i]
+                    * contingenciesStates.get(rowIndex, contingencyElements.get(i).getComputedElementIndex());
         }
-        for (ComputedElement actionElement : actionElements) {
-            updatedPostContingencyAndOperatorStrategyValue += actionElement.getAlphaForWoodburyComputation()
-                    * actionsStates.get(rowIndex, actionElement.getComputedElementIndex());
+        for (int i = 0; i < actionElements.size(); i++) {
+            updatedPostContingencyAndOperatorStrategyValue += alphas[contingencyElements.size() + i]
+                    * actionsStates.get(rowIndex, actionElements.get(i).getComputedElementIndex());
         }
         return updatedPostContingencyAndOperatorStrategyValue;
     }
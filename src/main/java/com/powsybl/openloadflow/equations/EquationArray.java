@@ -9,9 +9,12 @@ package com.powsybl.openloadflow.equations;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.openloadflow.network.LfElement;
+import gnu.trove.iterator.TIntObjectIterator;
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
 
 import java.io.IOException;
 import java.io.Writer;
@@ -44,23 +47,34 @@ public class EquationArray<V extends Enum<V> & Quantity, E extends Enum<E> & Qua
     private final List<EquationTermArray<V, E>> termArrays = new ArrayList<>();
 
     // All additional terms that are not vectorized (SingleEquationTerms) stored in different views
-    private final Map<Integer, List<SingleEquationTerm<V, E>>> singleTermsByTermElementNum = new TreeMap<>();
-    private final Map<Integer, AdditionalSingleTermsByEquation> singleTermsByEquationElementNum = new TreeMap<>();
+    private final TIntObjectMap<List<SingleEquationTerm<V, E>>> singleTermsByTermElementNum = new TIntObjectHashMap<>();
+    private final TIntObjectMap<AdditionalSingleTermsByEquation> singleTermsByEquationElementNum = new TIntObjectHashMap<>();
 
     private final int[] equationDerivativeVectorStartIndices;
     private EquationDerivativeVector equationDerivativeVector;
 
     private final class AdditionalSingleTermsByEquation {
         private final List<SingleEquationTerm<V, E>> terms = new ArrayList<>();
-        private final TreeMap<Variable<V>, List<SingleEquationTerm<V, E>>> termsByVariable = new TreeMap<>();
+        // sorted variables of the terms and, at same index, the terms depending on each of them
+        private final List<Variable<V>> variables = new ArrayList<>();
+        private final List<List<SingleEquationTerm<V, E>>> termsByVariable = new ArrayList<>();
 
         void addSingleTerm(SingleEquationTerm<V, E> termImpl, Equation<V, E> equation) {
             terms.add(termImpl);
-            singleTermsByTermElementNum.computeIfAbsent(termImpl.getElementNum(), k -> new ArrayList<>())
-                    .add(termImpl);
+            List<SingleEquationTerm<V, E>> termsOfElement = singleTermsByTermElementNum.get(termImpl.getElementNum());
+            if (termsOfElement == null) {
+                termsOfElement = new ArrayList<>();
+                singleTermsByTermElementNum.put(termImpl.getElementNum(), termsOfElement);
+            }
+            termsOfElement.add(termImpl);
             for (Variable<V> v : termImpl.getVariables()) {
-                termsByVariable.computeIfAbsent(v, k -> new ArrayList<>())
-                        .add(termImpl);
+                int i = Collections.binarySearch(variables, v);
+                if (i < 0) {
+                    i = -i - 1;
+                    variables.add(i, v);
+                    termsByVariable.add(i, new ArrayList<>());
+                }
+                termsByVariable.get(i).add(termImpl);
             }
             termImpl.setEquation(equation);
             equationSystem.addEquationTerm(termImpl);
@@ -70,6 +84,23 @@ public class EquationArray<V extends Enum<V> & Quantity, E extends Enum<E> & Qua
                 throw new UnsupportedOperationException("Rhs not supported yet");
             }
         }
+
+        /**
+         * Add to the given value the derivatives of the active terms by the variable of the given row.
+         */
+        double der(int row, double value) {
+            for (int i = 0; i < variables.size(); i++) {
+                Variable<V> v = variables.get(i);
+                if (v.getRow() == row) {
+                    for (var term : termsByVariable.get(i)) {
+                        if (term.isActive()) {
+                            value += term.der(v);
+                        }
+                    }
+                }
+            }
+            return value;
+        }
     }
 
     static class MatrixElementIndexes {
@@ -202,8 +233,9 @@ public class EquationArray<V extends Enum<V> & Quantity, E extends Enum<E> & Qua
                 termArray.setTermElementActive(element.getNum(), enable);
             }
         }
-        if (singleTermsByTermElementNum.containsKey(element.getNum())) {
-            for (var singleTerm : singleTermsByTermElementNum.get(element.getNum())) {
+        List<SingleEquationTerm<V, E>> singleTerms = singleTermsByTermElementNum.get(element.getNum());
+        if (singleTerms != null) {
+            for (var singleTerm : singleTerms) {
                 if (singleTerm.getElementType() == element.getType()) {
                     singleTerm.setActive(enable);
                 }
@@ -261,8 +293,12 @@ public class EquationArray<V extends Enum<V> & Quantity, E extends Enum<E> & Qua
                         throw new PowsyblException("Equation term already added to another equation: "
                                 + term.getEquation());
                     }
-                    singleTermsByEquationElementNum.computeIfAbsent(elementNum, k -> new AdditionalSingleTermsByEquation())
-                            .addSingleTerm(singleEquationTerm, this);
+                    AdditionalSingleTermsByEquation additionalTerms = singleTermsByEquationElementNum.get(elementNum);
+                    if (additionalTerms == null) {
+                        additionalTerms = new AdditionalSingleTermsByEquation();
+                        singleTermsByEquationElementNum.put(elementNum, additionalTerms);
+                    }
+                    additionalTerms.addSingleTerm(singleEquationTerm, this);
                     hasSingleEquationTerms[elementNum] = true;
                 } else {
                     throw new IllegalArgumentException("Unsupported EquationTerm");
@@ -293,7 +329,7 @@ public class EquationArray<V extends Enum<V> & Quantity, E extends Enum<E> & Qua
                         terms.add((T) new EquationTermArray.EquationTermArrayElementImpl<>(termArray, termElementNum));
                     }
                 }
-                if (singleTermsByEquationElementNum.containsKey(elementNum)) {
+                if (hasSingleEquationTerms[elementNum]) {
                     for (SingleEquationTerm<V, E> singleTerm : singleTermsByEquationElementNum.get(elementNum).terms) {
                         terms.add((T) singleTerm);
                     }
@@ -378,13 +414,15 @@ public class EquationArray<V extends Enum<V> & Quantity, E extends Enum<E> & Qua
                 }
             }
         }
-        for (Map.Entry<Integer, AdditionalSingleTermsByEquation> singleTermsEntry : singleTermsByEquationElementNum.entrySet()) {
-            if (!elementActive[singleTermsEntry.getKey()]) {
+        for (TIntObjectIterator<AdditionalSingleTermsByEquation> it = singleTermsByEquationElementNum.iterator(); it.hasNext();) {
+            it.advance();
+            int elementNum = it.key();
+            if (!elementActive[elementNum]) {
                 continue;
             }
-            for (SingleEquationTerm<V, E> singleTerm : singleTermsEntry.getValue().terms) {
+            for (SingleEquationTerm<V, E> singleTerm : it.value().terms) {
                 if (singleTerm.isActive()) {
-                    values[getElementNumToColumn(singleTermsEntry.getKey())] += singleTerm.eval();
+                    values[getElementNumToColumn(elementNum)] += singleTerm.eval();
                 }
             }
         }
@@ -445,8 +483,8 @@ public class EquationArray<V extends Enum<V> & Quantity, E extends Enum<E> & Qua
         // calculate all derivative values
         // process column by column so equation by equation of the array
         int valueIndex = 0;
+        TIntArrayList computedRows = new TIntArrayList();
         for (int elementNum = 0; elementNum < elementCount; elementNum++) {
-            List<Integer> computedRows = new ArrayList<>();
             // skip inactive elements
             if (!elementActive[elementNum]) {
                 continue;
@@ -463,6 +501,7 @@ public class EquationArray<V extends Enum<V> & Quantity, E extends Enum<E> & Qua
             AdditionalSingleTermsByEquation additionalTerms = null;
             if (hasSingleEquationTerms[elementNum]) {
                 additionalTerms = singleTermsByEquationElementNum.get(elementNum);
+                computedRows.resetQuick();
             }
 
             int prevRow = -1;
@@ -477,15 +516,7 @@ public class EquationArray<V extends Enum<V> & Quantity, E extends Enum<E> & Qua
                 if (prevRow != -1 && row != prevRow) {
                     if (additionalTerms != null) {
                         computedRows.add(prevRow);
-                        for (Variable<V> v : additionalTerms.termsByVariable.keySet()) {
-                            if (v.getRow() == prevRow) {
-                                for (var term : additionalTerms.termsByVariable.get(v)) {
-                                    if (term.isActive()) {
-                                        value += term.der(v);
-                                    }
-                                }
-                            }
-                        }
+                        value = additionalTerms.der(prevRow, value);
                     }
                     onDer(handler, column, prevRow, value, valueIndex);
                     valueIndex++;
@@ -499,25 +530,18 @@ public class EquationArray<V extends Enum<V> & Quantity, E extends Enum<E> & Qua
             if (prevRow != -1) {
                 if (additionalTerms != null) {
                     computedRows.add(prevRow);
-                    for (Variable<V> v : additionalTerms.termsByVariable.keySet()) {
-                        if (v.getRow() == prevRow) {
-                            for (var term : additionalTerms.termsByVariable.get(v)) {
-                                if (term.isActive()) {
-                                    value += term.der(v);
-                                }
-                            }
-                        }
-                    }
+                    value = additionalTerms.der(prevRow, value);
                 }
                 onDer(handler, column, prevRow, value, valueIndex);
                 valueIndex++;
             }
 
             if (additionalTerms != null) {
-                for (Variable<V> v : additionalTerms.termsByVariable.keySet()) {
+                for (int i = 0; i < additionalTerms.variables.size(); i++) {
+                    Variable<V> v = additionalTerms.variables.get(i);
                     if (v.getRow() != -1 && !computedRows.contains(v.getRow())) {
                         value = 0;
-                        for (var term : additionalTerms.termsByVariable.get(v)) {
+                        for (var term : additionalTerms.termsByVariable.get(i)) {
                             if (term.isActive()) {
                                 value += term.der(v);
                             }
@@ -11,7 +11,8 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.openloadflow.network.ElementType;
 import com.powsybl.openloadflow.network.LfElement;
 import com.powsybl.openloadflow.network.LfElementContainer;
-import org.apache.commons.lang3.tuple.Pair;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
 
 import java.io.IOException;
 import java.io.StringWriter;
@@ -25,11 +26,12 @@ import java.util.stream.Collectors;
  */
 public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity> {
 
-    private final Map<Pair<Integer, E>, SingleEquation<V, E>> equations = new HashMap<>();
+    // single equations indexed by type and then by element number
+    private final Map<E, TIntObjectMap<SingleEquation<V, E>>> equations;
 
-    private final Map<Pair<ElementType, Integer>, List<SingleEquation<V, E>>> equationsByElement = new HashMap<>();
+    private final Map<ElementType, TIntObjectMap<List<SingleEquation<V, E>>>> equationsByElement = new EnumMap<>(ElementType.class);
 
-    private Map<Pair<ElementType, Integer>, List<SingleEquationTerm<V, E>>> equationTermsByElement;
+    private Map<ElementType, TIntObjectMap<List<SingleEquationTerm<V, E>>>> equationTermsByElement;
 
     private final Map<E, EquationArray<V, E>> equationArrays;
 
@@ -51,6 +53,7 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         this.elementContainer = Objects.requireNonNull(elementContainer);
         this.variableSet = Objects.requireNonNull(variableSet);
         index = new EquationSystemIndex<>(this);
+        equations = new EnumMap<>(equationClass);
         equationArrays = new EnumMap<>(equationClass);
     }
 
@@ -71,14 +74,41 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
     }
 
     public Collection<SingleEquation<V, E>> getEquations() {
-        return equations.values();
+        List<SingleEquation<V, E>> allEquations = new ArrayList<>();
+        for (TIntObjectMap<SingleEquation<V, E>> equationsOfType : equations.values()) {
+            allEquations.addAll(equationsOfType.valueCollection());
+        }
+        return allEquations;
+    }
+
+    private SingleEquation<V, E> getSingleEquation(int num, E type) {
+        TIntObjectMap<SingleEquation<V, E>> equationsOfType = equations.get(type);
+        return equationsOfType != null ? equationsOfType.get(num) : null;
+    }
+
+    private static <T> List<T> getOrCreateElementList(Map<ElementType, TIntObjectMap<List<T>>> listsByElement, ElementType elementType, int elementNum) {
+        TIntObjectMap<List<T>> lists = listsByElement.computeIfAbsent(elementType, k -> new TIntObjectHashMap<>());
+        List<T> list = lists.get(elementNum);
+        if (list == null) {
+            list = new ArrayList<>();
+            lists.put(elementNum, list);
+        }
+        return list;
+    }
+
+    private static <T> List<T> getElementList(Map<ElementType, TIntObjectMap<List<T>>> listsByElement, ElementType elementType, int elementNum) {
+        TIntObjectMap<List<T>> lists = listsByElement.get(elementType);
+        if (lists == null) {
+            return Collections.emptyList();
+        }
+        List<T> list = lists.get(elementNum);
+        return list != null ? list : Collections.emptyList();
     }
 
     private void indexTerm(SingleEquationTerm<V, E> equationTerm) {
         if (equationTermsByElement != null) {
             if (equationTerm.getElementType() != null && equationTerm.getElementNum() != -1) {
-                Pair<ElementType, Integer> element = Pair.of(equationTerm.getElementType(), equationTerm.getElementNum());
-                equationTermsByElement.computeIfAbsent(element, k -> new ArrayList<>())
+                getOrCreateElementList(equationTermsByElement, equationTerm.getElementType(), equationTerm.getElementNum())
                         .add(equationTerm);
             }
             for (SingleEquationTerm<V, E> child : equationTerm.getChildren()) {
@@ -89,8 +119,8 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
     private void indexAllTerms() {
         if (equationTermsByElement == null) {
-            equationTermsByElement = new HashMap<>();
-            for (var equation : equations.values()) {
+            equationTermsByElement = new EnumMap<>(ElementType.class);
+            for (var equation : getEquations()) {
                 for (var term : equation.getTerms()) {
                     indexTerm(term);
                 }
@@ -106,8 +136,7 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
     public List<SingleEquationTerm<V, E>> getEquationTerms(ElementType elementType, int elementNum) {
         Objects.requireNonNull(elementType);
         indexAllTerms();
-        Pair<ElementType, Integer> element = Pair.of(elementType, elementNum);
-        return equationTermsByElement.getOrDefault(element, Collections.emptyList());
+        return getElementList(equationTermsByElement, elementType, elementNum);
     }
 
     public <T extends SingleEquationTerm<V, E>> T getEquationTerm(ElementType elementType, int elementNum, Class<T> clazz) {
@@ -128,32 +157,29 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         if (equationArrays.containsKey(type)) {
             return equationArrays.get(type).getElement(element.getNum());
         }
-        Pair<Integer, E> p = Pair.of(element.getNum(), type);
-        SingleEquation<V, E> equation = equations.get(p);
+        SingleEquation<V, E> equation = getSingleEquation(element.getNum(), type);
         if (equation == null) {
-            equation = addEquation(p);
+            equation = addEquation(element.getNum(), type);
             equation.setActive(!element.isDisabled());
         }
         return equation;
     }
 
     public Equation<V, E> createEquation(int num, E type) {
-        Pair<Integer, E> p = Pair.of(num, type);
-        Equation<V, E> equation = equations.get(p);
+        Equation<V, E> equation = getSingleEquation(num, type);
         if (equation == null) {
             var equationArray = equationArrays.get(type);
             if (equationArray != null) {
                 equation = equationArray.getElement(num);
             } else {
-                equation = addEquation(p);
+                equation = addEquation(num, type);
             }
         }
         return equation;
     }
 
     public Optional<Equation<V, E>> getEquation(int num, E type) {
-        Pair<Integer, E> p = Pair.of(num, type);
-        var equation = equations.get(p);
+        var equation = getSingleEquation(num, type);
         if (equation != null) {
             return Optional.of(equation);
         }
@@ -165,16 +191,12 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
     }
 
     public boolean hasEquation(int num, E type) {
-        Pair<Integer, E> p = Pair.of(num, type);
-        return equations.containsKey(p);
+        return getSingleEquation(num, type) != null;
     }
 
     private void deindexTerm(SingleEquationTerm<V, E> term) {
         if (term.getElementType() != null && term.getElementNum() != -1) {
-            List<SingleEquationTerm<V, E>> termsForThisElement = equationTermsByElement.get(Pair.of(term.getElementType(), term.getElementNum()));
-            if (termsForThisElement != null) {
-                termsForThisElement.remove(term);
-            }
+            getElementList(equationTermsByElement, term.getElementType(), term.getElementNum()).remove(term);
         }
         for (SingleEquationTerm<V, E> child : term.getChildren()) {
             deindexTerm(child);
@@ -182,11 +204,10 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
     }
 
     public SingleEquation<V, E> removeEquation(int num, E type) {
-        Pair<Integer, E> p = Pair.of(num, type);
-        SingleEquation<V, E> equation = equations.remove(p);
+        TIntObjectMap<SingleEquation<V, E>> equationsOfType = equations.get(type);
+        SingleEquation<V, E> equation = equationsOfType != null ? equationsOfType.remove(num) : null;
         if (equation != null) {
-            Pair<ElementType, Integer> element = Pair.of(type.getElementType(), num);
-            equationsByElement.get(element).remove(equation);
+            getElementList(equationsByElement, type.getElementType(), num).remove(equation);
             if (equationTermsByElement != null) {
                 for (SingleEquationTerm<V, E> term : equation.getTerms()) {
                     deindexTerm(term);
@@ -198,11 +219,10 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         return equation;
     }
 
-    private SingleEquation<V, E> addEquation(Pair<Integer, E> p) {
-        SingleEquation<V, E> equation = new SingleEquation<>(p.getLeft(), p.getRight(), EquationSystem.this);
-        equations.put(p, equation);
-        Pair<ElementType, Integer> element = Pair.of(p.getRight().getElementType(), p.getLeft());
-        equationsByElement.computeIfAbsent(element, k -> new ArrayList<>())
+    private SingleEquation<V, E> addEquation(int num, E type) {
+        SingleEquation<V, E> equation = new SingleEquation<>(num, type, EquationSystem.this);
+        equations.computeIfAbsent(type, k -> new TIntObjectHashMap<>()).put(num, equation);
+        getOrCreateElementList(equationsByElement, type.getElementType(), num)
                 .add(equation);
         notifyEquationChange(equation, EquationEventType.EQUATION_CREATED);
         return equation;
@@ -210,8 +230,7 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
     public List<SingleEquation<V, E>> getEquations(ElementType elementType, int elementNum) {
         Objects.requireNonNull(elementType);
-        Pair<ElementType, Integer> element = Pair.of(elementType, elementNum);
-        return equationsByElement.getOrDefault(element, Collections.emptyList());
+        return getElementList(equationsByElement, elementType, elementNum);
     }
 
     public void attach(SingleEquationTerm<V, E> term) {
@@ -236,6 +255,18 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         return equationArrays.values();
     }
 
+    /**
+     * Update the evaluators of all the equation term arrays, so that they can then be read concurrently, for instance
+     * to calculate sensitivities by blocks of columns.
+     */
+    public void updateEquationTermArrayEvaluators() {
+        for (EquationArray<V, E> equationArray : equationArrays.values()) {
+            for (EquationTermArray<V, E> termArray : equationArray.getTermArrays()) {
+                termArray.getEvaluator().update();
+            }
+        }
+    }
+
     public Optional<EquationArray<V, E>> getEquationArray(E type) {
         Objects.requireNonNull(type);
         return Optional.ofNullable(equationArrays.get(type));
@@ -297,7 +328,7 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
     public void write(Writer writer, boolean writeInactiveEquations) {
         try {
-            for (SingleEquation<V, E> equation : equations.values().stream().sorted().collect(Collectors.toList())) {
+            for (SingleEquation<V, E> equation : getEquations().stream().sorted().collect(Collectors.toList())) {
                 if (writeInactiveEquations || equation.isActive()) {
                     if (!equation.isActive()) {
                         writer.write("[ ");
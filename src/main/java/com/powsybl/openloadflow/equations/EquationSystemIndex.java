@@ -8,7 +8,8 @@
 package com.powsybl.openloadflow.equations;
 
 import com.powsybl.commons.PowsyblException;
-import org.apache.commons.lang3.mutable.MutableInt;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,10 +28,11 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
 
     private final EquationSystem<V, E> equationSystem;
 
-    private final Set<SingleEquation<V, E>> sortedSetEquationsToSolve = new TreeSet<>();
+    // equations and variables are only sorted when the index is updated
+    private final Set<SingleEquation<V, E>> equationsToSolve = new HashSet<>();
 
     // variable reference counting in equation terms
-    private final Map<Variable<V>, MutableInt> sortedMapVariablesToFindRefCount = new TreeMap<>();
+    private final TObjectIntMap<Variable<V>> variablesToFindRefCount = new TObjectIntHashMap<>();
 
     private List<SingleEquation<V, E>> sortedSingleEquationsToSolve = Collections.emptyList();
 
@@ -104,7 +106,7 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
     }
 
     private void updateEquationsToSolve(Predicate<E> isSeparatedInFirstPart) {
-        sortedSingleEquationsToSolve = sortedSetEquationsToSolve.stream().toList();
+        sortedSingleEquationsToSolve = equationsToSolve.stream().sorted().toList();
         sortedEquationArraysToSolve = new ArrayList<>();
         columnCount = 0;
         columnCountFromArrayEquations = 0;
@@ -139,7 +141,7 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
     }
 
     private void updateVariablesToFind(Predicate<V> isSeparatedInFirstPart) {
-        sortedVariablesToFind = sortedMapVariablesToFindRefCount.keySet().stream().sorted().toList();
+        sortedVariablesToFind = variablesToFindRefCount.keySet().stream().sorted().toList();
         rowCount = 0;
         if (isSeparatedInFirstPart == null) {
             for (Variable<V> variable : sortedVariablesToFind) {
@@ -184,20 +186,15 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
 
     private void addVariables(List<Variable<V>> variables) {
         for (Variable<V> variable : variables) {
-            MutableInt variableRefCount = sortedMapVariablesToFindRefCount.get(variable);
-            if (variableRefCount == null) {
-                variableRefCount = new MutableInt(1);
-                sortedMapVariablesToFindRefCount.put(variable, variableRefCount);
+            if (variablesToFindRefCount.adjustOrPutValue(variable, 1, 1) == 1) {
                 variablesIndexValid = false;
                 notifyVariableChange(variable, EquationSystemIndexListener.ChangeType.ADDED);
-            } else {
-                variableRefCount.increment();
             }
         }
     }
 
     private void addEquation(SingleEquation<V, E> equation) {
-        sortedSetEquationsToSolve.add(equation);
+        equationsToSolve.add(equation);
         equationsIndexValid = false;
         for (SingleEquationTerm<V, E> term : equation.getTerms()) {
             if (term.isActive()) {
@@ -214,22 +211,19 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
 
     private void removeVariables(List<Variable<V>> variables) {
         for (Variable<V> variable : variables) {
-            MutableInt variableRefCount = sortedMapVariablesToFindRefCount.get(variable);
-            if (variableRefCount != null) {
-                variableRefCount.decrement();
-                if (variableRefCount.intValue() == 0) {
-                    variable.setRow(-1);
-                    sortedMapVariablesToFindRefCount.remove(variable);
-                    variablesIndexValid = false;
-                    notifyVariableChange(variable, EquationSystemIndexListener.ChangeType.REMOVED);
-                }
+            // adjustValue returns false if the variable is not referenced
+            if (variablesToFindRefCount.adjustValue(variable, -1) && variablesToFindRefCount.get(variable) == 0) {
+                variable.setRow(-1);
+                variablesToFindRefCount.remove(variable);
+                variablesIndexValid = false;
+                notifyVariableChange(variable, EquationSystemIndexListener.ChangeType.REMOVED);
             }
         }
     }
 
     private void removeEquation(SingleEquation<V, E> equation) {
         equation.setColumn(-1);
-        sortedSetEquationsToSolve.remove(equation);
+        equationsToSolve.remove(equation);
         equationsIndexValid = false;
         for (SingleEquationTerm<V, E> term : equation.getTerms()) {
             if (term.isActive()) {
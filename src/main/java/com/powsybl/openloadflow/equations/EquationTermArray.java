@@ -34,6 +34,15 @@ public class EquationTermArray<V extends Enum<V> & Quantity, E extends Enum<E> &
 
         String getName();
 
+        /**
+         * Bring the evaluator up to date with the equation system index and state vector. Evaluation methods may
+         * update the evaluator on the fly, whereas {@link #calculateSensi(int, DenseMatrix, int)} only reads it so
+         * that it can be called concurrently once the evaluator is up to date.
+         */
+        default void update() {
+            // nothing to update by default
+        }
+
         default double calculateSensi(int termElementNum, DenseMatrix dx, int column) {
             throw new UnsupportedOperationException("calculateSensi not yet implemented");
         }
@@ -159,6 +168,10 @@ public class EquationTermArray<V extends Enum<V> & Quantity, E extends Enum<E> &
         this.termNumByTermElementNum = new TIntIntHashMap(this.termNumByTermElementNum);
     }
 
+    public Evaluator<V> getEvaluator() {
+        return evaluator;
+    }
+
     public double[] eval() {
         return evaluator.eval();
     }
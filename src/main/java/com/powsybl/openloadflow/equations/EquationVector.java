@@ -20,18 +20,26 @@ import static com.powsybl.openloadflow.util.Markers.PERFORMANCE_MARKER;
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class EquationVector<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity> extends AbstractVector<V, E>
-        implements StateVectorListener, AutoCloseable {
+        implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EquationVector.class);
 
+    // version of the state vector the values have been computed with
+    private long stateVersion;
+
     public EquationVector(EquationSystem<V, E> equationSystem) {
         super(equationSystem);
-        equationSystem.getStateVector().addListener(this);
+        stateVersion = equationSystem.getStateVector().getVersion();
     }
 
     @Override
-    public void onStateUpdate() {
-        invalidateValues();
+    public double[] getArray() {
+        long version = equationSystem.getStateVector().getVersion();
+        if (version != stateVersion) {
+            invalidateValues();
+            stateVersion = version;
+        }
+        return super.getArray();
     }
 
     @Override
@@ -62,6 +70,6 @@ public class EquationVector<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
     @Override
     public void close() {
-        equationSystem.getStateVector().removeListener(this);
+        // nothing to release
     }
 }
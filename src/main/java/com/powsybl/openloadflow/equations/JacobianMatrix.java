@@ -14,11 +14,16 @@ import com.powsybl.math.matrix.LUDecomposition;
 import com.powsybl.math.matrix.Matrix;
 import com.powsybl.math.matrix.MatrixException;
 import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.openloadflow.util.mt.MultiThreadHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static com.powsybl.openloadflow.util.Markers.PERFORMANCE_MARKER;
@@ -27,14 +32,26 @@ import static com.powsybl.openloadflow.util.Markers.PERFORMANCE_MARKER;
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity>
-        implements EquationSystemIndexListener<V, E>, StateVectorListener, AutoCloseable {
+        implements EquationSystemIndexListener<V, E>, AutoCloseable {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(JacobianMatrix.class);
 
+    public static final int DEFAULT_THREAD_COUNT = 1;
+
+    /**
+     * Below this number of single equations, derivatives are always computed sequentially as the parallelization
+     * overhead is greater than the gain.
+     */
+    private static final int DEFAULT_PARALLEL_DER_MIN_EQUATION_COUNT = 10000;
+
     protected final EquationSystem<V, E> equationSystem;
 
     protected final MatrixFactory matrixFactory;
 
+    private final int threadCount;
+
+    private final int parallelDerMinEquationCount;
+
     protected Matrix matrix;
 
     private LUDecomposition lu;
@@ -48,17 +65,37 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
     private Status status = Status.STRUCTURE_INVALID;
 
+    // version of the state vector the matrix values have been computed with
+    private long stateVersion;
+
     public JacobianMatrix(EquationSystem<V, E> equationSystem, MatrixFactory matrixFactory) {
+        this(equationSystem, matrixFactory, DEFAULT_THREAD_COUNT);
+    }
+
+    public JacobianMatrix(EquationSystem<V, E> equationSystem, MatrixFactory matrixFactory, int threadCount) {
+        this(equationSystem, matrixFactory, threadCount, DEFAULT_PARALLEL_DER_MIN_EQUATION_COUNT);
+    }
+
+    JacobianMatrix(EquationSystem<V, E> equationSystem, MatrixFactory matrixFactory, int threadCount, int parallelDerMinEquationCount) {
         this.equationSystem = Objects.requireNonNull(equationSystem);
         this.matrixFactory = Objects.requireNonNull(matrixFactory);
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threadCount);
+        }
+        this.threadCount = threadCount;
+        this.parallelDerMinEquationCount = parallelDerMinEquationCount;
         equationSystem.getIndex().addListener(this);
-        equationSystem.getStateVector().addListener(this);
+        stateVersion = equationSystem.getStateVector().getVersion();
     }
 
     public MatrixFactory getMatrixFactory() {
         return matrixFactory;
     }
 
+    public int getThreadCount() {
+        return threadCount;
+    }
+
     protected void updateStatus(Status status) {
         if (status.ordinal() > this.status.ordinal()) {
             this.status = status;
@@ -95,9 +132,11 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         updateStatus(Status.STRUCTURE_INVALID);
     }
 
-    @Override
-    public void onStateUpdate() {
-        updateStatus(Status.VALUES_INVALID);
+    /**
+     * Return true if the matrix values depend on the state vector, so that they have to be updated on state change.
+     */
+    protected boolean isStateDependent() {
+        return true;
     }
 
     protected void initDer() {
@@ -121,7 +160,14 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         //   0    |   1    | ... | 12 | 13 | ... | 31 | 32 | 33 | ... | 51 |   52   |   53   | ... | 64 | ... | 83 | 84 | ... | 101 |  <-- index
         // Single | Single | ... |        Array       |        Array       | Single | Single | ... |     Array     |      Array     |
 
-        Iterator<SingleEquation<V, E>> itSortedSingleEquation = equationSystem.getIndex().getSortedSingleEquationsToSolve().iterator();
+        List<SingleEquation<V, E>> sortedSingleEquations = equationSystem.getIndex().getSortedSingleEquationsToSolve();
+        if (threadCount > 1 && sortedSingleEquations.size() >= parallelDerMinEquationCount) {
+            initDerParallel(sortedSingleEquations);
+            LOGGER.debug(PERFORMANCE_MARKER, "Jacobian matrix built in {} us using {} threads", stopwatch.elapsed(TimeUnit.MICROSECONDS), threadCount);
+            return;
+        }
+
+        Iterator<SingleEquation<V, E>> itSortedSingleEquation = sortedSingleEquations.iterator();
         Iterator<EquationArray<V, E>> itSortedEquationArray = equationSystem.getIndex().getSortedEquationArraysToSolve().iterator();
 
         SingleEquation<V, E> eq = itSortedSingleEquation.hasNext() ? itSortedSingleEquation.next() : null;
@@ -148,6 +194,94 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         LOGGER.debug(PERFORMANCE_MARKER, "Jacobian matrix built in {} us", stopwatch.elapsed(TimeUnit.MICROSECONDS));
     }
 
+    /**
+     * Derivatives of a chunk of contiguous single equations, computed by a worker thread before being added to the
+     * matrix.
+     */
+    private static final class DerBuffer {
+
+        private final int[] equationStarts;
+
+        private int[] rows = new int[16];
+
+        private double[] values = new double[16];
+
+        private int size = 0;
+
+        private DerBuffer(int equationCount) {
+            equationStarts = new int[equationCount + 1];
+        }
+
+        private void add(int row, double value) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            rows[size] = row;
+            values[size] = value;
+            size++;
+        }
+    }
+
+    private static <V extends Enum<V> & Quantity, E extends Enum<E> & Quantity> DerBuffer derChunk(List<SingleEquation<V, E>> equations) {
+        DerBuffer buffer = new DerBuffer(equations.size());
+        for (int i = 0; i < equations.size(); i++) {
+            buffer.equationStarts[i] = buffer.size;
+            equations.get(i).der((variable, value, matrixElementIndex) -> {
+                buffer.add(variable.getRow(), value);
+                return -1; // matrix element index will be set after the merge in the matrix
+            });
+        }
+        buffer.equationStarts[equations.size()] = buffer.size;
+        return buffer;
+    }
+
+    /**
+     * Same as the sequential build but derivatives of single equations are computed concurrently, by chunks of
+     * contiguous equations (one per thread, on the shared executor), into per chunk buffers. Buffers are then added
+     * to the matrix in the column order, so that the matrix structure and elements indexes are the same as the
+     * sequential build ones. Equation arrays derivatives are vectorized and computed on the calling thread during the
+     * merge.
+     */
+    private void initDerParallel(List<SingleEquation<V, E>> sortedSingleEquations) {
+        int chunkSize = (sortedSingleEquations.size() + threadCount - 1) / threadCount;
+        List<Future<DerBuffer>> futures = new ArrayList<>(threadCount);
+        for (int start = 0; start < sortedSingleEquations.size(); start += chunkSize) {
+            List<SingleEquation<V, E>> chunk = sortedSingleEquations.subList(start, Math.min(start + chunkSize, sortedSingleEquations.size()));
+            futures.add(MultiThreadHelper.submit(MultiThreadHelper.getSharedExecutor(), () -> derChunk(chunk)));
+        }
+
+        Iterator<EquationArray<V, E>> itSortedEquationArray = equationSystem.getIndex().getSortedEquationArraysToSolve().iterator();
+        EquationArray<V, E> eqArray = itSortedEquationArray.hasNext() ? itSortedEquationArray.next() : null;
+        int eqNum = 0;
+        DerBuffer buffer = null;
+        int[] matrixElementIndexes = null;
+        int index = 0; // index is either the column number of SingleEquation, either the first column of EquationArray
+        while (eqNum < sortedSingleEquations.size() || eqArray != null) {
+            while (eqNum < sortedSingleEquations.size() && index == sortedSingleEquations.get(eqNum).getColumn()) {
+                int localNum = eqNum % chunkSize;
+                if (localNum == 0) {
+                    buffer = MultiThreadHelper.get(futures, futures.get(eqNum / chunkSize));
+                    matrixElementIndexes = new int[buffer.size];
+                }
+                int from = buffer.equationStarts[localNum];
+                int to = buffer.equationStarts[localNum + 1];
+                for (int i = from; i < to; i++) {
+                    matrixElementIndexes[i] = matrix.addAndGetIndex(buffer.rows[i], index, buffer.values[i]);
+                }
+                sortedSingleEquations.get(eqNum).setMatrixElementIndexes(matrixElementIndexes, from, to - from);
+                index++;
+                eqNum++;
+            }
+            while (eqArray != null && index == eqArray.getFirstColumn()) {
+                eqArray.der((column, row, value, matrixElementIndex) ->
+                        matrix.addAndGetIndex(row, column, value));
+                index += eqArray.getLength();
+                eqArray = itSortedEquationArray.hasNext() ? itSortedEquationArray.next() : null;
+            }
+        }
+    }
+
     private void clearLu() {
         if (lu != null) {
             lu.close();
@@ -211,6 +345,13 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
     }
 
     private void update() {
+        long version = equationSystem.getStateVector().getVersion();
+        if (version != stateVersion) {
+            if (isStateDependent()) {
+                updateStatus(Status.VALUES_INVALID);
+            }
+            stateVersion = version;
+        }
         if (status != Status.VALID) {
             switch (status) {
                 case STRUCTURE_INVALID:
@@ -268,7 +409,6 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
     @Override
     public void close() {
         equationSystem.getIndex().removeListener(this);
-        equationSystem.getStateVector().removeListener(this);
         matrix = null;
         clearLu();
     }
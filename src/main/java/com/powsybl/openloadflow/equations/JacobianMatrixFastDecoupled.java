@@ -42,8 +42,9 @@ public class JacobianMatrixFastDecoupled
     }
 
     @Override
-    public void onStateUpdate() {
-        // Nothing to do
+    protected boolean isStateDependent() {
+        // fast decoupled matrix values do not depend on the state
+        return false;
     }
 
     // List of Equation that require a dedicated derivative for Fast-Decoupled
@@ -209,6 +209,17 @@ public class SingleEquation<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         }
     }
 
+    /**
+     * Set the matrix element indexes of the derivatives, in the order they have been notified by {@link #der}, when
+     * the matrix elements have been created after the derivatives calculation (see {@link JacobianMatrix}).
+     */
+    void setMatrixElementIndexes(int[] indexes, int offset, int count) {
+        if (matrixElementIndexes == null) {
+            matrixElementIndexes = new int[termsByVariable.size()];
+        }
+        System.arraycopy(indexes, offset, matrixElementIndexes, 0, count);
+    }
+
     public double rhs() {
         if (!hasRhs) {
             return 0;
@@ -7,18 +7,19 @@
  */
 package com.powsybl.openloadflow.equations;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 /**
+ * State vector of an equation system. Each modification increments a version number, so that consumers can check if
+ * the state has changed since their last computation instead of being notified of each modification.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class StateVector {
 
     private double[] array;
 
-    private final List<StateVectorListener> listeners = new ArrayList<>();
+    private long version = 0;
 
     public StateVector() {
         this(null);
@@ -30,7 +31,7 @@ public class StateVector {
 
     public void set(double[] array) {
         this.array = Objects.requireNonNull(array);
-        notifyStateUpdate();
+        onStateUpdate();
     }
 
     public double[] get() {
@@ -43,32 +44,29 @@ public class StateVector {
 
     public void set(int variableNum, double value) {
         array[variableNum] = value;
-        notifyStateUpdate();
+        onStateUpdate();
     }
 
     public void minus(double[] b) {
         Vectors.minus(array, b);
-        notifyStateUpdate();
+        onStateUpdate();
     }
 
     public void minusWithRange(double[] b, int begin) {
         for (int i = 0; i < b.length; i++) {
             array[begin + i] -= b[i];
         }
-        notifyStateUpdate();
+        onStateUpdate();
     }
 
-    private void notifyStateUpdate() {
-        for (StateVectorListener listener : listeners) {
-            listener.onStateUpdate();
-        }
-    }
-
-    public void addListener(StateVectorListener listener) {
-        listeners.add(Objects.requireNonNull(listener));
+    /**
+     * Get the version of the state, incremented at each modification.
+     */
+    public long getVersion() {
+        return version;
     }
 
-    public void removeListener(StateVectorListener listener) {
-        listeners.remove(Objects.requireNonNull(listener));
+    private void onStateUpdate() {
+        version++;
     }
 }
@@ -7,24 +7,34 @@
  */
 package com.powsybl.openloadflow.equations;
 
-import org.apache.commons.lang3.tuple.Pair;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class VariableSet<V extends Enum<V> & Quantity> {
 
-    private final Map<Pair<Integer, V>, Variable<V>> variables = new HashMap<>();
+    // variables indexed by type and then by element number
+    private final Map<V, TIntObjectMap<Variable<V>>> variables = new HashMap<>();
 
     public Variable<V> getVariable(int elementNum, V type) {
-        return variables.computeIfAbsent(Pair.of(elementNum, type), p -> new Variable<>(p.getLeft(), p.getRight()));
+        TIntObjectMap<Variable<V>> variablesOfType = variables.computeIfAbsent(type, k -> new TIntObjectHashMap<>());
+        Variable<V> variable = variablesOfType.get(elementNum);
+        if (variable == null) {
+            variable = new Variable<>(elementNum, type);
+            variablesOfType.put(elementNum, variable);
+        }
+        return variable;
     }
 
     public Collection<Variable<V>> getVariables() {
-        return variables.values();
+        List<Variable<V>> allVariables = new ArrayList<>();
+        for (TIntObjectMap<Variable<V>> variablesOfType : variables.values()) {
+            allVariables.addAll(variablesOfType.valueCollection());
+        }
+        return allVariables;
     }
 }
@@ -10,6 +10,7 @@ package com.powsybl.openloadflow.lf;
 import com.powsybl.math.matrix.MatrixFactory;
 import com.powsybl.math.matrix.SparseMatrixFactory;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.equations.JacobianMatrix;
 import com.powsybl.openloadflow.network.LfNetworkParameters;
 
 import java.util.Objects;
@@ -27,6 +28,8 @@ public abstract class AbstractLoadFlowParameters<P extends AbstractLoadFlowParam
     protected MatrixFactory matrixFactory;
     protected OpenLoadFlowParameters.SlackDistributionFailureBehavior slackDistributionFailureBehavior = OpenLoadFlowParameters.SlackDistributionFailureBehavior.LEAVE_ON_SLACK_BUS;
 
+    protected int jacobianMatrixThreadCount = JacobianMatrix.DEFAULT_THREAD_COUNT;
+
     protected AbstractLoadFlowParameters() {
         this(new LfNetworkParameters(), new SparseMatrixFactory());
     }
@@ -62,4 +65,13 @@ public abstract class AbstractLoadFlowParameters<P extends AbstractLoadFlowParam
         this.slackDistributionFailureBehavior = Objects.requireNonNull(slackDistributionFailureBehavior);
         return (P) this;
     }
+
+    public int getJacobianMatrixThreadCount() {
+        return jacobianMatrixThreadCount;
+    }
+
+    public P setJacobianMatrixThreadCount(int jacobianMatrixThreadCount) {
+        this.jacobianMatrixThreadCount = jacobianMatrixThreadCount;
+        return (P) this;
+    }
 }
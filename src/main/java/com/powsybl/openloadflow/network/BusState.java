@@ -15,8 +15,6 @@ import java.util.stream.Collectors;
  */
 public class BusState extends BusDcState {
 
-    private final double angle;
-    private final double voltage;
     private final double generationTargetQ;
     private final boolean isGenerationTargetQFrozen;
     private final boolean voltageControlEnabled;
@@ -50,8 +48,6 @@ public class BusState extends BusDcState {
 
     public BusState(LfBus bus) {
         super(bus);
-        this.angle = bus.getAngle();
-        this.voltage = bus.getV();
         this.generationTargetQ = bus.getGenerationTargetQ();
         this.isGenerationTargetQFrozen = bus.isGenerationTargetQFrozen();
         this.voltageControlEnabled = bus.isGeneratorVoltageControlEnabled();
@@ -77,8 +73,6 @@ public class BusState extends BusDcState {
     @Override
     public void restore() {
         super.restore();
-        element.setAngle(angle);
-        element.setV(voltage);
         element.setGeneratorVoltageControlEnabledAndRecomputeTargetQ(voltageControlEnabled);
         if (isGenerationTargetQFrozen) {
             element.freezeGenerationTargetQAndDisableGeneratorVoltageControl(generationTargetQ);
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network;
+
+/**
+ * Bulk read access to the flows and currents of the branches of a network, used for result extraction. When the
+ * flows of a branch are already stored in bulk (for instance by the vectorized AC equation system), they can be read
+ * all at once instead of evaluating the P1, Q1, I1, P2, Q2 and I2 evaluables of the branch one by one.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@FunctionalInterface
+public interface LfBranchFlowReader {
+
+    /**
+     * Reader that never has any flow available.
+     */
+    LfBranchFlowReader NONE = branch -> null;
+
+    /**
+     * Read the flows and currents of a branch.
+     *
+     * @return the flows and currents of both sides of the branch, or null if not available for this branch, in
+     * which case they have to be evaluated from the branch evaluables
+     */
+    LfBranch.LfBranchResults read(LfBranch branch);
+
+    /**
+     * Read the flows and currents of a branch, evaluating them from the branch evaluables if not available in bulk.
+     */
+    static LfBranch.LfBranchResults readOrEvaluate(LfBranch branch) {
+        LfBranch.LfBranchResults results = branch.getNetwork().getBranchFlowReader().read(branch);
+        if (results != null) {
+            return results;
+        }
+        return new LfBranch.LfBranchResults(branch.getP1().eval(), branch.getP2().eval(), branch.getQ1().eval(), branch.getQ2().eval(),
+                                            branch.getI1().eval(), branch.getI2().eval());
+    }
+}
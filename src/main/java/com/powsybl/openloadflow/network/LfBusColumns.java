@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Column storage of the numerical state of the buses of a network (voltage magnitude in kV and angle in radian).
+ * Buses allocate a slot at creation and then only read and write their values through their slot index, so that
+ * the state of all the buses of a network is kept in a few contiguous primitive arrays instead of being scattered
+ * across bus objects. This allows {@link NetworkState} to save and restore the voltages of all the buses with a
+ * couple of array copies.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LfBusColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] v = new double[INITIAL_CAPACITY];
+
+    private double[] angle = new double[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    /**
+     * Copy of the voltage magnitudes and angles of all the buses.
+     */
+    public record State(double[] v, double[] angle) {
+    }
+
+    /**
+     * Allocate a new slot initialized with the given values.
+     *
+     * @return the index of the slot
+     */
+    public int add(double v, double angle) {
+        if (size == this.v.length) {
+            int capacity = size * 2;
+            this.v = Arrays.copyOf(this.v, capacity);
+            this.angle = Arrays.copyOf(this.angle, capacity);
+        }
+        this.v[size] = v;
+        this.angle[size] = angle;
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getV(int index) {
+        return v[index];
+    }
+
+    public void setV(int index, double v) {
+        this.v[index] = v;
+    }
+
+    public double getAngle(int index) {
+        return angle[index];
+    }
+
+    public void setAngle(int index, double angle) {
+        this.angle[index] = angle;
+    }
+
+    public State save() {
+        return new State(Arrays.copyOf(v, size), Arrays.copyOf(angle, size));
+    }
+
+    public void restore(State state) {
+        Objects.requireNonNull(state);
+        if (state.v().length != size) {
+            throw new IllegalArgumentException("Bus state size " + state.v().length + " does not match column size " + size);
+        }
+        System.arraycopy(state.v(), 0, v, 0, size);
+        System.arraycopy(state.angle(), 0, angle, 0, size);
+    }
+}
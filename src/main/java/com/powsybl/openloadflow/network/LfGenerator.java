@@ -10,6 +10,8 @@ package com.powsybl.openloadflow.network;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openloadflow.network.impl.LfNetworkLoadingReport;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.OptionalDouble;
 
 /**
@@ -25,6 +27,12 @@ public interface LfGenerator extends PropertyBag, LfReferencePriorityInjection {
         MIN, MAX, TARGET_P
     }
 
+    /**
+     * A point of the reactive capability of a generator, in per unit.
+     */
+    record ReactiveCapabilityPoint(double p, double minQ, double maxQ) {
+    }
+
     /**
      * k is a normalized value of reactive power that ensure that at q min k is -1 and at q max k is + 1
      * q = 1 / 2 * (k * (qmax - qmin) + qmax + qmin)
@@ -99,6 +107,20 @@ public interface LfGenerator extends PropertyBag, LfReferencePriorityInjection {
 
     double getRangeQ(ReactiveRangeMode reactiveRangeMode);
 
+    /**
+     * Reactive capability of the generator as points sorted by increasing active power: no point means no limit, a
+     * single point means limits independent of active power and several points a reactive capability curve.
+     * By default, a single point with the limits at current target P.
+     */
+    default List<ReactiveCapabilityPoint> getReactiveCapabilityPoints() {
+        double minQ = getMinQ();
+        double maxQ = getMaxQ();
+        if (minQ == -Double.MAX_VALUE && maxQ == Double.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+        return List.of(new ReactiveCapabilityPoint(0, minQ, maxQ));
+    }
+
     default boolean isParticipating() {
         return false;
     }
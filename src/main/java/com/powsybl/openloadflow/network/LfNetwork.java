@@ -16,6 +16,7 @@ import com.powsybl.openloadflow.graph.GraphConnectivity;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.openloadflow.util.Reports;
+import com.powsybl.openloadflow.util.mt.MultiThreadHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,8 +55,12 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag, LfEle
 
     private final List<LfBus> busesByIndex = new ArrayList<>();
 
+    private final LfBusColumns busColumns = new LfBusColumns();
+
     private final List<LfBranch> branches = new ArrayList<>();
 
+    private LfBranchFlowReader branchFlowReader = LfBranchFlowReader.NONE;
+
     private final Map<String, LfBranch> branchesById = new HashMap<>();
 
     private final Map<String, List<LfBranch>> branchesByOriginalId = new HashMap<>();
@@ -243,6 +248,17 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag, LfEle
         return branches;
     }
 
+    /**
+     * Get the reader giving bulk access to the flows of the branches, for result extraction.
+     */
+    public LfBranchFlowReader getBranchFlowReader() {
+        return branchFlowReader;
+    }
+
+    public void setBranchFlowReader(LfBranchFlowReader branchFlowReader) {
+        this.branchFlowReader = Objects.requireNonNull(branchFlowReader);
+    }
+
     public LfBranch getBranch(int num) {
         return branches.get(num);
     }
@@ -330,6 +346,13 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag, LfEle
         return busesByIndex;
     }
 
+    /**
+     * Get the column storage of the numerical state of the buses.
+     */
+    public LfBusColumns getBusColumns() {
+        return busColumns;
+    }
+
     public LfBus getBusById(String id) {
         Objects.requireNonNull(id);
         return busesById.get(id);
@@ -722,11 +745,18 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag, LfEle
         Objects.requireNonNull(networkLoader);
         Objects.requireNonNull(parameters);
         List<LfNetwork> lfNetworks = networkLoader.load(network, topoConfig, parameters, reportNode);
+        // fixing and validating only touch each network and its own report node, so it can be done concurrently
+        List<ReportNode> networkReports = MultiThreadHelper.map(lfNetworks, parameters.getNetworkLoadingThreadCount(),
+            lfNetwork -> {
+                ReportNode networkReport = Reports.createNetworkInfoReporter(lfNetwork.getReportNode());
+                lfNetwork.fix(parameters.isMinImpedance(), parameters.getLowImpedanceThreshold());
+                lfNetwork.validate(parameters.getLoadFlowModel(), networkReport);
+                return networkReport;
+            });
         int deadComponentsCount = 0;
-        for (LfNetwork lfNetwork : lfNetworks) {
-            ReportNode networkReport = Reports.createNetworkInfoReporter(lfNetwork.getReportNode());
-            lfNetwork.fix(parameters.isMinImpedance(), parameters.getLowImpedanceThreshold());
-            lfNetwork.validate(parameters.getLoadFlowModel(), networkReport);
+        for (int i = 0; i < lfNetworks.size(); i++) {
+            LfNetwork lfNetwork = lfNetworks.get(i);
+            ReportNode networkReport = networkReports.get(i);
             switch (lfNetwork.getValidity()) {
                 case VALID -> {
                     lfNetwork.reportSize(networkReport);
@@ -80,6 +80,10 @@ public class LfNetworkParameters {
 
     public static final boolean ALLOW_NON_LINEAR_SHUNT_ZERO_SECTION_DEFAULT_VALUE = true;
 
+    public static final boolean DETACHED_DEFAULT_VALUE = false;
+
+    public static final int NETWORK_LOADING_THREAD_COUNT_DEFAULT_VALUE = 1;
+
     private boolean generatorVoltageRemoteControl = true;
 
     private boolean minImpedance = false;
@@ -176,6 +180,10 @@ public class LfNetworkParameters {
 
     private boolean allowNonLinearShuntZeroSection = ALLOW_NON_LINEAR_SHUNT_ZERO_SECTION_DEFAULT_VALUE;
 
+    private boolean detached = DETACHED_DEFAULT_VALUE;
+
+    private int networkLoadingThreadCount = NETWORK_LOADING_THREAD_COUNT_DEFAULT_VALUE;
+
     public LfNetworkParameters() {
     }
 
@@ -232,6 +240,8 @@ public class LfNetworkParameters {
         this.detailedReport = other.detailedReport;
         this.includeElementsReconnectingSmallComponents = other.includeElementsReconnectingSmallComponents;
         this.allowNonLinearShuntZeroSection = other.allowNonLinearShuntZeroSection;
+        this.detached = other.detached;
+        this.networkLoadingThreadCount = other.networkLoadingThreadCount;
     }
 
     public SlackBusSelector getSlackBusSelector() {
@@ -707,6 +717,35 @@ public class LfNetworkParameters {
         return this;
     }
 
+    /**
+     * If true, loaded networks are copied to elements that hold all the data needed by the computation and do not
+     * keep any reference to the IIDM network, so that they cannot be used to update the IIDM network state.
+     */
+    public boolean isDetached() {
+        return detached;
+    }
+
+    public LfNetworkParameters setDetached(boolean detached) {
+        this.detached = detached;
+        return this;
+    }
+
+    /**
+     * Number of threads used to build the networks of the independent synchronous components and to check the loaded
+     * networks. AC-DC networks are built sequentially, only their checks run concurrently.
+     */
+    public int getNetworkLoadingThreadCount() {
+        return networkLoadingThreadCount;
+    }
+
+    public LfNetworkParameters setNetworkLoadingThreadCount(int networkLoadingThreadCount) {
+        if (networkLoadingThreadCount < 1) {
+            throw new IllegalArgumentException("Network loading thread count should be >= 1");
+        }
+        this.networkLoadingThreadCount = networkLoadingThreadCount;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "LfNetworkParameters(" +
@@ -756,6 +795,8 @@ public class LfNetworkParameters {
                 ", detailedReport=" + detailedReport +
                 ", includeElementsReconnectingSmallComponents=" + includeElementsReconnectingSmallComponents +
                 ", allowNonLinearShuntZeroSection=" + allowNonLinearShuntZeroSection +
+                ", detached=" + detached +
+                ", networkLoadingThreadCount=" + networkLoadingThreadCount +
                 ')';
     }
 }
@@ -7,11 +7,13 @@
  */
 package com.powsybl.openloadflow.network;
 
+import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Switch;
 
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -112,4 +114,23 @@ public class LfTopoConfig {
     public Set<String> getBranchIdsToClose() {
         return branchIdsToClose;
     }
+
+    /**
+     * Identifies the LF networks a configuration leads to, when loaded from a given network. Network elements are only
+     * referred to by their ids, so that a key does not prevent the network from being garbage collected.
+     */
+    public record Key(Set<String> switchIdsToOpen, Set<String> switchIdsToClose, Set<String> busIdsToLose,
+                      Set<String> branchIdsWithPtcToRetain, Set<String> branchIdsWithRtcToRetain, Set<String> shuntIdsToOperate,
+                      Set<String> branchIdsOpenableSide1, Set<String> branchIdsOpenableSide2, Set<String> branchIdsToClose) {
+    }
+
+    private static Set<String> getIds(Set<Switch> switches) {
+        return switches.stream().map(Identifiable::getId).collect(Collectors.toSet());
+    }
+
+    public Key createKey() {
+        return new Key(getIds(switchesToOpen), getIds(switchesToClose), Set.copyOf(busIdsToLose),
+                Set.copyOf(branchIdsWithPtcToRetain), Set.copyOf(branchIdsWithRtcToRetain), Set.copyOf(shuntIdsToOperate),
+                Set.copyOf(branchIdsOpenableSide1), Set.copyOf(branchIdsOpenableSide2), Set.copyOf(branchIdsToClose));
+    }
 }
@@ -24,6 +24,8 @@ public class NetworkState {
 
     private final LfNetwork network;
 
+    private final LfBusColumns.State busColumnsState;
+
     private final List<BusState> busStates;
 
     private final List<BranchState> branchStates;
@@ -34,9 +36,10 @@ public class NetworkState {
 
     private final List<AreaState> areaStates;
 
-    protected NetworkState(LfNetwork network, List<BusState> busStates, List<BranchState> branchStates, List<HvdcState> hvdcStates,
+    protected NetworkState(LfNetwork network, LfBusColumns.State busColumnsState, List<BusState> busStates, List<BranchState> branchStates, List<HvdcState> hvdcStates,
                            Set<LfBus> excludedSlackBuses, List<AreaState> areaStates) {
         this.network = Objects.requireNonNull(network);
+        this.busColumnsState = Objects.requireNonNull(busColumnsState);
         this.busStates = Objects.requireNonNull(busStates);
         this.branchStates = Objects.requireNonNull(branchStates);
         this.hvdcStates = Objects.requireNonNull(hvdcStates);
@@ -48,6 +51,8 @@ public class NetworkState {
         Objects.requireNonNull(network);
         LOGGER.trace("Saving network state");
         network.setGeneratorsInitialTargetPToTargetP();
+        // voltages and angles of all the buses are saved in bulk from the network columns
+        LfBusColumns.State busColumnsState = network.getBusColumns().save();
         List<BusState> busStates = ElementState.save(network.getBuses(), BusState::save);
         List<BranchState> branchStates = ElementState.save(network.getBranches(), BranchState::save);
         List<HvdcState> hvdcStates = ElementState.save(network.getHvdcs(), HvdcState::save);
@@ -55,11 +60,12 @@ public class NetworkState {
         Set<LfBus> excludedSlackBuses = network.getSynchronousNetworks().stream()
             .flatMap(lfScNetwork -> lfScNetwork.getExcludedSlackBuses().stream())
             .collect(Collectors.toSet());
-        return new NetworkState(network, busStates, branchStates, hvdcStates, excludedSlackBuses, areaStates);
+        return new NetworkState(network, busColumnsState, busStates, branchStates, hvdcStates, excludedSlackBuses, areaStates);
     }
 
     public void restore() {
         LOGGER.trace("Restoring network state");
+        network.getBusColumns().restore(busColumnsState);
         ElementState.restore(busStates);
         ElementState.restore(branchStates);
         ElementState.restore(hvdcStates);
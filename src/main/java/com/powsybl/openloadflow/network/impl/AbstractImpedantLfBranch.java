@@ -505,7 +505,22 @@ public abstract class AbstractImpedantLfBranch extends AbstractLfBranch {
     }
 
     protected LfBranchResults getImpedantLfBranchResults() {
-        return new LfBranchResults(p1.eval(), p2.eval(), q1.eval(), q2.eval(), i1.eval(), i2.eval());
+        return LfBranchFlowReader.readOrEvaluate(this);
+    }
+
+    /**
+     * Update flows from the current state, reading them in bulk from the network branch flow reader if available.
+     * Otherwise, side 2 flows are only evaluated if requested.
+     */
+    protected void updateFlowsFromState(boolean evaluateSide2) {
+        LfBranchResults flows = network.getBranchFlowReader().read(this);
+        if (flows != null) {
+            updateFlows(flows.p1(), flows.q1(), flows.p2(), flows.q2());
+        } else if (evaluateSide2) {
+            updateFlows(p1.eval(), q1.eval(), p2.eval(), q2.eval());
+        } else {
+            updateFlows(p1.eval(), q1.eval(), Double.NaN, Double.NaN);
+        }
     }
 
     protected BranchResult buildBranchResult(LoadFlowModel loadFlowModel, Map<String, LfBranchResults> zeroImpedanceFlows, double currentScale1, double currentScale2,
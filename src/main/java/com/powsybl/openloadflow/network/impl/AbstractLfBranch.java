@@ -187,6 +187,25 @@ public abstract class AbstractLfBranch extends AbstractElement implements LfBran
         return limits;
     }
 
+    /**
+     * Loading limits of a side, indexed by operational limits group id. None by default.
+     */
+    protected Map<String, ? extends LoadingLimits> getLoadingLimits(LimitType type, TwoSides side) {
+        return Collections.emptyMap();
+    }
+
+    private <T extends LoadingLimits> List<LfLimitsGroup> createLimitsWithoutReduction(Map<String, T> loadingLimits, TwoSides side) {
+        return createLimits(() -> loadingLimits, null, side);
+    }
+
+    /**
+     * Create the limits of a side without any reduction, neither reading nor updating the lazily cached limits, so
+     * that the branch is left unchanged.
+     */
+    public List<LfLimitsGroup> createLimitsWithoutReduction(LimitType type, TwoSides side) {
+        return createLimitsWithoutReduction(getLoadingLimits(type, side), side);
+    }
+
     @Override
     public PiModel getPiModel() {
         return piModel;
@@ -38,19 +38,22 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
 
     protected boolean reference = false;
 
-    protected double v;
+    /**
+     * Index of the slot of this bus in the network bus columns, where voltage magnitude and angle are stored.
+     */
+    protected final int columnIndex;
 
     protected Evaluable calculatedV = NAN;
 
-    protected double angle;
-
     private boolean hasGeneratorsWithSlope;
 
     protected boolean generatorVoltageControlEnabled = false;
 
     protected boolean generatorReactivePowerControlEnabled = false;
 
-    protected Double generationTargetP;
+    protected double generationTargetP;
+
+    private boolean invalidatedGenerationTargetP = true;
 
     private double generationTargetQ = Double.NaN;
 
@@ -72,9 +75,13 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
 
     protected final List<LfLoad> loads = new ArrayList<>();
 
-    protected Double loadTargetP;
+    protected double loadTargetP;
+
+    private boolean invalidatedLoadTargetP = true;
 
-    protected Double loadTargetQ;
+    protected double loadTargetQ;
+
+    private boolean invalidatedLoadTargetQ = true;
 
     protected final List<LfBranch> branches = new ArrayList<>();
 
@@ -110,8 +117,7 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
 
     protected AbstractLfBus(LfNetwork network, double v, double angle, int numSC, LfNetworkParameters parameters) {
         super(network);
-        this.v = v;
-        this.angle = angle;
+        this.columnIndex = network.getBusColumns().add(v, angle);
         this.numSC = numSC;
         this.distributedOnConformLoad = parameters.isDistributedOnConformLoad();
         this.forceTargetQInReactiveLimits = parameters.isForceTargetQInReactiveLimits() && parameters.isReactiveLimits();
@@ -413,7 +419,7 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
 
     @Override
     public void invalidateGenerationTargetP() {
-        generationTargetP = null;
+        invalidatedGenerationTargetP = true;
         if (forceTargetQInReactiveLimits && !isGenerationTargetQFrozen) {
             invalidateGenerationTargetQ();
         }
@@ -427,11 +433,12 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
 
     @Override
     public double getGenerationTargetP() {
-        if (generationTargetP == null) {
+        if (invalidatedGenerationTargetP) {
             generationTargetP = 0.0;
             for (LfGenerator generator : generators) {
                 generationTargetP += generator.getTargetP();
             }
+            invalidatedGenerationTargetP = false;
         }
         return generationTargetP;
     }
@@ -477,16 +484,17 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
 
     @Override
     public void invalidateLoadTargetP() {
-        loadTargetP = null;
+        invalidatedLoadTargetP = true;
     }
 
     @Override
     public double getLoadTargetP() {
-        if (loadTargetP == null) {
+        if (invalidatedLoadTargetP) {
             loadTargetP = 0.0;
             for (LfLoad load : loads) {
                 loadTargetP += load.getTargetP() * load.getLoadModel().flatMap(lm -> lm.getExpTermP(0).map(LfLoadModel.ExpTerm::c)).orElse(1d);
             }
+            invalidatedLoadTargetP = false;
         }
         return loadTargetP + getFictitiousInjectionTargetP();
     }
@@ -500,17 +508,18 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
 
     @Override
     public void invalidateLoadTargetQ() {
-        loadTargetQ = null;
+        invalidatedLoadTargetQ = true;
     }
 
     @Override
     public double getLoadTargetQ() {
-        if (loadTargetQ == null) {
+        if (invalidatedLoadTargetQ) {
             double sum = 0.0;
             for (LfLoad load : loads) {
                 sum += load.getTargetQ() * load.getLoadModel().flatMap(lm -> lm.getExpTermQ(0).map(LfLoadModel.ExpTerm::c)).orElse(1d);
             }
             loadTargetQ = sum;
+            invalidatedLoadTargetQ = false;
         }
         return loadTargetQ + getFictitiousInjectionTargetQ();
     }
@@ -550,12 +559,19 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
 
     @Override
     public double getV() {
-        return v / getNominalV();
+        return getVInKv() / getNominalV();
     }
 
     @Override
     public void setV(double v) {
-        this.v = v * getNominalV();
+        network.getBusColumns().setV(columnIndex, v * getNominalV());
+    }
+
+    /**
+     * Get the voltage magnitude in kV.
+     */
+    protected double getVInKv() {
+        return network.getBusColumns().getV(columnIndex);
     }
 
     @Override
@@ -570,12 +586,12 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
 
     @Override
     public double getAngle() {
-        return angle;
+        return network.getBusColumns().getAngle(columnIndex);
     }
 
     @Override
     public void setAngle(double angle) {
-        this.angle = angle;
+        network.getBusColumns().setAngle(columnIndex, angle);
     }
 
     @Override
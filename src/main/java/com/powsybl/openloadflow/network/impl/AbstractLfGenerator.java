@@ -17,6 +17,9 @@ import com.powsybl.openloadflow.util.Reports;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
@@ -161,6 +164,24 @@ public abstract class AbstractLfGenerator extends AbstractLfInjection implements
 
     protected abstract Optional<ReactiveLimits> getReactiveLimits();
 
+    @Override
+    public List<ReactiveCapabilityPoint> getReactiveCapabilityPoints() {
+        ReactiveLimits reactiveLimits = getReactiveLimits().orElse(null);
+        if (reactiveLimits == null) {
+            return Collections.emptyList();
+        }
+        return switch (reactiveLimits.getKind()) {
+            case MIN_MAX -> {
+                MinMaxReactiveLimits minMaxReactiveLimits = (MinMaxReactiveLimits) reactiveLimits;
+                yield List.of(new ReactiveCapabilityPoint(0, minMaxReactiveLimits.getMinQ() / PerUnit.SB, minMaxReactiveLimits.getMaxQ() / PerUnit.SB));
+            }
+            case CURVE -> ((ReactiveCapabilityCurve) reactiveLimits).getPoints().stream()
+                    .sorted(Comparator.comparingDouble(ReactiveCapabilityCurve.Point::getP))
+                    .map(point -> new ReactiveCapabilityPoint(point.getP() / PerUnit.SB, point.getMinQ() / PerUnit.SB, point.getMaxQ() / PerUnit.SB))
+                    .toList();
+        };
+    }
+
     @Override
     public double getMinQ() {
         if (getReactiveLimits().isEmpty()) {
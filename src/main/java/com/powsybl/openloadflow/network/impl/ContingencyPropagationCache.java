@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Cache of contingency propagation traversals of node/breaker voltage levels, shared by all the runs done on a same
+ * network. For each terminal a propagation starts from, the switches to open, the traversed terminals and the
+ * neighbour terminals found in its voltage level are stored together with the topology of this voltage level (its
+ * switches with their nodes, kind and status, its internal connections and its terminals). A cached traversal is only
+ * reused if the voltage level topology is exactly the same, so it stays valid across variants, after switch operations
+ * and after voltage level modifications.
+ * <p>
+ * Cached data only refer to network elements by their ids, so that the cache does not prevent the network from
+ * being garbage collected.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class ContingencyPropagationCache {
+
+    private static final Map<Network, ContingencyPropagationCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private record TerminalRef(String connectableId, int terminalNum) {
+
+        static TerminalRef of(Terminal terminal) {
+            Connectable<?> connectable = terminal.getConnectable();
+            return new TerminalRef(connectable.getId(), connectable.getTerminals().indexOf(terminal));
+        }
+
+        Terminal resolve(Network network) {
+            Connectable<?> connectable = network.getConnectable(connectableId);
+            if (connectable == null) {
+                throw new PowsyblException("Connectable '" + connectableId + "' not found");
+            }
+            return connectable.getTerminals().get(terminalNum);
+        }
+    }
+
+    /**
+     * Everything a node/breaker traversal of a voltage level depends on: the switches (id, nodes, kind, fictitious
+     * and open status), the internal connections and the terminals (connectable id and type, terminal number and node).
+     */
+    private record VoltageLevelTopology(List<String> switchIds, int[] switchNodes, List<SwitchKind> switchKinds,
+                                        BitSet fictitiousSwitches, BitSet openSwitches, int[] internalConnectionNodes,
+                                        List<String> connectableIds, List<IdentifiableType> connectableTypes,
+                                        int[] terminalNodes) {
+
+        static VoltageLevelTopology of(VoltageLevel voltageLevel) {
+            VoltageLevel.NodeBreakerView nodeBreakerView = voltageLevel.getNodeBreakerView();
+
+            List<String> switchIds = new ArrayList<>();
+            List<SwitchKind> switchKinds = new ArrayList<>();
+            BitSet fictitiousSwitches = new BitSet();
+            BitSet openSwitches = new BitSet();
+            int[] switchNodes = new int[2 * nodeBreakerView.getSwitchCount()];
+            for (Switch sw : nodeBreakerView.getSwitches()) {
+                int i = switchIds.size();
+                switchIds.add(sw.getId());
+                switchKinds.add(sw.getKind());
+                switchNodes[2 * i] = nodeBreakerView.getNode1(sw.getId());
+                switchNodes[2 * i + 1] = nodeBreakerView.getNode2(sw.getId());
+                fictitiousSwitches.set(i, sw.isFictitious());
+                openSwitches.set(i, sw.isOpen());
+            }
+
+            int[] internalConnectionNodes = new int[2 * nodeBreakerView.getInternalConnectionCount()];
+            int i = 0;
+            for (VoltageLevel.NodeBreakerView.InternalConnection internalConnection : nodeBreakerView.getInternalConnections()) {
+                internalConnectionNodes[i++] = internalConnection.getNode1();
+                internalConnectionNodes[i++] = internalConnection.getNode2();
+            }
+
+            List<String> connectableIds = new ArrayList<>();
+            List<IdentifiableType> connectableTypes = new ArrayList<>();
+            int[] nodes = nodeBreakerView.getNodes();
+            int[] terminalNodes = new int[2 * nodes.length];
+            for (int node : nodes) {
+                Terminal terminal = nodeBreakerView.getTerminal(node);
+                if (terminal != null) {
+                    Connectable<?> connectable = terminal.getConnectable();
+                    int j = connectableIds.size();
+                    connectableIds.add(connectable.getId());
+                    connectableTypes.add(connectable.getType());
+                    terminalNodes[2 * j] = node;
+                    terminalNodes[2 * j + 1] = connectable.getTerminals().indexOf(terminal);
+                }
+            }
+
+            return new VoltageLevelTopology(switchIds, switchNodes, switchKinds, fictitiousSwitches, openSwitches,
+                    internalConnectionNodes, connectableIds, connectableTypes,
+                    Arrays.copyOf(terminalNodes, 2 * connectableIds.size()));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            return o instanceof VoltageLevelTopology other
+                    && switchIds.equals(other.switchIds)
+                    && Arrays.equals(switchNodes, other.switchNodes)
+                    && switchKinds.equals(other.switchKinds)
+                    && fictitiousSwitches.equals(other.fictitiousSwitches)
+                    && openSwitches.equals(other.openSwitches)
+                    && Arrays.equals(internalConnectionNodes, other.internalConnectionNodes)
+                    && connectableIds.equals(other.connectableIds)
+                    && connectableTypes.equals(other.connectableTypes)
+                    && Arrays.equals(terminalNodes, other.terminalNodes);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(switchIds, switchKinds, fictitiousSwitches, openSwitches, connectableIds, connectableTypes);
+            result = 31 * result + Arrays.hashCode(switchNodes);
+            result = 31 * result + Arrays.hashCode(internalConnectionNodes);
+            return 31 * result + Arrays.hashCode(terminalNodes);
+        }
+    }
+
+    private record Traversal(VoltageLevelTopology topology, List<String> switchIdsToOpen, List<TerminalRef> traversedTerminals,
+                             List<TerminalRef> neighbourTerminals) {
+    }
+
+    /**
+     * Result of a traversal from a terminal.
+     */
+    public record TraversalResult(Set<Switch> switchesToOpen, Set<Terminal> traversedTerminals, List<Terminal> neighbourTerminals) {
+    }
+
+    /**
+     * Lookup into the cache for a given propagation run. The voltage level topologies are only computed once per
+     * lookup, so a lookup must not be used anymore after a topology change.
+     */
+    public final class Lookup {
+
+        private final Network network;
+
+        private final Map<String, VoltageLevelTopology> topologyByVoltageLevelId = new HashMap<>();
+
+        private Lookup(Network network) {
+            this.network = Objects.requireNonNull(network);
+        }
+
+        public TraversalResult traverse(Terminal terminal, Function<Terminal, TraversalResult> traverser) {
+            VoltageLevel voltageLevel = terminal.getVoltageLevel();
+            VoltageLevelTopology topology = topologyByVoltageLevelId.computeIfAbsent(voltageLevel.getId(),
+                id -> topologies.merge(id, VoltageLevelTopology.of(voltageLevel), (oldTopology, newTopology) -> oldTopology.equals(newTopology) ? oldTopology : newTopology));
+            TerminalRef terminalRef = TerminalRef.of(terminal);
+            Traversal traversal = traversals.get(terminalRef);
+            if (traversal != null && traversal.topology().equals(topology)) {
+                hitCount.incrementAndGet();
+                return resolve(traversal);
+            }
+            missCount.incrementAndGet();
+            TraversalResult result = traverser.apply(terminal);
+            traversals.put(terminalRef, new Traversal(topology,
+                    result.switchesToOpen().stream().map(Identifiable::getId).toList(),
+                    result.traversedTerminals().stream().map(TerminalRef::of).toList(),
+                    result.neighbourTerminals().stream().map(TerminalRef::of).toList()));
+            return result;
+        }
+
+        private TraversalResult resolve(Traversal traversal) {
+            Set<Switch> switchesToOpen = new HashSet<>(traversal.switchIdsToOpen().size());
+            for (String switchId : traversal.switchIdsToOpen()) {
+                switchesToOpen.add(network.getSwitch(switchId));
+            }
+            Set<Terminal> traversedTerminals = new HashSet<>(traversal.traversedTerminals().size());
+            for (TerminalRef terminalRef : traversal.traversedTerminals()) {
+                traversedTerminals.add(terminalRef.resolve(network));
+            }
+            List<Terminal> neighbourTerminals = new ArrayList<>(traversal.neighbourTerminals().size());
+            for (TerminalRef terminalRef : traversal.neighbourTerminals()) {
+                neighbourTerminals.add(terminalRef.resolve(network));
+            }
+            return new TraversalResult(switchesToOpen, traversedTerminals, neighbourTerminals);
+        }
+    }
+
+    private final Map<TerminalRef, Traversal> traversals = new ConcurrentHashMap<>();
+
+    /**
+     * Last computed topology of each voltage level, so that all the traversals done with a same topology share it.
+     */
+    private final Map<String, VoltageLevelTopology> topologies = new ConcurrentHashMap<>();
+
+    private final AtomicInteger hitCount = new AtomicInteger();
+
+    private final AtomicInteger missCount = new AtomicInteger();
+
+    private ContingencyPropagationCache() {
+    }
+
+    /**
+     * Get the cache associated to a network, creating it if needed.
+     */
+    public static ContingencyPropagationCache get(Network network) {
+        Objects.requireNonNull(network);
+        return CACHES.computeIfAbsent(network, n -> new ContingencyPropagationCache());
+    }
+
+    /**
+     * Remove the cache associated to a network.
+     */
+    public static void clear(Network network) {
+        Objects.requireNonNull(network);
+        CACHES.remove(network);
+    }
+
+    public Lookup createLookup(Network network) {
+        return new Lookup(network);
+    }
+
+    public int getHitCount() {
+        return hitCount.get();
+    }
+
+    public int getMissCount() {
+        return missCount.get();
+    }
+}
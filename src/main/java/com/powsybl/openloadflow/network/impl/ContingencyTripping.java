@@ -18,6 +18,8 @@ import java.util.*;
  */
 public class ContingencyTripping {
 
+    private static final NodeBreakerTraverserFactory DEFAULT_TRAVERSER_FACTORY = NodeBreakerTraverser::new;
+
     private static final ContingencyTripping NO_OP_TRIPPING = new ContingencyTripping(Collections.emptyList(), (s, tt, nt, nbv) -> null);
 
     @FunctionalInterface
@@ -49,14 +51,14 @@ public class ContingencyTripping {
 
         if (voltageLevelId != null) {
             if (voltageLevelId.equals(branch.getTerminal1().getVoltageLevel().getId())) {
-                return new ContingencyTripping(branch.getTerminal1(), NodeBreakerTraverser::new);
+                return new ContingencyTripping(branch.getTerminal1(), DEFAULT_TRAVERSER_FACTORY);
             } else if (voltageLevelId.equals(branch.getTerminal2().getVoltageLevel().getId())) {
-                return new ContingencyTripping(branch.getTerminal2(), NodeBreakerTraverser::new);
+                return new ContingencyTripping(branch.getTerminal2(), DEFAULT_TRAVERSER_FACTORY);
             } else {
                 throw new PowsyblException("VoltageLevel '" + voltageLevelId + "' not connected to branch '" + branch.getId() + "'");
             }
         } else {
-            return new ContingencyTripping(List.of(branch.getTerminal1(), branch.getTerminal2()), NodeBreakerTraverser::new);
+            return new ContingencyTripping(List.of(branch.getTerminal1(), branch.getTerminal2()), DEFAULT_TRAVERSER_FACTORY);
         }
     }
 
@@ -64,14 +66,14 @@ public class ContingencyTripping {
         Objects.requireNonNull(network);
         Objects.requireNonNull(injection);
 
-        return new ContingencyTripping(injection.getTerminal(), NodeBreakerTraverser::new);
+        return new ContingencyTripping(injection.getTerminal(), DEFAULT_TRAVERSER_FACTORY);
     }
 
     public static ContingencyTripping createThreeWindingsTransformerTripping(Network network, ThreeWindingsTransformer twt) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(twt);
 
-        return new ContingencyTripping(twt.getTerminals(), NodeBreakerTraverser::new);
+        return new ContingencyTripping(twt.getTerminals(), DEFAULT_TRAVERSER_FACTORY);
     }
 
     public static ContingencyTripping createBusbarSectionMinimalTripping(Network network, BusbarSection bbs) {
@@ -123,8 +125,17 @@ public class ContingencyTripping {
     }
 
     public void traverse(Set<Switch> switchesToOpen, Set<Terminal> terminalsToDisconnect) {
+        traverse(switchesToOpen, terminalsToDisconnect, null);
+    }
+
+    /**
+     * Same as {@link #traverse(Set, Set)} but node/breaker voltage level traversals are taken from the given cache
+     * lookup, if not null. Only the default traversals are cached, minimal trippings are always computed.
+     */
+    public void traverse(Set<Switch> switchesToOpen, Set<Terminal> terminalsToDisconnect, ContingencyPropagationCache.Lookup cacheLookup) {
         Set<Terminal> traversedTerminals = new HashSet<>();
-        terminals.forEach(t -> traverseFromTerminal(t, switchesToOpen, traversedTerminals));
+        ContingencyPropagationCache.Lookup lookup = nodeBreakerTraverserFactory == DEFAULT_TRAVERSER_FACTORY ? cacheLookup : null;
+        terminals.forEach(t -> traverseFromTerminal(t, switchesToOpen, traversedTerminals, lookup));
         terminalsToDisconnect.addAll(traversedTerminals);
     }
 
@@ -134,7 +145,8 @@ public class ContingencyTripping {
      * @param switchesToOpen set of switches which would be opened by the contingency propagation from terminal
      * @param traversedTerminals set of terminals traversed by the contingency propagation
      */
-    private void traverseFromTerminal(Terminal terminal, Set<Switch> switchesToOpen, Set<Terminal> traversedTerminals) {
+    private void traverseFromTerminal(Terminal terminal, Set<Switch> switchesToOpen, Set<Terminal> traversedTerminals,
+                                      ContingencyPropagationCache.Lookup cacheLookup) {
         Objects.requireNonNull(terminal);
         Objects.requireNonNull(switchesToOpen);
         Objects.requireNonNull(traversedTerminals);
@@ -145,10 +157,18 @@ public class ContingencyTripping {
 
         if (terminal.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
             traversedTerminals.add(terminal);
-            List<Terminal> neighbourTerminals = traverseNodeBreakerVoltageLevelsFromTerminal(terminal, switchesToOpen, traversedTerminals);
+            List<Terminal> neighbourTerminals;
+            if (cacheLookup != null) {
+                ContingencyPropagationCache.TraversalResult result = cacheLookup.traverse(terminal, this::traverseNodeBreakerVoltageLevelForCache);
+                switchesToOpen.addAll(result.switchesToOpen());
+                traversedTerminals.addAll(result.traversedTerminals());
+                neighbourTerminals = result.neighbourTerminals();
+            } else {
+                neighbourTerminals = traverseNodeBreakerVoltageLevelsFromTerminal(terminal, switchesToOpen, traversedTerminals);
+            }
 
             // Recursive call to continue the traverser in affected neighbouring voltage levels
-            neighbourTerminals.forEach(t -> traverseFromTerminal(t, switchesToOpen, traversedTerminals));
+            neighbourTerminals.forEach(t -> traverseFromTerminal(t, switchesToOpen, traversedTerminals, cacheLookup));
         } else {
             // In bus breaker view we have no idea what kind of switch it was in the initial node/breaker topology
             // so to keep things simple we do not propagate the fault
@@ -171,4 +191,12 @@ public class ContingencyTripping {
         return neighbourTerminals;
     }
 
+    private ContingencyPropagationCache.TraversalResult traverseNodeBreakerVoltageLevelForCache(Terminal terminal) {
+        // the traverser does not depend on what has already been traversed, so the traversal can be done on its own
+        Set<Switch> switchesToOpen = new HashSet<>();
+        Set<Terminal> traversedTerminals = new HashSet<>();
+        List<Terminal> neighbourTerminals = traverseNodeBreakerVoltageLevelsFromTerminal(terminal, switchesToOpen, traversedTerminals);
+        return new ContingencyPropagationCache.TraversalResult(switchesToOpen, traversedTerminals, neighbourTerminals);
+    }
+
 }
@@ -13,6 +13,7 @@ import com.powsybl.openloadflow.sa.LimitReductionManager;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.security.results.BranchResult;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -89,6 +90,19 @@ public class LfBoundaryLineBranch extends AbstractImpedantLfBranch {
                 .collect(Collectors.toMap(OperationalLimitsGroup::getId, o -> limitsGetter.apply(o).orElseThrow()));
     }
 
+    @Override
+    protected Map<String, ? extends LoadingLimits> getLoadingLimits(LimitType type, TwoSides side) {
+        if (side == TwoSides.TWO) {
+            return Collections.emptyMap();
+        }
+        return switch (type) {
+            case ACTIVE_POWER -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getActivePowerLimits).get();
+            case APPARENT_POWER -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getApparentPowerLimits).get();
+            case CURRENT -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getCurrentLimits).get();
+            default -> throw new UnsupportedOperationException(String.format("Getting %s limits is not supported.", type.name()));
+        };
+    }
+
     @Override
     public List<LfLimitsGroup> getLimits1(final LimitType type, LimitReductionManager limitReductionManager) {
         switch (type) {
@@ -111,7 +125,7 @@ public class LfBoundaryLineBranch extends AbstractImpedantLfBranch {
 
     @Override
     public void updateState(LfNetworkStateUpdateParameters parameters, LfNetworkUpdateReport updateReport) {
-        updateFlows(p1.eval(), q1.eval(), Double.NaN, Double.NaN);
+        updateFlowsFromState(false);
     }
 
     @Override
@@ -239,6 +239,16 @@ public class LfBranchImpl extends AbstractImpedantLfBranch {
                 .collect(Collectors.toMap(OperationalLimitsGroup::getId, o -> limitsGetter.apply(o).orElseThrow()));
     }
 
+    @Override
+    protected Map<String, ? extends LoadingLimits> getLoadingLimits(LimitType type, TwoSides side) {
+        return switch (type) {
+            case ACTIVE_POWER -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getActivePowerLimits, side).get();
+            case APPARENT_POWER -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getApparentPowerLimits, side).get();
+            case CURRENT -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getCurrentLimits, side).get();
+            default -> throw new UnsupportedOperationException(String.format("Getting %s limits is not supported.", type.name()));
+        };
+    }
+
     @Override
     public List<LfLimitsGroup> getLimits1(final LimitType type, LimitReductionManager limitReductionManager) {
         switch (type) {
@@ -319,7 +329,7 @@ public class LfBranchImpl extends AbstractImpedantLfBranch {
         if (isDisabled()) {
             updateFlows(Double.NaN, Double.NaN, Double.NaN, Double.NaN);
         } else {
-            updateFlows(p1.eval(), q1.eval(), p2.eval(), q2.eval());
+            updateFlowsFromState(true);
         }
 
         // in case of automation system simulation we might need to update IIDM terminals connection status
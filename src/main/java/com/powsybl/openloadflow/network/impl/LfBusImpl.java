@@ -145,9 +145,9 @@ public class LfBusImpl extends AbstractLfBus {
     public void updateState(LfNetworkStateUpdateParameters parameters) {
         var bus = getBus();
         if (!parameters.isDc()) {
-            bus.setV(Math.max(v, 0.0));
+            bus.setV(Math.max(getVInKv(), 0.0));
         }
-        bus.setAngle(Math.toDegrees(angle));
+        bus.setAngle(Math.toDegrees(getAngle()));
 
         // update slack bus
         if (slack && parameters.isWriteSlackBus()) {
@@ -170,15 +170,15 @@ public class LfBusImpl extends AbstractLfBus {
         var bus = getBus();
         if (breakers) {
             if (bbsIds.isEmpty()) {
-                return List.of(new BusResult(getVoltageLevelId(), bus.getId(), v, Math.toDegrees(angle)));
+                return List.of(new BusResult(getVoltageLevelId(), bus.getId(), getVInKv(), Math.toDegrees(getAngle())));
             } else {
                 return bbsIds.stream()
-                        .map(bbsId -> new BusResult(getVoltageLevelId(), bbsId, v, Math.toDegrees(angle)))
+                        .map(bbsId -> new BusResult(getVoltageLevelId(), bbsId, getVInKv(), Math.toDegrees(getAngle())))
                         .collect(Collectors.toList());
             }
         } else {
             return bus.getVoltageLevel().getBusBreakerView().getBusesFromBusViewBusId(bus.getId())
-                    .stream().map(b -> new BusResult(getVoltageLevelId(), b.getId(), v, Math.toDegrees(angle))).collect(Collectors.toList());
+                    .stream().map(b -> new BusResult(getVoltageLevelId(), b.getId(), getVInKv(), Math.toDegrees(getAngle()))).collect(Collectors.toList());
         }
     }
 
@@ -156,6 +156,19 @@ public final class LfLegBranch extends AbstractImpedantLfBranch {
                 .collect(Collectors.toMap(OperationalLimitsGroup::getId, o -> limitsGetter.apply(o).orElseThrow()));
     }
 
+    @Override
+    protected Map<String, ? extends LoadingLimits> getLoadingLimits(LimitType type, TwoSides side) {
+        if (side == TwoSides.TWO) {
+            return Collections.emptyMap();
+        }
+        return switch (type) {
+            case ACTIVE_POWER -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getActivePowerLimits).get();
+            case APPARENT_POWER -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getApparentPowerLimits).get();
+            case CURRENT -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getCurrentLimits).get();
+            default -> throw new UnsupportedOperationException(String.format("Getting %s limits is not supported.", type.name()));
+        };
+    }
+
     @Override
     public List<LfLimitsGroup> getLimits1(final LimitType type, LimitReductionManager limitReductionManager) {
         switch (type) {
@@ -181,7 +194,7 @@ public final class LfLegBranch extends AbstractImpedantLfBranch {
         var twt = getTwt();
         var leg = getLeg();
 
-        updateFlows(p1.eval(), q1.eval(), Double.NaN, Double.NaN);
+        updateFlowsFromState(false);
 
         if (leg.hasPhaseTapChanger()) {
             PhaseTapChanger ptc = leg.getPhaseTapChanger();
@@ -214,19 +227,34 @@ public final class LfLegBranch extends AbstractImpedantLfBranch {
                 .setQ(q1 * PerUnit.SB);
     }
 
-    private static LfBranchResults extractLegBranchResults(LfLegBranch leg) {
-        return new LfBranchResults(leg.p1.eval(), Double.NaN, leg.q1.eval(), Double.NaN, leg.i1.eval(), Double.NaN);
+    private static LfBranchResults extractLegBranchResults(LfBranch leg) {
+        LfBranchResults flows = leg.getNetwork().getBranchFlowReader().read(leg);
+        if (flows != null) {
+            return new LfBranchResults(flows.p1(), Double.NaN, flows.q1(), Double.NaN, flows.i1(), Double.NaN);
+        }
+        return new LfBranchResults(leg.getP1().eval(), Double.NaN, leg.getQ1().eval(), Double.NaN, leg.getI1().eval(), Double.NaN);
+    }
+
+    private static double getLegNominalV(LfBranch leg) {
+        if (leg instanceof LfLegBranch legBranch) {
+            return legBranch.getLeg().getTerminal().getVoltageLevel().getNominalV();
+        }
+        // a leg which does not refer to IIDM anymore (detached network): leg bus is on side 1, star bus on side 2
+        return leg.getBus1() != null ? leg.getBus1().getNominalV() : leg.getBus2().getNominalV();
     }
 
     public static ThreeWindingsTransformerResult createThreeWindingsTransformerResult(LfNetwork network, String threeWindingsTransformerId, boolean createResultExtension,
                                                                                       Map<String, LfBranch.LfBranchResults> zeroImpedanceFlows, LoadFlowModel loadFlowModel) {
-        LfLegBranch leg1 = (LfLegBranch) network.getBranchById(LfLegBranch.getId(threeWindingsTransformerId, 1));
-        LfLegBranch leg2 = (LfLegBranch) network.getBranchById(LfLegBranch.getId(threeWindingsTransformerId, 2));
-        LfLegBranch leg3 = (LfLegBranch) network.getBranchById(LfLegBranch.getId(threeWindingsTransformerId, 3));
+        LfBranch leg1 = network.getBranchById(LfLegBranch.getId(threeWindingsTransformerId, 1));
+        LfBranch leg2 = network.getBranchById(LfLegBranch.getId(threeWindingsTransformerId, 2));
+        LfBranch leg3 = network.getBranchById(LfLegBranch.getId(threeWindingsTransformerId, 3));
 
-        double i1Base = PerUnit.ib(leg1.legRef.get().getTerminal().getVoltageLevel().getNominalV());
-        double i2Base = PerUnit.ib(leg2.legRef.get().getTerminal().getVoltageLevel().getNominalV());
-        double i3Base = PerUnit.ib(leg3.legRef.get().getTerminal().getVoltageLevel().getNominalV());
+        double nominalV1 = getLegNominalV(leg1);
+        double nominalV2 = getLegNominalV(leg2);
+        double nominalV3 = getLegNominalV(leg3);
+        double i1Base = PerUnit.ib(nominalV1);
+        double i2Base = PerUnit.ib(nominalV2);
+        double i3Base = PerUnit.ib(nominalV3);
 
         LfBranchResults legBranchResults1 = leg1.isZeroImpedance(loadFlowModel) ? zeroImpedanceFlows.get(leg1.getId())
                 : extractLegBranchResults(leg1);
@@ -250,9 +278,9 @@ public final class LfLegBranch extends AbstractImpedantLfBranch {
 
         if (createResultExtension) {
             result.addExtension(OlfThreeWindingsTransformerResult.class, new OlfThreeWindingsTransformerResult(
-                    leg1.getV1() * leg1.legRef.get().getTerminal().getVoltageLevel().getNominalV(),
-                    leg2.getV1() * leg2.legRef.get().getTerminal().getVoltageLevel().getNominalV(),
-                    leg3.getV1() * leg3.legRef.get().getTerminal().getVoltageLevel().getNominalV(),
+                    leg1.getV1() * nominalV1,
+                    leg2.getV1() * nominalV2,
+                    leg3.getV1() * nominalV3,
                     Math.toDegrees(leg1.getAngle1()),
                     Math.toDegrees(leg2.getAngle1()),
                     Math.toDegrees(leg3.getAngle1())));
@@ -19,6 +19,7 @@ import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.util.DebugUtil;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.openloadflow.util.Reports;
+import com.powsybl.openloadflow.util.mt.MultiThreadHelper;
 import net.jafama.FastMath;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.commons.lang3.tuple.Pair;
@@ -1623,16 +1624,24 @@ public class LfNetworkLoaderImpl implements LfNetworkLoader<Network> {
         if (!parameters.isAcDcNetwork()) {
             // Each synchronous component is solved individually. Therefore, a LfNetwork must represent a single
             // synchronous component. We create them for each (numCC, numSC) key independently.
-            List<LfNetwork> acLfNetworks = filteredBusesByComponentStream
-                    .map(e -> {
+            // Components are independent, so they can be created concurrently. Each one has its own root report
+            // node and the resulting list follows the component order, so the result does not depend on the
+            // number of threads.
+            String variantId = network.getVariantManager().getWorkingVariantId();
+            boolean variantMultiThreadAccessAllowed = network.getVariantManager().isVariantMultiThreadAccessAllowed();
+            List<LfNetwork> acLfNetworks = MultiThreadHelper.map(filteredBusesByComponentStream.toList(), parameters.getNetworkLoadingThreadCount(),
+                    e -> {
+                        if (variantMultiThreadAccessAllowed) {
+                            // the working variant is thread local in this mode
+                            network.getVariantManager().setWorkingVariant(variantId);
+                        }
                         var networkKey = e.getKey();
                         int numCc = networkKey.getLeft();
                         int numSc = networkKey.getRight();
                         List<Bus> scBuses = e.getValue();
                         return createAc(numCc, numSc, network, scBuses, switchesByCc.get(networkKey), topoConfig,
                                 parameters, Reports.createRootLfNetworkReportNode(reportNode, numCc, numSc));
-                    })
-                    .toList();
+                    });
 
             stopwatch.stop();
 
@@ -111,6 +111,16 @@ public class LfTieLineBranch extends AbstractImpedantLfBranch {
                 .collect(Collectors.toMap(OperationalLimitsGroup::getId, o -> limitsGetter.apply(o).orElseThrow()));
     }
 
+    @Override
+    protected Map<String, ? extends LoadingLimits> getLoadingLimits(LimitType type, TwoSides side) {
+        return switch (type) {
+            case ACTIVE_POWER -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getActivePowerLimits, side).get();
+            case APPARENT_POWER -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getApparentPowerLimits, side).get();
+            case CURRENT -> toMapIndexedByOperationalLimitsGroupId(OperationalLimitsGroup::getCurrentLimits, side).get();
+            default -> throw new UnsupportedOperationException(String.format("Getting %s limits is not supported.", type.name()));
+        };
+    }
+
     @Override
     public List<LfLimitsGroup> getLimits1(final LimitType type, LimitReductionManager limitReductionManager) {
         switch (type) {
@@ -148,7 +158,7 @@ public class LfTieLineBranch extends AbstractImpedantLfBranch {
 
     @Override
     public void updateState(LfNetworkStateUpdateParameters parameters, LfNetworkUpdateReport updateReport) {
-        updateFlows(p1.eval(), q1.eval(), p2.eval(), q2.eval());
+        updateFlowsFromState(true);
     }
 
     @Override
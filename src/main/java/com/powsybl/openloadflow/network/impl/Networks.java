@@ -13,6 +13,7 @@ import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.extensions.VoltageRegulation;
 import com.powsybl.openloadflow.graph.GraphConnectivity;
 import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.snapshot.LfDetachedNetworkLoader;
 
 import java.util.*;
 
@@ -105,19 +106,24 @@ public final class Networks {
         return LfNetwork.load(network, new LfNetworkLoaderImpl(), slackBusSelector);
     }
 
+    private static LfNetworkLoader<Network> createLoader(LfNetworkParameters parameters) {
+        LfNetworkLoader<Network> loader = new LfNetworkLoaderImpl();
+        return parameters.isDetached() ? new LfDetachedNetworkLoader<>(loader) : loader;
+    }
+
     public static List<LfNetwork> load(Network network, LfNetworkParameters parameters) {
-        return LfNetwork.load(network, new LfNetworkLoaderImpl(), parameters);
+        return LfNetwork.load(network, createLoader(parameters), parameters);
     }
 
     public static List<LfNetwork> load(Network network, LfNetworkParameters parameters, ReportNode reportNode) {
-        return LfNetwork.load(network, new LfNetworkLoaderImpl(), parameters, reportNode);
+        return LfNetwork.load(network, createLoader(parameters), parameters, reportNode);
     }
 
     public static List<LfNetwork> load(Network network, LfTopoConfig topoConfig, LfNetworkParameters parameters, ReportNode reportNode) {
-        return LfNetwork.load(network, new LfNetworkLoaderImpl(), topoConfig, parameters, reportNode);
+        return LfNetwork.load(network, createLoader(parameters), topoConfig, parameters, reportNode);
     }
 
-    private static Set<String> retainAndCloseNecessarySwitches(Network network, LfTopoConfig topoConfig) {
+    private static void retainNecessarySwitches(Network network, LfTopoConfig topoConfig) {
         network.getSwitchStream()
                 .filter(sw -> sw.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER)
                 .forEach(sw -> sw.setRetained(false));
@@ -127,6 +133,10 @@ public final class Networks {
         topoConfig.getSwitchesToClose().stream()
                 .filter(sw -> sw.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER)
                 .forEach(sw -> sw.setRetained(true));
+    }
+
+    private static Set<String> retainAndCloseNecessarySwitches(Network network, LfTopoConfig topoConfig) {
+        retainNecessarySwitches(network, topoConfig);
 
         Set<String> closedBranchesOrSwitches = new LinkedHashSet<>();
         topoConfig.getSwitchesToClose().forEach(sw -> {
@@ -221,24 +231,31 @@ public final class Networks {
         return loadWithReconnectableElements(network, topoConfig, networkParameters, LfNetworkList.DefaultVariantCleaner::new, reportNode);
     }
 
-    public static LfNetworkList loadWithReconnectableElements(Network network, LfTopoConfig topoConfig, LfNetworkParameters networkParameters,
-                                                              LfNetworkList.VariantCleanerFactory variantCleanerFactory, ReportNode reportNode) {
-        LfTopoConfig modifiedTopoConfig;
+    private static LfTopoConfig getTopoConfigWithAutomationSystems(Network network, LfTopoConfig topoConfig, LfNetworkParameters networkParameters) {
         if (networkParameters.isSimulateAutomationSystems()) {
-            modifiedTopoConfig = new LfTopoConfig(topoConfig);
+            LfTopoConfig modifiedTopoConfig = new LfTopoConfig(topoConfig);
             addElementsToOperateByAutomationSystem(network, modifiedTopoConfig);
             if (modifiedTopoConfig.isBreaker()) {
                 networkParameters.setBreakers(true);
             }
-        } else {
-            modifiedTopoConfig = topoConfig;
+            return modifiedTopoConfig;
         }
+        return topoConfig;
+    }
+
+    private static void checkBreakers(LfTopoConfig topoConfig, LfNetworkParameters networkParameters) {
+        if (!networkParameters.isBreakers() && topoConfig.isBreaker()) {
+            throw new PowsyblException("LF networks have to be built from bus/breaker view");
+        }
+    }
+
+    public static LfNetworkList loadWithReconnectableElements(Network network, LfTopoConfig topoConfig, LfNetworkParameters networkParameters,
+                                                              LfNetworkList.VariantCleanerFactory variantCleanerFactory, ReportNode reportNode) {
+        LfTopoConfig modifiedTopoConfig = getTopoConfigWithAutomationSystems(network, topoConfig, networkParameters);
         if (!modifiedTopoConfig.isBreaker() && modifiedTopoConfig.getBranchIdsToClose().isEmpty()) {
             return new LfNetworkList(load(network, topoConfig, networkParameters, reportNode));
         } else {
-            if (!networkParameters.isBreakers() && modifiedTopoConfig.isBreaker()) {
-                throw new PowsyblException("LF networks have to be built from bus/breaker view");
-            }
+            checkBreakers(modifiedTopoConfig, networkParameters);
 
             // create a temporary working variant to build LF networks
             String tmpVariantId = "olf-tmp-" + UUID.randomUUID();
@@ -263,6 +280,28 @@ public final class Networks {
         }
     }
 
+    /**
+     * Same as {@link #loadWithReconnectableElements(Network, LfTopoConfig, LfNetworkParameters, ReportNode)} but without
+     * creating any temporary variant: the switches that could be opened are retained (which does not depend on the
+     * variant) and the LF networks are loaded from the working variant. This is only possible if no switch or branch has
+     * to be closed.
+     *
+     * @return the LF networks, or an empty optional if a temporary variant is needed to load them
+     */
+    public static Optional<List<LfNetwork>> loadWithoutTemporaryVariant(Network network, LfTopoConfig topoConfig, LfNetworkParameters networkParameters,
+                                                                        ReportNode reportNode) {
+        LfTopoConfig modifiedTopoConfig = getTopoConfigWithAutomationSystems(network, topoConfig, networkParameters);
+        if (!modifiedTopoConfig.getSwitchesToClose().isEmpty() || !modifiedTopoConfig.getBranchIdsToClose().isEmpty()) {
+            return Optional.empty();
+        }
+        if (!modifiedTopoConfig.isBreaker()) {
+            return Optional.of(load(network, topoConfig, networkParameters, reportNode));
+        }
+        checkBreakers(modifiedTopoConfig, networkParameters);
+        retainNecessarySwitches(network, modifiedTopoConfig);
+        return Optional.of(load(network, modifiedTopoConfig, networkParameters, reportNode));
+    }
+
     public static Iterable<Bus> getBuses(Network network, boolean breaker) {
         return breaker ? network.getBusBreakerView().getBuses()
                        : network.getBusView().getBuses();
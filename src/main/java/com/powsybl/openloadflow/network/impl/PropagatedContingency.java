@@ -92,10 +92,13 @@ public class PropagatedContingency {
     public static List<PropagatedContingency> createList(Network network, List<Contingency> contingencies, LfTopoConfig topoConfig,
                                                          PropagatedContingencyCreationParameters creationParameters, int startIndex) {
         List<PropagatedContingency> propagatedContingencies = new ArrayList<>();
+        ContingencyPropagationCache.Lookup cacheLookup = creationParameters.isPropagationCache() && creationParameters.isContingencyPropagation()
+                ? ContingencyPropagationCache.get(network).createLookup(network)
+                : null;
         for (int index = 0; index < contingencies.size(); index++) {
             Contingency contingency = contingencies.get(index);
             PropagatedContingency propagatedContingency =
-                    PropagatedContingency.create(network, contingency, index + startIndex, topoConfig, creationParameters);
+                    PropagatedContingency.create(network, contingency, index + startIndex, topoConfig, creationParameters, cacheLookup);
             propagatedContingencies.add(propagatedContingency);
             topoConfig.getSwitchesToOpen().addAll(propagatedContingency.switchesToOpen);
             topoConfig.getBusIdsToLose().addAll(propagatedContingency.busIdsToLose);
@@ -104,7 +107,8 @@ public class PropagatedContingency {
     }
 
     private static PropagatedContingency create(Network network, Contingency contingency, int index, LfTopoConfig topoConfig,
-                                                PropagatedContingencyCreationParameters creationParameters) {
+                                                PropagatedContingencyCreationParameters creationParameters,
+                                                ContingencyPropagationCache.Lookup cacheLookup) {
         Set<Switch> switchesToOpen = new HashSet<>();
         Set<Terminal> terminalsToDisconnect = new HashSet<>();
         Set<String> busIdsToLose = new HashSet<>();
@@ -146,7 +150,7 @@ public class PropagatedContingency {
                     break;
                 case BUSBAR_SECTION:
                     if (creationParameters.isContingencyPropagation()) {
-                        ContingencyTripping.createContingencyTripping(network, identifiable).traverse(switchesToOpen, terminalsToDisconnect);
+                        ContingencyTripping.createContingencyTripping(network, identifiable).traverse(switchesToOpen, terminalsToDisconnect, cacheLookup);
                     } else {
                         ContingencyTripping.createBusbarSectionMinimalTripping(network, (BusbarSection) identifiable).traverse(switchesToOpen, terminalsToDisconnect);
                     }
@@ -157,7 +161,7 @@ public class PropagatedContingency {
                     break;
                 default:
                     if (creationParameters.isContingencyPropagation()) {
-                        ContingencyTripping.createContingencyTripping(network, identifiable).traverse(switchesToOpen, terminalsToDisconnect);
+                        ContingencyTripping.createContingencyTripping(network, identifiable).traverse(switchesToOpen, terminalsToDisconnect, cacheLookup);
                     }
                     terminalsToDisconnect.addAll(getTerminals(identifiable));
             }
@@ -352,6 +356,15 @@ public class PropagatedContingency {
                 && loadIdsToLose.isEmpty() && shuntIdsToShift.isEmpty() && busIdsToLose.isEmpty();
     }
 
+    /**
+     * Returns true if the contingency only opens branches, without any loss of bus, injection or hvdc line.
+     */
+    public boolean isBranchOpeningOnly() {
+        return !branchIdsToOpen.isEmpty()
+                && hvdcIdsToOpen.isEmpty() && generatorIdsToLose.isEmpty()
+                && loadIdsToLose.isEmpty() && shuntIdsToShift.isEmpty() && busIdsToLose.isEmpty();
+    }
+
     private static boolean isSlackBusIsolated(GraphConnectivity<LfBus, LfBranch> connectivity, LfBus slackBus) {
         // check that slack bus belongs to the largest component.
         // Largest component has always the number 0.
@@ -24,6 +24,8 @@ public class PropagatedContingencyCreationParameters {
 
     private boolean hvdcAcEmulation = LoadFlowParameters.DEFAULT_HVDC_AC_EMULATION_ON;
 
+    private boolean propagationCache = false;
+
     public boolean isContingencyPropagation() {
         return contingencyPropagation;
     }
@@ -59,4 +61,17 @@ public class PropagatedContingencyCreationParameters {
         this.hvdcAcEmulation = hvdcAcEmulation;
         return this;
     }
+
+    /**
+     * If true, node/breaker voltage level traversals done for contingency propagation are stored in the
+     * {@link ContingencyPropagationCache} of the network and reused by next propagations.
+     */
+    public boolean isPropagationCache() {
+        return propagationCache;
+    }
+
+    public PropagatedContingencyCreationParameters setPropagationCache(boolean propagationCache) {
+        this.propagationCache = propagationCache;
+        return this;
+    }
 }
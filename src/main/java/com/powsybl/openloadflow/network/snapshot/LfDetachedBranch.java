@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.snapshot;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.LimitType;
+import com.powsybl.iidm.network.LoadingLimits;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.AbstractImpedantLfBranch;
+import com.powsybl.openloadflow.network.impl.OlfBranchResult;
+import com.powsybl.openloadflow.sa.LimitReductionManager;
+import com.powsybl.openloadflow.util.PerUnit;
+import com.powsybl.security.results.BranchResult;
+
+import java.util.*;
+
+/**
+ * A branch with a simple PI model which does not refer to any IIDM object, all its data being held in memory.
+ * Limits are stored already sorted and per unitized, as they are in {@link LfLimitsGroup}, and limit reductions
+ * are applied when limits are requested for the first time.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LfDetachedBranch extends AbstractImpedantLfBranch {
+
+    record Limit(String name, int acceptableDuration, double value) {
+    }
+
+    record LimitsGroup(String operationalLimitsGroupId, List<Limit> sortedLimits) {
+    }
+
+    private final String id;
+
+    private final List<String> originalIds;
+
+    private final BranchType branchType;
+
+    private final ThreeSides originalSide;
+
+    private final double nominalV1;
+
+    private final double nominalV2;
+
+    private final boolean phaseControllerCapability;
+
+    private final Map<LimitType, List<LimitsGroup>> limitsGroups1 = new EnumMap<>(LimitType.class);
+
+    private final Map<LimitType, List<LimitsGroup>> limitsGroups2 = new EnumMap<>(LimitType.class);
+
+    private final Map<LimitType, List<LfLimitsGroup>> limits1 = new EnumMap<>(LimitType.class);
+
+    private final Map<LimitType, List<LfLimitsGroup>> limits2 = new EnumMap<>(LimitType.class);
+
+    LfDetachedBranch(LfNetwork network, LfBus bus1, LfBus bus2, PiModel piModel, String id, List<String> originalIds,
+                     BranchType branchType, ThreeSides originalSide, double nominalV1, double nominalV2,
+                     boolean phaseControllerCapability, LfNetworkParameters parameters) {
+        super(network, bus1, bus2, piModel, parameters);
+        this.id = Objects.requireNonNull(id);
+        this.originalIds = Objects.requireNonNull(originalIds);
+        this.branchType = Objects.requireNonNull(branchType);
+        this.originalSide = originalSide;
+        this.nominalV1 = nominalV1;
+        this.nominalV2 = nominalV2;
+        this.phaseControllerCapability = phaseControllerCapability;
+    }
+
+    void setLimitsGroups(TwoSides side, LimitType type, List<LimitsGroup> limitsGroups) {
+        (side == TwoSides.ONE ? limitsGroups1 : limitsGroups2).put(type, Objects.requireNonNull(limitsGroups));
+    }
+
+    List<LimitsGroup> getLimitsGroups(TwoSides side, LimitType type) {
+        return (side == TwoSides.ONE ? limitsGroups1 : limitsGroups2).getOrDefault(type, Collections.emptyList());
+    }
+
+    double getNominalV1() {
+        return nominalV1;
+    }
+
+    double getNominalV2() {
+        return nominalV2;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public List<String> getOriginalIds() {
+        return originalIds;
+    }
+
+    @Override
+    public BranchType getBranchType() {
+        return branchType;
+    }
+
+    @Override
+    public Optional<ThreeSides> getOriginalSide() {
+        return Optional.ofNullable(originalSide);
+    }
+
+    @Override
+    public boolean hasPhaseControllerCapability() {
+        return phaseControllerCapability;
+    }
+
+    @Override
+    public List<BranchResult> createBranchResult(double preContingencyBranchP1, double preContingencyBranchOfContingencyP1,
+                                                 boolean createExtension, Map<String, LfBranchResults> zeroImpedanceFlows,
+                                                 LoadFlowModel loadFlowModel) {
+        if (originalSide != null) {
+            throw new PowsyblException("Unsupported type of branch for branch result: " + id);
+        }
+        var branchResult = buildBranchResult(loadFlowModel, zeroImpedanceFlows, PerUnit.ib(nominalV1), PerUnit.ib(nominalV2),
+                                             preContingencyBranchP1, preContingencyBranchOfContingencyP1);
+        if (createExtension) {
+            branchResult.addExtension(OlfBranchResult.class, new OlfBranchResult(piModel.getR1(), piModel.getContinuousR1(),
+                    getV1() * nominalV1, getV2() * nominalV2, Math.toDegrees(getAngle1()), Math.toDegrees(getAngle2())));
+        }
+        return List.of(branchResult);
+    }
+
+    private static double[] getLimitReductions(LimitsGroup limitsGroup, LimitType type, double nominalV,
+                                               LimitReductionManager limitReductionManager) {
+        if (type != LimitType.CURRENT || limitReductionManager == null || limitReductionManager.isEmpty()) {
+            return new double[] {};
+        }
+        List<Limit> sortedLimits = limitsGroup.sortedLimits();
+        double[] limitReductions = new double[sortedLimits.size()];
+        Arrays.fill(limitReductions, 1.);
+        for (LimitReductionManager.TerminalLimitReduction terminalLimitReduction : limitReductionManager.getTerminalLimitReductions()) {
+            if (terminalLimitReduction.nominalV().contains(nominalV)) {
+                // permanent limit is the last one
+                if (terminalLimitReduction.isPermanent()) {
+                    limitReductions[sortedLimits.size() - 1] = terminalLimitReduction.reduction();
+                }
+                if (terminalLimitReduction.acceptableDuration() != null) {
+                    for (int k = 0; k < sortedLimits.size() - 1; k++) {
+                        // sorted limits acceptable durations have been shifted by one, so original acceptable duration
+                        // of a temporary limit is the one of the next limit in the list
+                        int acceptableDuration = sortedLimits.get(k + 1).acceptableDuration();
+                        if (terminalLimitReduction.acceptableDuration().contains(acceptableDuration)) {
+                            limitReductions[k] = terminalLimitReduction.reduction();
+                        }
+                    }
+                }
+            }
+        }
+        return limitReductions;
+    }
+
+    private static List<LfLimitsGroup> createLimits(List<LimitsGroup> limitsGroups, LimitType type, double nominalV,
+                                                    LimitReductionManager limitReductionManager) {
+        List<LfLimitsGroup> limits = new ArrayList<>(limitsGroups.size());
+        for (LimitsGroup limitsGroup : limitsGroups) {
+            double[] limitReductions = getLimitReductions(limitsGroup, type, nominalV, limitReductionManager);
+            List<LfLimit> sortedLimits = new ArrayList<>(limitsGroup.sortedLimits().size());
+            for (int k = 0; k < limitsGroup.sortedLimits().size(); k++) {
+                Limit limit = limitsGroup.sortedLimits().get(k);
+                double reduction = limitReductions.length == 0 ? 1d : limitReductions[k];
+                sortedLimits.add(new LfLimit(limit.name(), limit.acceptableDuration(), limit.value(), reduction));
+            }
+            limits.add(new LfLimitsGroup(sortedLimits, limitsGroup.operationalLimitsGroupId()));
+        }
+        return limits;
+    }
+
+    private static void checkLimitType(LimitType type) {
+        if (type != LimitType.ACTIVE_POWER && type != LimitType.APPARENT_POWER && type != LimitType.CURRENT) {
+            throw new UnsupportedOperationException(String.format("Getting %s limits is not supported.", type.name()));
+        }
+    }
+
+    @Override
+    public List<LfLimitsGroup> getLimits1(LimitType type, LimitReductionManager limitReductionManager) {
+        checkLimitType(type);
+        return limits1.computeIfAbsent(type, t -> createLimits(getLimitsGroups(TwoSides.ONE, t), t, nominalV1, limitReductionManager));
+    }
+
+    @Override
+    public List<LfLimitsGroup> getLimits2(LimitType type, LimitReductionManager limitReductionManager) {
+        checkLimitType(type);
+        return limits2.computeIfAbsent(type, t -> createLimits(getLimitsGroups(TwoSides.TWO, t), t, nominalV2, limitReductionManager));
+    }
+
+    @Override
+    public double[] getLimitReductions(TwoSides side, LimitReductionManager limitReductionManager, LoadingLimits limits) {
+        // there is no IIDM loading limits for a detached branch, reductions are directly computed from stored limits
+        return new double[] {};
+    }
+
+    @Override
+    public void updateState(LfNetworkStateUpdateParameters parameters, LfNetworkUpdateReport updateReport) {
+        // nothing to update, there is no underlying network
+    }
+
+    @Override
+    public void updateFlows(double p1, double q1, double p2, double q2) {
+        // nothing to update, there is no underlying network
+    }
+}
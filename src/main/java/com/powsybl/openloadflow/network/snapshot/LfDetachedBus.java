@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.snapshot;
+
+import com.powsybl.contingency.violations.ViolationLocation;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.AbstractLfBus;
+import com.powsybl.security.results.BusResult;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A bus which does not refer to any IIDM object, all its data being held in memory.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LfDetachedBus extends AbstractLfBus {
+
+    private final String id;
+
+    private final List<String> originalIds;
+
+    private final List<String> busResultIds;
+
+    private final ViolationLocation violationLocation;
+
+    private final String voltageLevelId;
+
+    private final boolean fictitious;
+
+    private final double nominalV;
+
+    private final double lowVoltageLimit;
+
+    private final double highVoltageLimit;
+
+    private final boolean participating;
+
+    private final Country country;
+
+    private final double fictitiousInjectionTargetP;
+
+    private final double fictitiousInjectionTargetQ;
+
+    LfDetachedBus(LfNetwork network, String id, List<String> originalIds, List<String> busResultIds, ViolationLocation violationLocation,
+                  String voltageLevelId, boolean fictitious, double nominalV, double lowVoltageLimit, double highVoltageLimit,
+                  boolean participating, Country country, int numSC, double v, double angle, double fictitiousInjectionTargetP,
+                  double fictitiousInjectionTargetQ, LfNetworkParameters parameters) {
+        super(network, v, angle, numSC, parameters);
+        this.id = Objects.requireNonNull(id);
+        this.originalIds = Objects.requireNonNull(originalIds);
+        this.busResultIds = Objects.requireNonNull(busResultIds);
+        this.violationLocation = violationLocation;
+        this.voltageLevelId = voltageLevelId;
+        this.fictitious = fictitious;
+        this.nominalV = nominalV;
+        this.lowVoltageLimit = lowVoltageLimit;
+        this.highVoltageLimit = highVoltageLimit;
+        this.participating = participating;
+        this.country = country;
+        this.fictitiousInjectionTargetP = fictitiousInjectionTargetP;
+        this.fictitiousInjectionTargetQ = fictitiousInjectionTargetQ;
+    }
+
+    void addGenerator(LfGenerator generator) {
+        add(generator);
+    }
+
+    void addLoad(LfLoad load) {
+        loads.add(Objects.requireNonNull(load));
+    }
+
+    void setShunt(LfShunt shunt) {
+        this.shunt = Objects.requireNonNull(shunt);
+    }
+
+    List<String> getBusResultIds() {
+        return busResultIds;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public List<String> getOriginalIds() {
+        return originalIds;
+    }
+
+    @Override
+    public String getVoltageLevelId() {
+        return voltageLevelId;
+    }
+
+    @Override
+    public boolean isFictitious() {
+        return fictitious;
+    }
+
+    @Override
+    public double getNominalV() {
+        return nominalV;
+    }
+
+    @Override
+    public double getLowVoltageLimit() {
+        return lowVoltageLimit;
+    }
+
+    @Override
+    public double getHighVoltageLimit() {
+        return highVoltageLimit;
+    }
+
+    @Override
+    public boolean isParticipating() {
+        return participating;
+    }
+
+    @Override
+    public Optional<Country> getCountry() {
+        return Optional.ofNullable(country);
+    }
+
+    @Override
+    public double getFictitiousInjectionTargetP() {
+        return fictitiousInjectionTargetP;
+    }
+
+    @Override
+    public double getFictitiousInjectionTargetQ() {
+        return fictitiousInjectionTargetQ;
+    }
+
+    @Override
+    public List<BusResult> createBusResults() {
+        return busResultIds.stream()
+                .map(busResultId -> new BusResult(voltageLevelId, busResultId, getVInKv(), Math.toDegrees(getAngle())))
+                .toList();
+    }
+
+    @Override
+    public ViolationLocation getViolationLocation() {
+        return violationLocation;
+    }
+}
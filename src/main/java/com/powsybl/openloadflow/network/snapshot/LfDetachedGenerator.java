@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.snapshot;
+
+import com.powsybl.iidm.network.ReactiveLimits;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfNetworkLoadingReport;
+import com.powsybl.openloadflow.network.LfNetworkParameters;
+import com.powsybl.openloadflow.network.LfNetworkStateUpdateParameters;
+import com.powsybl.openloadflow.network.impl.AbstractLfGenerator;
+import com.powsybl.openloadflow.util.PerUnit;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * A generator which does not refer to any IIDM object, all its data being held in memory.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LfDetachedGenerator extends AbstractLfGenerator {
+
+    private final String id;
+
+    private final boolean fictitious;
+
+    private final double minP;
+
+    private final double maxP;
+
+    private final double minTargetP;
+
+    private final double maxTargetP;
+
+    private final double targetQ;
+
+    private final boolean initialParticipating;
+
+    private boolean participating;
+
+    private final double participationFactor;
+
+    private final double droop;
+
+    private final double remoteControlReactiveKey;
+
+    private final LfDetachedReactiveLimits reactiveLimits;
+
+    private final boolean extrapolateReactiveLimits;
+
+    private final boolean forceTargetQInReactiveLimits;
+
+    LfDetachedGenerator(LfNetwork network, String id, boolean fictitious, double initialTargetP, double targetP,
+                        double minP, double maxP, double minTargetP, double maxTargetP, double targetQ, boolean participating,
+                        double participationFactor, double droop, double remoteControlReactiveKey,
+                        LfDetachedReactiveLimits reactiveLimits, LfNetworkParameters parameters) {
+        super(network, targetP, parameters);
+        this.id = Objects.requireNonNull(id);
+        this.fictitious = fictitious;
+        this.initialTargetP = initialTargetP;
+        this.minP = minP;
+        this.maxP = maxP;
+        this.minTargetP = minTargetP;
+        this.maxTargetP = maxTargetP;
+        this.targetQ = targetQ;
+        this.initialParticipating = participating;
+        this.participating = participating;
+        this.participationFactor = participationFactor;
+        this.droop = droop;
+        this.remoteControlReactiveKey = remoteControlReactiveKey;
+        this.reactiveLimits = Objects.requireNonNull(reactiveLimits);
+        this.extrapolateReactiveLimits = parameters.isExtrapolateReactiveLimits();
+        this.forceTargetQInReactiveLimits = parameters.isForceTargetQInReactiveLimits() && parameters.isReactiveLimits();
+    }
+
+    void setVoltageControl(GeneratorControlType generatorControlType, String controlledBusId, double targetV) {
+        this.generatorControlType = Objects.requireNonNull(generatorControlType);
+        this.controlledBusId = controlledBusId;
+        this.targetV = targetV;
+    }
+
+    @Override
+    public List<ReactiveCapabilityPoint> getReactiveCapabilityPoints() {
+        return reactiveLimits.toPoints();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isFictitious() {
+        return fictitious;
+    }
+
+    @Override
+    public OptionalDouble getRemoteControlReactiveKey() {
+        return Double.isNaN(remoteControlReactiveKey) ? OptionalDouble.empty() : OptionalDouble.of(remoteControlReactiveKey);
+    }
+
+    @Override
+    public double getTargetQ() {
+        if (forceTargetQInReactiveLimits) {
+            return Math.min(Math.max(targetQ, getMinQ()), getMaxQ());
+        }
+        return targetQ;
+    }
+
+    @Override
+    public double getMinP() {
+        return minP;
+    }
+
+    @Override
+    public double getMaxP() {
+        return maxP;
+    }
+
+    @Override
+    public double getMinTargetP() {
+        return minTargetP;
+    }
+
+    @Override
+    public double getMaxTargetP() {
+        return maxTargetP;
+    }
+
+    @Override
+    protected Optional<ReactiveLimits> getReactiveLimits() {
+        return Optional.empty();
+    }
+
+    @Override
+    public double getMinQ() {
+        return reactiveLimits.getMinQ(targetP, extrapolateReactiveLimits);
+    }
+
+    @Override
+    public double getMaxQ() {
+        return reactiveLimits.getMaxQ(targetP, extrapolateReactiveLimits);
+    }
+
+    @Override
+    public double getRangeQ(ReactiveRangeMode rangeMode) {
+        return reactiveLimits.getRangeQ(rangeMode, targetP);
+    }
+
+    @Override
+    public boolean isParticipating() {
+        return participating;
+    }
+
+    @Override
+    public void setParticipating(boolean participating) {
+        this.participating = participating;
+    }
+
+    @Override
+    public double getDroop() {
+        return droop;
+    }
+
+    @Override
+    public double getParticipationFactor() {
+        return participationFactor;
+    }
+
+    @Override
+    public void reApplyActivePowerControlChecks(LfNetworkParameters parameters, LfNetworkLoadingReport report) {
+        participating = initialParticipating
+                && checkActivePowerControl(id, targetP * PerUnit.SB, maxP * PerUnit.SB, minTargetP * PerUnit.SB,
+                                           maxTargetP * PerUnit.SB, parameters, report);
+    }
+
+    @Override
+    public void updateState(LfNetworkStateUpdateParameters parameters) {
+        // nothing to update, calculated reactive power is kept in memory
+    }
+}
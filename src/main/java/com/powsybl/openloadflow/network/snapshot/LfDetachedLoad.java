@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.snapshot;
+
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.AbstractLfInjection;
+import com.powsybl.openloadflow.util.Evaluable;
+import com.powsybl.openloadflow.util.EvaluableConstants;
+
+import java.util.*;
+
+/**
+ * A load which does not refer to any IIDM object, all its data being held in memory.
+ * As the new reactive power target of a load is linear with the active power target variation, it is stored as
+ * a base value and a slope.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LfDetachedLoad extends AbstractLfInjection implements LfLoad {
+
+    private final String id;
+
+    private final LfBus bus;
+
+    private final List<String> originalIds;
+
+    private final int originalLoadCount;
+
+    private final Set<String> notParticipatingOriginalLoadIds;
+
+    private final LfLoadModel loadModel;
+
+    private double targetQ;
+
+    private final double nonFictitiousLoadTargetP;
+
+    private final boolean ensurePowerFactorConstantByLoad;
+
+    private double absVariableTargetP;
+
+    private final double newTargetQBase;
+
+    private final double newTargetQSlope;
+
+    private Map<String, Boolean> loadsDisablingStatus;
+
+    private Evaluable p = EvaluableConstants.NAN;
+
+    private Evaluable q = EvaluableConstants.NAN;
+
+    LfDetachedLoad(String id, LfBus bus, List<String> originalIds, int originalLoadCount, Set<String> notParticipatingOriginalLoadIds,
+                   LfLoadModel loadModel, double initialTargetP, double targetP, double targetQ, double nonFictitiousLoadTargetP,
+                   boolean ensurePowerFactorConstantByLoad, double absVariableTargetP, double newTargetQBase, double newTargetQSlope,
+                   Map<String, Boolean> loadsDisablingStatus) {
+        super(initialTargetP, targetP);
+        this.id = Objects.requireNonNull(id);
+        this.bus = Objects.requireNonNull(bus);
+        this.originalIds = Objects.requireNonNull(originalIds);
+        this.originalLoadCount = originalLoadCount;
+        this.notParticipatingOriginalLoadIds = Objects.requireNonNull(notParticipatingOriginalLoadIds);
+        this.loadModel = loadModel;
+        this.targetQ = targetQ;
+        this.nonFictitiousLoadTargetP = nonFictitiousLoadTargetP;
+        this.ensurePowerFactorConstantByLoad = ensurePowerFactorConstantByLoad;
+        this.absVariableTargetP = absVariableTargetP;
+        this.newTargetQBase = newTargetQBase;
+        this.newTargetQSlope = newTargetQSlope;
+        this.loadsDisablingStatus = Objects.requireNonNull(loadsDisablingStatus);
+    }
+
+    double getNewTargetQBase() {
+        return newTargetQBase;
+    }
+
+    double getNewTargetQSlope() {
+        return newTargetQSlope;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public LfBus getBus() {
+        return bus;
+    }
+
+    @Override
+    public boolean isOriginalLoadNotParticipating(String originalId) {
+        return notParticipatingOriginalLoadIds.contains(originalId);
+    }
+
+    @Override
+    public Optional<LfLoadModel> getLoadModel() {
+        return Optional.ofNullable(loadModel);
+    }
+
+    @Override
+    public double getNonFictitiousLoadTargetP() {
+        return nonFictitiousLoadTargetP;
+    }
+
+    @Override
+    public void setTargetP(double targetP) {
+        if (targetP != this.targetP) {
+            double oldTargetP = this.targetP;
+            this.targetP = targetP;
+            bus.invalidateLoadTargetP();
+            for (LfNetworkListener listener : bus.getNetwork().getListeners()) {
+                listener.onLoadActivePowerTargetChange(this, oldTargetP, targetP);
+            }
+        }
+    }
+
+    @Override
+    public double getTargetQ() {
+        return targetQ;
+    }
+
+    @Override
+    public void setTargetQ(double targetQ) {
+        if (targetQ != this.targetQ) {
+            double oldTargetQ = this.targetQ;
+            this.targetQ = targetQ;
+            bus.invalidateLoadTargetQ();
+            for (LfNetworkListener listener : bus.getNetwork().getListeners()) {
+                listener.onLoadReactivePowerTargetChange(this, oldTargetQ, targetQ);
+            }
+        }
+    }
+
+    @Override
+    public boolean ensurePowerFactorConstantByLoad() {
+        return ensurePowerFactorConstantByLoad;
+    }
+
+    @Override
+    public double getAbsVariableTargetP() {
+        return absVariableTargetP;
+    }
+
+    @Override
+    public void setAbsVariableTargetP(double absVariableTargetP) {
+        this.absVariableTargetP = absVariableTargetP;
+    }
+
+    @Override
+    public double calculateNewTargetQ(double diffTargetP) {
+        return newTargetQBase + newTargetQSlope * diffTargetP;
+    }
+
+    @Override
+    public List<String> getOriginalIds() {
+        return originalIds;
+    }
+
+    @Override
+    public int getOriginalLoadCount() {
+        return originalLoadCount;
+    }
+
+    @Override
+    public boolean isOriginalLoadDisabled(String originalId) {
+        return loadsDisablingStatus.get(originalId);
+    }
+
+    @Override
+    public void setOriginalLoadDisabled(String originalId, boolean disabled) {
+        loadsDisablingStatus.put(originalId, disabled);
+    }
+
+    @Override
+    public Map<String, Boolean> getOriginalLoadsDisablingStatus() {
+        return loadsDisablingStatus;
+    }
+
+    @Override
+    public void setOriginalLoadsDisablingStatus(Map<String, Boolean> originalLoadsDisablingStatus) {
+        this.loadsDisablingStatus = Objects.requireNonNull(originalLoadsDisablingStatus);
+    }
+
+    @Override
+    public void updateState(boolean loadPowerFactorConstant, boolean breakers) {
+        // nothing to update, there is no underlying network
+    }
+
+    @Override
+    public Evaluable getP() {
+        return p;
+    }
+
+    @Override
+    public void setP(Evaluable p) {
+        this.p = p;
+    }
+
+    @Override
+    public Evaluable getQ() {
+        return q;
+    }
+
+    @Override
+    public void setQ(Evaluable q) {
+        this.q = q;
+    }
+
+    @Override
+    public String toString() {
+        return getId();
+    }
+}
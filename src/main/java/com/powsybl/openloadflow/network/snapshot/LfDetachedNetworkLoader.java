@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.snapshot;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.openloadflow.network.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Load networks with another loader and detach them (see {@link LfNetworkSnapshot#detach(List, LfNetworkParameters)}),
+ * so that loaded networks do not keep any reference to the original network object.
+ * Detached mode only covers the subset of features supported by the snapshot format (see {@link LfNetworkSnapshot}):
+ * loading a network using any other feature fails instead of silently keeping a reference to the original network.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LfDetachedNetworkLoader<T> implements LfNetworkLoader<T> {
+
+    private final LfNetworkLoader<T> delegate;
+
+    public LfDetachedNetworkLoader(LfNetworkLoader<T> delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public List<LfNetwork> load(T network, LfTopoConfig topoConfig, LfNetworkParameters parameters, ReportNode reportNode) {
+        List<LfNetwork> lfNetworks = delegate.load(network, topoConfig, parameters, reportNode);
+        List<LfNetwork> detachedNetworks = new ArrayList<>(lfNetworks.size());
+        for (LfNetwork lfNetwork : lfNetworks) {
+            Optional<String> notSupportedFeature = LfNetworkSnapshot.findNotSupportedFeature(lfNetwork);
+            if (notSupportedFeature.isPresent()) {
+                throw new PowsyblException(notSupportedFeature.get() + " not supported in detached mode (network " + lfNetwork + ")");
+            }
+            detachedNetworks.addAll(LfNetworkSnapshot.detach(List.of(lfNetwork), parameters));
+        }
+        return detachedNetworks;
+    }
+}
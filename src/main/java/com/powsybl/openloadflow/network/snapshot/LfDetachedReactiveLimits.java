@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.snapshot;
+
+import com.powsybl.openloadflow.network.LfGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reactive limits of a generator as a list of (p, minQ, maxQ) points in per unit, sorted by increasing p:
+ * no point means no limit, a single point means limits independent of active power and several points a reactive
+ * capability curve.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class LfDetachedReactiveLimits {
+
+    static final LfDetachedReactiveLimits NONE = new LfDetachedReactiveLimits(new double[0], new double[0], new double[0]);
+
+    private final double[] p;
+
+    private final double[] minQ;
+
+    private final double[] maxQ;
+
+    LfDetachedReactiveLimits(double[] p, double[] minQ, double[] maxQ) {
+        this.p = Objects.requireNonNull(p);
+        this.minQ = Objects.requireNonNull(minQ);
+        this.maxQ = Objects.requireNonNull(maxQ);
+        if (minQ.length != p.length || maxQ.length != p.length) {
+            throw new IllegalArgumentException("Inconsistent reactive limits point count");
+        }
+    }
+
+    static LfDetachedReactiveLimits create(List<LfGenerator.ReactiveCapabilityPoint> points) {
+        if (points.isEmpty()) {
+            return NONE;
+        }
+        double[] p = new double[points.size()];
+        double[] minQ = new double[points.size()];
+        double[] maxQ = new double[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            LfGenerator.ReactiveCapabilityPoint point = points.get(i);
+            p[i] = point.p();
+            minQ[i] = point.minQ();
+            maxQ[i] = point.maxQ();
+        }
+        return new LfDetachedReactiveLimits(p, minQ, maxQ);
+    }
+
+    List<LfGenerator.ReactiveCapabilityPoint> toPoints() {
+        List<LfGenerator.ReactiveCapabilityPoint> points = new ArrayList<>(p.length);
+        for (int i = 0; i < p.length; i++) {
+            points.add(new LfGenerator.ReactiveCapabilityPoint(p[i], minQ[i], maxQ[i]));
+        }
+        return points;
+    }
+
+    private static double interpolate(double[] p, double[] q, int i1, int i2, double targetP) {
+        return q[i1] + (q[i2] - q[i1]) * (targetP - p[i1]) / (p[i2] - p[i1]);
+    }
+
+    /**
+     * Same semantic as IIDM reactive capability curve: linear interpolation between points, and outside of the
+     * curve either the limits of the closest point or a linear extrapolation of the closest segment.
+     */
+    private double[] getLimits(double targetP, boolean extrapolate) {
+        int n = p.length;
+        if (n == 1) {
+            return new double[] {minQ[0], maxQ[0]};
+        }
+        int i1;
+        int i2;
+        if (targetP <= p[0]) {
+            if (!extrapolate || targetP == p[0]) {
+                return new double[] {minQ[0], maxQ[0]};
+            }
+            i1 = 0;
+            i2 = 1;
+        } else if (targetP >= p[n - 1]) {
+            if (!extrapolate || targetP == p[n - 1]) {
+                return new double[] {minQ[n - 1], maxQ[n - 1]};
+            }
+            i1 = n - 2;
+            i2 = n - 1;
+        } else {
+            i2 = 1;
+            while (p[i2] < targetP) {
+                i2++;
+            }
+            i1 = i2 - 1;
+        }
+        double q1 = interpolate(p, minQ, i1, i2, targetP);
+        double q2 = interpolate(p, maxQ, i1, i2, targetP);
+        if (q1 > q2) {
+            // extrapolated limits are crossing
+            double q = (q1 + q2) / 2;
+            return new double[] {q, q};
+        }
+        return new double[] {q1, q2};
+    }
+
+    double getMinQ(double targetP, boolean extrapolate) {
+        if (p.length == 0) {
+            return -Double.MAX_VALUE;
+        }
+        return getLimits(targetP, extrapolate)[0];
+    }
+
+    double getMaxQ(double targetP, boolean extrapolate) {
+        if (p.length == 0) {
+            return Double.MAX_VALUE;
+        }
+        return getLimits(targetP, extrapolate)[1];
+    }
+
+    double getRangeQ(LfGenerator.ReactiveRangeMode rangeMode, double targetP) {
+        if (p.length == 0) {
+            return Double.MAX_VALUE;
+        }
+        return switch (rangeMode) {
+            case MIN, MAX -> {
+                double rangeQ = maxQ[0] - minQ[0];
+                for (int i = 1; i < p.length; i++) {
+                    rangeQ = rangeMode == LfGenerator.ReactiveRangeMode.MAX ? Math.max(rangeQ, maxQ[i] - minQ[i])
+                                                                            : Math.min(rangeQ, maxQ[i] - minQ[i]);
+                }
+                yield rangeQ;
+            }
+            case TARGET_P -> {
+                double[] limits = getLimits(targetP, false);
+                yield limits[1] - limits[0];
+            }
+        };
+    }
+}
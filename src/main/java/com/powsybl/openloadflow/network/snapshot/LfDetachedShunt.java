@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.snapshot;
+
+import com.powsybl.openloadflow.network.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A fixed shunt which does not refer to any IIDM object, all its data being held in memory.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LfDetachedShunt extends AbstractLfShunt {
+
+    private final String id;
+
+    private final List<String> originalIds;
+
+    private final double initialB;
+
+    private final double initialG;
+
+    private double b;
+
+    private double g;
+
+    LfDetachedShunt(LfNetwork network, String id, List<String> originalIds, double initialB, double initialG, double b, double g) {
+        super(network);
+        this.id = Objects.requireNonNull(id);
+        this.originalIds = Objects.requireNonNull(originalIds);
+        this.initialB = initialB;
+        this.initialG = initialG;
+        this.b = b;
+        this.g = g;
+    }
+
+    double getInitialB() {
+        return initialB;
+    }
+
+    double getInitialG() {
+        return initialG;
+    }
+
+    @Override
+    public ElementType getType() {
+        return ElementType.SHUNT_COMPENSATOR;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public List<String> getOriginalIds() {
+        return originalIds;
+    }
+
+    @Override
+    public double getB() {
+        return b;
+    }
+
+    @Override
+    public void setB(double b) {
+        if (b != this.b) {
+            this.b = b;
+            for (LfNetworkListener listener : getNetwork().getListeners()) {
+                listener.onShuntSusceptanceChange(this, b);
+            }
+        }
+    }
+
+    @Override
+    public double getG() {
+        return g;
+    }
+
+    @Override
+    public void setG(double g) {
+        this.g = g;
+    }
+
+    private static UnsupportedOperationException createUnsupportedForDetachedShuntException() {
+        return new UnsupportedOperationException("Unsupported for a detached shunt");
+    }
+
+    @Override
+    public boolean hasVoltageControlCapability() {
+        return false;
+    }
+
+    @Override
+    public void setVoltageControlCapability(boolean voltageControlCapability) {
+        throw createUnsupportedForDetachedShuntException();
+    }
+
+    @Override
+    public boolean isVoltageControlEnabled() {
+        return false;
+    }
+
+    @Override
+    public void setVoltageControlEnabled(boolean voltageControlEnabled) {
+        throw createUnsupportedForDetachedShuntException();
+    }
+
+    @Override
+    public Optional<ShuntVoltageControl> getVoltageControl() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void setVoltageControl(ShuntVoltageControl voltageControl) {
+        throw createUnsupportedForDetachedShuntException();
+    }
+
+    @Override
+    public double dispatchB() {
+        throw createUnsupportedForDetachedShuntException();
+    }
+
+    @Override
+    public void updateState(LfNetworkStateUpdateParameters parameters) {
+        // nothing to update, there is no underlying network
+    }
+
+    @Override
+    public void reInit() {
+        setB(initialB);
+        setG(initialG);
+    }
+
+    @Override
+    public List<Controller> getControllers() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.snapshot;
+
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.AbstractLfSwitch;
+
+import java.util.Objects;
+
+/**
+ * A switch which does not refer to any IIDM object.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LfDetachedSwitch extends AbstractLfSwitch {
+
+    private final String id;
+
+    LfDetachedSwitch(LfNetwork network, LfBus bus1, LfBus bus2, String id, LfNetworkParameters parameters) {
+        super(network, bus1, bus2, parameters);
+        this.id = Objects.requireNonNull(id);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void updateState(LfNetworkStateUpdateParameters parameters, LfNetworkUpdateReport updateReport) {
+        // nothing to update, there is no underlying network
+    }
+}
@@ -0,0 +1,753 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.snapshot;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.contingency.violations.BusBreakerViolationLocation;
+import com.powsybl.contingency.violations.NodeBreakerViolationLocation;
+import com.powsybl.contingency.violations.ViolationLocation;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.LimitType;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.AbstractLfBranch;
+import com.powsybl.openloadflow.util.Reports;
+import com.powsybl.security.results.BusResult;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Compact and versioned binary serialization of {@link LfNetwork}: topology, PI models, injections, generator voltage
+ * controls, branch limits, bus violation locations and element ids. Networks read back are only made of detached elements (see
+ * {@link LfDetachedBus}, {@link LfDetachedBranch}, etc.) and do not need any IIDM network. File is memory-mapped
+ * when read.
+ *
+ * <p>Following features are not supported and lead to an exception at writing: areas, secondary voltage controls,
+ * voltage angle limits, overload management systems, HVDC and DC networks, voltage controlling shunts,
+ * SVC standby automaton, transformer phase, voltage and reactive power controls, generator remote reactive power
+ * control, generators with slope and asymmetrical data.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class LfNetworkSnapshot {
+
+    private static final int MAGIC = 0x4F4C464E;
+
+    private static final int VERSION = 3;
+
+    private static final LimitType[] LIMIT_TYPES = {LimitType.ACTIVE_POWER, LimitType.APPARENT_POWER, LimitType.CURRENT};
+
+    private LfNetworkSnapshot() {
+    }
+
+    private static PowsyblException createNotSupportedException(String feature, LfNetwork network) {
+        return new PowsyblException(feature + " not supported by LfNetwork snapshot (network " + network + ")");
+    }
+
+    /**
+     * @return the first feature of the network not supported by the snapshot format, if any.
+     */
+    public static Optional<String> findNotSupportedFeature(LfNetwork network) {
+        Objects.requireNonNull(network);
+        if (!network.getAreas().isEmpty()) {
+            return Optional.of("Areas");
+        }
+        if (!network.getSecondaryVoltageControls().isEmpty()) {
+            return Optional.of("Secondary voltage controls");
+        }
+        if (!network.getVoltageAngleLimits().isEmpty()) {
+            return Optional.of("Voltage angle limits");
+        }
+        if (!network.getOverloadManagementSystems().isEmpty()) {
+            return Optional.of("Overload management systems");
+        }
+        if (!network.getHvdcs().isEmpty() || !network.getDcBuses().isEmpty()) {
+            return Optional.of("HVDC and DC networks");
+        }
+        for (LfBus bus : network.getBuses()) {
+            if (bus.getControllerShunt().isPresent() || bus.getSvcShunt().isPresent()) {
+                return Optional.of("Controller shunts and SVC standby automaton");
+            }
+            if (!bus.getConverters().isEmpty()) {
+                return Optional.of("Voltage source converters");
+            }
+            if (bus.hasGeneratorReactivePowerControl()) {
+                return Optional.of("Generator remote reactive power control");
+            }
+            if (bus.getAsym() != null) {
+                return Optional.of("Asymmetrical data");
+            }
+            for (LfGenerator generator : bus.getGenerators()) {
+                if (generator.getSlope() != 0) {
+                    return Optional.of("Generator slope");
+                }
+                if (generator.getGeneratorControlType() == LfGenerator.GeneratorControlType.REMOTE_REACTIVE_POWER) {
+                    return Optional.of("Generator remote reactive power control");
+                }
+            }
+        }
+        for (LfBranch branch : network.getBranches()) {
+            if (branch.getPhaseControl().isPresent() || branch.getVoltageControl().isPresent()
+                    || branch.getTransformerReactivePowerControl().isPresent()) {
+                return Optional.of("Transformer controls");
+            }
+            if (branch.getGeneratorReactivePowerControl().isPresent()) {
+                return Optional.of("Generator remote reactive power control");
+            }
+            if (branch.isAsymmetric()) {
+                return Optional.of("Asymmetrical data");
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void checkSupported(LfNetwork network) {
+        findNotSupportedFeature(network).ifPresent(feature -> {
+            throw createNotSupportedException(feature, network);
+        });
+    }
+
+    // writing
+
+    private static void writeString(DataOutput out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static void writeStrings(DataOutput out, Collection<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (String s : strings) {
+            writeString(out, s);
+        }
+    }
+
+    private static void writeExpTerms(DataOutput out, List<LfLoadModel.ExpTerm> expTerms) throws IOException {
+        out.writeInt(expTerms.size());
+        for (LfLoadModel.ExpTerm expTerm : expTerms) {
+            out.writeDouble(expTerm.c());
+            out.writeDouble(expTerm.n());
+        }
+    }
+
+    private static void writeGenerator(DataOutput out, LfGenerator generator) throws IOException {
+        writeString(out, generator.getId());
+        out.writeBoolean(generator.isFictitious());
+        out.writeDouble(generator.getInitialTargetP());
+        out.writeDouble(generator.getTargetP());
+        out.writeDouble(generator.getMinP());
+        out.writeDouble(generator.getMaxP());
+        out.writeDouble(generator.getMinTargetP());
+        out.writeDouble(generator.getMaxTargetP());
+        out.writeDouble(generator.getTargetQ());
+        out.writeBoolean(generator.isParticipating());
+        out.writeDouble(generator.getParticipationFactor());
+        out.writeDouble(generator.getDroop());
+        out.writeDouble(generator.getRemoteControlReactiveKey().orElse(Double.NaN));
+        out.writeInt(generator.getReferencePriority());
+        out.writeBoolean(generator.isDisabled());
+        writeString(out, generator.getGeneratorControlType().name());
+        LfBus controlledBus = generator.getGeneratorControlType() != LfGenerator.GeneratorControlType.OFF ? generator.getControlledBus() : null;
+        writeString(out, controlledBus != null ? controlledBus.getId() : null);
+        out.writeDouble(generator.getTargetV());
+        List<LfGenerator.ReactiveCapabilityPoint> reactiveCapabilityPoints = generator.getReactiveCapabilityPoints();
+        out.writeInt(reactiveCapabilityPoints.size());
+        for (LfGenerator.ReactiveCapabilityPoint point : reactiveCapabilityPoints) {
+            out.writeDouble(point.p());
+            out.writeDouble(point.minQ());
+            out.writeDouble(point.maxQ());
+        }
+    }
+
+    private static void writeLoad(DataOutput out, LfLoad load) throws IOException {
+        writeString(out, load.getId());
+        writeStrings(out, load.getOriginalIds());
+        out.writeInt(load.getOriginalLoadCount());
+        writeStrings(out, load.getOriginalIds().stream().filter(load::isOriginalLoadNotParticipating).toList());
+        LfLoadModel loadModel = load.getLoadModel().orElse(null);
+        out.writeBoolean(loadModel != null);
+        if (loadModel != null) {
+            writeExpTerms(out, loadModel.getExpTermsP());
+            writeExpTerms(out, loadModel.getExpTermsQ());
+        }
+        out.writeDouble(load.getInitialTargetP());
+        out.writeDouble(load.getTargetP());
+        out.writeDouble(load.getTargetQ());
+        out.writeDouble(load.getNonFictitiousLoadTargetP());
+        out.writeBoolean(load.ensurePowerFactorConstantByLoad());
+        out.writeDouble(load.getAbsVariableTargetP());
+        // new target Q is linear with active power target variation
+        double newTargetQBase = load.calculateNewTargetQ(0);
+        out.writeDouble(newTargetQBase);
+        out.writeDouble(load.calculateNewTargetQ(1) - newTargetQBase);
+        Map<String, Boolean> loadsDisablingStatus = load.getOriginalLoadsDisablingStatus();
+        out.writeInt(loadsDisablingStatus.size());
+        for (Map.Entry<String, Boolean> e : loadsDisablingStatus.entrySet()) {
+            writeString(out, e.getKey());
+            out.writeBoolean(e.getValue());
+        }
+    }
+
+    static void writeShunt(DataOutput out, LfShunt shunt) throws IOException {
+        writeString(out, shunt.getId());
+        writeStrings(out, shunt.getOriginalIds());
+        out.writeDouble(shunt.getB());
+        out.writeDouble(shunt.getG());
+        // initial susceptance and conductance are only written when they differ from the current ones, which can only
+        // happen for a detached shunt modified after its reading
+        double initialB = shunt.getB();
+        double initialG = shunt.getG();
+        if (shunt instanceof LfDetachedShunt detachedShunt) {
+            initialB = detachedShunt.getInitialB();
+            initialG = detachedShunt.getInitialG();
+        }
+        boolean modified = Double.compare(initialB, shunt.getB()) != 0 || Double.compare(initialG, shunt.getG()) != 0;
+        out.writeBoolean(modified);
+        if (modified) {
+            out.writeDouble(initialB);
+            out.writeDouble(initialG);
+        }
+    }
+
+    private static void writeViolationLocation(DataOutput out, ViolationLocation violationLocation) throws IOException {
+        writeString(out, violationLocation != null ? violationLocation.getType().name() : null);
+        if (violationLocation instanceof NodeBreakerViolationLocation nodeBreakerViolationLocation) {
+            writeString(out, nodeBreakerViolationLocation.getVoltageLevelId());
+            out.writeInt(nodeBreakerViolationLocation.getNodes().size());
+            for (int node : nodeBreakerViolationLocation.getNodes()) {
+                out.writeInt(node);
+            }
+        } else if (violationLocation instanceof BusBreakerViolationLocation busBreakerViolationLocation) {
+            writeStrings(out, busBreakerViolationLocation.getBusIds());
+        }
+    }
+
+    private static void writeBus(DataOutput out, LfBus bus) throws IOException {
+        writeString(out, bus.getId());
+        writeStrings(out, bus.getOriginalIds());
+        List<String> busResultIds = bus instanceof LfDetachedBus detachedBus
+                ? detachedBus.getBusResultIds()
+                : bus.createBusResults().stream().map(BusResult::getBusId).toList();
+        writeStrings(out, busResultIds);
+        writeViolationLocation(out, bus.getViolationLocation());
+        writeString(out, bus.getVoltageLevelId());
+        out.writeBoolean(bus.isFictitious());
+        out.writeDouble(bus.getNominalV());
+        out.writeDouble(bus.getLowVoltageLimit());
+        out.writeDouble(bus.getHighVoltageLimit());
+        out.writeBoolean(bus.isParticipating());
+        writeString(out, bus.getCountry().map(Country::name).orElse(null));
+        out.writeInt(bus.getNumSC());
+        out.writeDouble(bus.getV());
+        out.writeDouble(bus.getAngle());
+        out.writeDouble(bus.getFictitiousInjectionTargetP());
+        out.writeDouble(bus.getFictitiousInjectionTargetQ());
+        out.writeBoolean(bus.isDisabled());
+        out.writeInt(bus.getGenerators().size());
+        for (LfGenerator generator : bus.getGenerators()) {
+            writeGenerator(out, generator);
+        }
+        out.writeInt(bus.getLoads().size());
+        for (LfLoad load : bus.getLoads()) {
+            writeLoad(out, load);
+        }
+        LfShunt shunt = bus.getShunt().orElse(null);
+        out.writeBoolean(shunt != null);
+        if (shunt != null) {
+            writeShunt(out, shunt);
+        }
+    }
+
+    private static void writeLimits(DataOutput out, List<LfBranch.LfLimitsGroup> limitsGroups) throws IOException {
+        out.writeInt(limitsGroups.size());
+        for (LfBranch.LfLimitsGroup limitsGroup : limitsGroups) {
+            writeString(out, limitsGroup.getOperationalLimitsGroupId());
+            out.writeInt(limitsGroup.getSortedLimits().size());
+            for (LfBranch.LfLimit limit : limitsGroup.getSortedLimits()) {
+                writeString(out, limit.getName());
+                out.writeInt(limit.getAcceptableDuration());
+                out.writeDouble(limit.getValue());
+            }
+        }
+    }
+
+    private static void writeLimits(DataOutput out, LfDetachedBranch.LimitsGroup limitsGroup) throws IOException {
+        writeString(out, limitsGroup.operationalLimitsGroupId());
+        out.writeInt(limitsGroup.sortedLimits().size());
+        for (LfDetachedBranch.Limit limit : limitsGroup.sortedLimits()) {
+            writeString(out, limit.name());
+            out.writeInt(limit.acceptableDuration());
+            out.writeDouble(limit.value());
+        }
+    }
+
+    private static void writeLimits(DataOutput out, LfBranch branch, TwoSides side) throws IOException {
+        LfBus bus = side == TwoSides.ONE ? branch.getBus1() : branch.getBus2();
+        for (LimitType type : LIMIT_TYPES) {
+            if (branch instanceof LfDetachedBranch detachedBranch) {
+                List<LfDetachedBranch.LimitsGroup> limitsGroups = detachedBranch.getLimitsGroups(side, type);
+                out.writeInt(limitsGroups.size());
+                for (LfDetachedBranch.LimitsGroup limitsGroup : limitsGroups) {
+                    writeLimits(out, limitsGroup);
+                }
+            } else if (bus == null) {
+                out.writeInt(0);
+            } else if (branch instanceof AbstractLfBranch abstractBranch) {
+                // read without reductions and without caching, so that the source network is left unchanged
+                writeLimits(out, abstractBranch.createLimitsWithoutReduction(type, side));
+            } else {
+                // limit values and acceptable durations do not depend on reductions
+                writeLimits(out, side == TwoSides.ONE ? branch.getLimits1(type, null) : branch.getLimits2(type, null));
+            }
+        }
+    }
+
+    private static double getNominalV(LfBranch branch, TwoSides side) {
+        LfBus bus = side == TwoSides.ONE ? branch.getBus1() : branch.getBus2();
+        LfBus otherBus = side == TwoSides.ONE ? branch.getBus2() : branch.getBus1();
+        return bus != null ? bus.getNominalV() : otherBus.getNominalV();
+    }
+
+    private static void writeBranch(DataOutput out, LfBranch branch) throws IOException {
+        writeString(out, branch.getId());
+        writeStrings(out, branch.getOriginalIds());
+        out.writeInt(branch.getBus1() != null ? branch.getBus1().getNum() : -1);
+        out.writeInt(branch.getBus2() != null ? branch.getBus2().getNum() : -1);
+        writeString(out, branch.getBranchType().name());
+        out.writeBoolean(branch.isDisabled());
+        if (branch.getBranchType() == LfBranch.BranchType.SWITCH) {
+            // switches have no impedance, no limit and cannot be disconnected at only one side
+            return;
+        }
+        writeString(out, branch.getOriginalSide().map(ThreeSides::name).orElse(null));
+        if (branch instanceof LfDetachedBranch detachedBranch) {
+            out.writeDouble(detachedBranch.getNominalV1());
+            out.writeDouble(detachedBranch.getNominalV2());
+        } else {
+            out.writeDouble(getNominalV(branch, TwoSides.ONE));
+            out.writeDouble(getNominalV(branch, TwoSides.TWO));
+        }
+        out.writeBoolean(branch.hasPhaseControllerCapability());
+        PiModel piModel = branch.getPiModel();
+        out.writeDouble(piModel.getR());
+        out.writeDouble(piModel.getX());
+        out.writeDouble(piModel.getG1());
+        out.writeDouble(piModel.getB1());
+        out.writeDouble(piModel.getG2());
+        out.writeDouble(piModel.getB2());
+        out.writeDouble(piModel.getR1());
+        out.writeDouble(piModel.getA1());
+        out.writeBoolean(branch.isDisconnectionAllowedSide1());
+        out.writeBoolean(branch.isDisconnectionAllowedSide2());
+        writeLimits(out, branch, TwoSides.ONE);
+        writeLimits(out, branch, TwoSides.TWO);
+    }
+
+    private static void writeGeneratorVoltageControls(DataOutput out, LfNetwork network) throws IOException {
+        List<GeneratorVoltageControl> voltageControls = network.getBuses().stream()
+                .filter(LfBus::isGeneratorVoltageControlled)
+                .map(bus -> bus.getGeneratorVoltageControl().orElseThrow())
+                .toList();
+        out.writeInt(voltageControls.size());
+        for (GeneratorVoltageControl voltageControl : voltageControls) {
+            out.writeInt(voltageControl.getControlledBus().getNum());
+            out.writeInt(voltageControl.getTargetPriority());
+            out.writeDouble(voltageControl.getTargetValue());
+            out.writeBoolean(voltageControl.isDisabled());
+            out.writeInt(voltageControl.getControllerElements().size());
+            for (LfBus controllerBus : voltageControl.getControllerElements()) {
+                out.writeInt(controllerBus.getNum());
+            }
+        }
+        for (LfBus bus : network.getBuses()) {
+            out.writeBoolean(bus.isGeneratorVoltageControlEnabled());
+        }
+    }
+
+    private static void writeNetwork(DataOutput out, LfNetwork network) throws IOException {
+        checkSupported(network);
+        out.writeInt(network.getNumCC());
+        out.writeInt(network.getBuses().size());
+        for (LfBus bus : network.getBuses()) {
+            writeBus(out, bus);
+        }
+        out.writeInt(network.getBranches().size());
+        for (LfBranch branch : network.getBranches()) {
+            writeBranch(out, branch);
+        }
+        writeGeneratorVoltageControls(out, network);
+    }
+
+    /**
+     * Write networks to a data output. Useful to serialize in memory.
+     */
+    public static void write(List<LfNetwork> networks, DataOutput out) throws IOException {
+        Objects.requireNonNull(networks);
+        Objects.requireNonNull(out);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(networks.size());
+        for (LfNetwork network : networks) {
+            writeNetwork(out, network);
+        }
+    }
+
+    public static void write(List<LfNetwork> networks, Path file) {
+        Objects.requireNonNull(file);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            write(networks, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(LfNetwork network, Path file) {
+        write(List.of(network), file);
+    }
+
+    // reading
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readStrings(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        List<String> strings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            strings.add(readString(buffer));
+        }
+        return strings;
+    }
+
+    private static boolean readBoolean(ByteBuffer buffer) {
+        return buffer.get() != 0;
+    }
+
+    private static List<LfLoadModel.ExpTerm> readExpTerms(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        List<LfLoadModel.ExpTerm> expTerms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double c = buffer.getDouble();
+            double n = buffer.getDouble();
+            expTerms.add(new LfLoadModel.ExpTerm(c, n));
+        }
+        return expTerms;
+    }
+
+    private static LfDetachedGenerator readGenerator(ByteBuffer buffer, LfNetwork network, LfNetworkParameters parameters) {
+        String id = readString(buffer);
+        boolean fictitious = readBoolean(buffer);
+        double initialTargetP = buffer.getDouble();
+        double targetP = buffer.getDouble();
+        double minP = buffer.getDouble();
+        double maxP = buffer.getDouble();
+        double minTargetP = buffer.getDouble();
+        double maxTargetP = buffer.getDouble();
+        double targetQ = buffer.getDouble();
+        boolean participating = readBoolean(buffer);
+        double participationFactor = buffer.getDouble();
+        double droop = buffer.getDouble();
+        double remoteControlReactiveKey = buffer.getDouble();
+        int referencePriority = buffer.getInt();
+        boolean disabled = readBoolean(buffer);
+        LfGenerator.GeneratorControlType generatorControlType = LfGenerator.GeneratorControlType.valueOf(readString(buffer));
+        String controlledBusId = readString(buffer);
+        double targetV = buffer.getDouble();
+        int pointCount = buffer.getInt();
+        double[] p = new double[pointCount];
+        double[] minQ = new double[pointCount];
+        double[] maxQ = new double[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            p[i] = buffer.getDouble();
+            minQ[i] = buffer.getDouble();
+            maxQ[i] = buffer.getDouble();
+        }
+        LfDetachedReactiveLimits reactiveLimits = pointCount == 0 ? LfDetachedReactiveLimits.NONE : new LfDetachedReactiveLimits(p, minQ, maxQ);
+        LfDetachedGenerator generator = new LfDetachedGenerator(network, id, fictitious, initialTargetP, targetP, minP, maxP,
+                minTargetP, maxTargetP, targetQ, participating, participationFactor, droop, remoteControlReactiveKey,
+                reactiveLimits, parameters);
+        generator.setVoltageControl(generatorControlType, controlledBusId, targetV);
+        generator.setReferencePriority(referencePriority);
+        generator.setDisabled(disabled);
+        return generator;
+    }
+
+    private static LfDetachedLoad readLoad(ByteBuffer buffer, LfBus bus) {
+        String id = readString(buffer);
+        List<String> originalIds = readStrings(buffer);
+        int originalLoadCount = buffer.getInt();
+        Set<String> notParticipatingOriginalLoadIds = new HashSet<>(readStrings(buffer));
+        LfLoadModel loadModel = null;
+        if (readBoolean(buffer)) {
+            List<LfLoadModel.ExpTerm> expTermsP = readExpTerms(buffer);
+            List<LfLoadModel.ExpTerm> expTermsQ = readExpTerms(buffer);
+            loadModel = new LfLoadModel(expTermsP, expTermsQ);
+        }
+        double initialTargetP = buffer.getDouble();
+        double targetP = buffer.getDouble();
+        double targetQ = buffer.getDouble();
+        double nonFictitiousLoadTargetP = buffer.getDouble();
+        boolean ensurePowerFactorConstantByLoad = readBoolean(buffer);
+        double absVariableTargetP = buffer.getDouble();
+        double newTargetQBase = buffer.getDouble();
+        double newTargetQSlope = buffer.getDouble();
+        int statusCount = buffer.getInt();
+        Map<String, Boolean> loadsDisablingStatus = new LinkedHashMap<>(statusCount);
+        for (int i = 0; i < statusCount; i++) {
+            String originalId = readString(buffer);
+            loadsDisablingStatus.put(originalId, readBoolean(buffer));
+        }
+        return new LfDetachedLoad(id, bus, originalIds, originalLoadCount, notParticipatingOriginalLoadIds, loadModel,
+                initialTargetP, targetP, targetQ, nonFictitiousLoadTargetP, ensurePowerFactorConstantByLoad,
+                absVariableTargetP, newTargetQBase, newTargetQSlope, loadsDisablingStatus);
+    }
+
+    static LfDetachedShunt readShunt(ByteBuffer buffer, LfNetwork network) {
+        String id = readString(buffer);
+        List<String> originalIds = readStrings(buffer);
+        double b = buffer.getDouble();
+        double g = buffer.getDouble();
+        boolean modified = readBoolean(buffer);
+        double initialB = modified ? buffer.getDouble() : b;
+        double initialG = modified ? buffer.getDouble() : g;
+        return new LfDetachedShunt(network, id, originalIds, initialB, initialG, b, g);
+    }
+
+    private static ViolationLocation readViolationLocation(ByteBuffer buffer) {
+        String typeName = readString(buffer);
+        if (typeName == null) {
+            return null;
+        }
+        return switch (ViolationLocation.Type.valueOf(typeName)) {
+            case NODE_BREAKER -> {
+                String voltageLevelId = readString(buffer);
+                int nodeCount = buffer.getInt();
+                List<Integer> nodes = new ArrayList<>(nodeCount);
+                for (int i = 0; i < nodeCount; i++) {
+                    nodes.add(buffer.getInt());
+                }
+                yield new NodeBreakerViolationLocation(voltageLevelId, nodes);
+            }
+            case BUS_BREAKER -> new BusBreakerViolationLocation(readStrings(buffer));
+        };
+    }
+
+    private static LfDetachedBus readBus(ByteBuffer buffer, LfNetwork network, LfNetworkParameters parameters) {
+        String id = readString(buffer);
+        List<String> originalIds = readStrings(buffer);
+        List<String> busResultIds = readStrings(buffer);
+        ViolationLocation violationLocation = readViolationLocation(buffer);
+        String voltageLevelId = readString(buffer);
+        boolean fictitious = readBoolean(buffer);
+        double nominalV = buffer.getDouble();
+        double lowVoltageLimit = buffer.getDouble();
+        double highVoltageLimit = buffer.getDouble();
+        boolean participating = readBoolean(buffer);
+        String countryName = readString(buffer);
+        Country country = countryName != null ? Country.valueOf(countryName) : null;
+        int numSC = buffer.getInt();
+        double v = buffer.getDouble();
+        double angle = buffer.getDouble();
+        double fictitiousInjectionTargetP = buffer.getDouble();
+        double fictitiousInjectionTargetQ = buffer.getDouble();
+        boolean disabled = readBoolean(buffer);
+        LfDetachedBus bus = new LfDetachedBus(network, id, originalIds, busResultIds, violationLocation, voltageLevelId, fictitious, nominalV,
+                lowVoltageLimit, highVoltageLimit, participating, country, numSC, v, angle, fictitiousInjectionTargetP,
+                fictitiousInjectionTargetQ, parameters);
+        int generatorCount = buffer.getInt();
+        for (int i = 0; i < generatorCount; i++) {
+            bus.addGenerator(readGenerator(buffer, network, parameters));
+        }
+        int loadCount = buffer.getInt();
+        for (int i = 0; i < loadCount; i++) {
+            bus.addLoad(readLoad(buffer, bus));
+        }
+        if (readBoolean(buffer)) {
+            bus.setShunt(readShunt(buffer, network));
+        }
+        bus.setDisabled(disabled);
+        return bus;
+    }
+
+    private static List<LfDetachedBranch.LimitsGroup> readLimits(ByteBuffer buffer) {
+        int groupCount = buffer.getInt();
+        List<LfDetachedBranch.LimitsGroup> limitsGroups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            String operationalLimitsGroupId = readString(buffer);
+            int limitCount = buffer.getInt();
+            List<LfDetachedBranch.Limit> sortedLimits = new ArrayList<>(limitCount);
+            for (int j = 0; j < limitCount; j++) {
+                String name = readString(buffer);
+                int acceptableDuration = buffer.getInt();
+                double value = buffer.getDouble();
+                sortedLimits.add(new LfDetachedBranch.Limit(name, acceptableDuration, value));
+            }
+            limitsGroups.add(new LfDetachedBranch.LimitsGroup(operationalLimitsGroupId, sortedLimits));
+        }
+        return limitsGroups;
+    }
+
+    private static LfBranch readBranch(ByteBuffer buffer, LfNetwork network, LfNetworkParameters parameters) {
+        String id = readString(buffer);
+        List<String> originalIds = readStrings(buffer);
+        int busNum1 = buffer.getInt();
+        int busNum2 = buffer.getInt();
+        LfBranch.BranchType branchType = LfBranch.BranchType.valueOf(readString(buffer));
+        boolean disabled = readBoolean(buffer);
+        LfBus bus1 = busNum1 != -1 ? network.getBus(busNum1) : null;
+        LfBus bus2 = busNum2 != -1 ? network.getBus(busNum2) : null;
+        if (branchType == LfBranch.BranchType.SWITCH) {
+            LfDetachedSwitch aSwitch = new LfDetachedSwitch(network, bus1, bus2, id, parameters);
+            aSwitch.setDisabled(disabled);
+            return aSwitch;
+        }
+        String originalSideName = readString(buffer);
+        ThreeSides originalSide = originalSideName != null ? ThreeSides.valueOf(originalSideName) : null;
+        double nominalV1 = buffer.getDouble();
+        double nominalV2 = buffer.getDouble();
+        boolean phaseControllerCapability = readBoolean(buffer);
+        PiModel piModel = new SimplePiModel()
+                .setR(buffer.getDouble())
+                .setX(buffer.getDouble())
+                .setG1(buffer.getDouble())
+                .setB1(buffer.getDouble())
+                .setG2(buffer.getDouble())
+                .setB2(buffer.getDouble())
+                .setR1(buffer.getDouble())
+                .setA1(buffer.getDouble());
+        boolean disconnectionAllowedSide1 = readBoolean(buffer);
+        boolean disconnectionAllowedSide2 = readBoolean(buffer);
+        LfDetachedBranch branch = new LfDetachedBranch(network, bus1, bus2, piModel, id, originalIds, branchType, originalSide,
+                nominalV1, nominalV2, phaseControllerCapability, parameters);
+        for (TwoSides side : TwoSides.values()) {
+            for (LimitType type : LIMIT_TYPES) {
+                branch.setLimitsGroups(side, type, readLimits(buffer));
+            }
+        }
+        branch.setDisabled(disabled);
+        if (disconnectionAllowedSide1) {
+            branch.setDisconnectionAllowedSide1(true);
+        }
+        if (disconnectionAllowedSide2) {
+            branch.setDisconnectionAllowedSide2(true);
+        }
+        return branch;
+    }
+
+    private static void readGeneratorVoltageControls(ByteBuffer buffer, LfNetwork network) {
+        int voltageControlCount = buffer.getInt();
+        for (int i = 0; i < voltageControlCount; i++) {
+            LfBus controlledBus = network.getBus(buffer.getInt());
+            int targetPriority = buffer.getInt();
+            double targetValue = buffer.getDouble();
+            boolean disabled = readBoolean(buffer);
+            GeneratorVoltageControl voltageControl = new GeneratorVoltageControl(controlledBus, targetPriority, targetValue);
+            int controllerCount = buffer.getInt();
+            for (int j = 0; j < controllerCount; j++) {
+                voltageControl.addControllerElement(network.getBus(buffer.getInt()));
+            }
+            controlledBus.setGeneratorVoltageControl(voltageControl);
+            voltageControl.setDisabled(disabled);
+        }
+        for (LfBus bus : network.getBuses()) {
+            bus.setGeneratorVoltageControlEnabledAndRecomputeTargetQ(readBoolean(buffer));
+        }
+    }
+
+    private static LfNetwork readNetwork(ByteBuffer buffer, LfNetworkParameters parameters, ReportNode reportNode) {
+        int numCC = buffer.getInt();
+        LfNetwork network = new LfNetwork(numCC, parameters.getSlackBusSelector(), parameters.getMaxSlackBusCount(),
+                parameters.getConnectivityFactory(), parameters.getReferenceBusSelector(),
+                Reports.createRootAcDcLfNetworkReportNode(reportNode, numCC));
+        int busCount = buffer.getInt();
+        for (int i = 0; i < busCount; i++) {
+            network.addBus(readBus(buffer, network, parameters));
+        }
+        int branchCount = buffer.getInt();
+        for (int i = 0; i < branchCount; i++) {
+            network.addBranch(readBranch(buffer, network, parameters));
+        }
+        readGeneratorVoltageControls(buffer, network);
+        return network;
+    }
+
+    /**
+     * Read networks from a buffer, for instance a memory-mapped file or an in-memory serialization.
+     */
+    public static List<LfNetwork> read(ByteBuffer buffer, LfNetworkParameters parameters, ReportNode reportNode) {
+        Objects.requireNonNull(buffer);
+        Objects.requireNonNull(parameters);
+        Objects.requireNonNull(reportNode);
+        if (buffer.getInt() != MAGIC) {
+            throw new PowsyblException("Buffer does not contain a LfNetwork snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new PowsyblException("Unsupported LfNetwork snapshot version: " + version);
+        }
+        int networkCount = buffer.getInt();
+        List<LfNetwork> networks = new ArrayList<>(networkCount);
+        for (int i = 0; i < networkCount; i++) {
+            networks.add(readNetwork(buffer, parameters, reportNode));
+        }
+        return networks;
+    }
+
+    /**
+     * Create copies of given networks only made of detached elements, so that they do not keep any reference to the
+     * IIDM network they have been loaded from. Copies keep the report node of the original networks.
+     */
+    public static List<LfNetwork> detach(List<LfNetwork> networks, LfNetworkParameters parameters) {
+        Objects.requireNonNull(networks);
+        Objects.requireNonNull(parameters);
+        List<LfNetwork> detachedNetworks = new ArrayList<>(networks.size());
+        for (LfNetwork network : networks) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                writeNetwork(out, network);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            LfNetwork detachedNetwork = readNetwork(ByteBuffer.wrap(bytes.toByteArray()), parameters, ReportNode.NO_OP);
+            detachedNetwork.setReportNode(network.getReportNode());
+            detachedNetworks.add(detachedNetwork);
+        }
+        return detachedNetworks;
+    }
+
+    public static List<LfNetwork> read(Path file, LfNetworkParameters parameters, ReportNode reportNode) {
+        Objects.requireNonNull(file);
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return read(buffer, parameters, reportNode);
+    }
+}
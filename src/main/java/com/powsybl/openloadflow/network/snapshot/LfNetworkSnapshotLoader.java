@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.snapshot;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.openloadflow.network.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Load networks from a {@link LfNetworkSnapshot} file, without any IIDM network.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LfNetworkSnapshotLoader implements LfNetworkLoader<Path> {
+
+    @Override
+    public List<LfNetwork> load(Path file, LfTopoConfig topoConfig, LfNetworkParameters parameters, ReportNode reportNode) {
+        Objects.requireNonNull(topoConfig);
+        List<LfNetwork> lfNetworks = LfNetworkSnapshot.read(file, parameters, reportNode);
+        for (LfNetwork lfNetwork : lfNetworks) {
+            for (LfBranch lfBranch : lfNetwork.getBranches()) {
+                if (lfBranch.getBranchType() == LfBranch.BranchType.SWITCH) {
+                    continue;
+                }
+                if (lfBranch.getBus1() != null && topoConfig.getBranchIdsOpenableSide1().contains(lfBranch.getId())) {
+                    lfBranch.setDisconnectionAllowedSide1(true);
+                }
+                if (lfBranch.getBus2() != null && topoConfig.getBranchIdsOpenableSide2().contains(lfBranch.getId())) {
+                    lfBranch.setDisconnectionAllowedSide2(true);
+                }
+            }
+        }
+        return lfNetworks;
+    }
+}
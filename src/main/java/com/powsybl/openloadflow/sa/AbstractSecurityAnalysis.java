@@ -46,6 +46,7 @@ import com.powsybl.openloadflow.util.Indexed;
 import com.powsybl.openloadflow.util.Lists2;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.openloadflow.util.Reports;
+import com.powsybl.openloadflow.util.mt.ContingencyExecutionStrategy;
 import com.powsybl.openloadflow.util.mt.ContingencyMultiThreadHelper;
 import com.powsybl.security.*;
 import com.powsybl.security.limitreduction.LimitReduction;
@@ -97,6 +98,24 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
         this.reportNode = Objects.requireNonNull(reportNode);
     }
 
+    /**
+     * State of a run, passed along the simulations instead of being kept in fields so that runs never share it.
+     *
+     * @param executor computation manager executor of the run
+     * @param pooledValues contexts checked out from the pool for the run, by LF network
+     * @param screenedOutContingencyIds contingencies of the run not needing a post-contingency simulation
+     */
+    protected record RunState<C extends LoadFlowContext<?, ?, ?>>(Executor executor,
+                                                                  Map<LfNetwork, SecurityAnalysisContextPool.Value<C>> pooledValues,
+                                                                  Set<String> screenedOutContingencyIds) {
+
+        public RunState {
+            Objects.requireNonNull(executor);
+            Objects.requireNonNull(pooledValues);
+            Objects.requireNonNull(screenedOutContingencyIds);
+        }
+    }
+
     protected abstract LoadFlowModel getLoadFlowModel();
 
     protected static SecurityAnalysisResult createNoResult() {
@@ -122,6 +141,45 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
     protected void checkSupportedActions(List<Action> actions) {
     }
 
+    /**
+     * Multi-threading is by default done by partitioning the contingencies, each partition being simulated on its own
+     * copy of the network. Analysis that parallelize the simulation of contingencies on a single network can disable it.
+     */
+    protected boolean isContingencyPartitioning(OpenSecurityAnalysisParameters securityAnalysisParametersExt) {
+        return securityAnalysisParametersExt.getThreadCount() > 1;
+    }
+
+    /**
+     * Create an executor to run tasks of the current run in parallel, following the configured contingency execution
+     * strategy on top of the computation manager executor.
+     */
+    protected ContingencyExecutionStrategy.PartitionExecutor createExecutor(int taskCount, OpenSecurityAnalysisParameters securityAnalysisParametersExt,
+                                                                            RunState<C> runState) {
+        return ContingencyExecutionStrategy.find(securityAnalysisParametersExt.getContingencyExecutionStrategy())
+                .createExecutor(taskCount, runState.executor());
+    }
+
+    /**
+     * @return true if the contingencies are screened before running the simulations (see {@link #screenContingencies}).
+     */
+    protected boolean isContingencyScreening(OpenSecurityAnalysisParameters securityAnalysisParametersExt) {
+        return false;
+    }
+
+    /**
+     * Screen the contingencies before running the simulations. Screened-out contingencies are not simulated and are
+     * reported with a {@link PostContingencyComputationStatus#NO_COMPUTATION} status.
+     *
+     * @param propagatedContingencies the propagated contingencies, shared with the simulations so not to be modified
+     * @param topoConfig the topological configuration the propagated contingencies have been created with
+     * @return the ids of the contingencies screened out
+     */
+    protected Set<String> screenContingencies(List<PropagatedContingency> propagatedContingencies, LfTopoConfig topoConfig,
+                                              List<OperatorStrategy> operatorStrategies, List<LimitReduction> limitReductions,
+                                              SecurityAnalysisParameters securityAnalysisParameters) {
+        return Collections.emptySet();
+    }
+
     SecurityAnalysisReport runSync(SecurityAnalysisParameters securityAnalysisParameters, ContingenciesProvider contingenciesProvider,
                                    List<OperatorStrategy> operatorStrategies, List<Action> actions, List<LimitReduction> limitReductions,
                                    String workingVariantId, Executor executor) throws ExecutionException {
@@ -168,21 +226,57 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
         // try to find all switches impacted by at least one contingency and for each contingency the branches impacted
         PropagatedContingencyCreationParameters creationParameters = new PropagatedContingencyCreationParameters()
                 .setContingencyPropagation(securityAnalysisParametersExt.isContingencyPropagation())
+                .setPropagationCache(securityAnalysisParametersExt.isContingencyPropagationCache())
                 .setShuntCompensatorVoltageControlOn(isShuntCompensatorVoltageControlOn(lfParameters))
                 .setSlackDistributionOnConformLoad(lfParameters.getBalanceType() == LoadFlowParameters.BalanceType.PROPORTIONAL_TO_CONFORM_LOAD)
                 .setHvdcAcEmulation(lfParameters.isHvdcAcEmulation());
 
         SecurityAnalysisResult finalResult;
 
-        if (securityAnalysisParametersExt.getThreadCount() == 1) {
+        if (!isContingencyPartitioning(securityAnalysisParametersExt)) {
             List<PropagatedContingency> propagatedContingencies = PropagatedContingency.createList(network, contingencies, topoConfig, creationParameters);
 
-            var parameters = createParameters(lfParameters, lfParametersExt, topoConfig.isBreaker(), isAreaInterchangeControl(lfParametersExt, contingencies));
+            Set<String> screenedOutContingencyIds = isContingencyScreening(securityAnalysisParametersExt)
+                    ? screenContingencies(propagatedContingencies, topoConfig, operatorStrategies, limitReductions, securityAnalysisParameters)
+                    : Collections.emptySet();
 
-            // create networks including all necessary switches
-            try (LfNetworkList lfNetworks = Networks.loadWithReconnectableElements(network, topoConfig, parameters.getNetworkParameters(), saReportNode)) {
-                finalResult = runSimulationsOnAllComponents(lfNetworks, propagatedContingencies, parameters,
-                        securityAnalysisParameters, operatorStrategies, actions, limitReductions, lfParameters);
+            var parameters = createParameters(lfParameters, lfParametersExt, topoConfig.isBreaker(), isAreaInterchangeControl(lfParametersExt, contingencies));
+            parameters.getNetworkParameters().setDetached(securityAnalysisParametersExt.isDetachedNetwork());
+
+            SecurityAnalysisContextPool<C> contextPool = securityAnalysisParametersExt.isContextPool() ? getContextPool() : null;
+            SecurityAnalysisContextPool.Entry<C> entry = null;
+            if (contextPool != null) {
+                var input = new SecurityAnalysisContextPool.Input(lfParameters, topoConfig, securityAnalysisParametersExt.isDetachedNetwork(),
+                                                                  parameters.getNetworkParameters().isAreaInterchangeControl());
+                entry = checkOutPoolEntry(contextPool, input, topoConfig, parameters, saReportNode);
+            }
+            if (entry != null) {
+                Map<LfNetwork, SecurityAnalysisContextPool.Value<C>> pooledValues = new HashMap<>();
+                for (SecurityAnalysisContextPool.Value<C> value : entry.getValues()) {
+                    pooledValues.put(value.getNetwork(), value);
+                }
+                RunState<C> runState = new RunState<>(executor, pooledValues, screenedOutContingencyIds);
+                boolean succeeded = false;
+                try {
+                    LfNetworkList lfNetworks = new LfNetworkList(entry.getValues().stream().map(SecurityAnalysisContextPool.Value::getNetwork).toList());
+                    finalResult = runSimulationsOnAllComponents(lfNetworks, propagatedContingencies, parameters,
+                            securityAnalysisParameters, operatorStrategies, actions, limitReductions, lfParameters, runState);
+                    succeeded = true;
+                } finally {
+                    if (succeeded) {
+                        contextPool.checkIn(entry);
+                    } else {
+                        // contexts may have been left in any state by the failure, so they cannot be reused
+                        entry.close();
+                    }
+                }
+            } else {
+                RunState<C> runState = new RunState<>(executor, Collections.emptyMap(), screenedOutContingencyIds);
+                // create networks including all necessary switches
+                try (LfNetworkList lfNetworks = Networks.loadWithReconnectableElements(network, topoConfig, parameters.getNetworkParameters(), saReportNode)) {
+                    finalResult = runSimulationsOnAllComponents(lfNetworks, propagatedContingencies, parameters,
+                            securityAnalysisParameters, operatorStrategies, actions, limitReductions, lfParameters, runState);
+                }
             }
 
         } else {
@@ -190,20 +284,36 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
 
             OperatorStrategies.check(operatorStrategies, contingencies, actions);
 
+            // contingencies are only propagated by partition for the simulations, so all of them are propagated once
+            // for the screening
+            Set<String> screenedOutContingencyIds = Collections.emptySet();
+            if (isContingencyScreening(securityAnalysisParametersExt)) {
+                LfTopoConfig screeningTopoConfig = new LfTopoConfig(topoConfig);
+                screenedOutContingencyIds = screenContingencies(PropagatedContingency.createList(network, contingencies, screeningTopoConfig, creationParameters),
+                        screeningTopoConfig, operatorStrategies, limitReductions, securityAnalysisParameters);
+            }
+
+            RunState<C> runState = new RunState<>(executor, Collections.emptyMap(), screenedOutContingencyIds);
+
             // we pre-allocate the results so that threads can set result in a stable order (using the partition number)
             // so that we always get results in the same order whatever threads completion order is.
             // init to no result in case of cancel
             List<SecurityAnalysisResult> partitionResults = Collections.synchronizedList(new ArrayList<>(Collections.nCopies(contingenciesPartitions.size(), createNoResult())));
 
-            ContingencyMultiThreadHelper.ParameterProvider<P> parameterProvider = partitionTopoConfig ->
-                createParameters(lfParameters, lfParametersExt, partitionTopoConfig.isBreaker(), isAreaInterchangeControl(lfParametersExt, contingencies));
+            ContingencyMultiThreadHelper.ParameterProvider<P> parameterProvider = partitionTopoConfig -> {
+                P parameters = createParameters(lfParameters, lfParametersExt, partitionTopoConfig.isBreaker(), isAreaInterchangeControl(lfParametersExt, contingencies));
+                parameters.getNetworkParameters().setDetached(securityAnalysisParametersExt.isDetachedNetwork());
+                return parameters;
+            };
             ContingencyMultiThreadHelper.ContingencyRunner<P> contingencyRunner = (partitionNum, lfNetworks, propagatedContingencies, parameters) ->
                     partitionResults.set(partitionNum, runSimulationsOnAllComponents(
                             lfNetworks, propagatedContingencies, parameters, securityAnalysisParameters, operatorStrategies,
-                            actions, limitReductions, lfParameters));
+                            actions, limitReductions, lfParameters, runState));
             ContingencyMultiThreadHelper.ReportMerger reportMerger = ContingencyMultiThreadHelper::mergeReportThreadResults;
-            ContingencyMultiThreadHelper.createLFNetworksPerContingencyPartitionAndRunAnalysis(network, workingVariantId, contingenciesPartitions, creationParameters, topoConfig,
-                    parameterProvider, contingencyRunner, saReportNode, reportMerger, executor);
+            try (var partitionExecutor = createExecutor(contingenciesPartitions.size(), securityAnalysisParametersExt, runState)) {
+                ContingencyMultiThreadHelper.createLFNetworksPerContingencyPartitionAndRunAnalysis(network, workingVariantId, contingenciesPartitions, creationParameters, topoConfig,
+                        parameterProvider, contingencyRunner, saReportNode, reportMerger, partitionExecutor);
+            }
 
             // we just need to merge post contingency and operator strategy results, all pre contingency are the same
             List<PostContingencyResult> postContingencyResults = new ArrayList<>();
@@ -222,10 +332,45 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
         return new SecurityAnalysisReport(finalResult);
     }
 
+    private SecurityAnalysisContextPool.Entry<C> checkOutPoolEntry(SecurityAnalysisContextPool<C> contextPool, SecurityAnalysisContextPool.Input input,
+                                                                   LfTopoConfig topoConfig, P parameters, ReportNode saReportNode) {
+        SecurityAnalysisContextPool.Entry<C> entry = contextPool.checkOut(network, input).orElse(null);
+        if (entry != null) {
+            for (SecurityAnalysisContextPool.Value<C> value : entry.getValues()) {
+                LfNetwork lfNetwork = value.getNetwork();
+                int numSc = lfNetwork.getSynchronousNetworks().stream().findFirst().map(LfSynchronousNetwork::getNumSC).orElse(ComponentConstants.MAIN_NUM);
+                lfNetwork.setReportNode(Reports.includeLfNetworkReportNode(saReportNode,
+                        Reports.createRootLfNetworkReportNode(saReportNode, lfNetwork.getNumCC(), numSc)));
+                // all injection and tap changes done since the previous run have already been applied by the entry
+                value.setNetworkUpdated(false);
+            }
+            return entry;
+        }
+
+        // pooled networks only weakly refer to the network elements, so that the pool does not prevent the network from
+        // being garbage collected
+        entry = contextPool.create(network, input);
+        LfNetworkParameters networkParameters = new LfNetworkParameters(parameters.getNetworkParameters())
+                .setCacheEnabled(true);
+        List<LfNetwork> lfNetworks = Networks.loadWithoutTemporaryVariant(network, topoConfig, networkParameters, saReportNode).orElse(null);
+        if (lfNetworks == null) {
+            // networks built with some switches or branches closed depend on a temporary variant that cannot be kept
+            // in the network between runs
+            LOGGER.info("Security analysis context not pooled as some switches or branches have to be closed");
+            entry.close();
+            return null;
+        }
+        parameters.getNetworkParameters().setBreakers(networkParameters.isBreakers());
+        entry.setValues(lfNetworks.stream()
+                .map(lfNetwork -> new SecurityAnalysisContextPool.Value<>(createLoadFlowContext(lfNetwork, copyParameters(parameters))))
+                .toList());
+        return entry;
+    }
+
     SecurityAnalysisResult runSimulationsOnAllComponents(LfNetworkList networks, List<PropagatedContingency> propagatedContingencies, P parameters,
                                                          SecurityAnalysisParameters securityAnalysisParameters, List<OperatorStrategy> operatorStrategies,
                                                          List<Action> actions, List<LimitReduction> limitReductions,
-                                                         LoadFlowParameters lfParameters) {
+                                                         LoadFlowParameters lfParameters, RunState<C> runState) {
         for (LfNetwork lfNetwork : networks.getList()) {
             if (lfNetwork.getSynchronousNetworks().size() > 1) {
                 throw new PowsyblException("Security analysis does not support AC-DC networks with multiple synchronous components");
@@ -243,7 +388,7 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
         // run simulation on first lfNetwork to initialize results structures
         LfNetwork firstNetwork = networkToSimulate.removeFirst();
         SecurityAnalysisResult result = runSimulations(firstNetwork, propagatedContingencies, parameters, securityAnalysisParameters,
-                operatorStrategies, actions, limitReductions, contingencyActivePowerLossDistribution);
+                operatorStrategies, actions, limitReductions, contingencyActivePowerLossDistribution, runState);
         double preContingencyDistributedActivePower = result.getPreContingencyResult().getDistributedActivePower();
 
         List<PostContingencyResult> postContingencyResults = result.getPostContingencyResults();
@@ -261,7 +406,7 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
 
         for (LfNetwork n : networkToSimulate) {
             SecurityAnalysisResult resultOtherComponent = runSimulations(n, propagatedContingencies, parameters, securityAnalysisParameters,
-                    operatorStrategies, actions, limitReductions, contingencyActivePowerLossDistribution);
+                    operatorStrategies, actions, limitReductions, contingencyActivePowerLossDistribution, runState);
 
             // Merge into first result
             preContingencyDistributedActivePower += resultOtherComponent.getPreContingencyResult().getDistributedActivePower();
@@ -447,6 +592,21 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
 
     protected abstract C createLoadFlowContext(LfNetwork lfNetwork, P parameters);
 
+    /**
+     * @return the pool of contexts to reuse across runs, or null if this analysis does not support context pooling
+     */
+    protected SecurityAnalysisContextPool<C> getContextPool() {
+        return null;
+    }
+
+    /**
+     * Prepare a context reused from a previous run. Parameters of the context that may have been modified during the
+     * previous run have to be reset from the parameters of this run.
+     *
+     * @param warm true if the LF network is in the converged pre-contingency state of the previous run
+     */
+    protected abstract void prepareReusedContext(C context, P parameters, boolean warm);
+
     protected abstract LoadFlowEngine<V, E, P, R> createLoadFlowEngine(C context);
 
     private boolean checkZeroImpedanceLine(LfNetwork lfNetwork, String id) {
@@ -497,7 +657,8 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
 
     protected SecurityAnalysisResult runSimulations(LfNetwork lfNetwork, List<PropagatedContingency> propagatedContingencies, P acParameters,
                                                     SecurityAnalysisParameters securityAnalysisParameters, List<OperatorStrategy> operatorStrategies,
-                                                    List<Action> actions, List<LimitReduction> limitReductions, ContingencyActivePowerLossDistribution contingencyActivePowerLossDistribution) {
+                                                    List<Action> actions, List<LimitReduction> limitReductions, ContingencyActivePowerLossDistribution contingencyActivePowerLossDistribution,
+                                                    RunState<C> runState) {
         Map<String, Action> actionsById = Actions.indexById(actions);
 
         // In MT the operator strategy check is performed before running the simulations
@@ -515,9 +676,18 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
         OpenSecurityAnalysisParameters openSecurityAnalysisParameters = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters);
         boolean createResultExtension = openSecurityAnalysisParameters.isCreateResultExtension();
 
-        P p = copyParameters(acParameters);
+        SecurityAnalysisContextPool.Value<C> pooledValue = runState.pooledValues().get(lfNetwork);
+        C context;
+        if (pooledValue != null) {
+            context = pooledValue.getContext();
+            prepareReusedContext(context, acParameters, pooledValue.isWarm());
+            pooledValue.setWarm(false);
+        } else {
+            context = createLoadFlowContext(lfNetwork, copyParameters(acParameters));
+        }
+        P p = context.getParameters();
 
-        try (C context = createLoadFlowContext(lfNetwork, p)) {
+        try {
             ReportNode networkReportNode = lfNetwork.getReportNode();
             ReportNode preContSimReportNode = Reports.createPreContingencySimulation(networkReportNode);
             lfNetwork.setReportNode(preContSimReportNode);
@@ -564,19 +734,30 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
                 while (contingencyIt.hasNext() && !Thread.currentThread().isInterrupted()) {
                     PropagatedContingency propagatedContingency = contingencyIt.next();
                     propagatedContingency.toLfContingency(lfNetwork)
-                            .ifPresent(lfContingency -> processContingency(lfNetwork, securityAnalysisParameters,
-                                limitReductions, contingencyActivePowerLossDistribution,
-                                networkReportNode, lfContingency, p, networkState,
-                                propagatedContingency, context, lfActionById,
-                                loadFlowParameters, contingencyOpenLoadFlowParameters,
-                                createResultExtension, preContingencyLimitViolationManager,
-                                preContingencyNetworkResult, postContingencyResults,
-                                contingencyParametersResetter, operatorStrategiesByContingencyId,
-                                operatorStrategyResults, contingencyIt));
+                            .ifPresent(lfContingency -> {
+                                if (runState.screenedOutContingencyIds().contains(lfContingency.getId())) {
+                                    postContingencyResults.add(createScreenedOutPostContingencyResult(propagatedContingency.getContingency(), lfContingency));
+                                } else {
+                                    processContingency(lfNetwork, securityAnalysisParameters,
+                                        limitReductions, contingencyActivePowerLossDistribution,
+                                        networkReportNode, lfContingency, p, networkState,
+                                        propagatedContingency, context, lfActionById,
+                                        loadFlowParameters, contingencyOpenLoadFlowParameters,
+                                        createResultExtension, preContingencyLimitViolationManager,
+                                        preContingencyNetworkResult, postContingencyResults,
+                                        contingencyParametersResetter, operatorStrategiesByContingencyId,
+                                        operatorStrategyResults, contingencyIt);
+                                }
+                            });
                 }
 
                 // Restore parameters in case they are used for another component
                 componentParametersResetter.accept(p);
+
+                if (pooledValue != null) {
+                    // base state has been restored after each contingency
+                    pooledValue.setWarm(true);
+                }
             }
 
             return new SecurityAnalysisResult(
@@ -587,6 +768,11 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
                             preContingencyNetworkResult.getThreeWindingsTransformerResults()),
                             preContingencyLoadFlowResult.getDistributedActivePower() * PerUnit.SB),
                     postContingencyResults, operatorStrategyResults);
+        } finally {
+            // a pooled context is kept open for next runs
+            if (pooledValue == null) {
+                context.close();
+            }
         }
     }
 
@@ -674,6 +860,20 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
                 (preDistributedActivePower + result.getDistributedActivePower()) * PerUnit.SB);
     }
 
+    private static PostContingencyResult createScreenedOutPostContingencyResult(Contingency contingency, LfContingency lfContingency) {
+        var connectivityResult = new ConnectivityResult(lfContingency.getCreatedSynchronousComponentsCount(), 0,
+                lfContingency.getDisconnectedLoadActivePower() * PerUnit.SB,
+                lfContingency.getDisconnectedGenerationActivePower() * PerUnit.SB,
+                lfContingency.getDisconnectedElementIds());
+        return new PostContingencyResult(
+                contingency,
+                PostContingencyComputationStatus.NO_COMPUTATION,
+                new LimitViolationsResult(Collections.emptyList()),
+                new NetworkResult(Collections.emptyList(), Collections.emptyList(), Collections.emptyList()),
+                connectivityResult,
+                Double.NaN);
+    }
+
     protected void logPostContingencyStart(LfNetwork network, LfContingency lfContingency) {
         LOGGER.atLevel(logLevel).log("Start post contingency '{}' simulation on network {}", lfContingency.getId(), network);
         LOGGER.debug("Contingency '{}' impact on network {}: remove {} buses, remove {} branches, remove {} generators, shift {} shunts, shift {} loads",
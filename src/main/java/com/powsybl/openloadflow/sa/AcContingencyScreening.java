@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.google.common.base.Stopwatch;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.contingency.ContingencyContextType;
+import com.powsybl.contingency.strategy.OperatorStrategy;
+import com.powsybl.iidm.network.ComponentConstants;
+import com.powsybl.iidm.network.LimitType;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.dc.fastdc.ConnectivityBreakAnalysis;
+import com.powsybl.openloadflow.dc.fastdc.ComputedContingencyElement;
+import com.powsybl.openloadflow.dc.fastdc.ConnectivityBreakAnalysis.ConnectivityAnalysisResult;
+import com.powsybl.openloadflow.dc.fastdc.WoodburyEngine;
+import com.powsybl.openloadflow.equations.EquationTerm;
+import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.LfNetworkList;
+import com.powsybl.openloadflow.network.impl.Networks;
+import com.powsybl.openloadflow.network.impl.PropagatedContingency;
+import com.powsybl.openloadflow.util.Evaluable;
+import com.powsybl.security.SecurityAnalysisParameters;
+import com.powsybl.security.limitreduction.LimitReduction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.powsybl.openloadflow.dc.DcLoadFlowEngine.updateNetwork;
+
+/**
+ * Screening of the contingencies of an AC security analysis, so that the full AC computation is only run for the
+ * contingencies likely to create a limit violation.
+ * <p>
+ * Post-contingency branch flows are estimated in DC by a Woodbury update of the pre-contingency states, as in the DC fast
+ * mode. Contingencies losing one or two branches without connectivity break are processed by batches and only the flows
+ * of the branches having limits are computed, without any post-contingency state vector. The severity of a contingency is the highest estimated loading of a branch, that is to say the ratio
+ * between its estimated flow (current, active power or active power as a lower bound of apparent power) and its
+ * reduced permanent limit. A contingency is screened out if its severity is below
+ * {@link OpenSecurityAnalysisParameters#getAcContingencyScreeningLoadingThreshold()} and if it is not one of the
+ * {@link OpenSecurityAnalysisParameters#getAcContingencyScreeningMinContingencyCount()} most severe ones.
+ * <p>
+ * Only contingencies opening branches of the main connected component can be screened out. Contingencies losing buses,
+ * injections or hvdc lines, and contingencies having an operator strategy, are always fully simulated. Voltages are not
+ * estimated, so screened-out contingencies may miss voltage violations.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class AcContingencyScreening {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AcContingencyScreening.class);
+
+    private static final int CONTINGENCY_BATCH_SIZE = 64;
+
+    private record Severity(String contingencyId, double value) {
+    }
+
+    /**
+     * Active power flow of a branch side having limits, the loading factor being the inverse of its most restrictive
+     * permanent limit, the current limits being converted with the DC power factor.
+     */
+    private record MonitoredFlow(LfBranch branch, EquationTerm<?, ?> term, double loadingFactor) {
+    }
+
+    private AcContingencyScreening() {
+    }
+
+    /**
+     * @param propagatedContingencies the propagated contingencies of the security analysis, which are not modified
+     * @param topoConfig the topological configuration the propagated contingencies have been created with
+     * @return the ids of the contingencies screened out, i.e. that do not need the full AC computation.
+     */
+    static Set<String> run(Network network, List<PropagatedContingency> propagatedContingencies, LfTopoConfig topoConfig,
+                           List<OperatorStrategy> operatorStrategies, List<LimitReduction> limitReductions,
+                           SecurityAnalysisParameters securityAnalysisParameters, MatrixFactory matrixFactory,
+                           GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory) {
+        LoadFlowParameters lfParameters = securityAnalysisParameters.getLoadFlowParameters();
+        OpenLoadFlowParameters lfParametersExt = OpenLoadFlowParameters.get(lfParameters);
+        OpenSecurityAnalysisParameters securityAnalysisParametersExt = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters);
+
+        if (lfParametersExt.isAcDcNetwork()) {
+            LOGGER.warn("AC contingency screening is not supported on AC-DC networks, all contingencies are simulated");
+            return Collections.emptySet();
+        }
+        if (operatorStrategies.stream().anyMatch(operatorStrategy -> operatorStrategy.getContingencyContext().getContextType() != ContingencyContextType.SPECIFIC)) {
+            LOGGER.warn("AC contingency screening is not supported with operator strategies on several contingencies, all contingencies are simulated");
+            return Collections.emptySet();
+        }
+        Set<String> contingencyIdsWithOperatorStrategy = operatorStrategies.stream()
+                .map(operatorStrategy -> operatorStrategy.getContingencyContext().getContingencyId())
+                .collect(Collectors.toSet());
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        DcLoadFlowParameters dcParameters = OpenLoadFlowParameters.createDcParameters(network, lfParameters, lfParametersExt,
+                matrixFactory, connectivityFactory, true); // needed an equation to force angle to zero when a PST is lost
+        List<PropagatedContingency> screenedContingencies = propagatedContingencies.stream()
+                .filter(PropagatedContingency::isBranchOpeningOnly)
+                .filter(propagatedContingency -> !contingencyIdsWithOperatorStrategy.contains(propagatedContingency.getContingency().getId()))
+                .collect(Collectors.toCollection(ArrayList::new));
+        dcParameters.getNetworkParameters()
+                .setBreakers(topoConfig.isBreaker())
+                .setMinImpedance(true) // connectivity break analysis does not handle zero impedance lines
+                .setHvdcAcEmulation(false);
+
+        List<Severity> severities;
+        try (LfNetworkList lfNetworks = Networks.loadWithReconnectableElements(network, topoConfig, dcParameters.getNetworkParameters(), ReportNode.NO_OP)) {
+            LfNetwork lfNetwork = lfNetworks.getList().stream()
+                    .filter(n -> n.getNumCC() == ComponentConstants.MAIN_NUM && n.getValidity() == LfNetwork.Validity.VALID)
+                    .findFirst()
+                    .orElse(null);
+            if (lfNetwork == null) {
+                return Collections.emptySet();
+            }
+            severities = calculateSeverities(lfNetwork, dcParameters, screenedContingencies, limitReductions);
+        }
+
+        Set<String> screenedOutContingencyIds = selectScreenedOutContingencies(severities,
+                securityAnalysisParametersExt.getAcContingencyScreeningLoadingThreshold(),
+                securityAnalysisParametersExt.getAcContingencyScreeningMinContingencyCount());
+
+        stopwatch.stop();
+        LOGGER.info("AC contingency screening done in {} ms: {} contingencies screened out of {}",
+                stopwatch.elapsed(TimeUnit.MILLISECONDS), screenedOutContingencyIds.size(), propagatedContingencies.size());
+
+        return screenedOutContingencyIds;
+    }
+
+    private static List<Severity> calculateSeverities(LfNetwork lfNetwork, DcLoadFlowParameters dcParameters,
+                                                      List<PropagatedContingency> propagatedContingencies, List<LimitReduction> limitReductions) {
+        // only keep contingencies with all their branches in this component and connected at both sides, without
+        // cleaning the propagated contingencies which are shared with the simulations
+        propagatedContingencies.removeIf(c -> c.getBranchIdsToOpen().keySet().stream().anyMatch(branchId -> {
+            LfBranch branch = lfNetwork.getBranchById(branchId);
+            return branch == null || !branch.isConnectedAtBothSides();
+        }));
+
+        List<Severity> severities = new ArrayList<>(propagatedContingencies.size());
+        try (DcLoadFlowContext context = new DcLoadFlowContext(lfNetwork, dcParameters, false)) {
+            double[] preContingencyStates = WoodburyEngine.runDcLoadFlowWithModifiedTargetVector(context, new DisabledNetwork(), ReportNode.NO_OP);
+
+            ConnectivityBreakAnalysis.ConnectivityBreakAnalysisResults connectivityBreakAnalysisResults = ConnectivityBreakAnalysis.run(context, propagatedContingencies);
+            List<ConnectivityAnalysisResult> connectivityAnalysisResults = new ArrayList<>(connectivityBreakAnalysisResults.nonBreakingConnectivityAnalysisResults());
+            connectivityAnalysisResults.addAll(connectivityBreakAnalysisResults.connectivityBreakingAnalysisResults());
+
+            LimitReductionManager limitReductionManager = LimitReductionManager.create(limitReductions);
+            context.getEquationSystem().getStateVector().set(preContingencyStates);
+            List<MonitoredFlow> monitoredFlows = createMonitoredFlows(lfNetwork, limitReductionManager,
+                    dcParameters.getEquationSystemCreationParameters().getDcPowerFactor());
+            double[] preContingencyFlows = monitoredFlows.stream().mapToDouble(monitoredFlow -> monitoredFlow.term().eval()).toArray();
+            List<EquationTerm<?, ?>> monitoredTerms = monitoredFlows.stream().<EquationTerm<?, ?>>map(MonitoredFlow::term).toList();
+
+            // contingencies only losing one or two branches are processed by batches, computing only the monitored flows
+            // the other ones (connectivity break, phase tap changer loss, more branches) need their own post-contingency states
+            List<ConnectivityAnalysisResult> otherConnectivityAnalysisResults = new ArrayList<>();
+            List<ConnectivityAnalysisResult> batch = new ArrayList<>(CONTINGENCY_BATCH_SIZE);
+            List<List<ComputedContingencyElement>> batchContingenciesElements = new ArrayList<>(CONTINGENCY_BATCH_SIZE);
+            for (ConnectivityAnalysisResult connectivityAnalysisResult : connectivityAnalysisResults) {
+                List<ComputedContingencyElement> contingencyElements = WoodburyDcSecurityAnalysis.getContingencyElements(connectivityAnalysisResult,
+                        connectivityBreakAnalysisResults.contingencyElementByBranch());
+                if (WoodburyDcSecurityAnalysis.isWoodburyUpdateOnly(connectivityAnalysisResult, connectivityBreakAnalysisResults.contingencyElementByBranch())
+                        && contingencyElements.size() <= 2) {
+                    batch.add(connectivityAnalysisResult);
+                    batchContingenciesElements.add(contingencyElements);
+                    if (batch.size() == CONTINGENCY_BATCH_SIZE) {
+                        addBatchSeverities(context, batch, batchContingenciesElements, connectivityBreakAnalysisResults.contingenciesStates(),
+                                preContingencyStates, monitoredFlows, monitoredTerms, preContingencyFlows, severities);
+                        batch.clear();
+                        batchContingenciesElements.clear();
+                    }
+                } else {
+                    otherConnectivityAnalysisResults.add(connectivityAnalysisResult);
+                }
+            }
+            if (!batch.isEmpty()) {
+                addBatchSeverities(context, batch, batchContingenciesElements, connectivityBreakAnalysisResults.contingenciesStates(),
+                        preContingencyStates, monitoredFlows, monitoredTerms, preContingencyFlows, severities);
+            }
+
+            NetworkState networkState = NetworkState.save(lfNetwork);
+            for (ConnectivityAnalysisResult connectivityAnalysisResult : otherConnectivityAnalysisResults) {
+                double[] states = WoodburyDcSecurityAnalysis.calculatePostContingencyStates(context, connectivityBreakAnalysisResults.contingenciesStates(),
+                        preContingencyStates.clone(), connectivityAnalysisResult, connectivityBreakAnalysisResults.contingencyElementByBranch(), ReportNode.NO_OP);
+                context.getEquationSystem().getStateVector().set(states);
+                updateNetwork(lfNetwork, context.getEquationSystem(), states);
+                severities.add(new Severity(connectivityAnalysisResult.getPropagatedContingency().getContingency().getId(),
+                        calculateMaxLoading(lfNetwork, connectivityAnalysisResult, limitReductionManager)));
+                // slack distribution of a load flow run may have modified the network
+                networkState.restore();
+            }
+        }
+        return severities;
+    }
+
+    private static List<MonitoredFlow> createMonitoredFlows(LfNetwork lfNetwork, LimitReductionManager limitReductionManager, double dcPowerFactor) {
+        List<MonitoredFlow> monitoredFlows = new ArrayList<>();
+        for (LfBranch branch : lfNetwork.getBranches()) {
+            if (branch.isDisabled() || !branch.isConnectedAtBothSides()) {
+                continue;
+            }
+            double loadingFactor1 = Math.max(calculateLoadingFactor(branch.getLimits1(LimitType.CURRENT, limitReductionManager)) / dcPowerFactor,
+                    Math.max(calculateLoadingFactor(branch.getLimits1(LimitType.ACTIVE_POWER, limitReductionManager)),
+                            calculateLoadingFactor(branch.getLimits1(LimitType.APPARENT_POWER, limitReductionManager))));
+            if (loadingFactor1 > 0 && branch.getP1() instanceof EquationTerm<?, ?> p1) {
+                monitoredFlows.add(new MonitoredFlow(branch, p1, loadingFactor1));
+            }
+            double loadingFactor2 = Math.max(calculateLoadingFactor(branch.getLimits2(LimitType.CURRENT, limitReductionManager)) / dcPowerFactor,
+                    Math.max(calculateLoadingFactor(branch.getLimits2(LimitType.ACTIVE_POWER, limitReductionManager)),
+                            calculateLoadingFactor(branch.getLimits2(LimitType.APPARENT_POWER, limitReductionManager))));
+            if (loadingFactor2 > 0 && branch.getP2() instanceof EquationTerm<?, ?> p2) {
+                monitoredFlows.add(new MonitoredFlow(branch, p2, loadingFactor2));
+            }
+        }
+        return monitoredFlows;
+    }
+
+    /**
+     * @return the inverse of the most restrictive permanent limit, 0 if there is none.
+     */
+    private static double calculateLoadingFactor(List<LfBranch.LfLimitsGroup> limitsGroups) {
+        double loadingFactor = 0;
+        for (LfBranch.LfLimitsGroup limitsGroup : limitsGroups) {
+            List<LfBranch.LfLimit> sortedLimits = limitsGroup.getSortedLimits();
+            if (!sortedLimits.isEmpty()) {
+                // the permanent limit is the last one
+                double permanentLimit = sortedLimits.getLast().getReducedValue();
+                if (permanentLimit > 0) {
+                    loadingFactor = Math.max(loadingFactor, 1 / permanentLimit);
+                }
+            }
+        }
+        return loadingFactor;
+    }
+
+    private static void addBatchSeverities(DcLoadFlowContext context, List<ConnectivityAnalysisResult> batch,
+                                           List<List<ComputedContingencyElement>> batchContingenciesElements, DenseMatrix contingenciesStates,
+                                           double[] preContingencyStates, List<MonitoredFlow> monitoredFlows, List<EquationTerm<?, ?>> monitoredTerms,
+                                           double[] preContingencyFlows, List<Severity> severities) {
+        DenseMatrix postContingencyFlows = WoodburyEngine.toPostContingencyFlows(context.getParameters().getEquationSystemCreationParameters(),
+                batchContingenciesElements, contingenciesStates, preContingencyStates, monitoredTerms, preContingencyFlows);
+        for (int k = 0; k < batch.size(); k++) {
+            PropagatedContingency propagatedContingency = batch.get(k).getPropagatedContingency();
+            Set<String> openedBranchIds = propagatedContingency.getBranchIdsToOpen().keySet();
+            double maxLoading = 0;
+            for (int m = 0; m < monitoredFlows.size(); m++) {
+                MonitoredFlow monitoredFlow = monitoredFlows.get(m);
+                if (!openedBranchIds.contains(monitoredFlow.branch().getId())) {
+                    maxLoading = Math.max(maxLoading, Math.abs(postContingencyFlows.get(m, k)) * monitoredFlow.loadingFactor());
+                }
+            }
+            severities.add(new Severity(propagatedContingency.getContingency().getId(), maxLoading));
+        }
+    }
+
+    private static double calculateMaxLoading(LfNetwork lfNetwork, ConnectivityAnalysisResult connectivityAnalysisResult, LimitReductionManager limitReductionManager) {
+        Set<String> openedBranchIds = connectivityAnalysisResult.getPropagatedContingency().getBranchIdsToOpen().keySet();
+        Set<LfBus> disabledBuses = connectivityAnalysisResult.getDisabledBuses();
+        Set<LfBranch> partialDisabledBranches = connectivityAnalysisResult.getPartialDisabledBranches();
+        double maxLoading = 0;
+        for (LfBranch branch : lfNetwork.getBranches()) {
+            if (branch.isDisabled() || !branch.isConnectedAtBothSides() || openedBranchIds.contains(branch.getId())
+                    || partialDisabledBranches.contains(branch) || disabledBuses.contains(branch.getBus1()) || disabledBuses.contains(branch.getBus2())) {
+                continue;
+            }
+            maxLoading = Math.max(maxLoading, calculateLoading(branch.getLimits1(LimitType.CURRENT, limitReductionManager), branch.getI1()));
+            maxLoading = Math.max(maxLoading, calculateLoading(branch.getLimits1(LimitType.ACTIVE_POWER, limitReductionManager), branch.getP1()));
+            maxLoading = Math.max(maxLoading, calculateLoading(branch.getLimits1(LimitType.APPARENT_POWER, limitReductionManager), branch.getP1()));
+            maxLoading = Math.max(maxLoading, calculateLoading(branch.getLimits2(LimitType.CURRENT, limitReductionManager), branch.getI2()));
+            maxLoading = Math.max(maxLoading, calculateLoading(branch.getLimits2(LimitType.ACTIVE_POWER, limitReductionManager), branch.getP2()));
+            maxLoading = Math.max(maxLoading, calculateLoading(branch.getLimits2(LimitType.APPARENT_POWER, limitReductionManager), branch.getP2()));
+        }
+        return maxLoading;
+    }
+
+    private static double calculateLoading(List<LfBranch.LfLimitsGroup> limitsGroups, Evaluable flow) {
+        double loading = 0;
+        for (LfBranch.LfLimitsGroup limitsGroup : limitsGroups) {
+            List<LfBranch.LfLimit> sortedLimits = limitsGroup.getSortedLimits();
+            if (!sortedLimits.isEmpty()) {
+                // the permanent limit is the last one
+                double permanentLimit = sortedLimits.getLast().getReducedValue();
+                double value = Math.abs(flow.eval());
+                if (permanentLimit > 0 && !Double.isNaN(value)) {
+                    loading = Math.max(loading, value / permanentLimit);
+                }
+            }
+        }
+        return loading;
+    }
+
+    private static Set<String> selectScreenedOutContingencies(List<Severity> severities, double loadingThreshold, int minContingencyCount) {
+        List<Severity> sortedSeverities = severities.stream()
+                .sorted(Comparator.comparingDouble(Severity::value).reversed())
+                .toList();
+        Set<String> screenedOutContingencyIds = new HashSet<>();
+        for (int i = minContingencyCount; i < sortedSeverities.size(); i++) {
+            Severity severity = sortedSeverities.get(i);
+            if (severity.value() < loadingThreshold) {
+                screenedOutContingencyIds.add(severity.contingencyId());
+            }
+        }
+        return screenedOutContingencyIds;
+    }
+}
@@ -8,6 +8,7 @@
 package com.powsybl.openloadflow.sa;
 
 import com.powsybl.commons.report.ReportNode;
+import com.powsybl.contingency.strategy.OperatorStrategy;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.math.matrix.MatrixFactory;
@@ -26,13 +27,17 @@ import com.powsybl.openloadflow.lf.outerloop.config.AcOuterLoopConfig;
 import com.powsybl.openloadflow.lf.outerloop.config.DefaultAcOuterLoopConfig;
 import com.powsybl.openloadflow.lf.outerloop.config.ExplicitAcOuterLoopConfig;
 import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.PropagatedContingency;
 import com.powsybl.openloadflow.network.util.PreviousValueVoltageInitializer;
 import com.powsybl.openloadflow.sa.extensions.ContingencyLoadFlowParameters;
 import com.powsybl.openloadflow.util.Reports;
 import com.powsybl.security.PostContingencyComputationStatus;
+import com.powsybl.security.SecurityAnalysisParameters;
+import com.powsybl.security.limitreduction.LimitReduction;
 import com.powsybl.security.monitor.StateMonitor;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -90,6 +95,19 @@ public class AcSecurityAnalysis extends AbstractSecurityAnalysis<AcVariableType,
         return acParameters;
     }
 
+    @Override
+    protected boolean isContingencyScreening(OpenSecurityAnalysisParameters securityAnalysisParametersExt) {
+        return securityAnalysisParametersExt.isAcContingencyScreening();
+    }
+
+    @Override
+    protected Set<String> screenContingencies(List<PropagatedContingency> propagatedContingencies, LfTopoConfig topoConfig,
+                                              List<OperatorStrategy> operatorStrategies, List<LimitReduction> limitReductions,
+                                              SecurityAnalysisParameters securityAnalysisParameters) {
+        return AcContingencyScreening.run(network, propagatedContingencies, topoConfig, operatorStrategies, limitReductions,
+                securityAnalysisParameters, matrixFactory, connectivityFactory);
+    }
+
     @Override
     protected AcLoadFlowContext createLoadFlowContext(LfNetwork lfNetwork, AcLoadFlowParameters parameters) {
         return new AcLoadFlowContext(lfNetwork, parameters);
@@ -105,6 +123,22 @@ public class AcSecurityAnalysis extends AbstractSecurityAnalysis<AcVariableType,
         return new AcLoadFlowParameters(parameters);
     }
 
+    @Override
+    protected SecurityAnalysisContextPool<AcLoadFlowContext> getContextPool() {
+        return SecurityAnalysisContextPool.AC_INSTANCE;
+    }
+
+    @Override
+    protected void prepareReusedContext(AcLoadFlowContext context, AcLoadFlowParameters parameters, boolean warm) {
+        // start from the pre-contingency state of the previous run if it converged
+        context.getParameters()
+                .setOuterLoops(parameters.getOuterLoops())
+                .setVoltageInitializer(warm ? new PreviousValueVoltageInitializer(true) : parameters.getVoltageInitializer())
+                .setFixVoltageTargets(parameters.isFixVoltageTargets())
+                .setVoltageInitReport(parameters.isVoltageInitReport())
+                .setSlackDistributionFailureBehavior(parameters.getSlackDistributionFailureBehavior());
+    }
+
     @Override
     protected void afterPreContingencySimulation(AcLoadFlowParameters parameters) {
         // in some post-contingency computation, it does not remain elements to participate to slack distribution.
@@ -88,6 +88,20 @@ public class DcSecurityAnalysis extends AbstractSecurityAnalysis<DcVariableType,
         return new DcLoadFlowEngine(context);
     }
 
+    @Override
+    protected SecurityAnalysisContextPool<DcLoadFlowContext> getContextPool() {
+        return SecurityAnalysisContextPool.DC_INSTANCE;
+    }
+
+    @Override
+    protected void prepareReusedContext(DcLoadFlowContext context, DcLoadFlowParameters parameters, boolean warm) {
+        // DC load flow is not initialized from previous state, only reset parameters that may have been overridden
+        context.getParameters()
+                .setOuterLoops(parameters.getOuterLoops())
+                .setDistributedSlack(parameters.isDistributedSlack())
+                .setBalanceType(parameters.getBalanceType());
+    }
+
     @Override
     protected PostContingencyComputationStatus postContingencyStatusFromLoadFlowResult(DcLoadFlowResult result) {
         return result.isSuccess() ? PostContingencyComputationStatus.CONVERGED : PostContingencyComputationStatus.FAILED;
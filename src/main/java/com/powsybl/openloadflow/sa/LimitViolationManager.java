@@ -19,6 +19,7 @@ import com.powsybl.openloadflow.util.Evaluable;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.security.*;
 import com.powsybl.security.limitreduction.LimitReduction;
+import net.jafama.FastMath;
 import org.apache.commons.lang3.function.TriFunction;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -183,12 +184,24 @@ public class LimitViolationManager {
     private void detectBranchViolations(LfBranch branch) {
         // detect violation limits on a branch
         // Only detect the most serious one (findFirst) : limit violations are ordered by severity
+        // when available, read flows of both sides at once instead of evaluating them one by one
+        LfBranch.LfBranchResults flows = branch.getNetwork().getBranchFlowReader().read(branch);
         if (branch.getBus1() != null) {
-            detectBranchSideViolations(branch, branch.getBus1(), LfBranch::getLimits1, LfBranch::getI1, LfBranch::getP1, LfBranch::computeApparentPower1, TwoSides.ONE);
+            if (flows != null) {
+                detectBranchSideViolations(branch, branch.getBus1(), LfBranch::getLimits1, b -> flows::i1, b -> flows::p1,
+                        b -> FastMath.sqrt(flows.p1() * flows.p1() + flows.q1() * flows.q1()), TwoSides.ONE);
+            } else {
+                detectBranchSideViolations(branch, branch.getBus1(), LfBranch::getLimits1, LfBranch::getI1, LfBranch::getP1, LfBranch::computeApparentPower1, TwoSides.ONE);
+            }
         }
 
         if (branch.getBus2() != null) {
-            detectBranchSideViolations(branch, branch.getBus2(), LfBranch::getLimits2, LfBranch::getI2, LfBranch::getP2, LfBranch::computeApparentPower2, TwoSides.TWO);
+            if (flows != null) {
+                detectBranchSideViolations(branch, branch.getBus2(), LfBranch::getLimits2, b -> flows::i2, b -> flows::p2,
+                        b -> FastMath.sqrt(flows.p2() * flows.p2() + flows.q2() * flows.q2()), TwoSides.TWO);
+            } else {
+                detectBranchSideViolations(branch, branch.getBus2(), LfBranch::getLimits2, LfBranch::getI2, LfBranch::getP2, LfBranch::computeApparentPower2, TwoSides.TWO);
+            }
         }
     }
 
@@ -9,10 +9,12 @@ package com.powsybl.openloadflow.sa;
 
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.openloadflow.util.mt.ContingencyExecutionStrategy;
 import com.powsybl.security.SecurityAnalysisParameters;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -32,6 +34,20 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
 
     private boolean startWithFrozenACEmulation = START_WITH_FROZEN_AC_EMULATION_DEFAULT_VALUE;
 
+    private boolean detachedNetwork = DETACHED_NETWORK_DEFAULT_VALUE;
+
+    private boolean contingencyPropagationCache = CONTINGENCY_PROPAGATION_CACHE_DEFAULT_VALUE;
+
+    private boolean contextPool = CONTEXT_POOL_DEFAULT_VALUE;
+
+    private String contingencyExecutionStrategy = CONTINGENCY_EXECUTION_STRATEGY_DEFAULT_VALUE;
+
+    private boolean acContingencyScreening = AC_CONTINGENCY_SCREENING_DEFAULT_VALUE;
+
+    private double acContingencyScreeningLoadingThreshold = AC_CONTINGENCY_SCREENING_LOADING_THRESHOLD_DEFAULT_VALUE;
+
+    private int acContingencyScreeningMinContingencyCount = AC_CONTINGENCY_SCREENING_MIN_CONTINGENCY_COUNT_DEFAULT_VALUE;
+
     public static final String CREATE_RESULT_EXTENSION_PARAM_NAME = "createResultExtension";
     public static final boolean CREATE_RESULT_EXTENSION_DEFAULT_VALUE = false;
     public static final String CONTINGENCY_PROPAGATION_PARAM_NAME = "contingencyPropagation";
@@ -44,12 +60,33 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
     public static final boolean START_WITH_FROZEN_AC_EMULATION_DEFAULT_VALUE = true;
     public static final String CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_PARAM_NAME = "contingencyActivePowerLossDistribution";
     public static final String CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_DEFAULT_VALUE = "Default";
+    public static final String DETACHED_NETWORK_PARAM_NAME = "detachedNetwork";
+    public static final boolean DETACHED_NETWORK_DEFAULT_VALUE = false;
+    public static final String CONTINGENCY_PROPAGATION_CACHE_PARAM_NAME = "contingencyPropagationCache";
+    public static final boolean CONTINGENCY_PROPAGATION_CACHE_DEFAULT_VALUE = false;
+    public static final String CONTEXT_POOL_PARAM_NAME = "contextPool";
+    public static final boolean CONTEXT_POOL_DEFAULT_VALUE = false;
+    public static final String CONTINGENCY_EXECUTION_STRATEGY_PARAM_NAME = "contingencyExecutionStrategy";
+    public static final String CONTINGENCY_EXECUTION_STRATEGY_DEFAULT_VALUE = ContingencyExecutionStrategy.DEFAULT_NAME;
+    public static final String AC_CONTINGENCY_SCREENING_PARAM_NAME = "acContingencyScreening";
+    public static final boolean AC_CONTINGENCY_SCREENING_DEFAULT_VALUE = false;
+    public static final String AC_CONTINGENCY_SCREENING_LOADING_THRESHOLD_PARAM_NAME = "acContingencyScreeningLoadingThreshold";
+    public static final double AC_CONTINGENCY_SCREENING_LOADING_THRESHOLD_DEFAULT_VALUE = 0.9;
+    public static final String AC_CONTINGENCY_SCREENING_MIN_CONTINGENCY_COUNT_PARAM_NAME = "acContingencyScreeningMinContingencyCount";
+    public static final int AC_CONTINGENCY_SCREENING_MIN_CONTINGENCY_COUNT_DEFAULT_VALUE = 0;
     public static final List<String> SPECIFIC_PARAMETERS_NAMES = List.of(CREATE_RESULT_EXTENSION_PARAM_NAME,
             CONTINGENCY_PROPAGATION_PARAM_NAME,
             THREAD_COUNT_PARAM_NAME,
             DC_FAST_MODE_PARAM_NAME,
             CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_PARAM_NAME,
-            START_WITH_FROZEN_AC_EMULATION_PARAM_NAME);
+            START_WITH_FROZEN_AC_EMULATION_PARAM_NAME,
+            DETACHED_NETWORK_PARAM_NAME,
+            CONTINGENCY_PROPAGATION_CACHE_PARAM_NAME,
+            CONTEXT_POOL_PARAM_NAME,
+            CONTINGENCY_EXECUTION_STRATEGY_PARAM_NAME,
+            AC_CONTINGENCY_SCREENING_PARAM_NAME,
+            AC_CONTINGENCY_SCREENING_LOADING_THRESHOLD_PARAM_NAME,
+            AC_CONTINGENCY_SCREENING_MIN_CONTINGENCY_COUNT_PARAM_NAME);
 
     @Override
     public String getName() {
@@ -114,6 +151,75 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
         return this;
     }
 
+    public boolean isDetachedNetwork() {
+        return detachedNetwork;
+    }
+
+    public OpenSecurityAnalysisParameters setDetachedNetwork(boolean detachedNetwork) {
+        this.detachedNetwork = detachedNetwork;
+        return this;
+    }
+
+    public boolean isContingencyPropagationCache() {
+        return contingencyPropagationCache;
+    }
+
+    public OpenSecurityAnalysisParameters setContingencyPropagationCache(boolean contingencyPropagationCache) {
+        this.contingencyPropagationCache = contingencyPropagationCache;
+        return this;
+    }
+
+    public boolean isContextPool() {
+        return contextPool;
+    }
+
+    public OpenSecurityAnalysisParameters setContextPool(boolean contextPool) {
+        this.contextPool = contextPool;
+        return this;
+    }
+
+    public String getContingencyExecutionStrategy() {
+        return contingencyExecutionStrategy;
+    }
+
+    public OpenSecurityAnalysisParameters setContingencyExecutionStrategy(String contingencyExecutionStrategy) {
+        this.contingencyExecutionStrategy = Objects.requireNonNull(contingencyExecutionStrategy);
+        return this;
+    }
+
+    public boolean isAcContingencyScreening() {
+        return acContingencyScreening;
+    }
+
+    public OpenSecurityAnalysisParameters setAcContingencyScreening(boolean acContingencyScreening) {
+        this.acContingencyScreening = acContingencyScreening;
+        return this;
+    }
+
+    public double getAcContingencyScreeningLoadingThreshold() {
+        return acContingencyScreeningLoadingThreshold;
+    }
+
+    public OpenSecurityAnalysisParameters setAcContingencyScreeningLoadingThreshold(double acContingencyScreeningLoadingThreshold) {
+        if (Double.isNaN(acContingencyScreeningLoadingThreshold) || acContingencyScreeningLoadingThreshold < 0) {
+            throw new IllegalArgumentException("Invalid AC contingency screening loading threshold value: " + acContingencyScreeningLoadingThreshold);
+        }
+        this.acContingencyScreeningLoadingThreshold = acContingencyScreeningLoadingThreshold;
+        return this;
+    }
+
+    public int getAcContingencyScreeningMinContingencyCount() {
+        return acContingencyScreeningMinContingencyCount;
+    }
+
+    public OpenSecurityAnalysisParameters setAcContingencyScreeningMinContingencyCount(int acContingencyScreeningMinContingencyCount) {
+        if (acContingencyScreeningMinContingencyCount < 0) {
+            throw new IllegalArgumentException("Invalid AC contingency screening min contingency count value: " + acContingencyScreeningMinContingencyCount);
+        }
+        this.acContingencyScreeningMinContingencyCount = acContingencyScreeningMinContingencyCount;
+        return this;
+    }
+
     public static OpenSecurityAnalysisParameters getOrDefault(SecurityAnalysisParameters parameters) {
         OpenSecurityAnalysisParameters parametersExt = parameters.getExtension(OpenSecurityAnalysisParameters.class);
         if (parametersExt == null) {
@@ -136,7 +242,16 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
                         .setDcFastMode(config.getBooleanProperty(DC_FAST_MODE_PARAM_NAME, DC_FAST_MODE_DEFAULT_VALUE))
                         .setContingencyActivePowerLossDistribution(config.getStringProperty(CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_PARAM_NAME,
                             CONTINGENCY_ACTIVE_POWER_LOSS_DISTRIBUTION_DEFAULT_VALUE))
-                        .setStartWithFrozenACEmulation(config.getBooleanProperty(START_WITH_FROZEN_AC_EMULATION_PARAM_NAME, START_WITH_FROZEN_AC_EMULATION_DEFAULT_VALUE)));
+                        .setStartWithFrozenACEmulation(config.getBooleanProperty(START_WITH_FROZEN_AC_EMULATION_PARAM_NAME, START_WITH_FROZEN_AC_EMULATION_DEFAULT_VALUE))
+                        .setDetachedNetwork(config.getBooleanProperty(DETACHED_NETWORK_PARAM_NAME, DETACHED_NETWORK_DEFAULT_VALUE))
+                        .setContingencyPropagationCache(config.getBooleanProperty(CONTINGENCY_PROPAGATION_CACHE_PARAM_NAME, CONTINGENCY_PROPAGATION_CACHE_DEFAULT_VALUE))
+                        .setContextPool(config.getBooleanProperty(CONTEXT_POOL_PARAM_NAME, CONTEXT_POOL_DEFAULT_VALUE))
+                        .setContingencyExecutionStrategy(config.getStringProperty(CONTINGENCY_EXECUTION_STRATEGY_PARAM_NAME, CONTINGENCY_EXECUTION_STRATEGY_DEFAULT_VALUE))
+                        .setAcContingencyScreening(config.getBooleanProperty(AC_CONTINGENCY_SCREENING_PARAM_NAME, AC_CONTINGENCY_SCREENING_DEFAULT_VALUE))
+                        .setAcContingencyScreeningLoadingThreshold(config.getDoubleProperty(AC_CONTINGENCY_SCREENING_LOADING_THRESHOLD_PARAM_NAME,
+                            AC_CONTINGENCY_SCREENING_LOADING_THRESHOLD_DEFAULT_VALUE))
+                        .setAcContingencyScreeningMinContingencyCount(config.getIntProperty(AC_CONTINGENCY_SCREENING_MIN_CONTINGENCY_COUNT_PARAM_NAME,
+                            AC_CONTINGENCY_SCREENING_MIN_CONTINGENCY_COUNT_DEFAULT_VALUE)));
         return parameters;
     }
 
@@ -158,6 +273,20 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
                 .ifPresent(this::setContingencyActivePowerLossDistribution);
         Optional.ofNullable(properties.get(START_WITH_FROZEN_AC_EMULATION_PARAM_NAME))
                 .ifPresent(value -> this.setStartWithFrozenACEmulation(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(DETACHED_NETWORK_PARAM_NAME))
+                .ifPresent(value -> this.setDetachedNetwork(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(CONTINGENCY_PROPAGATION_CACHE_PARAM_NAME))
+                .ifPresent(value -> this.setContingencyPropagationCache(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(CONTEXT_POOL_PARAM_NAME))
+                .ifPresent(value -> this.setContextPool(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(CONTINGENCY_EXECUTION_STRATEGY_PARAM_NAME))
+                .ifPresent(this::setContingencyExecutionStrategy);
+        Optional.ofNullable(properties.get(AC_CONTINGENCY_SCREENING_PARAM_NAME))
+                .ifPresent(value -> this.setAcContingencyScreening(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(AC_CONTINGENCY_SCREENING_LOADING_THRESHOLD_PARAM_NAME))
+                .ifPresent(value -> this.setAcContingencyScreeningLoadingThreshold(Double.parseDouble(value)));
+        Optional.ofNullable(properties.get(AC_CONTINGENCY_SCREENING_MIN_CONTINGENCY_COUNT_PARAM_NAME))
+                .ifPresent(value -> this.setAcContingencyScreeningMinContingencyCount(Integer.parseInt(value)));
         return this;
     }
 }
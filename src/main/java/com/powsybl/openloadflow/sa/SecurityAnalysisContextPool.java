@@ -0,0 +1,305 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Switch;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.openloadflow.NetworkCache;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.lf.LoadFlowContext;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfNetworkParameters;
+import com.powsybl.openloadflow.network.LfTopoConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool of LF networks and load flow contexts (equation system, Jacobian matrix, target vector) kept warm between the
+ * security analyses run on a same network and variant, with the same parameters and the same topological
+ * configuration. A security analysis checks out an entry for its whole run, so that an entry is never used by two
+ * runs at the same time, and returns it to the pool at the end.
+ * <p>
+ * Idle entries listen to the network exactly like {@link NetworkCache} entries: injection and tap position changes
+ * are applied incrementally to the LF networks, and any other change (structure, variant, unsupported update)
+ * invalidates the entry, which is then discarded at next check out.
+ * <p>
+ * Pooled LF networks only weakly refer to the network elements and are never loaded from a temporary variant, so that
+ * the pool neither prevents the network from being garbage collected nor leaves any variant in the network between
+ * runs.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class SecurityAnalysisContextPool<C extends LoadFlowContext<?, ?, ?>> {
+
+    public static final SecurityAnalysisContextPool<AcLoadFlowContext> AC_INSTANCE = new SecurityAnalysisContextPool<>();
+
+    public static final SecurityAnalysisContextPool<DcLoadFlowContext> DC_INSTANCE = new SecurityAnalysisContextPool<>();
+
+    public static final int DEFAULT_MAX_IDLE_ENTRY_COUNT = 2;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SecurityAnalysisContextPool.class);
+
+    /**
+     * Everything the LF networks and contexts of an entry depend on, apart from the network state.
+     */
+    public static class Input implements NetworkCache.Input<Input> {
+
+        private final LoadFlowParameters parameters;
+
+        private final LfTopoConfig.Key topoConfigKey;
+
+        private final boolean detachedNetwork;
+
+        private final boolean areaInterchangeControl;
+
+        public Input(LoadFlowParameters parameters, LfTopoConfig topoConfig, boolean detachedNetwork, boolean areaInterchangeControl) {
+            this(parameters, topoConfig.createKey(), detachedNetwork, areaInterchangeControl);
+        }
+
+        private Input(LoadFlowParameters parameters, LfTopoConfig.Key topoConfigKey, boolean detachedNetwork, boolean areaInterchangeControl) {
+            this.parameters = Objects.requireNonNull(parameters);
+            this.topoConfigKey = Objects.requireNonNull(topoConfigKey);
+            this.detachedNetwork = detachedNetwork;
+            this.areaInterchangeControl = areaInterchangeControl;
+        }
+
+        @Override
+        public Input copy() {
+            return new Input(OpenLoadFlowParameters.clone(parameters), topoConfigKey, detachedNetwork, areaInterchangeControl);
+        }
+
+        @Override
+        public String hasChanged(Input other) {
+            if (!OpenLoadFlowParameters.equals(parameters, other.parameters)) {
+                return "parameters";
+            }
+            if (!topoConfigKey.equals(other.topoConfigKey)) {
+                return "topology configuration";
+            }
+            if (detachedNetwork != other.detachedNetwork || areaInterchangeControl != other.areaInterchangeControl) {
+                return "security analysis parameters";
+            }
+            return null;
+        }
+
+        @Override
+        public LoadFlowParameters getLoadFlowParameters() {
+            return parameters;
+        }
+    }
+
+    public static class Value<C extends LoadFlowContext<?, ?, ?>> extends NetworkCache.AbstractValue {
+
+        private final C context;
+
+        private boolean warm = false;
+
+        public Value(C context) {
+            this.context = Objects.requireNonNull(context);
+        }
+
+        public C getContext() {
+            return context;
+        }
+
+        /**
+         * Check if the LF network state is the converged pre-contingency state of the previous run, so that it can be
+         * used to initialize the next one.
+         */
+        public boolean isWarm() {
+            return warm;
+        }
+
+        public void setWarm(boolean warm) {
+            this.warm = warm;
+        }
+
+        @Override
+        public LfNetwork getNetwork() {
+            return context.getNetwork();
+        }
+
+        @Override
+        public LfNetworkParameters getNetworkParameters() {
+            return context.getParameters().getNetworkParameters();
+        }
+
+        @Override
+        public void close() {
+            context.close();
+        }
+    }
+
+    public static class Entry<C extends LoadFlowContext<?, ?, ?>> extends NetworkCache.AbstractEntry<Input, Value<C>> {
+
+        public Entry(Network network, Input input) {
+            super(network, input);
+        }
+
+        @Override
+        public void restart() {
+            // contexts are prepared for the next run by the security analysis
+        }
+
+        @Override
+        public void onUpdate(Identifiable identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+            // pooled networks are loaded with the switches of the contingencies and actions only, so any switch
+            // operation may change the bus topology. Retained status is not variant dependent and is notified without
+            // variant
+            if (values != null && identifiable instanceof Switch && (variantId == null || variantId.equals(getWorkingVariantId()))) {
+                reset("switch");
+                return;
+            }
+            super.onUpdate(identifiable, attribute, variantId, oldValue, newValue);
+        }
+
+        /**
+         * Check if the entry can be reused: its LF networks are still in sync with the network and no temporary
+         * topology change is pending on them.
+         */
+        boolean isReusable() {
+            return values != null && values.stream().noneMatch(NetworkCache.Value::isTopologyUpdated);
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            // stop listening, otherwise the network would keep closed entries alive
+            Network network = getNetworkRef().get();
+            if (network != null) {
+                network.removeListener(this);
+            }
+        }
+    }
+
+    private final List<Entry<C>> idleEntries = new ArrayList<>();
+
+    private int maxIdleEntryCount = DEFAULT_MAX_IDLE_ENTRY_COUNT;
+
+    private final Lock lock = new ReentrantLock();
+
+    private SecurityAnalysisContextPool() {
+    }
+
+    public int getMaxIdleEntryCount() {
+        return maxIdleEntryCount;
+    }
+
+    /**
+     * Set the maximum number of idle entries kept per network and variant.
+     */
+    public SecurityAnalysisContextPool<C> setMaxIdleEntryCount(int maxIdleEntryCount) {
+        if (maxIdleEntryCount < 0) {
+            throw new IllegalArgumentException("Invalid max idle entry count: " + maxIdleEntryCount);
+        }
+        this.maxIdleEntryCount = maxIdleEntryCount;
+        return this;
+    }
+
+    private static boolean isSameNetworkAndVariant(NetworkCache.Entry<?, ?> entry, Network network) {
+        return entry.getNetworkRef().get() == network
+                && entry.getWorkingVariantId().equals(network.getVariantManager().getWorkingVariantId());
+    }
+
+    private void evictDeadEntries() {
+        Iterator<Entry<C>> it = idleEntries.iterator();
+        while (it.hasNext()) {
+            Entry<C> entry = it.next();
+            if (entry.getNetworkRef().get() == null || !entry.isReusable()) {
+                // release all resources
+                entry.close();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Check out an idle entry matching the network working variant and the input. The entry is removed from the pool
+     * until it is checked in again.
+     */
+    public Optional<Entry<C>> checkOut(Network network, Input input) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(input);
+        lock.lock();
+        try {
+            evictDeadEntries();
+            Iterator<Entry<C>> it = idleEntries.iterator();
+            while (it.hasNext()) {
+                Entry<C> entry = it.next();
+                if (isSameNetworkAndVariant(entry, network) && input.hasChanged(entry.getInput()) == null) {
+                    it.remove();
+                    LOGGER.info("Security analysis context reused for network '{}' and variant '{}'",
+                            network.getId(), entry.getWorkingVariantId());
+                    return Optional.of(entry);
+                }
+            }
+            return Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Create a new entry, to be filled with LF networks and contexts and then checked in at the end of the run.
+     */
+    public Entry<C> create(Network network, Input input) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(input);
+        return new Entry<>(network, input.copy());
+    }
+
+    /**
+     * Return an entry to the pool. The entry is closed instead if it cannot be reused or if the pool is full.
+     */
+    public void checkIn(Entry<C> entry) {
+        Objects.requireNonNull(entry);
+        lock.lock();
+        try {
+            evictDeadEntries();
+            Network network = entry.getNetworkRef().get();
+            long sameVariantCount = network == null ? 0 : idleEntries.stream().filter(e -> isSameNetworkAndVariant(e, network)).count();
+            if (network != null && entry.isReusable() && sameVariantCount < maxIdleEntryCount) {
+                idleEntries.add(entry);
+            } else {
+                entry.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getIdleEntryCount() {
+        lock.lock();
+        try {
+            evictDeadEntries();
+            return idleEntries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            for (Entry<C> entry : idleEntries) {
+                entry.close();
+            }
+            idleEntries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.powsybl.math.matrix.MatrixFactory;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import com.powsybl.openloadflow.dc.DcLoadFlowContext;
 import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.dc.equations.DcEquationSystemCreationParameters;
 import com.powsybl.openloadflow.dc.fastdc.ComputedContingencyElement;
 import com.powsybl.openloadflow.dc.fastdc.ComputedElement;
 import com.powsybl.openloadflow.dc.fastdc.ConnectivityBreakAnalysis;
@@ -33,6 +34,7 @@ import com.powsybl.openloadflow.network.impl.PropagatedContingency;
 import com.powsybl.openloadflow.util.Indexed;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.openloadflow.util.Reports;
+import com.powsybl.openloadflow.util.mt.MultiThreadHelper;
 import com.powsybl.security.LimitViolationsResult;
 import com.powsybl.security.PostContingencyComputationStatus;
 import com.powsybl.security.SecurityAnalysisParameters;
@@ -44,6 +46,8 @@ import com.powsybl.security.results.*;
 import org.slf4j.event.Level;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -57,6 +61,12 @@ import static com.powsybl.openloadflow.network.impl.PropagatedContingency.cleanC
  */
 public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
 
+    /**
+     * Number of post contingency states computed in advance by each thread, this bounds the memory used to store the
+     * states waiting for the sequential result processing.
+     */
+    private static final int POST_CONTINGENCY_STATES_BATCH_SIZE_PER_THREAD = 16;
+
     private record WoodburyContext(DcLoadFlowContext dcLoadFlowContext, Map<String, List<Indexed<OperatorStrategy>>> operatorStrategiesByContingencyId, Map<String, LfAction> lfActionById,
                                    boolean createResultExtension, SecurityAnalysisParameters.IncreasedViolationsParameters violationsParameters,
                                    List<LimitReduction> limitReductions, SecurityAnalysisParameters.ModifiedMonitoredElementsParameters modifiedMonitoredElementsParameters) {
@@ -100,15 +110,133 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
         return dcParameters;
     }
 
+    @Override
+    protected boolean isContingencyPartitioning(OpenSecurityAnalysisParameters securityAnalysisParametersExt) {
+        // contingencies are not partitioned on several networks, but simulated in parallel on the same network, so that
+        // the pre contingency states and the contingency states are computed only once (see runSimulations)
+        return false;
+    }
+
+    @Override
+    protected SecurityAnalysisContextPool<DcLoadFlowContext> getContextPool() {
+        // contexts are created by runSimulations itself, so they cannot be pooled
+        return null;
+    }
+
+    /**
+     * Returns true if the post contingency states can be computed by a Woodbury update of the pre contingency states only,
+     * that is to say without any load flow run because of a connectivity break or the loss of a phase tap changer,
+     * a generator, a load or a hvdc line.
+     */
+    static boolean isWoodburyUpdateOnly(ConnectivityAnalysisResult connectivityAnalysisResult, Map<String, ComputedContingencyElement> contingencyElementByBranch) {
+        PropagatedContingency contingency = connectivityAnalysisResult.getPropagatedContingency();
+        Set<String> elementsToReconnect = connectivityAnalysisResult.getElementsToReconnect();
+        return connectivityAnalysisResult.getDisabledBuses().isEmpty()
+                && connectivityAnalysisResult.getHvdcsWithoutPower().isEmpty()
+                && connectivityAnalysisResult.getOperatorStrategy() == null
+                && contingency.getGeneratorIdsToLose().isEmpty()
+                && contingency.getLoadIdsToLose().isEmpty()
+                && contingency.getBranchIdsToOpen().keySet().stream()
+                    .filter(element -> !elementsToReconnect.contains(element))
+                    .map(contingencyElementByBranch::get)
+                    .map(ComputedContingencyElement::getLfBranch)
+                    .noneMatch(LfBranch::hasPhaseControllerCapability);
+    }
+
+    static List<ComputedContingencyElement> getContingencyElements(ConnectivityAnalysisResult connectivityAnalysisResult,
+                                                                   Map<String, ComputedContingencyElement> contingencyElementByBranch) {
+        Set<String> elementsToReconnect = connectivityAnalysisResult.getElementsToReconnect();
+        return connectivityAnalysisResult.getPropagatedContingency().getBranchIdsToOpen().keySet().stream()
+                .filter(element -> !elementsToReconnect.contains(element))
+                .map(contingencyElementByBranch::get)
+                .toList();
+    }
+
+    private static double[] getStateBuffer(double[][] stateBuffers, int i, int size) {
+        if (stateBuffers[i] == null) {
+            stateBuffers[i] = new double[size];
+        }
+        return stateBuffers[i];
+    }
+
+    /**
+     * Calculate the post contingency states of the contingencies, between start and end indexes, only needing a
+     * Woodbury update. Contingencies losing one or two branches are computed together in a single batch, others with
+     * their own Woodbury engine. States are written into the state buffers of the same indexes.
+     */
+    private static void calculateWoodburyUpdatedStates(DcLoadFlowContext loadFlowContext, List<ConnectivityAnalysisResult> connectivityAnalysisResults,
+                                                       DenseMatrix contingenciesStates, Map<String, ComputedContingencyElement> contingencyElementByBranch,
+                                                       double[] preContingencyStates, int start, int end, double[][] stateBuffers,
+                                                       double[][] postContingencyStates) {
+        DcEquationSystemCreationParameters creationParameters = loadFlowContext.getParameters().getEquationSystemCreationParameters();
+        List<double[]> batchedStates = new ArrayList<>();
+        List<List<ComputedContingencyElement>> batchedContingenciesElements = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            ConnectivityAnalysisResult connectivityAnalysisResult = connectivityAnalysisResults.get(i);
+            if (isWoodburyUpdateOnly(connectivityAnalysisResult, contingencyElementByBranch)) {
+                List<ComputedContingencyElement> contingencyElements = getContingencyElements(connectivityAnalysisResult, contingencyElementByBranch);
+                double[] states = getStateBuffer(stateBuffers, i, preContingencyStates.length);
+                if (contingencyElements.size() <= 2) {
+                    batchedStates.add(states);
+                    batchedContingenciesElements.add(contingencyElements);
+                } else {
+                    WoodburyEngine engine = new WoodburyEngine(creationParameters, contingencyElements, contingenciesStates);
+                    System.arraycopy(preContingencyStates, 0, states, 0, preContingencyStates.length);
+                    engine.toPostContingencyAndOperatorStrategyStates(states);
+                }
+                postContingencyStates[i] = states;
+            }
+        }
+        WoodburyEngine.toPostContingencyStates(creationParameters, batchedContingenciesElements, contingenciesStates, preContingencyStates,
+                batchedStates.toArray(new double[0][]));
+    }
+
+    /**
+     * Calculate in advance the post contingency states of the contingencies only needing a Woodbury update, in parallel
+     * if an executor is given. Each task computes its own post contingency states with its own flow transfer factors,
+     * the pre contingency states and the contingency states being only read.
+     * <p>
+     * States are written into state buffers indexed as the connectivity analysis results, allocated on first use and
+     * then reused from one batch of contingencies to the next, so that no state vector is allocated per contingency.
+     * @return the post contingency states indexed as the given connectivity analysis results (some of the state
+     * buffers), null for contingencies needing a load flow run.
+     */
+    static double[][] calculateWoodburyUpdatedStates(DcLoadFlowContext loadFlowContext, List<ConnectivityAnalysisResult> connectivityAnalysisResults,
+                                                     DenseMatrix contingenciesStates, Map<String, ComputedContingencyElement> contingencyElementByBranch,
+                                                     double[] preContingencyStates, double[][] stateBuffers, Executor executor, int threadCount) {
+        if (stateBuffers.length < connectivityAnalysisResults.size()) {
+            throw new IllegalArgumentException("Not enough state buffers");
+        }
+        double[][] postContingencyStates = new double[connectivityAnalysisResults.size()][];
+        if (executor == null) {
+            calculateWoodburyUpdatedStates(loadFlowContext, connectivityAnalysisResults, contingenciesStates, contingencyElementByBranch,
+                    preContingencyStates, 0, connectivityAnalysisResults.size(), stateBuffers, postContingencyStates);
+            return postContingencyStates;
+        }
+        int partitionSize = (connectivityAnalysisResults.size() + threadCount - 1) / threadCount;
+        List<Future<Void>> futures = new ArrayList<>(threadCount);
+        for (int start = 0; start < connectivityAnalysisResults.size(); start += partitionSize) {
+            int partitionStart = start;
+            int partitionEnd = Math.min(start + partitionSize, connectivityAnalysisResults.size());
+            futures.add(MultiThreadHelper.submit(executor, () -> {
+                calculateWoodburyUpdatedStates(loadFlowContext, connectivityAnalysisResults, contingenciesStates,
+                        contingencyElementByBranch, preContingencyStates, partitionStart, partitionEnd, stateBuffers, postContingencyStates);
+                return null;
+            }));
+        }
+        MultiThreadHelper.getAll(futures);
+        return postContingencyStates;
+    }
+
     /**
      * Calculate post contingency states for a contingency.
      * In case of connectivity break, a pre-computation is done to reset active power flow of hvdc lines on which one bus is lost.
      * If connectivity, a generator, a load or a phase tap changer is lost due to the contingency, the pre contingency flowStates are overridden.
      * @return the post contingency states for the contingency.
      */
-    private double[] calculatePostContingencyStates(DcLoadFlowContext loadFlowContext, DenseMatrix contingenciesStates, double[] flowStates,
-                                                    ConnectivityAnalysisResult connectivityAnalysisResult, Map<String, ComputedContingencyElement> contingencyElementByBranch,
-                                                    ReportNode reportNode) {
+    static double[] calculatePostContingencyStates(DcLoadFlowContext loadFlowContext, DenseMatrix contingenciesStates, double[] flowStates,
+                                                   ConnectivityAnalysisResult connectivityAnalysisResult, Map<String, ComputedContingencyElement> contingencyElementByBranch,
+                                                   ReportNode reportNode) {
         return calculatePostContingencyAndOperatorStrategyStates(loadFlowContext, contingenciesStates, flowStates, connectivityAnalysisResult, contingencyElementByBranch,
                 Collections.emptyMap(), DenseMatrix.EMPTY, reportNode);
     }
@@ -119,9 +247,9 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
      * If connectivity, a generator, a load or a phase tap changer is lost/modified due to the contingency/operator strategy, the pre contingency flowStates are overridden.
      * @return the post contingency and operator strategy states.
      */
-    private double[] calculatePostContingencyAndOperatorStrategyStates(DcLoadFlowContext loadFlowContext, DenseMatrix contingenciesStates, double[] flowStates,
-                                                                       ConnectivityAnalysisResult connectivityAnalysisResult, Map<String, ComputedContingencyElement> contingencyElementByBranch,
-                                                                       Map<LfAction, List<ComputedElement>> actionElementByLfAction, DenseMatrix actionsStates, ReportNode reportNode) {
+    private static double[] calculatePostContingencyAndOperatorStrategyStates(DcLoadFlowContext loadFlowContext, DenseMatrix contingenciesStates, double[] flowStates,
+                                                                              ConnectivityAnalysisResult connectivityAnalysisResult, Map<String, ComputedContingencyElement> contingencyElementByBranch,
+                                                                              Map<LfAction, List<ComputedElement>> actionElementByLfAction, DenseMatrix actionsStates, ReportNode reportNode) {
         PropagatedContingency contingency = connectivityAnalysisResult.getPropagatedContingency();
         Set<LfBus> disabledBuses = connectivityAnalysisResult.getDisabledBuses();
         Set<LfBranch> partialDisabledBranches = connectivityAnalysisResult.getPartialDisabledBranches();
@@ -134,10 +262,7 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
             contingency.getGeneratorIdsToLose().add(hvdcWithoutPower.getConverterStation2().getId());
         });
 
-        List<ComputedContingencyElement> contingencyElements = contingency.getBranchIdsToOpen().keySet().stream()
-                .filter(element -> !elementsToReconnect.contains(element))
-                .map(contingencyElementByBranch::get)
-                .toList();
+        List<ComputedContingencyElement> contingencyElements = getContingencyElements(connectivityAnalysisResult, contingencyElementByBranch);
         List<ComputedElement> actionElements = operatorStrategyLfActions.stream()
                 .map(actionElementByLfAction::get)
                 .flatMap(Collection::stream)
@@ -382,7 +507,8 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
     @Override
     protected SecurityAnalysisResult runSimulations(LfNetwork lfNetwork, List<PropagatedContingency> propagatedContingencies, DcLoadFlowParameters dcParameters,
                                                     SecurityAnalysisParameters securityAnalysisParameters, List<OperatorStrategy> operatorStrategies,
-                                                    List<Action> actions, List<LimitReduction> limitReductions, ContingencyActivePowerLossDistribution contingencyActivePowerLossDistribution) {
+                                                    List<Action> actions, List<LimitReduction> limitReductions, ContingencyActivePowerLossDistribution contingencyActivePowerLossDistribution,
+                                                    RunState<DcLoadFlowContext> runState) {
         // DC security analysis does not support AC-DC networks.
         // Therefore, we can also assume that lfNetwork contains only one synchronous network
 
@@ -394,6 +520,7 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
 
         OpenSecurityAnalysisParameters openSecurityAnalysisParameters = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters);
         boolean createResultExtension = openSecurityAnalysisParameters.isCreateResultExtension();
+        int threadCount = openSecurityAnalysisParameters.getThreadCount();
 
         try (DcLoadFlowContext context = new DcLoadFlowContext(lfNetwork, dcParameters, false)) {
             ReportNode networkReportNode = lfNetwork.getReportNode();
@@ -454,12 +581,18 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
             SecurityAnalysisSimulationResults securityAnalysisSimulationResults = new SecurityAnalysisSimulationResults(preContingencyNetworkResult,
                 preContingencyLimitViolationManager, postContingencyResults, operatorStrategyResults);
 
+            // post contingency states calculated in advance by batch
+            Map<ConnectivityAnalysisResult, double[]> woodburyUpdatedStates = new IdentityHashMap<>();
+
             // supplier to compute post contingency states
             // no need to distribute active mismatch due to connectivity modifications
             // this is handled when the slack is distributed in pre contingency states override
-            Function<ConnectivityAnalysisResult, double[]> toPostContingencyStates = postContingencyConnectivityAnalysisResult ->
-                calculatePostContingencyStates(context, connectivityBreakAnalysisResults.contingenciesStates(), workingContingencyStates,
-                    postContingencyConnectivityAnalysisResult, connectivityBreakAnalysisResults.contingencyElementByBranch(), reportNode);
+            Function<ConnectivityAnalysisResult, double[]> toPostContingencyStates = postContingencyConnectivityAnalysisResult -> {
+                double[] postContingencyStates = woodburyUpdatedStates.remove(postContingencyConnectivityAnalysisResult);
+                return postContingencyStates != null ? postContingencyStates
+                        : calculatePostContingencyStates(context, connectivityBreakAnalysisResults.contingenciesStates(), workingContingencyStates,
+                            postContingencyConnectivityAnalysisResult, connectivityBreakAnalysisResults.contingencyElementByBranch(), reportNode);
+            };
 
             // function to compute post contingency and post operator strategy connectivity result, with post contingency connectivity result and operator strategy actions
             // due to branch enabling/disabling actions, connectivity results may have changed
@@ -477,16 +610,38 @@ public class WoodburyDcSecurityAnalysis extends DcSecurityAnalysis {
             ToFastDcResults toFastDcResults = new ToFastDcResults(toPostContingencyStates, toPostContingencyAndOperatorStrategyConnectivityAnalysisResult, toPostContingencyAndOperatorStrategyStates);
 
             LOGGER.info("Processing post contingency results for contingencies with no connectivity break");
-            connectivityBreakAnalysisResults.nonBreakingConnectivityAnalysisResults().forEach(connectivityAnalysisResult -> {
-                // runnable to restore pre contingency states, after modifications applied to the lfNetwork
-                Runnable restorePreContingencyStates = () -> {
-                    // update workingContingencyStates as it may have been updated by post contingency states calculation
-                    System.arraycopy(preContingencyStates, 0, workingContingencyStates, 0, preContingencyStates.length);
-                    // restore pre contingency state
-                    networkState.restore();
-                };
-                addPostContingencyAndOperatorStrategyResults(woodburyContext, connectivityAnalysisResult, toFastDcResults, restorePreContingencyStates, securityAnalysisSimulationResults);
-            });
+            // post contingency states are calculated by batch, in parallel with several threads, and then results are
+            // processed sequentially in contingencies order as they need to modify the network
+            List<ConnectivityAnalysisResult> nonBreakingConnectivityAnalysisResults = connectivityBreakAnalysisResults.nonBreakingConnectivityAnalysisResults();
+            int batchSize = threadCount * POST_CONTINGENCY_STATES_BATCH_SIZE_PER_THREAD;
+            // a post contingency state is only used until the results of its contingency are processed, so that state
+            // buffers are reused from one batch to the next
+            double[][] stateBuffers = new double[Math.min(batchSize, nonBreakingConnectivityAnalysisResults.size())][];
+            try (var executor = threadCount > 1 ? createExecutor(threadCount, openSecurityAnalysisParameters, runState) : null) {
+                for (int batchStart = 0; batchStart < nonBreakingConnectivityAnalysisResults.size(); batchStart += batchSize) {
+                    List<ConnectivityAnalysisResult> batch = nonBreakingConnectivityAnalysisResults.subList(batchStart,
+                            Math.min(batchStart + batchSize, nonBreakingConnectivityAnalysisResults.size()));
+                    double[][] batchStates = calculateWoodburyUpdatedStates(context, batch, connectivityBreakAnalysisResults.contingenciesStates(),
+                            connectivityBreakAnalysisResults.contingencyElementByBranch(), preContingencyStates, stateBuffers, executor, threadCount);
+                    for (int i = 0; i < batch.size(); i++) {
+                        if (batchStates[i] != null) {
+                            woodburyUpdatedStates.put(batch.get(i), batchStates[i]);
+                        }
+                    }
+                    batch.forEach(connectivityAnalysisResult -> {
+                        // runnable to restore pre contingency states, after modifications applied to the lfNetwork
+                        Runnable restorePreContingencyStates = () -> {
+                            // update workingContingencyStates as it may have been updated by post contingency states calculation
+                            System.arraycopy(preContingencyStates, 0, workingContingencyStates, 0, preContingencyStates.length);
+                            // restore pre contingency state
+                            networkState.restore();
+                        };
+                        addPostContingencyAndOperatorStrategyResults(woodburyContext, connectivityAnalysisResult, toFastDcResults, restorePreContingencyStates, securityAnalysisSimulationResults);
+                    });
+                    // states of contingencies without any impact on the network have not been consumed
+                    woodburyUpdatedStates.clear();
+                }
+            }
 
             LOGGER.info("Processing post contingency results for contingencies breaking connectivity");
             connectivityBreakAnalysisResults.connectivityBreakingAnalysisResults().forEach(connectivityAnalysisResult -> {
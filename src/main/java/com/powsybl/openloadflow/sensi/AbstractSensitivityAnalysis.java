@@ -61,12 +61,19 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
 
     protected SensitivityAnalysisParameters parameters;
 
+    protected final SensitivityValueFilter valueFilter;
+
     private static final String NOT_FOUND = "' not found";
 
     protected AbstractSensitivityAnalysis(MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory, SensitivityAnalysisParameters parameters) {
         this.matrixFactory = Objects.requireNonNull(matrixFactory);
         this.connectivityFactory = Objects.requireNonNull(connectivityFactory);
         this.parameters = Objects.requireNonNull(parameters);
+        this.valueFilter = new SensitivityValueFilter(parameters);
+    }
+
+    SensitivityValueFilter getValueFilter() {
+        return valueFilter;
     }
 
     protected interface LfSensitivityFactor<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity> {
@@ -106,6 +113,12 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
 
         void setFunctionReference(double functionReference);
 
+        double getBaseSensitivityValue();
+
+        double getBaseFunctionReference();
+
+        void setBaseValues(double sensitivityValue, double functionReference);
+
         Status getStatus();
 
         void setStatus(Status status);
@@ -143,6 +156,10 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
 
         private double functionReference = 0d;
 
+        private double baseSensitivityValue = Double.NaN;
+
+        private double baseFunctionReference = Double.NaN;
+
         protected Status status = Status.VALID;
 
         protected SensitivityFactorGroup<V, E> group;
@@ -262,6 +279,22 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
             this.functionReference = functionReference;
         }
 
+        @Override
+        public double getBaseSensitivityValue() {
+            return baseSensitivityValue;
+        }
+
+        @Override
+        public double getBaseFunctionReference() {
+            return baseFunctionReference;
+        }
+
+        @Override
+        public void setBaseValues(double sensitivityValue, double functionReference) {
+            this.baseSensitivityValue = sensitivityValue;
+            this.baseFunctionReference = functionReference;
+        }
+
         @Override
         public Status getStatus() {
             return status;
@@ -427,6 +460,17 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
         void addFactor(LfSensitivityFactor<V, E> factor);
 
         void fillRhs(Matrix rhs, Map<LfBus, Double> participationByBus);
+
+        /**
+         * Compute the sensitivity of a function to the variable of this group from the adjoint states of the function,
+         * that is the dot product of the function adjoint states column with the RHS column of this group.
+         *
+         * @param adjointStates the adjoint states, solution of the transposed system with the function derivatives as RHS
+         * @param column the column of the function in the adjoint states
+         * @param slackAdjointSensi the dot product of the function adjoint states column with the slack participation
+         *                          part of the RHS, common to all groups
+         */
+        double calculateAdjointSensi(DenseMatrix adjointStates, int column, double slackAdjointSensi);
     }
 
     protected abstract static class AbstractSensitivityFactorGroup<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity> implements SensitivityFactorGroup<V, E> {
@@ -478,6 +522,22 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
             int column = q.getColumn();
             rhs.add(column, getIndex(), injection);
         }
+
+        protected static double getBusInjectionAdjointSensi(DenseMatrix adjointStates, int column, LfBus lfBus) {
+            Equation<?, ?> p = (Equation<?, ?>) lfBus.getP();
+            if (lfBus.isSlack() || !p.isActive()) {
+                return 0;
+            }
+            return adjointStates.get(p.getColumn(), column);
+        }
+
+        protected static double calculateSlackAdjointSensi(DenseMatrix adjointStates, int column, Map<LfBus, Double> participationByBus) {
+            double slackAdjointSensi = 0;
+            for (Map.Entry<LfBus, Double> lfBusAndParticipationFactor : participationByBus.entrySet()) {
+                slackAdjointSensi += lfBusAndParticipationFactor.getValue() * getBusInjectionAdjointSensi(adjointStates, column, lfBusAndParticipationFactor.getKey());
+            }
+            return slackAdjointSensi;
+        }
     }
 
     private static NotImplementedException createVariableTypeNotImplementedException(SensitivityVariableType variableType) {
@@ -538,6 +598,17 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
             }
         }
 
+        @Override
+        public double calculateAdjointSensi(DenseMatrix adjointStates, int column, double slackAdjointSensi) {
+            return switch (variableType) {
+                case TRANSFORMER_PHASE, TRANSFORMER_PHASE_1, TRANSFORMER_PHASE_2, TRANSFORMER_PHASE_3 ->
+                    variableEquation.isActive() ? adjointStates.get(variableEquation.getColumn(), column) * Math.toRadians(1d) : 0;
+                case INJECTION_ACTIVE_POWER ->
+                    slackAdjointSensi + getBusInjectionAdjointSensi(adjointStates, column, (LfBus) variableElement);
+                default -> throw createVariableTypeNotImplementedException(variableType);
+            };
+        }
+
         /**
          * Returns the four flow partials [∂p1/∂u, ∂q1/∂u, ∂p2/∂u, ∂q2/∂u] of a branch w.r.t. one of its
          * parameters u, evaluated at the converged operating point (state V/θ held fixed):
@@ -701,6 +772,29 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
             }
         }
 
+        @Override
+        public double calculateAdjointSensi(DenseMatrix adjointStates, int column, double slackAdjointSensi) {
+            double sensi;
+            switch (variableType) {
+                case INJECTION_ACTIVE_POWER:
+                    double weightSum = mainComponentWeights.values().stream().mapToDouble(Math::abs).sum();
+                    sensi = slackAdjointSensi;
+                    for (Map.Entry<LfElement, Double> variableElementAndWeight : mainComponentWeights.entrySet()) {
+                        sensi += variableElementAndWeight.getValue() / weightSum * getBusInjectionAdjointSensi(adjointStates, column, (LfBus) variableElementAndWeight.getKey());
+                    }
+                    return sensi;
+                case HVDC_LINE_ACTIVE_POWER:
+                    double balanceDiff = mainComponentWeights.values().stream().mapToDouble(x -> x).sum();
+                    sensi = slackAdjointSensi * balanceDiff;
+                    for (Map.Entry<LfElement, Double> variableElementAndWeight : mainComponentWeights.entrySet()) {
+                        sensi += variableElementAndWeight.getValue() * getBusInjectionAdjointSensi(adjointStates, column, (LfBus) variableElementAndWeight.getKey());
+                    }
+                    return sensi;
+                default:
+                    throw createVariableTypeNotImplementedException(variableType);
+            }
+        }
+
         protected boolean updateConnectivityWeights(Set<LfBus> nonConnectedBuses) {
             mainComponentWeights = variableElements.entrySet().stream()
                 .filter(entry -> !nonConnectedBuses.contains((LfBus) entry.getKey()))
@@ -1039,11 +1133,18 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
         }
     }
 
+    /**
+     * Factors indexed by contingency context. The lists returned for the base network and for contingencies without
+     * specific factors are shared, so that no list is built per contingency in the common case where all the factors
+     * apply to all the contingencies.
+     */
     protected static class SensitivityFactorHolder<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity> {
 
         private final Map<String, List<LfSensitivityFactor<V, E>>> additionalFactorsPerContingency = new LinkedHashMap<>();
         private final List<LfSensitivityFactor<V, E>> additionalFactorsNoContingency = new ArrayList<>();
         private final List<LfSensitivityFactor<V, E>> commonFactors = new ArrayList<>();
+        private final List<LfSensitivityFactor<V, E>> unmodifiableCommonFactors = Collections.unmodifiableList(commonFactors);
+        private List<LfSensitivityFactor<V, E>> factorsForBaseNetwork;
 
         protected List<LfSensitivityFactor<V, E>> getAllFactors() {
             List<LfSensitivityFactor<V, E>> allFactors = new ArrayList<>(commonFactors);
@@ -1052,23 +1153,33 @@ abstract class AbstractSensitivityAnalysis<V extends Enum<V> & Quantity, E exten
             return allFactors;
         }
 
-        protected List<LfSensitivityFactor<V, E>> getFactorsForContingency(String contingencyId) {
-            return Stream.concat(commonFactors.stream(), additionalFactorsPerContingency.getOrDefault(contingencyId, Collections.emptyList()).stream())
-                .collect(Collectors.toList());
+        protected boolean hasFactorsForContingency(String contingencyId) {
+            return !commonFactors.isEmpty() || additionalFactorsPerContingency.containsKey(contingencyId);
         }
 
-        protected List<LfSensitivityFactor<V, E>> getFactorsForContingencies(List<String> contingenciesIds) {
-            return Stream.concat(commonFactors.stream(),
-                                 contingenciesIds.stream().flatMap(contingencyId -> additionalFactorsPerContingency.getOrDefault(contingencyId, Collections.emptyList()).stream()))
-                    .collect(Collectors.toList());
+        protected List<LfSensitivityFactor<V, E>> getFactorsForContingency(String contingencyId) {
+            List<LfSensitivityFactor<V, E>> additionalFactors = additionalFactorsPerContingency.get(contingencyId);
+            if (additionalFactors == null) {
+                return unmodifiableCommonFactors;
+            }
+            List<LfSensitivityFactor<V, E>> factors = new ArrayList<>(commonFactors.size() + additionalFactors.size());
+            factors.addAll(commonFactors);
+            factors.addAll(additionalFactors);
+            return factors;
         }
 
         protected List<LfSensitivityFactor<V, E>> getFactorsForBaseNetwork() {
-            return Stream.concat(commonFactors.stream(), additionalFactorsNoContingency.stream())
-                .collect(Collectors.toList());
+            if (factorsForBaseNetwork == null) {
+                List<LfSensitivityFactor<V, E>> factors = new ArrayList<>(commonFactors.size() + additionalFactorsNoContingency.size());
+                factors.addAll(commonFactors);
+                factors.addAll(additionalFactorsNoContingency);
+                factorsForBaseNetwork = Collections.unmodifiableList(factors);
+            }
+            return factorsForBaseNetwork;
         }
 
         protected void addFactor(LfSensitivityFactor<V, E> factor) {
+            factorsForBaseNetwork = null;
             switch (factor.getContingencyContext().getContextType()) {
                 case ALL:
                     commonFactors.add(factor);
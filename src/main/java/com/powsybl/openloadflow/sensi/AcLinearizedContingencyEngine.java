@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.LUDecomposition;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.ac.equations.AcEquationType;
+import com.powsybl.openloadflow.ac.equations.AcVariableType;
+import com.powsybl.openloadflow.ac.solver.AcSolverUtil;
+import com.powsybl.openloadflow.equations.Equation;
+import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.equations.EquationTerm;
+import com.powsybl.openloadflow.equations.Variable;
+import com.powsybl.openloadflow.network.*;
+
+import java.util.*;
+
+/**
+ * Linearized computation of post-contingency AC sensitivities, without running a post-contingency load flow.
+ * <p>
+ * The base case Jacobian stays factorized and the outage of branches is seen as a low rank modification of it: the
+ * terms of the lost branches are removed from the bus active and reactive power equations they belong to. Noting A the
+ * transposed base case Jacobian, E the selection of the k modified equations and D the k rows of derivatives of the
+ * removed terms, the post-contingency states are given by the Woodbury identity:
+ * <pre>
+ * (A - E D)^-1 = A^-1 + Z (I - D Z)^-1 D A^-1, with Z = A^-1 E
+ * </pre>
+ * so that only k additional solves with the base case factorization and a k x k dense system are needed.
+ * The same correction applied to the power flowing in the lost branches gives the first order variation of the state,
+ * used to estimate the post-contingency function reference values.
+ * <p>
+ * Only contingencies made of branches fully disconnected without loss of connectivity, injection or HVDC are supported,
+ * and the lost branches must only contribute to bus active and reactive power equations. Other contingencies have to
+ * be simulated with a full load flow.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class AcLinearizedContingencyEngine {
+
+    private final AcLoadFlowContext context;
+
+    private final DenseMatrix baseFactorsStates;
+
+    private boolean baseState = true;
+
+    AcLinearizedContingencyEngine(AcLoadFlowContext context, DenseMatrix baseFactorsStates) {
+        this.context = Objects.requireNonNull(context);
+        this.baseFactorsStates = Objects.requireNonNull(baseFactorsStates);
+    }
+
+    /**
+     * To be called when the state vector has been modified, for instance by a post-contingency load flow, so that
+     * it is reset to the base case state before the next linearized contingency.
+     */
+    void invalidateBaseState() {
+        baseState = false;
+    }
+
+    /**
+     * Get the terms to remove from the equation system for each modified equation, or empty if the contingency
+     * cannot be linearized.
+     */
+    Optional<Map<Equation<AcVariableType, AcEquationType>, List<EquationTerm<AcVariableType, AcEquationType>>>> findRemovedTerms(LfContingency lfContingency) {
+        if (context.getParameters().isVectorized()) {
+            // branch terms are not indexed in equation arrays
+            return Optional.empty();
+        }
+        DisabledNetwork disabledNetwork = lfContingency.getDisabledNetwork();
+        if (!disabledNetwork.getBuses().isEmpty() || !disabledNetwork.getHvdcs().isEmpty()
+                || !lfContingency.getLostLoads().isEmpty() || !lfContingency.getLostGenerators().isEmpty()
+                || !lfContingency.getShuntsShift().isEmpty()) {
+            return Optional.empty();
+        }
+        EquationSystem<AcVariableType, AcEquationType> equationSystem = context.getEquationSystem();
+        Map<Equation<AcVariableType, AcEquationType>, List<EquationTerm<AcVariableType, AcEquationType>>> removedTerms = new LinkedHashMap<>();
+        for (Map.Entry<LfBranch, DisabledBranchStatus> e : disabledNetwork.getBranchesStatus().entrySet()) {
+            LfBranch branch = e.getKey();
+            if (e.getValue() != DisabledBranchStatus.BOTH_SIDES
+                    || branch.isZeroImpedance(LoadFlowModel.AC)
+                    || !equationSystem.getEquations(ElementType.BRANCH, branch.getNum()).isEmpty()) {
+                // opening one side adds terms, non impedant branches and branches with their own equations
+                // (controls) change the structure of the equation system
+                return Optional.empty();
+            }
+            for (EquationTerm<AcVariableType, AcEquationType> term : equationSystem.getEquationTerms(ElementType.BRANCH, branch.getNum())) {
+                Equation<AcVariableType, AcEquationType> equation = term.getEquation();
+                if (!term.isActive() || equation == null || !equation.isActive() || equation.getColumn() == -1) {
+                    continue;
+                }
+                if (equation.getType() != AcEquationType.BUS_TARGET_P && equation.getType() != AcEquationType.BUS_TARGET_Q
+                        || !equation.getTerms().contains(term)) {
+                    // the term is part of another kind of equation or is wrapped (multiplied by a scalar)
+                    return Optional.empty();
+                }
+                removedTerms.computeIfAbsent(equation, k -> new ArrayList<>()).add(term);
+            }
+        }
+        return removedTerms.isEmpty() ? Optional.empty() : Optional.of(removedTerms);
+    }
+
+    private static double der(List<EquationTerm<AcVariableType, AcEquationType>> terms, DenseMatrix states, int column) {
+        double value = 0;
+        for (EquationTerm<AcVariableType, AcEquationType> term : terms) {
+            for (Variable<AcVariableType> variable : term.getVariables()) {
+                if (variable.getRow() != -1) {
+                    value += term.der(variable) * states.get(variable.getRow(), column);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Compute the post-contingency states of the factor groups. The returned matrix has the columns of the base case
+     * factor states plus a last column with the first order variation of the state due to the contingency.
+     */
+    DenseMatrix computeFactorsStates(Map<Equation<AcVariableType, AcEquationType>, List<EquationTerm<AcVariableType, AcEquationType>>> removedTerms) {
+        if (!baseState) {
+            // the base case Jacobian will be refactorized at next solve
+            AcSolverUtil.initStateVector(context.getNetwork(), context.getEquationSystem(), context.getParameters().getVoltageInitializer());
+            baseState = true;
+        }
+
+        int rowCount = baseFactorsStates.getRowCount();
+        int groupCount = baseFactorsStates.getColumnCount();
+        int k = removedTerms.size();
+        List<Equation<AcVariableType, AcEquationType>> equations = new ArrayList<>(removedTerms.keySet());
+
+        // Z = A^-1 E
+        DenseMatrix z = new DenseMatrix(rowCount, k);
+        for (int i = 0; i < k; i++) {
+            z.set(equations.get(i).getColumn(), i, 1);
+        }
+        context.getJacobianMatrix().solveTransposed(z);
+
+        // I - D Z and right hand sides: D x for each factor group and the flows of the removed terms
+        DenseMatrix m = new DenseMatrix(k, k);
+        DenseMatrix rhs = new DenseMatrix(k, groupCount + 1);
+        for (int i = 0; i < k; i++) {
+            List<EquationTerm<AcVariableType, AcEquationType>> terms = removedTerms.get(equations.get(i));
+            for (int j = 0; j < k; j++) {
+                m.set(i, j, (i == j ? 1 : 0) - der(terms, z, j));
+            }
+            for (int g = 0; g < groupCount; g++) {
+                rhs.set(i, g, der(terms, baseFactorsStates, g));
+            }
+            double flow = 0;
+            for (EquationTerm<AcVariableType, AcEquationType> term : terms) {
+                flow += term.eval();
+            }
+            rhs.set(i, groupCount, flow);
+        }
+        try (LUDecomposition lu = m.decomposeLU()) {
+            lu.solve(rhs);
+        }
+
+        // x' = x + Z (I - D Z)^-1 D x and dx = Z (I - D Z)^-1 flows
+        DenseMatrix factorsStates = new DenseMatrix(rowCount, groupCount + 1);
+        for (int c = 0; c <= groupCount; c++) {
+            for (int r = 0; r < rowCount; r++) {
+                double value = c < groupCount ? baseFactorsStates.get(r, c) : 0;
+                for (int i = 0; i < k; i++) {
+                    value += z.get(r, i) * rhs.get(i, c);
+                }
+                factorsStates.set(r, c, value);
+            }
+        }
+        return factorsStates;
+    }
+}
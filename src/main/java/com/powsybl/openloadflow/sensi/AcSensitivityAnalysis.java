@@ -24,6 +24,7 @@ import com.powsybl.openloadflow.ac.AcloadFlowEngine;
 import com.powsybl.openloadflow.ac.equations.*;
 import com.powsybl.openloadflow.ac.solver.AcSolverStatus;
 import com.powsybl.openloadflow.ac.solver.AcSolverUtil;
+import com.powsybl.openloadflow.equations.EquationSystem;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
 import com.powsybl.openloadflow.lf.outerloop.OuterLoopStatus;
 import com.powsybl.openloadflow.network.*;
@@ -36,8 +37,10 @@ import com.powsybl.openloadflow.network.util.ParticipatingElement;
 import com.powsybl.openloadflow.network.util.PreviousValueVoltageInitializer;
 import com.powsybl.openloadflow.sensi.mt.BufferedFactorReader;
 import com.powsybl.openloadflow.sensi.mt.SequentialSensitivityResultWriter;
+import com.powsybl.openloadflow.util.Derivable;
 import com.powsybl.openloadflow.util.Lists2;
 import com.powsybl.openloadflow.util.Reports;
+import com.powsybl.openloadflow.util.mt.ContingencyExecutionStrategy;
 import com.powsybl.openloadflow.util.mt.ContingencyMultiThreadHelper;
 import com.powsybl.sensitivity.*;
 
@@ -58,48 +61,60 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
         super(matrixFactory, connectivityFactory, parameters);
     }
 
+    private static double calculateSensitivityValue(LfSensitivityFactor<AcVariableType, AcEquationType> factor, DenseMatrix factorsState, int column) {
+        if (factor.getSensitivityValuePredefinedResult() != null) {
+            return factor.getSensitivityValuePredefinedResult();
+        }
+        if (!factor.getFunctionEquationTerm().isActive()) {
+            throw new PowsyblException("Found an inactive equation for a factor that has no predefined result");
+        }
+        // Add the direct term (explicit dependence of the function on the variable), if any
+        return factor.getFunctionEquationTerm().calculateSensi(factorsState, column) + computeParameterDirectPartial(factor);
+    }
+
     private void calculateSensitivityValues(List<LfSensitivityFactor<AcVariableType, AcEquationType>> lfFactors,
                                             SensitivityFactorGroupList<AcVariableType, AcEquationType> factorGroups, DenseMatrix factorsState,
-                                            int contingencyIndex, SensitivityResultWriter resultWriter) {
+                                            int contingencyIndex, SensitivityResultWriter resultWriter, FactorStatesBlockExecutor blockExecutor,
+                                            EquationSystem<AcVariableType, AcEquationType> equationSystem) {
         Set<LfSensitivityFactor<AcVariableType, AcEquationType>> lfFactorsSet = new HashSet<>(lfFactors);
+        SensitivityValueFilter.StateWriter<AcVariableType, AcEquationType> stateWriter = valueFilter.startState(contingencyIndex, -1, resultWriter);
 
         // VALID_ONLY_FOR_FUNCTION status is for factors where variable element is not in the main connected component but reference element is.
         // Therefore, the sensitivity is known to value 0 and the reference value can be computed.
         lfFactors.stream().filter(factor -> factor.getStatus() == LfSensitivityFactor.Status.VALID_ONLY_FOR_FUNCTION)
-                .forEach(factor -> {
-                    if (!filterSensitivityValue(0, factor.getVariableType(), factor.getFunctionType(), parameters)) {
-                        resultWriter.writeSensitivityValue(factor.getIndex(), contingencyIndex, -1, 0, unscaleFunction(factor, factor.getFunctionReference()));
+                .forEach(factor -> stateWriter.add(factor, 0, unscaleFunction(factor, factor.getFunctionReference())));
+
+        // sensitivity values are computed by blocks of factor groups, possibly concurrently, and then written in order
+        List<SensitivityFactorGroup<AcVariableType, AcEquationType>> factorGroupList = factorGroups.getList();
+        double[][] sensiByGroup = new double[factorGroupList.size()][];
+        // blocks only read the equation terms, so term arrays evaluators are updated once before
+        equationSystem.updateEquationTermArrayEvaluators();
+        blockExecutor.run(factorGroupList.size(), (fromGroup, toGroup) -> {
+            for (int g = fromGroup; g < toGroup; g++) {
+                SensitivityFactorGroup<AcVariableType, AcEquationType> factorGroup = factorGroupList.get(g);
+                double[] sensis = new double[factorGroup.getFactors().size()];
+                for (int i = 0; i < sensis.length; i++) {
+                    LfSensitivityFactor<AcVariableType, AcEquationType> factor = factorGroup.getFactors().get(i);
+                    if (lfFactorsSet.contains(factor)) {
+                        sensis[i] = calculateSensitivityValue(factor, factorsState, factorGroup.getIndex());
                     }
-                });
+                }
+                sensiByGroup[g] = sensis;
+            }
+        });
 
-        for (SensitivityFactorGroup<AcVariableType, AcEquationType> factorGroup : factorGroups.getList()) {
-            for (LfSensitivityFactor<AcVariableType, AcEquationType> factor : factorGroup.getFactors()) {
+        for (int g = 0; g < factorGroupList.size(); g++) {
+            List<LfSensitivityFactor<AcVariableType, AcEquationType>> factors = factorGroupList.get(g).getFactors();
+            for (int i = 0; i < factors.size(); i++) {
+                LfSensitivityFactor<AcVariableType, AcEquationType> factor = factors.get(i);
                 if (!lfFactorsSet.contains(factor)) {
                     continue;
                 }
-                double sensi;
-                double ref;
-                if (factor.getSensitivityValuePredefinedResult() != null) {
-                    sensi = factor.getSensitivityValuePredefinedResult();
-                } else {
-                    if (!factor.getFunctionEquationTerm().isActive()) {
-                        throw new PowsyblException("Found an inactive equation for a factor that has no predefined result");
-                    }
-                    sensi = factor.getFunctionEquationTerm().calculateSensi(factorsState, factorGroup.getIndex());
-                    // Add the direct term (explicit dependence of the function on the variable), if any
-                    sensi += computeParameterDirectPartial(factor);
-                }
-                if (factor.getFunctionPredefinedResult() != null) {
-                    ref = factor.getFunctionPredefinedResult();
-                } else {
-                    ref = factor.getFunctionReference();
-                }
-                double unscaledSensi = unscaleSensitivity(factor, sensi);
-                if (!filterSensitivityValue(unscaledSensi, factor.getVariableType(), factor.getFunctionType(), parameters)) {
-                    resultWriter.writeSensitivityValue(factor.getIndex(), contingencyIndex, -1, unscaledSensi, unscaleFunction(factor, ref));
-                }
+                double ref = factor.getFunctionPredefinedResult() != null ? factor.getFunctionPredefinedResult() : factor.getFunctionReference();
+                stateWriter.add(factor, unscaleSensitivity(factor, sensiByGroup[g][i]), unscaleFunction(factor, ref));
             }
         }
+        stateWriter.end();
     }
 
     /**
@@ -184,11 +199,13 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
     }
 
     private void setFunctionReferences(List<LfSensitivityFactor<AcVariableType, AcEquationType>> factors) {
+        // many factors may share the same function, evaluate each function only once
+        Map<Derivable<AcVariableType>, Double> valueByFunction = new IdentityHashMap<>();
         for (LfSensitivityFactor<AcVariableType, AcEquationType> factor : factors) {
             if (factor.getFunctionPredefinedResult() != null) {
                 factor.setFunctionReference(factor.getFunctionPredefinedResult());
             } else {
-                factor.setFunctionReference(factor.getFunctionEquationTerm().eval());
+                factor.setFunctionReference(valueByFunction.computeIfAbsent(factor.getFunctionEquationTerm(), Derivable::eval));
             }
         }
     }
@@ -198,7 +215,7 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
                                                            Map<LfBus, Double> participationByBus,
                                                            LoadFlowParameters lfParameters, OpenLoadFlowParameters lfParametersExt,
                                                            int contingencyIndex, SensitivityResultWriter resultWriter,
-                                                           boolean hasTransformerBusTargetVoltage) {
+                                                           boolean hasTransformerBusTargetVoltage, FactorStatesBlockExecutor blockExecutor) {
         if (lfParameters.isDistributedSlack() && Math.abs(lfContingency.getActivePowerLoss()) > 0) {
             ActivePowerDistribution activePowerDistribution = ActivePowerDistribution.create(lfParameters.getBalanceType(),
                 lfParametersExt.isLoadPowerFactorConstant(), lfParametersExt.isUseActiveLimits());
@@ -234,11 +251,11 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
         // solve system
         DenseMatrix factorsStates = initFactorsRhs(context.getEquationSystem(), factorGroups, participationByBus); // this is the rhs for the moment
         fillSvcPilotFactorsRhs(factorGroups, factorsStates, context);
-        context.getJacobianMatrix().solveTransposed(factorsStates);
+        blockExecutor.solveTransposed(context.getJacobianMatrix(), factorsStates);
         setFunctionReferences(lfFactors);
 
         // calculate sensitivity values
-        calculateSensitivityValues(lfFactors, factorGroups, factorsStates, contingencyIndex, resultWriter);
+        calculateSensitivityValues(lfFactors, factorGroups, factorsStates, contingencyIndex, resultWriter, blockExecutor, context.getEquationSystem());
     }
 
     /**
@@ -328,30 +345,36 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
         checkContingencies(contingencies);
         checkLoadFlowParameters(lfParameters);
 
-        if (sensitivityAnalysisParametersExt.getThreadCount() == 1) {
-            LfTopoConfig topoConfig = new LfTopoConfig();
-            List<PropagatedContingency> propagatedContingencies = PropagatedContingency.createList(network, contingencies, topoConfig, creationParameters);
-            AcLoadFlowParameters acParameters = makeAcLoadFlowParameters(network, slackBusSelector, lfParameters, lfParametersExt, topoConfig.isBreaker());
-            try (LfNetworkList lfNetworks = Networks.loadWithReconnectableElements(network, topoConfig, acParameters.getNetworkParameters(), sensiReportNode)) {
+        // factor groups of a state are solved and evaluated by blocks, shared by all contingency partitions
+        try (FactorStatesBlockExecutor blockExecutor = new FactorStatesBlockExecutor(sensitivityAnalysisParametersExt.getFactorStatesThreadCount())) {
+            if (sensitivityAnalysisParametersExt.getThreadCount() == 1) {
+                LfTopoConfig topoConfig = new LfTopoConfig();
+                List<PropagatedContingency> propagatedContingencies = PropagatedContingency.createList(network, contingencies, topoConfig, creationParameters);
+                AcLoadFlowParameters acParameters = makeAcLoadFlowParameters(network, slackBusSelector, lfParameters, lfParametersExt, topoConfig.isBreaker());
+                try (LfNetworkList lfNetworks = Networks.loadWithReconnectableElements(network, topoConfig, acParameters.getNetworkParameters(), sensiReportNode)) {
 
-                analyzeContingencySet(network, lfNetworks, propagatedContingencies, acParameters, lfParameters, lfParametersExt, variableSets, factorReader,
-                        topoConfig.isBreaker(), resultWriter, variablesTargetVoltageInfo, sensitivityAnalysisParametersExt);
-            }
-        } else {
-            try (SequentialSensitivityResultWriter sequentialSensitivityResultWriter = new SequentialSensitivityResultWriter(resultWriter)) {
+                    analyzeContingencySet(network, lfNetworks, propagatedContingencies, acParameters, lfParameters, lfParametersExt, variableSets, factorReader,
+                            topoConfig.isBreaker(), resultWriter, variablesTargetVoltageInfo, sensitivityAnalysisParametersExt, blockExecutor);
+                }
+            } else {
                 BufferedFactorReader bufferedFactorReader = new BufferedFactorReader(factorReader);
-                var contingenciesPartitions = Lists2.partition(contingencies, sensitivityAnalysisParametersExt.getThreadCount());
-                ContingencyMultiThreadHelper.ParameterProvider<AcLoadFlowParameters> parameterProvider = topoConfig -> makeAcLoadFlowParameters(network,
-                    slackBusSelector, lfParameters, lfParametersExt, topoConfig.isBreaker());
-                ContingencyMultiThreadHelper.ContingencyRunner<AcLoadFlowParameters> contingencyRunner = (partitionNum, lfNetworks, propagatedContingencies, acParameters) -> {
-                    analyzeContingencySet(network, lfNetworks, propagatedContingencies, acParameters, lfParameters, lfParametersExt, variableSets, bufferedFactorReader,
-                        acParameters.getNetworkParameters().isBreakers(), sequentialSensitivityResultWriter, variablesTargetVoltageInfo, sensitivityAnalysisParametersExt);
-                    sequentialSensitivityResultWriter.flush(); // flush the batch of data kept in this thread
-                };
-                ContingencyMultiThreadHelper.ReportMerger reportMerger = ContingencyMultiThreadHelper::mergeReportThreadResults;
-
-                ContingencyMultiThreadHelper.createLFNetworksPerContingencyPartitionAndRunAnalysis(network, workingVariantId, contingenciesPartitions, creationParameters, new LfTopoConfig(),
-                        parameterProvider, contingencyRunner, sensiReportNode, reportMerger, executor);
+                try (SequentialSensitivityResultWriter sequentialSensitivityResultWriter = new SequentialSensitivityResultWriter(resultWriter, bufferedFactorReader.getFactorCount())) {
+                    var contingenciesPartitions = Lists2.partition(contingencies, sensitivityAnalysisParametersExt.getThreadCount());
+                    ContingencyMultiThreadHelper.ParameterProvider<AcLoadFlowParameters> parameterProvider = topoConfig -> makeAcLoadFlowParameters(network,
+                        slackBusSelector, lfParameters, lfParametersExt, topoConfig.isBreaker());
+                    ContingencyMultiThreadHelper.ContingencyRunner<AcLoadFlowParameters> contingencyRunner = (partitionNum, lfNetworks, propagatedContingencies, acParameters) -> {
+                        analyzeContingencySet(network, lfNetworks, propagatedContingencies, acParameters, lfParameters, lfParametersExt, variableSets, bufferedFactorReader,
+                            acParameters.getNetworkParameters().isBreakers(), sequentialSensitivityResultWriter, variablesTargetVoltageInfo, sensitivityAnalysisParametersExt, blockExecutor);
+                        sequentialSensitivityResultWriter.flush(); // flush the batch of data kept in this thread
+                    };
+                    ContingencyMultiThreadHelper.ReportMerger reportMerger = ContingencyMultiThreadHelper::mergeReportThreadResults;
+
+                    ContingencyExecutionStrategy executionStrategy = ContingencyExecutionStrategy.find(sensitivityAnalysisParametersExt.getContingencyExecutionStrategy());
+                    try (var partitionExecutor = executionStrategy.createExecutor(contingenciesPartitions.size(), executor)) {
+                        ContingencyMultiThreadHelper.createLFNetworksPerContingencyPartitionAndRunAnalysis(network, workingVariantId, contingenciesPartitions, creationParameters, new LfTopoConfig(),
+                                parameterProvider, contingencyRunner, sensiReportNode, reportMerger, partitionExecutor);
+                    }
+                }
             }
         }
     }
@@ -443,7 +466,8 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
     private void analyzeContingencySet(Network network, LfNetworkList lfNetworks, List<PropagatedContingency> contingencies, AcLoadFlowParameters acParameters,
                                        LoadFlowParameters lfParameters, OpenLoadFlowParameters lfParametersExt, List<SensitivityVariableSet> variableSets,
                                        SensitivityFactorReader factorReader, boolean breakers, SensitivityResultWriter resultWriter,
-                                       VariablesTargetVoltageInfo variablesTargetVoltageInfo, OpenSensitivityAnalysisParameters sensitivityAnalysisParametersExt) {
+                                       VariablesTargetVoltageInfo variablesTargetVoltageInfo, OpenSensitivityAnalysisParameters sensitivityAnalysisParametersExt,
+                                       FactorStatesBlockExecutor blockExecutor) {
 
         if (breakers && variablesTargetVoltageInfo.hasBusTargetVoltage()) {
             // FIXME
@@ -510,11 +534,12 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
             fillSvcPilotFactorsRhs(factorGroups, factorsStates, context);
 
             // solve system
-            context.getJacobianMatrix().solveTransposed(factorsStates);
+            blockExecutor.solveTransposed(context.getJacobianMatrix(), factorsStates);
 
             // calculate sensitivity values
             setFunctionReferences(validLfFactors);
-            calculateSensitivityValues(validFactorHolder.getFactorsForBaseNetwork(), factorGroups, factorsStates, -1, resultWriter);
+            calculateSensitivityValues(validFactorHolder.getFactorsForBaseNetwork(), factorGroups, factorsStates, -1, resultWriter, blockExecutor,
+                    context.getEquationSystem());
 
             NetworkState networkState = NetworkState.save(lfNetwork);
 
@@ -524,22 +549,33 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
             OpenLoadFlowParameters contingencylfParametersExt = applyGenericContingencyParameters(context, lfParameters, lfParametersExt,
                     sensitivityAnalysisParametersExt.isStartWithFrozenACEmulation());
 
+            // in linearized mode, the base case factorization is reused for contingencies that support it
+            AcLinearizedContingencyEngine linearizedEngine = sensitivityAnalysisParametersExt.isLinearizedAcContingencies()
+                    ? new AcLinearizedContingencyEngine(context, factorsStates) : null;
+
             contingencies.forEach(contingency -> {
                 if (Thread.currentThread().isInterrupted()) {
                     throw new PowsyblException("Computation was interrupted");
                 }
                 LOGGER.info("Simulate contingency '{}'", contingency.getContingency().getId());
                 contingency.toLfContingency(lfNetwork)
-                    .ifPresentOrElse(lfContingency -> computeLfContingency(lfContingency, lfNetwork, lfParameters,
-                        validFactorHolder, networkReportNode, contingency, factorGroups, contingencylfParametersExt, context,
-                            resultWriter, variablesTargetVoltageInfo, networkState),
+                    .ifPresentOrElse(lfContingency -> {
+                        if (linearizedEngine == null || !computeLinearizedLfContingency(linearizedEngine, lfContingency, validFactorHolder,
+                                contingency, factorGroups, resultWriter, blockExecutor, context.getEquationSystem())) {
+                            computeLfContingency(lfContingency, lfNetwork, lfParameters, validFactorHolder, networkReportNode, contingency,
+                                    factorGroups, contingencylfParametersExt, context, resultWriter, variablesTargetVoltageInfo, networkState, blockExecutor);
+                            if (linearizedEngine != null) {
+                                linearizedEngine.invalidateBaseState();
+                            }
+                        }
+                    },
                         () -> {
                             // it means that the contingency has no impact.
                             // we need to force the state vector to be re-initialized from base case network state
                             AcSolverUtil.initStateVector(lfNetwork, context.getEquationSystem(), context.getParameters().getVoltageInitializer());
 
                             calculateSensitivityValues(validFactorHolder.getFactorsForContingency(contingency.getContingency().getId()),
-                                factorGroups, factorsStates, contingency.getIndex(), resultWriter);
+                                factorGroups, factorsStates, contingency.getIndex(), resultWriter, blockExecutor, context.getEquationSystem());
                             // write contingency status
                             resultWriter.writeStateStatus(contingency.getIndex(), -1, SensitivityAnalysisResult.Status.NO_IMPACT);
                         });
@@ -553,7 +589,7 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
                                       PropagatedContingency contingency, SensitivityFactorGroupList<AcVariableType, AcEquationType> factorGroups,
                                       OpenLoadFlowParameters contingencyLfParametersExt, AcLoadFlowContext context,
                                       SensitivityResultWriter resultWriter, VariablesTargetVoltageInfo variablesTargetVoltageInfo,
-                                      NetworkState networkState) {
+                                      NetworkState networkState, FactorStatesBlockExecutor blockExecutor) {
         ReportNode postContSimReportNode = Reports.createPostContingencySimulation(networkReportNode, lfContingency.getId());
         lfNetwork.setReportNode(postContSimReportNode);
 
@@ -594,7 +630,8 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
             postContingencySlackParticipationByBus = Collections.singletonMap(lfNetwork.getSynchronousNetworks().getFirst().getSlackBuses().getFirst(), -1d);
         }
         calculatePostContingencySensitivityValues(contingencyFactors, lfContingency, lfNetwork, context, factorGroups, postContingencySlackParticipationByBus,
-            lfParameters, contingencyLfParametersExt, lfContingency.getIndex(), resultWriter, variablesTargetVoltageInfo.hasTransformerTargetVoltage());
+            lfParameters, contingencyLfParametersExt, lfContingency.getIndex(), resultWriter, variablesTargetVoltageInfo.hasTransformerTargetVoltage(),
+            blockExecutor);
 
         if (hasChanged) {
             rescaleGlsk(factorGroups, Collections.emptySet());
@@ -603,6 +640,55 @@ public class AcSensitivityAnalysis extends AbstractSensitivityAnalysis<AcVariabl
 
     }
 
+    /**
+     * Compute the post-contingency sensitivity values from the base case state, with a low rank update of the base case
+     * Jacobian factorization. Return false if the contingency cannot be linearized and needs a full load flow.
+     */
+    private boolean computeLinearizedLfContingency(AcLinearizedContingencyEngine linearizedEngine, LfContingency lfContingency,
+                                                   SensitivityFactorHolder<AcVariableType, AcEquationType> validFactorHolder,
+                                                   PropagatedContingency contingency, SensitivityFactorGroupList<AcVariableType, AcEquationType> factorGroups,
+                                                   SensitivityResultWriter resultWriter, FactorStatesBlockExecutor blockExecutor,
+                                                   EquationSystem<AcVariableType, AcEquationType> equationSystem) {
+        var removedTerms = linearizedEngine.findRemovedTerms(lfContingency).orElse(null);
+        if (removedTerms == null) {
+            return false;
+        }
+        LOGGER.debug("Contingency '{}' is linearized", lfContingency.getId());
+
+        List<LfSensitivityFactor<AcVariableType, AcEquationType>> contingencyFactors = validFactorHolder.getFactorsForContingency(lfContingency.getId());
+        contingencyFactors.forEach(lfFactor -> {
+            lfFactor.setSensitivityValuePredefinedResult(null);
+            lfFactor.setFunctionPredefinedResult(null);
+        });
+        setPredefinedResults(contingencyFactors, lfContingency.getDisabledNetwork(), contingency);
+
+        // the contingency is not applied to the network, the equation system and the Jacobian stay the base case ones
+        DenseMatrix factorsStates = linearizedEngine.computeFactorsStates(removedTerms);
+        setLinearizedFunctionReferences(contingencyFactors, factorsStates, factorsStates.getColumnCount() - 1);
+
+        // write contingency status
+        resultWriter.writeStateStatus(lfContingency.getIndex(), -1, SensitivityAnalysisResult.Status.SUCCESS);
+
+        calculateSensitivityValues(contingencyFactors, factorGroups, factorsStates, lfContingency.getIndex(), resultWriter, blockExecutor, equationSystem);
+        return true;
+    }
+
+    /**
+     * Set the function references as the base case values plus their first order variation due to the contingency.
+     */
+    private static void setLinearizedFunctionReferences(List<LfSensitivityFactor<AcVariableType, AcEquationType>> factors,
+                                                        DenseMatrix factorsStates, int stateVariationColumn) {
+        Map<Derivable<AcVariableType>, Double> valueByFunction = new IdentityHashMap<>();
+        for (LfSensitivityFactor<AcVariableType, AcEquationType> factor : factors) {
+            if (factor.getFunctionPredefinedResult() != null) {
+                factor.setFunctionReference(factor.getFunctionPredefinedResult());
+            } else {
+                factor.setFunctionReference(valueByFunction.computeIfAbsent(factor.getFunctionEquationTerm(),
+                    functionTerm -> functionTerm.eval() + functionTerm.calculateSensi(factorsStates, stateVariationColumn)));
+            }
+        }
+    }
+
     private OpenLoadFlowParameters applyGenericContingencyParameters(AcLoadFlowContext context, LoadFlowParameters lfParameters,
                                                                      OpenLoadFlowParameters lfParametersExt, boolean startWithFrozenACEmulation) {
         OpenLoadFlowParameters contingencylfParametersExt = lfParametersExt;
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityResultWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import static com.powsybl.openloadflow.sensi.BinarySensitivityResultWriter.*;
+
+/**
+ * Reader of the binary sensitivity result files written by {@link BinarySensitivityResultWriter}. Results are replayed,
+ * in the order they have been written, to a {@link SensitivityResultWriter}. Blocks are memory-mapped one at a time,
+ * so that files larger than the address space of a single buffer can be read.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class BinarySensitivityResultReader {
+
+    private static final SensitivityAnalysisResult.Status[] STATUSES = SensitivityAnalysisResult.Status.values();
+
+    private BinarySensitivityResultReader() {
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new PowsyblException("Truncated sensitivity result file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void readValues(ByteBuffer block, int count, SensitivityResultWriter writer) {
+        int contingencyIndexesOffset = count * Integer.BYTES;
+        int operatorStrategyIndexesOffset = 2 * count * Integer.BYTES;
+        int valuesOffset = 3 * count * Integer.BYTES;
+        int functionReferencesOffset = valuesOffset + count * Double.BYTES;
+        for (int i = 0; i < count; i++) {
+            writer.writeSensitivityValue(block.getInt(i * Integer.BYTES),
+                    block.getInt(contingencyIndexesOffset + i * Integer.BYTES),
+                    block.getInt(operatorStrategyIndexesOffset + i * Integer.BYTES),
+                    block.getDouble(valuesOffset + i * Double.BYTES),
+                    block.getDouble(functionReferencesOffset + i * Double.BYTES));
+        }
+    }
+
+    private static void readStatuses(ByteBuffer block, int count, SensitivityResultWriter writer) {
+        int operatorStrategyIndexesOffset = count * Integer.BYTES;
+        int statusesOffset = 2 * count * Integer.BYTES;
+        for (int i = 0; i < count; i++) {
+            writer.writeStateStatus(block.getInt(i * Integer.BYTES),
+                    block.getInt(operatorStrategyIndexesOffset + i * Integer.BYTES),
+                    STATUSES[block.getInt(statusesOffset + i * Integer.BYTES)]);
+        }
+    }
+
+    /**
+     * Read a binary sensitivity result file and write its results to a sensitivity result writer.
+     */
+    public static void read(Path file, SensitivityResultWriter writer) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(writer);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new PowsyblException("Truncated sensitivity result file");
+            }
+            ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new PowsyblException("Not a sensitivity result file");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new PowsyblException("Unsupported sensitivity result file version: " + version);
+            }
+            long position = HEADER_SIZE;
+            while (position < size) {
+                ByteBuffer blockHeader = readFully(channel, position, BLOCK_HEADER_SIZE);
+                int blockType = blockHeader.getInt();
+                int count = blockHeader.getInt();
+                long blockSize = (long) count * switch (blockType) {
+                    case VALUES_BLOCK -> VALUE_SIZE;
+                    case STATUSES_BLOCK -> STATUS_SIZE;
+                    default -> throw new PowsyblException("Unknown sensitivity result block type: " + blockType);
+                };
+                position += BLOCK_HEADER_SIZE;
+                if (position + blockSize > size) {
+                    throw new PowsyblException("Truncated sensitivity result file");
+                }
+                ByteBuffer block = channel.map(FileChannel.MapMode.READ_ONLY, position, blockSize);
+                if (blockType == VALUES_BLOCK) {
+                    readValues(block, count, writer);
+                } else {
+                    readStatuses(block, count, writer);
+                }
+                position += blockSize;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityResultWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A sensitivity result writer to a compact binary file, read back with {@link BinarySensitivityResultReader}.
+ * <p>
+ * The file starts with a magic number and a version, followed by blocks of at most {@code blockSize} results. Each
+ * block has a type (values or state statuses) and a result count, followed by the results stored column by column:
+ * <ul>
+ *     <li>values: factor indexes, contingency indexes, operator strategy indexes (ints), sensitivity values and
+ *     function references (doubles)</li>
+ *     <li>state statuses: contingency indexes, operator strategy indexes and status ordinals (ints)</li>
+ * </ul>
+ * Results are buffered in primitive arrays and written block by block through a NIO channel, and the order of values
+ * and statuses is kept. This writer is not thread safe: in multi-threaded runs, results are already serialized by the
+ * sensitivity analysis before reaching the writer.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class BinarySensitivityResultWriter implements SensitivityResultWriter, Closeable {
+
+    static final int MAGIC = 0x4F4C4652;
+
+    static final int VERSION = 1;
+
+    static final int VALUES_BLOCK = 0;
+
+    static final int STATUSES_BLOCK = 1;
+
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    static final int BLOCK_HEADER_SIZE = 2 * Integer.BYTES;
+
+    static final int VALUE_SIZE = 3 * Integer.BYTES + 2 * Double.BYTES;
+
+    static final int STATUS_SIZE = 3 * Integer.BYTES;
+
+    public static final int DEFAULT_BLOCK_SIZE = 65536;
+
+    private final WritableByteChannel channel;
+
+    private final ByteBuffer buffer;
+
+    private final int[] factorIndexes;
+
+    private final int[] contingencyIndexes;
+
+    private final int[] operatorStrategyIndexes;
+
+    private final double[] values;
+
+    private final double[] functionReferences;
+
+    private int valueCount = 0;
+
+    private final int[] statusContingencyIndexes;
+
+    private final int[] statusOperatorStrategyIndexes;
+
+    private final int[] statuses;
+
+    private int statusCount = 0;
+
+    public BinarySensitivityResultWriter(Path file) {
+        this(file, DEFAULT_BLOCK_SIZE);
+    }
+
+    public BinarySensitivityResultWriter(Path file, int blockSize) {
+        this(openChannel(file, blockSize), blockSize);
+    }
+
+    /**
+     * The channel is owned by the writer: it is closed when the writer is closed, or if the writer creation fails.
+     */
+    public BinarySensitivityResultWriter(WritableByteChannel channel, int blockSize) {
+        this.channel = Objects.requireNonNull(channel);
+        try {
+            checkBlockSize(blockSize);
+            buffer = ByteBuffer.allocateDirect(BLOCK_HEADER_SIZE + blockSize * VALUE_SIZE);
+            factorIndexes = new int[blockSize];
+            contingencyIndexes = new int[blockSize];
+            operatorStrategyIndexes = new int[blockSize];
+            values = new double[blockSize];
+            functionReferences = new double[blockSize];
+            statusContingencyIndexes = new int[blockSize];
+            statusOperatorStrategyIndexes = new int[blockSize];
+            statuses = new int[blockSize];
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            writeBuffer();
+        } catch (RuntimeException | Error e) {
+            closeOnFailure(channel, e);
+            throw e;
+        }
+    }
+
+    private static void closeOnFailure(WritableByteChannel channel, Throwable failure) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static void checkBlockSize(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+    }
+
+    private static FileChannel openChannel(Path file, int blockSize) {
+        Objects.requireNonNull(file);
+        checkBlockSize(blockSize); // before creating the file
+        try {
+            return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeBuffer() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    private void putInts(int[] array, int count) {
+        buffer.asIntBuffer().put(array, 0, count);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+    }
+
+    private void putDoubles(double[] array, int count) {
+        buffer.asDoubleBuffer().put(array, 0, count);
+        buffer.position(buffer.position() + count * Double.BYTES);
+    }
+
+    private void flushValues() {
+        if (valueCount == 0) {
+            return;
+        }
+        buffer.putInt(VALUES_BLOCK);
+        buffer.putInt(valueCount);
+        putInts(factorIndexes, valueCount);
+        putInts(contingencyIndexes, valueCount);
+        putInts(operatorStrategyIndexes, valueCount);
+        putDoubles(values, valueCount);
+        putDoubles(functionReferences, valueCount);
+        writeBuffer();
+        valueCount = 0;
+    }
+
+    private void flushStatuses() {
+        if (statusCount == 0) {
+            return;
+        }
+        buffer.putInt(STATUSES_BLOCK);
+        buffer.putInt(statusCount);
+        putInts(statusContingencyIndexes, statusCount);
+        putInts(statusOperatorStrategyIndexes, statusCount);
+        putInts(statuses, statusCount);
+        writeBuffer();
+        statusCount = 0;
+    }
+
+    @Override
+    public void writeSensitivityValue(int factorIndex, int contingencyIndex, int operatorStrategyIndex, double value, double functionReference) {
+        flushStatuses(); // to keep statuses and values ordered
+        factorIndexes[valueCount] = factorIndex;
+        contingencyIndexes[valueCount] = contingencyIndex;
+        operatorStrategyIndexes[valueCount] = operatorStrategyIndex;
+        values[valueCount] = value;
+        functionReferences[valueCount] = functionReference;
+        if (++valueCount == factorIndexes.length) {
+            flushValues();
+        }
+    }
+
+    @Override
+    public void writeStateStatus(int contingencyIndex, int operatorStrategyIndex, SensitivityAnalysisResult.Status status) {
+        Objects.requireNonNull(status);
+        flushValues(); // to keep statuses and values ordered
+        statusContingencyIndexes[statusCount] = contingencyIndex;
+        statusOperatorStrategyIndexes[statusCount] = operatorStrategyIndex;
+        statuses[statusCount] = status.ordinal();
+        if (++statusCount == statuses.length) {
+            flushStatuses();
+        }
+    }
+
+    /**
+     * Write the pending results.
+     */
+    public void flush() {
+        flushValues();
+        flushStatuses();
+    }
+
+    @Override
+    public void close() {
+        // the channel is closed even if the pending results cannot be written
+        try (channel) {
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -28,6 +28,8 @@ import com.powsybl.openloadflow.dc.fastdc.ComputedContingencyElement;
 import com.powsybl.openloadflow.dc.fastdc.ComputedElement;
 import com.powsybl.openloadflow.dc.fastdc.ConnectivityBreakAnalysis;
 import com.powsybl.openloadflow.dc.fastdc.WoodburyEngine;
+import com.powsybl.openloadflow.equations.EquationTerm;
+import com.powsybl.openloadflow.equations.Variable;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.action.*;
@@ -65,6 +67,16 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
 
     private static final double FUNCTION_REFERENCE_ZER0_THRESHOLD = 1e-13;
 
+    /**
+     * Evaluation of a function on a column of flow or factor states, the states being either explicit or the projection
+     * of post-contingency states computed by a {@link WoodburyEngine}.
+     */
+    @FunctionalInterface
+    private interface StatesEvaluator {
+
+        double calculateSensi(Derivable<DcVariableType> function, int column);
+    }
+
     public DcSensitivityAnalysis(MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory, SensitivityAnalysisParameters parameters) {
         super(matrixFactory, connectivityFactory, parameters);
     }
@@ -91,7 +103,8 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                 .setSlackDistributionFailureBehavior(OpenLoadFlowParameters.SlackDistributionFailureBehavior.LEAVE_ON_SLACK_BUS)
                 .setBalanceType(lfParameters.getBalanceType())
                 .setSetVToNan(true)
-                .setMaxOuterLoopIterations(parametersExt.getMaxOuterLoopIterations());
+                .setMaxOuterLoopIterations(parametersExt.getMaxOuterLoopIterations())
+                .setJacobianMatrixThreadCount(parametersExt.getJacobianMatrixThreadCount());
     }
 
     /**
@@ -119,11 +132,11 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
 
     /**
      * Calculate flow and sensitivity values from pre-contingency states or post-contingency states.
-     * Write the flow and sensitivity values for a LfSensitivityFactor in the SensitivityResultWriter.
+     * Add the flow and sensitivity values for a LfSensitivityFactor to the values of the state to write.
      */
     private void createBranchSensitivityValue(LfSensitivityFactor<DcVariableType, DcEquationType> factor, SensitivityFactorGroup<DcVariableType, DcEquationType> factorGroup,
-                                              DenseMatrix flowStates, DenseMatrix factorStates, PropagatedContingency contingency, LfOperatorStrategy operatorStrategy,
-                                              SensitivityResultWriter resultWriter, DisabledNetwork disabledNetwork) {
+                                              StatesEvaluator flowStates, StatesEvaluator factorStates, PropagatedContingency contingency,
+                                              SensitivityValueFilter.StateWriter<DcVariableType, DcEquationType> stateWriter, DisabledNetwork disabledNetwork) {
         Pair<Optional<Double>, Optional<Double>> predefinedResults = getPredefinedResults(factor, disabledNetwork, contingency);
         Optional<Double> sensitivityValuePredefinedResult = predefinedResults.getLeft();
         Optional<Double> functionPredefinedResults = predefinedResults.getRight();
@@ -132,20 +145,16 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
         Derivable<DcVariableType> p1 = factor.getFunctionEquationTerm();
 
         if (functionPredefinedResults.isEmpty()) {
-            functionValue = p1.calculateSensi(flowStates, 0);
+            functionValue = flowStates.calculateSensi(p1, 0);
         }
 
         if (sensitivityValuePredefinedResult.isEmpty()) {
-            sensitivityValue = p1.calculateSensi(factorStates, factorGroup.getIndex());
+            sensitivityValue = factorStates.calculateSensi(p1, factorGroup.getIndex());
         }
 
         functionValue = fixZeroFunctionReference(contingency, functionValue);
 
-        double unscaledSensi = unscaleSensitivity(factor, sensitivityValue);
-        if (!filterSensitivityValue(unscaledSensi, factor.getVariableType(), factor.getFunctionType(), parameters)) {
-            resultWriter.writeSensitivityValue(factor.getIndex(), contingency != null ? contingency.getIndex() : -1, operatorStrategy != null ? operatorStrategy.getIndex() : -1,
-                    unscaledSensi, unscaleFunction(factor, functionValue));
-        }
+        stateWriter.add(factor, unscaleSensitivity(factor, sensitivityValue), unscaleFunction(factor, functionValue));
     }
 
     /**
@@ -159,38 +168,150 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
         return functionValue;
     }
 
+    /**
+     * Get the slack compensation of an injection variable: -participation factor on all buses that contain elements
+     * participating to slack distribution, or -1 on the slack bus if the slack is not distributed.
+     */
+    private static Map<LfBus, Double> getSlackParticipationByBus(DcLoadFlowContext loadFlowContext, List<ParticipatingElement> participatingElements) {
+        if (participatingElements.isEmpty()) {
+            return Map.of(loadFlowContext.getNetwork().getSynchronousNetworks().getFirst().getSlackBuses().getFirst(), -1d);
+        }
+        return participatingElements.stream().collect(Collectors.toMap(
+            ParticipatingElement::getLfBus,
+            element -> -element.getFactor(),
+            Double::sum));
+    }
+
     /**
      * Compute state for sensitivity factors taking into account slack distribution.
      */
     private DenseMatrix calculateFactorStates(DcLoadFlowContext loadFlowContext,
                                               SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups,
                                               List<ParticipatingElement> participatingElements) {
-        Map<LfBus, Double> slackParticipationByBus;
-        if (participatingElements.isEmpty()) {
-            slackParticipationByBus = Map.of(loadFlowContext.getNetwork().getSynchronousNetworks().getFirst().getSlackBuses().getFirst(), -1d);
-        } else {
-            slackParticipationByBus = participatingElements.stream().collect(Collectors.toMap(
-                ParticipatingElement::getLfBus,
-                element -> -element.getFactor(),
-                Double::sum));
-        }
-
+        Map<LfBus, Double> slackParticipationByBus = getSlackParticipationByBus(loadFlowContext, participatingElements);
         DenseMatrix factorStates = initFactorsRhs(loadFlowContext.getEquationSystem(), factorGroups, slackParticipationByBus);
         loadFlowContext.getJacobianMatrix().solveTransposed(factorStates); // states for the sensitivity factors
         return factorStates;
     }
 
+    /**
+     * Index the distinct functions of the factors to be computed in adjoint mode, or return an empty map if the
+     * adjoint mode is not cheaper than the direct one. In direct mode, the system is solved once per variable group and
+     * functions are read off the resulting states. In adjoint mode, the transposed system is solved once per function
+     * with the function derivatives as RHS, and sensitivities are the dot products of these adjoint states with the
+     * RHS of the variable groups. Post-contingency and post-operator strategy values are computed by the Woodbury
+     * engine from the factor states of the direct mode, so the adjoint mode is only used for pre-contingency factors.
+     */
+    private static Map<Derivable<DcVariableType>, Integer> indexAdjointFunctions(List<LfSensitivityFactor<DcVariableType, DcEquationType>> lfFactors,
+                                                                                SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups) {
+        Map<Derivable<DcVariableType>, Integer> columnByFunction = new IdentityHashMap<>();
+        for (LfSensitivityFactor<DcVariableType, DcEquationType> factor : lfFactors) {
+            if (factor.getStatus() == LfSensitivityFactor.Status.VALID) {
+                Derivable<DcVariableType> function = factor.getFunctionEquationTerm();
+                if (!(function instanceof EquationTerm<?, ?>)) {
+                    return Collections.emptyMap();
+                }
+                columnByFunction.putIfAbsent(function, columnByFunction.size());
+            }
+        }
+        if (columnByFunction.isEmpty() || columnByFunction.size() >= factorGroups.getList().size()) {
+            return Collections.emptyMap();
+        }
+        return columnByFunction;
+    }
+
+    /**
+     * Compute the adjoint states of the functions: one column per function, solution of the transposed system with the
+     * derivatives of the function with respect to the state variables as RHS.
+     */
+    private static DenseMatrix calculateAdjointStates(DcLoadFlowContext loadFlowContext, Map<Derivable<DcVariableType>, Integer> columnByFunction) {
+        DenseMatrix adjointStates = new DenseMatrix(loadFlowContext.getEquationSystem().getIndex().getColumnCount(), columnByFunction.size());
+        for (Map.Entry<Derivable<DcVariableType>, Integer> e : columnByFunction.entrySet()) {
+            EquationTerm<DcVariableType, DcEquationType> term = (EquationTerm<DcVariableType, DcEquationType>) e.getKey();
+            for (Variable<DcVariableType> variable : term.getVariables()) {
+                if (variable.getRow() != -1) {
+                    adjointStates.add(variable.getRow(), e.getValue(), term.der(variable));
+                }
+            }
+        }
+        loadFlowContext.getJacobianMatrix().solve(adjointStates); // adjoint states for the functions
+        return adjointStates;
+    }
+
+    /**
+     * Create pre-contingency branch flow and sensitivity values from the adjoint states of the functions.
+     */
+    private void calculateAdjointSensitivityValues(DcLoadFlowContext loadFlowContext, List<LfSensitivityFactor<DcVariableType, DcEquationType>> lfFactors,
+                                                   SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups,
+                                                   Map<Derivable<DcVariableType>, Integer> columnByFunction, List<ParticipatingElement> participatingElements,
+                                                   DenseMatrix flowStates, SensitivityResultWriter resultWriter) {
+        DenseMatrix adjointStates = calculateAdjointStates(loadFlowContext, columnByFunction);
+
+        // the slack compensation part of the RHS is the same for all the variable groups
+        Map<LfBus, Double> slackParticipationByBus = getSlackParticipationByBus(loadFlowContext, participatingElements);
+        double[] slackAdjointSensis = new double[columnByFunction.size()];
+        for (int column = 0; column < slackAdjointSensis.length; column++) {
+            slackAdjointSensis[column] = AbstractSensitivityFactorGroup.calculateSlackAdjointSensi(adjointStates, column, slackParticipationByBus);
+        }
+
+        calculateSensitivityValues(lfFactors,
+            (function, column) -> {
+                int adjointColumn = columnByFunction.get(function);
+                return factorGroups.getList().get(column).calculateAdjointSensi(adjointStates, adjointColumn, slackAdjointSensis[adjointColumn]);
+            },
+            (function, column) -> function.calculateSensi(flowStates, column), null, null, resultWriter, new DisabledNetwork());
+    }
+
     /**
      * Create branch flow and sensitivity values from a pre-contingency state or a post-contingency state.
      */
     private void calculateSensitivityValues(List<LfSensitivityFactor<DcVariableType, DcEquationType>> lfFactors, DenseMatrix factorStates, DenseMatrix flowStates,
                                             PropagatedContingency contingency, LfOperatorStrategy operatorStrategy, SensitivityResultWriter resultWriter, DisabledNetwork disabledNetwork) {
+        calculateSensitivityValues(lfFactors, (function, column) -> function.calculateSensi(factorStates, column),
+                (function, column) -> function.calculateSensi(flowStates, column), contingency, operatorStrategy, resultWriter, disabledNetwork);
+    }
+
+    /**
+     * Create branch flow and sensitivity values from pre-contingency states and a Woodbury engine, without computing the
+     * post-contingency states: the flow transfer factors are computed once per states column and the Woodbury update
+     * is then applied in the space of the monitored functions only.
+     */
+    private void calculateSensitivityValues(List<LfSensitivityFactor<DcVariableType, DcEquationType>> lfFactors, WoodburyEngine engine,
+                                            DenseMatrix factorStates, DenseMatrix flowStates, PropagatedContingency contingency,
+                                            LfOperatorStrategy operatorStrategy, SensitivityResultWriter resultWriter, DisabledNetwork disabledNetwork) {
         if (lfFactors.isEmpty()) {
             return;
         }
 
+        double[][] factorAlphas = engine.calculatePostContingencyAndOperatorStrategyAlphas(factorStates);
+        double[][] flowAlphas = engine.calculatePostContingencyAndOperatorStrategyAlphas(flowStates);
+        calculateSensitivityValues(lfFactors,
+                (function, column) -> engine.calculatePostContingencyAndOperatorStrategySensi(function, factorStates, column, factorAlphas[column]),
+                (function, column) -> engine.calculatePostContingencyAndOperatorStrategySensi(function, flowStates, column, flowAlphas[column]),
+                contingency, operatorStrategy, resultWriter, disabledNetwork);
+    }
+
+    /**
+     * Cache the values of the functions on the flow states, which have a single column: a monitored function is
+     * evaluated only once per state whatever the number of factors sharing it.
+     */
+    private static StatesEvaluator cacheFunctionValues(StatesEvaluator flowStates) {
+        Map<Derivable<DcVariableType>, Double> valueByFunction = new IdentityHashMap<>();
+        return (function, column) -> valueByFunction.computeIfAbsent(function, f -> flowStates.calculateSensi(f, column));
+    }
+
+    private void calculateSensitivityValues(List<LfSensitivityFactor<DcVariableType, DcEquationType>> lfFactors, StatesEvaluator factorStates, StatesEvaluator uncachedFlowStates,
+                                            PropagatedContingency contingency, LfOperatorStrategy operatorStrategy, SensitivityResultWriter resultWriter, DisabledNetwork disabledNetwork) {
+        if (lfFactors.isEmpty()) {
+            return;
+        }
+
+        StatesEvaluator flowStates = cacheFunctionValues(uncachedFlowStates);
+        SensitivityValueFilter.StateWriter<DcVariableType, DcEquationType> stateWriter = valueFilter.startState(contingency != null ? contingency.getIndex() : -1,
+                operatorStrategy != null ? operatorStrategy.getIndex() : -1, resultWriter);
+
         lfFactors.stream().filter(factor -> factor.getStatus() == LfSensitivityFactor.Status.VALID_ONLY_FOR_FUNCTION)
-                .forEach(factor -> createBranchSensitivityValue(factor, null, flowStates, factorStates, contingency, operatorStrategy, resultWriter, disabledNetwork));
+                .forEach(factor -> createBranchSensitivityValue(factor, null, flowStates, factorStates, contingency, stateWriter, disabledNetwork));
 
         Map<SensitivityFactorGroup<DcVariableType, DcEquationType>, List<LfSensitivityFactor<DcVariableType, DcEquationType>>> factorsByGroup = lfFactors.stream()
                 .filter(factor -> factor.getStatus() == LfSensitivityFactor.Status.VALID)
@@ -199,9 +320,10 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
             SensitivityFactorGroup<DcVariableType, DcEquationType> factorGroup = e.getKey();
             List<LfSensitivityFactor<DcVariableType, DcEquationType>> factorsForThisGroup = e.getValue();
             for (LfSensitivityFactor<DcVariableType, DcEquationType> factor : factorsForThisGroup) {
-                createBranchSensitivityValue(factor, factorGroup, flowStates, factorStates, contingency, operatorStrategy, resultWriter, disabledNetwork);
+                createBranchSensitivityValue(factor, factorGroup, flowStates, factorStates, contingency, stateWriter, disabledNetwork);
             }
         }
+        stateWriter.end();
     }
 
     /**
@@ -211,7 +333,8 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
      * if the factorsStates should be overridden or not in this method.
      * If connectivity, a generator, a load or a phase tap changer is lost due to the contingency,
      * the flowStates are overridden.
-     * The matrices factorStates and flowStates are modified by this method.
+     * The matrices factorStates and flowStates are not modified by this method, as post-contingency values are only
+     * computed for the sensitivity factors functions.
      */
     private void calculateSensitivityValuesForContingencyAndOperatorStrategy(DcLoadFlowContext loadFlowContext, OpenLoadFlowParameters lfParametersExt,
                                                                              SensitivityFactorHolder<DcVariableType, DcEquationType> validFactorHolder,
@@ -276,9 +399,7 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                 newFlowStates = calculateFlowStates(loadFlowContext, participatingElements, disabledNetwork, actions, reportNode);
             }
 
-            engine.toPostContingencyAndOperatorStrategyStates(newFlowStates);
-            engine.toPostContingencyAndOperatorStrategyStates(newFactorStates);
-            calculateSensitivityValues(factors, newFactorStates, newFlowStates, contingency, operatorStrategy, resultWriter, disabledNetwork);
+            calculateSensitivityValues(factors, engine, newFactorStates, newFlowStates, contingency, operatorStrategy, resultWriter, disabledNetwork);
             // write contingency status
             if (contingency.hasNoImpact()) {
                 resultWriter.writeStateStatus(contingency.getIndex(), operatorStrategyIndex, SensitivityAnalysisResult.Status.NO_IMPACT);
@@ -331,9 +452,7 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
 
             DenseMatrix newFlowStates = calculateFlowStates(loadFlowContext, newParticipatingElements, disabledNetwork, actions, reportNode);
 
-            engine.toPostContingencyAndOperatorStrategyStates(newFlowStates);
-            engine.toPostContingencyAndOperatorStrategyStates(newFactorStates);
-            calculateSensitivityValues(factors, newFactorStates, newFlowStates, contingency, operatorStrategy, resultWriter, disabledNetwork);
+            calculateSensitivityValues(factors, engine, newFactorStates, newFlowStates, contingency, operatorStrategy, resultWriter, disabledNetwork);
 
             networkState.restore();
         }
@@ -595,32 +714,43 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                         : Collections.emptyList();
 
                 // run DC loadflow on pre-contingency network
+                // as post-contingency values are projected on the factors functions, pre-contingency states are never modified
+                // and are shared by all contingencies and operator strategies
                 DenseMatrix baseFlowStates = calculateFlowStates(loadFlowContext, participatingElements, new DisabledNetwork(), Collections.emptyList(), sensiReportNode);
-                // create workingFlowStates matrix that will be a working copy of baseFlowStates
-                DenseMatrix workingFlowStates = new DenseMatrix(baseFlowStates.getRowCount(), baseFlowStates.getColumnCount());
-
-                // compute the pre-contingency factor states
-                DenseMatrix baseFactorStates = calculateFactorStates(loadFlowContext, factorGroups, participatingElements);
-                // create workingFactorStates matrix that will be a working copy of baseFactorStates
-                DenseMatrix workingFactorStates = new DenseMatrix(baseFactorStates.getRowCount(), baseFactorStates.getColumnCount());
-
-                if (parameters.getOperatorStrategiesCalculationMode() != SensitivityOperatorStrategiesCalculationMode.ONLY_OPERATOR_STRATEGIES) {
-                    // calculate sensitivity values for pre-contingency network
-                    calculateSensitivityValues(validFactorHolder.getFactorsForBaseNetwork(), baseFactorStates, baseFlowStates, null, null, resultWriter, new DisabledNetwork());
-                }
 
                 // filter contingencies without factors
                 List<PropagatedContingency> contingenciesWithFactors = new ArrayList<>();
                 propagatedContingencies.forEach(contingency -> {
-                    List<AbstractSensitivityAnalysis.LfSensitivityFactor<DcVariableType, DcEquationType>> lfFactors = validFactorHolder.getFactorsForContingencies(
-                        List.of(contingency.getContingency().getId()));
-                    if (!lfFactors.isEmpty()) {
+                    if (validFactorHolder.hasFactorsForContingency(contingency.getContingency().getId())) {
                         contingenciesWithFactors.add(contingency);
                     } else {
                         resultWriter.writeStateStatus(contingency.getIndex(), -1, SensitivityAnalysisResult.Status.SUCCESS);
                     }
                 });
 
+                // factor states are not needed when only pre-contingency factors have to be computed and there are
+                // fewer functions than variable groups: solve once per function in adjoint mode instead
+                Map<Derivable<DcVariableType>, Integer> adjointColumnByFunction = contingenciesWithFactors.isEmpty() && operatorStrategies.isEmpty()
+                        && parameters.getOperatorStrategiesCalculationMode() != SensitivityOperatorStrategiesCalculationMode.ONLY_OPERATOR_STRATEGIES
+                        ? indexAdjointFunctions(validFactorHolder.getFactorsForBaseNetwork(), factorGroups)
+                        : Collections.emptyMap();
+
+                DenseMatrix baseFactorStates = null;
+                if (adjointColumnByFunction.isEmpty()) {
+                    // compute the pre-contingency factor states
+                    baseFactorStates = calculateFactorStates(loadFlowContext, factorGroups, participatingElements);
+
+                    if (parameters.getOperatorStrategiesCalculationMode() != SensitivityOperatorStrategiesCalculationMode.ONLY_OPERATOR_STRATEGIES) {
+                        // calculate sensitivity values for pre-contingency network
+                        calculateSensitivityValues(validFactorHolder.getFactorsForBaseNetwork(), baseFactorStates, baseFlowStates, null, null, resultWriter, new DisabledNetwork());
+                    }
+                } else {
+                    LOGGER.info("Computing pre-contingency sensitivities in adjoint mode ({} functions, {} variable groups)",
+                            adjointColumnByFunction.size(), factorGroups.getList().size());
+                    calculateAdjointSensitivityValues(loadFlowContext, validFactorHolder.getFactorsForBaseNetwork(), factorGroups, adjointColumnByFunction,
+                            participatingElements, baseFlowStates, resultWriter);
+                }
+
                 // compute states with +1 -1 to model the contingencies and run connectivity analysis
                 ConnectivityBreakAnalysis.ConnectivityBreakAnalysisResults connectivityBreakAnalysisResults = ConnectivityBreakAnalysis.run(loadFlowContext, contingenciesWithFactors);
 
@@ -635,16 +765,16 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                     LOGGER.info("Processing contingencies with no connectivity break");
 
                     // process contingencies with no connectivity break
-                    operatorStrategiesSensitivityCalculation(connectivityBreakAnalysisResults.nonBreakingConnectivityAnalysisResults(), workingFlowStates,
-                        workingFactorStates, baseFlowStates, baseFactorStates, loadFlowContext, lfParameters, lfParametersExt,
+                    operatorStrategiesSensitivityCalculation(connectivityBreakAnalysisResults.nonBreakingConnectivityAnalysisResults(),
+                        baseFlowStates, baseFactorStates, loadFlowContext, lfParameters, lfParametersExt,
                         validFactorHolder, factorGroups, participatingElements, connectivityBreakAnalysisResults,
                         actionElementsIndexByLfAction, actionsStates, resultWriter, sensiReportNode, stopwatch);
 
                     LOGGER.info("Processing contingencies with connectivity break");
 
                     // process contingencies with connectivity break
-                    operatorStrategiesSensitivityCalculation(connectivityBreakAnalysisResults.connectivityBreakingAnalysisResults(), workingFlowStates,
-                        workingFactorStates, baseFlowStates, baseFactorStates, loadFlowContext, lfParameters, lfParametersExt,
+                    operatorStrategiesSensitivityCalculation(connectivityBreakAnalysisResults.connectivityBreakingAnalysisResults(),
+                        baseFlowStates, baseFactorStates, loadFlowContext, lfParameters, lfParametersExt,
                         validFactorHolder, factorGroups, participatingElements, connectivityBreakAnalysisResults,
                         actionElementsIndexByLfAction, actionsStates, resultWriter, sensiReportNode, stopwatch);
                 }
@@ -661,9 +791,6 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                                 stopwatch.stop();
                                 throw new PowsyblException("Computation was interrupted");
                             }
-                            workingFlowStates.copyValuesFrom(baseFlowStates);
-                            workingFactorStates.copyValuesFrom(baseFactorStates);
-
                             List<String> operatorStrategyActionIds = operatorStrategyForBaseCase.value().getConditionalActions().stream()
                                 .flatMap(conditionalActions -> conditionalActions.getActionIds().stream()).toList();
                             List<LfAction> operatorStrategyLfActions = operatorStrategyActionIds.stream().map(lfActionById::get).toList();
@@ -678,7 +805,7 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
 
                             processContingencyAndOperatorStrategy(postActionsConnectivityAnalysisResult, loadFlowContext, lfParameters, lfParametersExt,
                                     validFactorHolder, factorGroups, participatingElements, connectivityBreakAnalysisResults.contingencyElementByBranch(), actionElementsIndexByLfAction,
-                                    workingFlowStates, workingFactorStates, connectivityBreakAnalysisResults.contingenciesStates(), actionsStates, resultWriter, sensiReportNode);
+                                    baseFlowStates, baseFactorStates, connectivityBreakAnalysisResults.contingenciesStates(), actionsStates, resultWriter, sensiReportNode);
                         }
                     }
 
@@ -692,8 +819,8 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
 
                     LOGGER.info("Running operator strategies sensitivity calculation...");
                     operatorStrategyStopwatch.reset().start();
-                    operatorStrategiesSensitivityCalculation(postActionsConnectivityAnalysisResults, workingFlowStates,
-                        workingFactorStates, baseFlowStates, baseFactorStates, loadFlowContext, lfParameters, lfParametersExt,
+                    operatorStrategiesSensitivityCalculation(postActionsConnectivityAnalysisResults,
+                        baseFlowStates, baseFactorStates, loadFlowContext, lfParameters, lfParametersExt,
                         validFactorHolder, factorGroups, participatingElements, connectivityBreakAnalysisResults,
                         actionElementsIndexByLfAction, actionsStates, resultWriter, sensiReportNode, stopwatch);
                     LOGGER.info("Operator strategies sensitivity calculation done in {} ms", operatorStrategyStopwatch.elapsed(TimeUnit.MILLISECONDS));
@@ -739,8 +866,7 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
     }
 
     private void operatorStrategiesSensitivityCalculation(List<ConnectivityBreakAnalysis.ConnectivityAnalysisResult> connectivityAnalysisResultList,
-                                                          DenseMatrix workingFlowStates, DenseMatrix workingFactorStates,
-                                                          DenseMatrix baseFlowStates, DenseMatrix baseFactorStates,
+                                                          DenseMatrix flowStates, DenseMatrix factorStates,
                                                           DcLoadFlowContext loadFlowContext, LoadFlowParameters lfParameters, OpenLoadFlowParameters lfParametersExt,
                                                           SensitivityFactorHolder<DcVariableType, DcEquationType> validFactorHolder,
                                                           SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups,
@@ -755,12 +881,9 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                 throw new PowsyblException("Computation was interrupted");
             }
 
-            workingFlowStates.copyValuesFrom(baseFlowStates);
-            workingFactorStates.copyValuesFrom(baseFactorStates);
-
             processContingencyAndOperatorStrategy(postActionsConnectivityAnalysisResult, loadFlowContext, lfParameters, lfParametersExt,
                 validFactorHolder, factorGroups, participatingElements, connectivityBreakAnalysisResults.contingencyElementByBranch(), actionElementsIndexByLfAction,
-                workingFlowStates, workingFactorStates, connectivityBreakAnalysisResults.contingenciesStates(), actionsStates, resultWriter, sensiReportNode);
+                flowStates, factorStates, connectivityBreakAnalysisResults.contingenciesStates(), actionsStates, resultWriter, sensiReportNode);
         }
     }
 
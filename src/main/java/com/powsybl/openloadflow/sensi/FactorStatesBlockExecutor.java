@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.LUDecomposition;
+import com.powsybl.math.matrix.Matrix;
+import com.powsybl.openloadflow.equations.JacobianMatrix;
+import com.powsybl.openloadflow.util.mt.MultiThreadHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Parallel processing of the factor states of a single network state (pre-contingency or post-contingency), by
+ * splitting the factor groups, i.e. the columns of the factor states matrix, into contiguous blocks run on a fork-join
+ * pool. This is useful when the number of factor groups is large and the number of contingencies is small, so that
+ * parallelizing by contingency partition does not help.
+ * <p>
+ * A sparse LU decomposition uses a shared workspace during a solve, so concurrent solves on the same decomposition are
+ * not allowed: the first block is solved with the Jacobian matrix decomposition and the other blocks with their own
+ * decomposition of the same matrix, computed concurrently. Blocks have at least {@link #MIN_BLOCK_COLUMN_COUNT}
+ * columns so that these additional decompositions are amortized.
+ * <p>
+ * With one thread, everything runs on the calling thread as a single block.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class FactorStatesBlockExecutor implements AutoCloseable {
+
+    static final int MIN_BLOCK_COLUMN_COUNT = 64;
+
+    /**
+     * A task on a block of columns, from {@code fromColumn} inclusive to {@code toColumn} exclusive.
+     */
+    @FunctionalInterface
+    interface BlockTask {
+
+        void run(int fromColumn, int toColumn);
+    }
+
+    private final int threadCount;
+
+    private final ForkJoinPool pool;
+
+    FactorStatesBlockExecutor(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threadCount);
+        }
+        this.threadCount = threadCount;
+        pool = threadCount > 1 ? new ForkJoinPool(threadCount) : null;
+    }
+
+    private int getBlockCount(int columnCount) {
+        return pool == null ? 1 : Math.max(1, Math.min(threadCount, columnCount / MIN_BLOCK_COLUMN_COUNT));
+    }
+
+    private void run(int columnCount, int blockCount, BlockTask task) {
+        if (blockCount == 1) {
+            task.run(0, columnCount);
+            return;
+        }
+        int blockSize = (columnCount + blockCount - 1) / blockCount;
+        List<Callable<Void>> callables = new ArrayList<>(blockCount);
+        for (int from = 0; from < columnCount; from += blockSize) {
+            int fromColumn = from;
+            int toColumn = Math.min(from + blockSize, columnCount);
+            callables.add(() -> {
+                task.run(fromColumn, toColumn);
+                return null;
+            });
+        }
+        List<Future<Void>> futures = new ArrayList<>(callables.size());
+        for (Callable<Void> callable : callables) {
+            futures.add(pool.submit(callable));
+        }
+        MultiThreadHelper.getAll(futures);
+    }
+
+    /**
+     * Run a task on blocks of columns. Tasks may run concurrently and so must only share read-only data.
+     */
+    void run(int columnCount, BlockTask task) {
+        run(columnCount, getBlockCount(columnCount), task);
+    }
+
+    /**
+     * Same as {@link JacobianMatrix#solveTransposed(DenseMatrix)}, solving blocks of columns concurrently.
+     */
+    void solveTransposed(JacobianMatrix<?, ?> jacobianMatrix, DenseMatrix states) {
+        int blockCount = getBlockCount(states.getColumnCount());
+        if (blockCount == 1) {
+            jacobianMatrix.solveTransposed(states);
+            return;
+        }
+        Matrix matrix = jacobianMatrix.getMatrix(); // to update the matrix before running the blocks
+        run(states.getColumnCount(), blockCount, (fromColumn, toColumn) -> {
+            DenseMatrix block = new DenseMatrix(states.getRowCount(), toColumn - fromColumn);
+            for (int c = fromColumn; c < toColumn; c++) {
+                for (int r = 0; r < states.getRowCount(); r++) {
+                    block.set(r, c - fromColumn, states.get(r, c));
+                }
+            }
+            if (fromColumn == 0) {
+                jacobianMatrix.solveTransposed(block);
+            } else {
+                try (LUDecomposition lu = matrix.decomposeLU()) {
+                    lu.solveTransposed(block);
+                }
+            }
+            // blocks write disjoint columns
+            for (int c = fromColumn; c < toColumn; c++) {
+                for (int r = 0; r < states.getRowCount(); r++) {
+                    states.set(r, c, block.get(r, c - fromColumn));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+}
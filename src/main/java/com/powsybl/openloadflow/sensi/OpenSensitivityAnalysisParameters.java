@@ -9,10 +9,12 @@ package com.powsybl.openloadflow.sensi;
 
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.openloadflow.util.mt.ContingencyExecutionStrategy;
 import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -23,6 +25,12 @@ public class OpenSensitivityAnalysisParameters extends AbstractExtension<Sensiti
     private String debugDir;
     private boolean startWithFrozenACEmulation = START_WITH_FROZEN_AC_EMULATION_DEFAULT_VALUE;
     private int threadCount = THREAD_COUNT_DEFAULT_VALUE;
+    private String contingencyExecutionStrategy = CONTINGENCY_EXECUTION_STRATEGY_DEFAULT_VALUE;
+    private boolean linearizedAcContingencies = LINEARIZED_AC_CONTINGENCIES_DEFAULT_VALUE;
+    private int maxSensitivityValuesPerFunction = MAX_SENSITIVITY_VALUES_PER_FUNCTION_DEFAULT_VALUE;
+    private boolean skipUnchangedPostContingencyValues = SKIP_UNCHANGED_POST_CONTINGENCY_VALUES_DEFAULT_VALUE;
+    private double unchangedPostContingencyValueThreshold = UNCHANGED_POST_CONTINGENCY_VALUE_THRESHOLD_DEFAULT_VALUE;
+    private int factorStatesThreadCount = FACTOR_STATES_THREAD_COUNT_DEFAULT_VALUE;
 
     public static final String DEBUG_DIR_PARAM_NAME = "debugDir";
     public static final String DEBUG_DIR_DEFAULT_VALUE = "";
@@ -30,8 +38,22 @@ public class OpenSensitivityAnalysisParameters extends AbstractExtension<Sensiti
     public static final boolean START_WITH_FROZEN_AC_EMULATION_DEFAULT_VALUE = true;
     public static final String THREAD_COUNT_PARAM_NAME = "threadCount";
     public static final int THREAD_COUNT_DEFAULT_VALUE = 1;
-
-    public static final List<String> SPECIFIC_PARAMETERS_NAMES = List.of(DEBUG_DIR_PARAM_NAME, START_WITH_FROZEN_AC_EMULATION_PARAM_NAME, THREAD_COUNT_PARAM_NAME);
+    public static final String CONTINGENCY_EXECUTION_STRATEGY_PARAM_NAME = "contingencyExecutionStrategy";
+    public static final String CONTINGENCY_EXECUTION_STRATEGY_DEFAULT_VALUE = ContingencyExecutionStrategy.DEFAULT_NAME;
+    public static final String LINEARIZED_AC_CONTINGENCIES_PARAM_NAME = "linearizedAcContingencies";
+    public static final boolean LINEARIZED_AC_CONTINGENCIES_DEFAULT_VALUE = false;
+    public static final String MAX_SENSITIVITY_VALUES_PER_FUNCTION_PARAM_NAME = "maxSensitivityValuesPerFunction";
+    public static final int MAX_SENSITIVITY_VALUES_PER_FUNCTION_DEFAULT_VALUE = 0;
+    public static final String SKIP_UNCHANGED_POST_CONTINGENCY_VALUES_PARAM_NAME = "skipUnchangedPostContingencyValues";
+    public static final boolean SKIP_UNCHANGED_POST_CONTINGENCY_VALUES_DEFAULT_VALUE = false;
+    public static final String UNCHANGED_POST_CONTINGENCY_VALUE_THRESHOLD_PARAM_NAME = "unchangedPostContingencyValueThreshold";
+    public static final double UNCHANGED_POST_CONTINGENCY_VALUE_THRESHOLD_DEFAULT_VALUE = 1e-6;
+    public static final String FACTOR_STATES_THREAD_COUNT_PARAM_NAME = "factorStatesThreadCount";
+    public static final int FACTOR_STATES_THREAD_COUNT_DEFAULT_VALUE = 1;
+
+    public static final List<String> SPECIFIC_PARAMETERS_NAMES = List.of(DEBUG_DIR_PARAM_NAME, START_WITH_FROZEN_AC_EMULATION_PARAM_NAME, THREAD_COUNT_PARAM_NAME,
+            CONTINGENCY_EXECUTION_STRATEGY_PARAM_NAME, LINEARIZED_AC_CONTINGENCIES_PARAM_NAME, MAX_SENSITIVITY_VALUES_PER_FUNCTION_PARAM_NAME,
+            SKIP_UNCHANGED_POST_CONTINGENCY_VALUES_PARAM_NAME, UNCHANGED_POST_CONTINGENCY_VALUE_THRESHOLD_PARAM_NAME, FACTOR_STATES_THREAD_COUNT_PARAM_NAME);
 
     @Override
     public String getName() {
@@ -65,6 +87,69 @@ public class OpenSensitivityAnalysisParameters extends AbstractExtension<Sensiti
         return this;
     }
 
+    public String getContingencyExecutionStrategy() {
+        return contingencyExecutionStrategy;
+    }
+
+    public OpenSensitivityAnalysisParameters setContingencyExecutionStrategy(String contingencyExecutionStrategy) {
+        this.contingencyExecutionStrategy = Objects.requireNonNull(contingencyExecutionStrategy);
+        return this;
+    }
+
+    public boolean isLinearizedAcContingencies() {
+        return linearizedAcContingencies;
+    }
+
+    public OpenSensitivityAnalysisParameters setLinearizedAcContingencies(boolean linearizedAcContingencies) {
+        this.linearizedAcContingencies = linearizedAcContingencies;
+        return this;
+    }
+
+    public int getMaxSensitivityValuesPerFunction() {
+        return maxSensitivityValuesPerFunction;
+    }
+
+    public OpenSensitivityAnalysisParameters setMaxSensitivityValuesPerFunction(int maxSensitivityValuesPerFunction) {
+        if (maxSensitivityValuesPerFunction < 0) {
+            throw new IllegalArgumentException("Invalid max sensitivity values per function: " + maxSensitivityValuesPerFunction);
+        }
+        this.maxSensitivityValuesPerFunction = maxSensitivityValuesPerFunction;
+        return this;
+    }
+
+    public boolean isSkipUnchangedPostContingencyValues() {
+        return skipUnchangedPostContingencyValues;
+    }
+
+    public OpenSensitivityAnalysisParameters setSkipUnchangedPostContingencyValues(boolean skipUnchangedPostContingencyValues) {
+        this.skipUnchangedPostContingencyValues = skipUnchangedPostContingencyValues;
+        return this;
+    }
+
+    public double getUnchangedPostContingencyValueThreshold() {
+        return unchangedPostContingencyValueThreshold;
+    }
+
+    public OpenSensitivityAnalysisParameters setUnchangedPostContingencyValueThreshold(double unchangedPostContingencyValueThreshold) {
+        if (unchangedPostContingencyValueThreshold < 0) {
+            throw new IllegalArgumentException("Invalid unchanged post-contingency value threshold: " + unchangedPostContingencyValueThreshold);
+        }
+        this.unchangedPostContingencyValueThreshold = unchangedPostContingencyValueThreshold;
+        return this;
+    }
+
+    public int getFactorStatesThreadCount() {
+        return factorStatesThreadCount;
+    }
+
+    public OpenSensitivityAnalysisParameters setFactorStatesThreadCount(int factorStatesThreadCount) {
+        if (factorStatesThreadCount < 1) {
+            throw new IllegalArgumentException("Invalid factor states thread count: " + factorStatesThreadCount);
+        }
+        this.factorStatesThreadCount = factorStatesThreadCount;
+        return this;
+    }
+
     public static OpenSensitivityAnalysisParameters getOrDefault(SensitivityAnalysisParameters sensitivityAnalysisParameters) {
         OpenSensitivityAnalysisParameters sensiParametersExt = sensitivityAnalysisParameters.getExtension(OpenSensitivityAnalysisParameters.class);
         if (sensiParametersExt == null) {
@@ -83,7 +168,13 @@ public class OpenSensitivityAnalysisParameters extends AbstractExtension<Sensiti
                 .ifPresent(config -> parameters
                         .setDebugDir(config.getStringProperty(DEBUG_DIR_PARAM_NAME, DEBUG_DIR_DEFAULT_VALUE))
                         .setStartWithFrozenACEmulation(config.getBooleanProperty(START_WITH_FROZEN_AC_EMULATION_PARAM_NAME, START_WITH_FROZEN_AC_EMULATION_DEFAULT_VALUE))
-                        .setThreadCount(config.getIntProperty(THREAD_COUNT_PARAM_NAME, THREAD_COUNT_DEFAULT_VALUE)));
+                        .setThreadCount(config.getIntProperty(THREAD_COUNT_PARAM_NAME, THREAD_COUNT_DEFAULT_VALUE))
+                        .setContingencyExecutionStrategy(config.getStringProperty(CONTINGENCY_EXECUTION_STRATEGY_PARAM_NAME, CONTINGENCY_EXECUTION_STRATEGY_DEFAULT_VALUE))
+                        .setLinearizedAcContingencies(config.getBooleanProperty(LINEARIZED_AC_CONTINGENCIES_PARAM_NAME, LINEARIZED_AC_CONTINGENCIES_DEFAULT_VALUE))
+                        .setMaxSensitivityValuesPerFunction(config.getIntProperty(MAX_SENSITIVITY_VALUES_PER_FUNCTION_PARAM_NAME, MAX_SENSITIVITY_VALUES_PER_FUNCTION_DEFAULT_VALUE))
+                        .setSkipUnchangedPostContingencyValues(config.getBooleanProperty(SKIP_UNCHANGED_POST_CONTINGENCY_VALUES_PARAM_NAME, SKIP_UNCHANGED_POST_CONTINGENCY_VALUES_DEFAULT_VALUE))
+                        .setUnchangedPostContingencyValueThreshold(config.getDoubleProperty(UNCHANGED_POST_CONTINGENCY_VALUE_THRESHOLD_PARAM_NAME, UNCHANGED_POST_CONTINGENCY_VALUE_THRESHOLD_DEFAULT_VALUE))
+                        .setFactorStatesThreadCount(config.getIntProperty(FACTOR_STATES_THREAD_COUNT_PARAM_NAME, FACTOR_STATES_THREAD_COUNT_DEFAULT_VALUE)));
         return parameters;
     }
 
@@ -94,6 +185,18 @@ public class OpenSensitivityAnalysisParameters extends AbstractExtension<Sensiti
                 .ifPresent(value -> parameters.setStartWithFrozenACEmulation(Boolean.parseBoolean(value)));
         Optional.ofNullable(properties.get(THREAD_COUNT_PARAM_NAME))
                 .ifPresent(value -> parameters.setThreadCount(Integer.parseInt(value)));
+        Optional.ofNullable(properties.get(CONTINGENCY_EXECUTION_STRATEGY_PARAM_NAME))
+                .ifPresent(parameters::setContingencyExecutionStrategy);
+        Optional.ofNullable(properties.get(LINEARIZED_AC_CONTINGENCIES_PARAM_NAME))
+                .ifPresent(value -> parameters.setLinearizedAcContingencies(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(MAX_SENSITIVITY_VALUES_PER_FUNCTION_PARAM_NAME))
+                .ifPresent(value -> parameters.setMaxSensitivityValuesPerFunction(Integer.parseInt(value)));
+        Optional.ofNullable(properties.get(SKIP_UNCHANGED_POST_CONTINGENCY_VALUES_PARAM_NAME))
+                .ifPresent(value -> parameters.setSkipUnchangedPostContingencyValues(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(UNCHANGED_POST_CONTINGENCY_VALUE_THRESHOLD_PARAM_NAME))
+                .ifPresent(value -> parameters.setUnchangedPostContingencyValueThreshold(Double.parseDouble(value)));
+        Optional.ofNullable(properties.get(FACTOR_STATES_THREAD_COUNT_PARAM_NAME))
+                .ifPresent(value -> parameters.setFactorStatesThreadCount(Integer.parseInt(value)));
         return parameters;
     }
 }
@@ -223,6 +223,7 @@ public class OpenSensitivityAnalysisProvider implements SensitivityAnalysisProvi
         }
         analysis.analyse(network, workingVariantId, contingencies, operatorStrategies, actions, creationParameters, variableSets,
                 decoratedFactorReader, resultWriter, sensiReportNode, sensitivityAnalysisParametersExt, computationManager.getExecutor());
+        analysis.getValueFilter().logCounts();
         return null;
     }
 
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.openloadflow.equations.Quantity;
+import com.powsybl.openloadflow.sensi.AbstractSensitivityAnalysis.LfSensitivityFactor;
+import com.powsybl.sensitivity.SensitivityAnalysisParameters;
+import com.powsybl.sensitivity.SensitivityFunctionType;
+import com.powsybl.sensitivity.SensitivityResultWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Engine side filtering of the computed sensitivity values, so that values the user is not interested in do not reach
+ * the {@link SensitivityResultWriter}. Values are filtered state by state (pre-contingency, post-contingency or post
+ * operator strategy):
+ * <ul>
+ *     <li>values below the sensitivity value thresholds of {@link SensitivityAnalysisParameters} are not written,</li>
+ *     <li>post-contingency values equal to their pre-contingency value and function reference, within a threshold,
+ *     are not written if {@link OpenSensitivityAnalysisParameters#isSkipUnchangedPostContingencyValues()} is set,</li>
+ *     <li>only the {@link OpenSensitivityAnalysisParameters#getMaxSensitivityValuesPerFunction()} values with the
+ *     largest absolute sensitivity are written for each function of a state, if not zero.</li>
+ * </ul>
+ * The number of suppressed values is counted for each kind of filter. Counters are thread safe, so that the same
+ * filter can be shared by the contingency partitions of a multi-threaded analysis.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class SensitivityValueFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SensitivityValueFilter.class);
+
+    private final SensitivityAnalysisParameters parameters;
+
+    private final int maxValuesPerFunction;
+
+    private final boolean skipUnchangedValues;
+
+    private final double unchangedValueThreshold;
+
+    private final LongAdder belowThresholdCount = new LongAdder();
+
+    private final LongAdder unchangedCount = new LongAdder();
+
+    private final LongAdder beyondMaxPerFunctionCount = new LongAdder();
+
+    SensitivityValueFilter(SensitivityAnalysisParameters parameters) {
+        this.parameters = Objects.requireNonNull(parameters);
+        OpenSensitivityAnalysisParameters parametersExt = OpenSensitivityAnalysisParameters.getOrDefault(parameters);
+        maxValuesPerFunction = parametersExt.getMaxSensitivityValuesPerFunction();
+        skipUnchangedValues = parametersExt.isSkipUnchangedPostContingencyValues();
+        unchangedValueThreshold = parametersExt.getUnchangedPostContingencyValueThreshold();
+    }
+
+    long getBelowThresholdCount() {
+        return belowThresholdCount.sum();
+    }
+
+    long getUnchangedCount() {
+        return unchangedCount.sum();
+    }
+
+    long getBeyondMaxPerFunctionCount() {
+        return beyondMaxPerFunctionCount.sum();
+    }
+
+    void logCounts() {
+        long belowThreshold = getBelowThresholdCount();
+        long unchanged = getUnchangedCount();
+        long beyondMaxPerFunction = getBeyondMaxPerFunctionCount();
+        if (belowThreshold + unchanged + beyondMaxPerFunction > 0) {
+            LOGGER.info("Sensitivity values not written: {} below threshold, {} unchanged after contingency, {} beyond max count per function",
+                    belowThreshold, unchanged, beyondMaxPerFunction);
+        }
+    }
+
+    /**
+     * Start writing the values of a state. {@link StateWriter#end()} has to be called once all the values of the state
+     * have been added.
+     */
+    <V extends Enum<V> & Quantity, E extends Enum<E> & Quantity> StateWriter<V, E> startState(int contingencyIndex, int operatorStrategyIndex,
+                                                                                               SensitivityResultWriter resultWriter) {
+        return new StateWriter<>(contingencyIndex, operatorStrategyIndex, resultWriter);
+    }
+
+    private record FunctionKey(SensitivityFunctionType type, String id) {
+    }
+
+    private record Value(int factorIndex, FunctionKey function, double sensitivityValue, double functionReference) {
+
+        double rank() {
+            // NaN values come last
+            return Double.isNaN(sensitivityValue) ? -1 : Math.abs(sensitivityValue);
+        }
+    }
+
+    final class StateWriter<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity> {
+
+        private final int contingencyIndex;
+
+        private final int operatorStrategyIndex;
+
+        private final SensitivityResultWriter resultWriter;
+
+        private final List<Value> values = new ArrayList<>();
+
+        private StateWriter(int contingencyIndex, int operatorStrategyIndex, SensitivityResultWriter resultWriter) {
+            this.contingencyIndex = contingencyIndex;
+            this.operatorStrategyIndex = operatorStrategyIndex;
+            this.resultWriter = Objects.requireNonNull(resultWriter);
+        }
+
+        private boolean isBaseState() {
+            return contingencyIndex == -1 && operatorStrategyIndex == -1;
+        }
+
+        private boolean isUnchanged(LfSensitivityFactor<V, E> factor, double sensitivityValue, double functionReference) {
+            // factors only computed for a contingency have no base values
+            return Math.abs(sensitivityValue - factor.getBaseSensitivityValue()) <= unchangedValueThreshold
+                    && Math.abs(functionReference - factor.getBaseFunctionReference()) <= unchangedValueThreshold;
+        }
+
+        /**
+         * Add an unscaled value of a factor.
+         */
+        void add(LfSensitivityFactor<V, E> factor, double sensitivityValue, double functionReference) {
+            if (isBaseState()) {
+                factor.setBaseValues(sensitivityValue, functionReference);
+            }
+            if (AbstractSensitivityAnalysis.filterSensitivityValue(sensitivityValue, factor.getVariableType(), factor.getFunctionType(), parameters)) {
+                belowThresholdCount.increment();
+                return;
+            }
+            if (skipUnchangedValues && !isBaseState() && isUnchanged(factor, sensitivityValue, functionReference)) {
+                unchangedCount.increment();
+                return;
+            }
+            if (maxValuesPerFunction > 0) {
+                values.add(new Value(factor.getIndex(), new FunctionKey(factor.getFunctionType(), factor.getFunctionId()), sensitivityValue, functionReference));
+            } else {
+                resultWriter.writeSensitivityValue(factor.getIndex(), contingencyIndex, operatorStrategyIndex, sensitivityValue, functionReference);
+            }
+        }
+
+        /**
+         * Write the values kept for each function, in the order they have been added.
+         */
+        void end() {
+            if (values.isEmpty()) {
+                return;
+            }
+            Map<FunctionKey, List<Integer>> valueNumsByFunction = new HashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                valueNumsByFunction.computeIfAbsent(values.get(i).function(), k -> new ArrayList<>()).add(i);
+            }
+            boolean[] suppressed = new boolean[values.size()];
+            for (List<Integer> valueNums : valueNumsByFunction.values()) {
+                if (valueNums.size() > maxValuesPerFunction) {
+                    valueNums.sort(Comparator.comparingDouble((Integer i) -> values.get(i).rank()).reversed());
+                    for (int i : valueNums.subList(maxValuesPerFunction, valueNums.size())) {
+                        suppressed[i] = true;
+                    }
+                    beyondMaxPerFunctionCount.add(valueNums.size() - (long) maxValuesPerFunction);
+                }
+            }
+            for (int i = 0; i < values.size(); i++) {
+                if (!suppressed[i]) {
+                    Value value = values.get(i);
+                    resultWriter.writeSensitivityValue(value.factorIndex(), contingencyIndex, operatorStrategyIndex, value.sensitivityValue(), value.functionReference());
+                }
+            }
+            values.clear();
+        }
+    }
+}
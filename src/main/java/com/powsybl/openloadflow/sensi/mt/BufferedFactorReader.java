@@ -9,40 +9,136 @@
 package com.powsybl.openloadflow.sensi.mt;
 
 import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.contingency.ContingencyContextType;
 import com.powsybl.sensitivity.SensitivityFactor;
 import com.powsybl.sensitivity.SensitivityFactorReader;
 import com.powsybl.sensitivity.SensitivityFunctionType;
 import com.powsybl.sensitivity.SensitivityVariableType;
+import gnu.trove.impl.Constants;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.apache.commons.lang3.tuple.Pair;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * @author Didier Vidal {@literal <didier.vidal-ext at rte-france.com>}
- * A class that reads factors once from the source and can then provide them to each thread
+ * A class that reads factors once from the source and can then provide them to each thread.
+ * Factors are not kept as {@link SensitivityFactor} objects but in a columnar way: function and variable types as
+ * ordinals, function and variable ids and contingency contexts as indexes in interned tables, so that millions of
+ * factors sharing a few thousands ids only cost a few bytes each. The store is read only once built, and can be read
+ * concurrently by all threads.
  */
 public class BufferedFactorReader implements SensitivityFactorReader, SensitivityFactorReader.Handler {
 
-    private final List<SensitivityFactor> entries = new ArrayList<>();
+    private static final SensitivityFunctionType[] FUNCTION_TYPES = SensitivityFunctionType.values();
+
+    private static final SensitivityVariableType[] VARIABLE_TYPES = SensitivityVariableType.values();
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final List<String> ids = new ArrayList<>();
+
+    private final TObjectIntMap<String> idIndex = new TObjectIntHashMap<>(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, -1);
+
+    private final List<ContingencyContext> contingencyContexts = new ArrayList<>();
+
+    private final Map<Pair<ContingencyContextType, String>, Integer> contingencyContextIndex = new HashMap<>();
+
+    private byte[] functionTypes = new byte[INITIAL_CAPACITY];
+
+    private byte[] variableTypes = new byte[INITIAL_CAPACITY];
+
+    private int[] functionIds = new int[INITIAL_CAPACITY];
+
+    private int[] variableIds = new int[INITIAL_CAPACITY];
+
+    private int[] contingencyContextNums = new int[INITIAL_CAPACITY];
+
+    private final BitSet variableSets = new BitSet();
+
+    private int size = 0;
 
     public BufferedFactorReader(SensitivityFactorReader source) {
         source.read(this);
+        trim();
+    }
+
+    private int internId(String id) {
+        int num = idIndex.get(id);
+        if (num == -1) {
+            num = ids.size();
+            ids.add(id);
+            idIndex.put(id, num);
+        }
+        return num;
+    }
+
+    private int internContingencyContext(ContingencyContext contingencyContext) {
+        return contingencyContextIndex.computeIfAbsent(Pair.of(contingencyContext.getContextType(), contingencyContext.getContingencyId()), k -> {
+            contingencyContexts.add(contingencyContext);
+            return contingencyContexts.size() - 1;
+        });
+    }
+
+    private void ensureCapacity() {
+        if (size == functionTypes.length) {
+            int capacity = functionTypes.length * 2;
+            functionTypes = Arrays.copyOf(functionTypes, capacity);
+            variableTypes = Arrays.copyOf(variableTypes, capacity);
+            functionIds = Arrays.copyOf(functionIds, capacity);
+            variableIds = Arrays.copyOf(variableIds, capacity);
+            contingencyContextNums = Arrays.copyOf(contingencyContextNums, capacity);
+        }
+    }
+
+    private void trim() {
+        functionTypes = Arrays.copyOf(functionTypes, size);
+        variableTypes = Arrays.copyOf(variableTypes, size);
+        functionIds = Arrays.copyOf(functionIds, size);
+        variableIds = Arrays.copyOf(variableIds, size);
+        contingencyContextNums = Arrays.copyOf(contingencyContextNums, size);
+    }
+
+    public int getFactorCount() {
+        return size;
+    }
 
+    /**
+     * Get the factor at a given index, created on demand from the columnar store.
+     */
+    public SensitivityFactor getFactor(int index) {
+        Objects.checkIndex(index, size);
+        return new SensitivityFactor(FUNCTION_TYPES[functionTypes[index]],
+                ids.get(functionIds[index]),
+                VARIABLE_TYPES[variableTypes[index]],
+                ids.get(variableIds[index]),
+                variableSets.get(index),
+                contingencyContexts.get(contingencyContextNums[index]));
     }
 
     @Override
     public void read(Handler handler) {
-        entries.forEach(e -> handler.onFactor(e.getFunctionType(),
-                e.getFunctionId(),
-                e.getVariableType(),
-                e.getVariableId(),
-                e.isVariableSet(),
-                e.getContingencyContext()));
+        for (int i = 0; i < size; i++) {
+            handler.onFactor(FUNCTION_TYPES[functionTypes[i]],
+                    ids.get(functionIds[i]),
+                    VARIABLE_TYPES[variableTypes[i]],
+                    ids.get(variableIds[i]),
+                    variableSets.get(i),
+                    contingencyContexts.get(contingencyContextNums[i]));
+        }
     }
 
     @Override
     public void onFactor(SensitivityFunctionType functionType, String functionId, SensitivityVariableType variableType,
                          String variableId, boolean variableSet, ContingencyContext contingencyContext) {
-        entries.add(new SensitivityFactor(functionType, functionId, variableType, variableId, variableSet, contingencyContext));
+        ensureCapacity();
+        functionTypes[size] = (byte) functionType.ordinal();
+        variableTypes[size] = (byte) variableType.ordinal();
+        functionIds[size] = internId(functionId);
+        variableIds[size] = internId(variableId);
+        contingencyContextNums[size] = internContingencyContext(contingencyContext);
+        variableSets.set(size, variableSet);
+        size++;
     }
 }
@@ -8,72 +8,349 @@
 
 package com.powsybl.openloadflow.sensi.mt;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.sensitivity.SensitivityAnalysisResult;
 import com.powsybl.sensitivity.SensitivityResultWriter;
 
 import java.io.Closeable;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  *  @author Didier Vidal {@literal <didier.vidal-ext at rte-france.com>}
- * This class ensures that only one thread will write sensitivity results
+ * This class ensures that only one thread will write sensitivity results.
+ * Each computation thread fills its own batch of values, made of preallocated primitive arrays, and hands it to the
+ * writer thread once full. Written batches are recycled, so that no object is allocated per value once all batches
+ * have been created. The number of batches is bounded, so that computation threads block instead of filling memory
+ * when the underlying writer is slower than the computation. Once the underlying writer has failed, computation threads
+ * fail as soon as they need a new batch. If the writer is not closed, its thread is stopped when it becomes unreachable.
  */
 public class SequentialSensitivityResultWriter implements SensitivityResultWriter, Closeable {
 
-    private final SensitivityResultWriter sensitivityResultWriter;
-    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>());
-    private final Map<Integer, Boolean> baseCaseSensitivityValueWritten = new ConcurrentHashMap<>();
     static final int VALUE_BATCH_SIZE = 100;
-    private final ThreadLocal<List<SensitivityRecord>> localBatch = ThreadLocal.withInitial(() -> new ArrayList<>(VALUE_BATCH_SIZE));
+    public static final int DEFAULT_MAX_BATCH_COUNT = 1000;
 
-    record SensitivityRecord(int factorIndex, int contingencyIndex, int operatorStrategyIndex, double value, double functionReference) { }
+    private static final class Batch {
+
+        private final int[] factorIndexes = new int[VALUE_BATCH_SIZE];
+        private final int[] contingencyIndexes = new int[VALUE_BATCH_SIZE];
+        private final int[] operatorStrategyIndexes = new int[VALUE_BATCH_SIZE];
+        private final double[] values = new double[VALUE_BATCH_SIZE];
+        private final double[] functionReferences = new double[VALUE_BATCH_SIZE];
+        private int size = 0;
+
+        // state status to write after the values, if any
+        private SensitivityAnalysisResult.Status status;
+        private int statusContingencyIndex;
+        private int statusOperatorStrategyIndex;
+
+        private boolean isEmpty() {
+            return size == 0 && status == null;
+        }
+
+        private void clear() {
+            size = 0;
+            status = null;
+        }
+    }
+
+    private static final Batch END_OF_RESULTS = new Batch();
+
+    private static final long FREE_BATCH_POLL_TIMEOUT_MS = 100;
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /**
+     * Writing side, run by the writer thread. It does not refer to the enclosing result writer, so that the latter
+     * can become unreachable and stop the writer thread if it is never closed.
+     */
+    private static final class BatchWriter implements Runnable {
+
+        private final SensitivityResultWriter sensitivityResultWriter;
+        private final BlockingQueue<Batch> freeBatches;
+        private final BlockingQueue<Batch> pendingBatches;
+        private volatile Throwable failure;
+        private volatile boolean stopped = false;
+
+        private BatchWriter(SensitivityResultWriter sensitivityResultWriter, BlockingQueue<Batch> freeBatches, BlockingQueue<Batch> pendingBatches) {
+            this.sensitivityResultWriter = sensitivityResultWriter;
+            this.freeBatches = freeBatches;
+            this.pendingBatches = pendingBatches;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Batch batch = pendingBatches.take();
+                    if (batch == END_OF_RESULTS) {
+                        return;
+                    }
+                    try {
+                        // once the underlying writer failed, batches are only recycled, the failure being recorded
+                        // before so that computation threads getting a recycled batch see it
+                        if (failure == null) {
+                            write(batch);
+                        }
+                    } catch (Throwable t) {
+                        failure = t;
+                    } finally {
+                        batch.clear();
+                        freeBatches.add(batch);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                stopped = true;
+            }
+        }
+
+        private void write(Batch batch) {
+            for (int i = 0; i < batch.size; i++) {
+                sensitivityResultWriter.writeSensitivityValue(batch.factorIndexes[i], batch.contingencyIndexes[i], batch.operatorStrategyIndexes[i],
+                        batch.values[i], batch.functionReferences[i]);
+            }
+            if (batch.status != null) {
+                sensitivityResultWriter.writeStateStatus(batch.statusContingencyIndex, batch.statusOperatorStrategyIndex, batch.status);
+            }
+        }
+
+        private void stop() {
+            // never full: there is at most one pending batch per existing batch, plus the end of results
+            pendingBatches.offer(END_OF_RESULTS);
+        }
+    }
+
+    /**
+     * Bit set updated with compare-and-set, made of fixed size pages so that it can grow without losing concurrent
+     * updates: growing only copies the page references.
+     */
+    private static final class ConcurrentBitSet {
+
+        private static final int PAGE_WORD_COUNT = 64;
+        private static final int PAGE_BIT_COUNT = PAGE_WORD_COUNT * Long.SIZE;
+
+        private volatile AtomicLongArray[] pages;
+
+        private ConcurrentBitSet(int initialBitCount) {
+            pages = new AtomicLongArray[(initialBitCount + PAGE_BIT_COUNT - 1) / PAGE_BIT_COUNT];
+            Arrays.setAll(pages, i -> new AtomicLongArray(PAGE_WORD_COUNT));
+        }
+
+        private AtomicLongArray getPage(int pageIndex) {
+            AtomicLongArray[] currentPages = pages;
+            if (pageIndex < currentPages.length) {
+                return currentPages[pageIndex];
+            }
+            synchronized (this) {
+                currentPages = pages;
+                if (pageIndex >= currentPages.length) {
+                    AtomicLongArray[] newPages = Arrays.copyOf(currentPages, Math.max(pageIndex + 1, currentPages.length * 2));
+                    for (int i = currentPages.length; i < newPages.length; i++) {
+                        newPages[i] = new AtomicLongArray(PAGE_WORD_COUNT);
+                    }
+                    pages = newPages;
+                    currentPages = newPages;
+                }
+                return currentPages[pageIndex];
+            }
+        }
+
+        /**
+         * Set a bit and return true if it was not already set.
+         */
+        private boolean set(int index) {
+            AtomicLongArray page = getPage(index / PAGE_BIT_COUNT);
+            int word = (index % PAGE_BIT_COUNT) / Long.SIZE;
+            long mask = 1L << (index % Long.SIZE);
+            long bits = page.get(word);
+            while ((bits & mask) == 0) {
+                long witness = page.compareAndExchange(word, bits, bits | mask);
+                if (witness == bits) {
+                    return true;
+                }
+                bits = witness;
+            }
+            return false;
+        }
+    }
+
+    private final int maxBatchCount;
+    private final AtomicInteger batchCount = new AtomicInteger();
+    private final BlockingQueue<Batch> freeBatches;
+    private final BlockingQueue<Batch> pendingBatches;
+    private final ThreadLocal<Batch> localBatch = new ThreadLocal<>();
+    private final ConcurrentBitSet baseCaseSensitivityValueWritten;
+    private final BatchWriter batchWriter;
+    private final Thread writerThread;
+    private final Cleaner.Cleanable writerThreadStopper;
 
     public SequentialSensitivityResultWriter(SensitivityResultWriter sensitivityResultWriter) {
-        this.sensitivityResultWriter = sensitivityResultWriter;
+        this(sensitivityResultWriter, 0);
+    }
+
+    /**
+     * @param factorCount number of factors, used to size the base case deduplication up front. It grows if a greater
+     *                    factor index is written.
+     */
+    public SequentialSensitivityResultWriter(SensitivityResultWriter sensitivityResultWriter, int factorCount) {
+        this(sensitivityResultWriter, factorCount, DEFAULT_MAX_BATCH_COUNT);
+    }
+
+    public SequentialSensitivityResultWriter(SensitivityResultWriter sensitivityResultWriter, int factorCount, int maxBatchCount) {
+        if (factorCount < 0) {
+            throw new IllegalArgumentException("Invalid factor count: " + factorCount);
+        }
+        if (maxBatchCount < 1) {
+            throw new IllegalArgumentException("Invalid max batch count: " + maxBatchCount);
+        }
+        this.maxBatchCount = maxBatchCount;
+        freeBatches = new ArrayBlockingQueue<>(maxBatchCount);
+        pendingBatches = new ArrayBlockingQueue<>(maxBatchCount + 1); // + end of results
+        baseCaseSensitivityValueWritten = new ConcurrentBitSet(factorCount);
+        batchWriter = new BatchWriter(sensitivityResultWriter, freeBatches, pendingBatches);
+        writerThread = Thread.ofPlatform()
+                .name("olf-sensi-result-writer")
+                .daemon(true)
+                .start(batchWriter);
+        writerThreadStopper = CLEANER.register(this, batchWriter::stop);
+    }
+
+    private static PowsyblException createInterruptedException(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return new PowsyblException("Interrupted while waiting for sensitivity result writer", e);
+    }
+
+    /**
+     * Fail fast if the writer thread cannot write the batches anymore, instead of waiting for a batch which will never
+     * be written.
+     */
+    private void checkWriter() {
+        Throwable failure = batchWriter.failure;
+        if (failure != null) {
+            throw new PowsyblException("Sensitivity result writer failed", failure);
+        }
+        if (batchWriter.stopped) {
+            throw new PowsyblException("Sensitivity result writer stopped");
+        }
+    }
+
+    private Batch takeFreeBatch() {
+        try {
+            Batch batch = null;
+            while (batch == null) {
+                checkWriter();
+                batch = freeBatches.poll(FREE_BATCH_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            }
+            return batch;
+        } catch (InterruptedException e) {
+            throw createInterruptedException(e);
+        }
+    }
+
+    private Batch getLocalBatch() {
+        Batch batch = localBatch.get();
+        if (batch == null) {
+            batch = freeBatches.poll();
+            if (batch == null) {
+                int count = batchCount.get();
+                while (batch == null && count < maxBatchCount) {
+                    if (batchCount.compareAndSet(count, count + 1)) {
+                        batch = new Batch();
+                    } else {
+                        count = batchCount.get();
+                    }
+                }
+                if (batch == null) {
+                    // back-pressure: wait for the writer thread to recycle a batch
+                    batch = takeFreeBatch();
+                }
+            }
+            try {
+                checkWriter();
+            } catch (PowsyblException e) {
+                freeBatches.add(batch);
+                throw e;
+            }
+            localBatch.set(batch);
+        }
+        return batch;
     }
 
     @Override
     public void writeSensitivityValue(int factorIndex, int contingencyIndex, int operatorStrategyIndex, double value, double functionReference) {
-        List<SensitivityRecord> records = localBatch.get();
-        if (contingencyIndex == -1) {
-            // Write the base case only once
-            baseCaseSensitivityValueWritten.computeIfAbsent(factorIndex, i -> {
-                records.add(new SensitivityRecord(factorIndex, contingencyIndex, operatorStrategyIndex, value, functionReference));
-                return Boolean.TRUE;
-            });
-        } else {
-            records.add(new SensitivityRecord(factorIndex, contingencyIndex, operatorStrategyIndex, value, functionReference));
-        }
-        if (records.size() == VALUE_BATCH_SIZE) {
+        // Write the base case only once
+        if (contingencyIndex == -1 && !baseCaseSensitivityValueWritten.set(factorIndex)) {
+            return;
+        }
+        Batch batch = getLocalBatch();
+        int i = batch.size++;
+        batch.factorIndexes[i] = factorIndex;
+        batch.contingencyIndexes[i] = contingencyIndex;
+        batch.operatorStrategyIndexes[i] = operatorStrategyIndex;
+        batch.values[i] = value;
+        batch.functionReferences[i] = functionReference;
+        if (batch.size == VALUE_BATCH_SIZE) {
             flush();
         }
     }
 
+    /**
+     * Send the batch of values of the current thread to the writer thread.
+     */
     public void flush() {
-        List<SensitivityRecord> records = localBatch.get();
-        localBatch.set(new ArrayList<>(VALUE_BATCH_SIZE));
-        executor.execute(() -> records.forEach(r ->
-                sensitivityResultWriter.writeSensitivityValue(r.factorIndex, r.contingencyIndex, r.operatorStrategyIndex, r.value, r.functionReference)));
+        Batch batch = localBatch.get();
+        if (batch == null) {
+            return;
+        }
+        localBatch.remove();
+        if (batch.isEmpty()) {
+            freeBatches.add(batch);
+            return;
+        }
+        try {
+            pendingBatches.put(batch);
+        } catch (InterruptedException e) {
+            throw createInterruptedException(e);
+        }
     }
 
     @Override
     public void writeStateStatus(int contingencyIndex, int operatorStrategyIndex, SensitivityAnalysisResult.Status status) {
-        flush(); // send all previous values to the writer in case it expects ordered data
-
+        // the status is written after all previous values of the thread in case the writer expects ordered data
         // Not called for the base case. No need to manage duplicate calls.
-        executor.execute(() -> sensitivityResultWriter.writeStateStatus(contingencyIndex, operatorStrategyIndex, status));
+        Batch batch = getLocalBatch();
+        batch.status = status;
+        batch.statusContingencyIndex = contingencyIndex;
+        batch.statusOperatorStrategyIndex = operatorStrategyIndex;
+        flush();
     }
 
     @Override
     public void close() {
-        // close shutdowns the executor service and waits until completion of all submitted tasks
-        localBatch.remove();
-        executor.close();
+        // wait until all the pending batches are written
+        flush();
+        writerThreadStopper.clean();
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            throw createInterruptedException(e);
+        }
+        Throwable failure = batchWriter.failure;
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        if (failure != null) {
+            throw new PowsyblException(failure);
+        }
     }
 }
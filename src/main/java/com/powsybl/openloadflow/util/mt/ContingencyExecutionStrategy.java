@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.util.mt;
+
+import com.powsybl.commons.PowsyblException;
+import org.apache.commons.compress.utils.Lists;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
+
+/**
+ * Strategy to execute the contingency partitions of a multi-threaded security or sensitivity analysis, see
+ * {@link ContingencyMultiThreadHelper}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface ContingencyExecutionStrategy {
+
+    String DEFAULT_NAME = "Default";
+
+    /**
+     * Executor of contingency partitions, closed once all partitions have been run.
+     */
+    interface PartitionExecutor extends Executor, AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    static List<ContingencyExecutionStrategy> findAll() {
+        return Lists.newArrayList(ServiceLoader.load(ContingencyExecutionStrategy.class, ContingencyExecutionStrategy.class.getClassLoader()).iterator());
+    }
+
+    static ContingencyExecutionStrategy find(String name) {
+        Objects.requireNonNull(name);
+        return findAll().stream().filter(strategy -> name.equals(strategy.getName()))
+                .findFirst().orElseThrow(() -> new PowsyblException("ContingencyExecutionStrategy '" + name + "' not found"));
+    }
+
+    String getName();
+
+    /**
+     * Create the executor of the contingency partitions of a run.
+     *
+     * @param partitionCount the number of contingency partitions to run in parallel
+     * @param defaultExecutor the executor of the computation manager
+     */
+    PartitionExecutor createExecutor(int partitionCount, Executor defaultExecutor);
+}
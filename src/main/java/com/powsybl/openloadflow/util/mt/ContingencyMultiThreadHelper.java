@@ -162,7 +162,8 @@ public final class ContingencyMultiThreadHelper {
         //    - we cannot read or write on an exising variant while another thread clone or remove a variant
         //    - be aware that even after LF network loading, though LF network we get access to original IIDM
         //      variant (for instance to get reactive capability curve), so allowVariantMultiThreadAccess mode
-        //      is absolutely required
+        //      is absolutely required (except for detached LF networks, see {@code LfNetworkParameters#isDetached},
+        //      but IIDM network is still read by actions creation)
         //  so in order to be thread safe, we need to:
         //    - lock LF network creation (which create a working variant, see {@code LfNetworkList})
         //    - delay {@code LfNetworkList} closing (which remove a working variant) out of worker thread
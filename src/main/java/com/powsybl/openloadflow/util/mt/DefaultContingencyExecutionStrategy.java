@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.util.mt;
+
+import com.google.auto.service.AutoService;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Run contingency partitions on the executor of the computation manager.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(ContingencyExecutionStrategy.class)
+public class DefaultContingencyExecutionStrategy implements ContingencyExecutionStrategy {
+
+    @Override
+    public String getName() {
+        return DEFAULT_NAME;
+    }
+
+    @Override
+    public PartitionExecutor createExecutor(int partitionCount, Executor defaultExecutor) {
+        Objects.requireNonNull(defaultExecutor);
+        return new PartitionExecutor() {
+            @Override
+            public void execute(Runnable command) {
+                defaultExecutor.execute(command);
+            }
+
+            @Override
+            public void close() {
+                // the computation manager executor is not owned by the run
+            }
+        };
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.util.mt;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.powsybl.commons.PowsyblException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public final class MultiThreadHelper {
+
+    /**
+     * Executor shared by the parallel computations of a load flow (equation system creation, Jacobian matrix build,
+     * network loading), so that no thread pool is created per computation. Threads are daemon and created on demand,
+     * so that tasks waiting for sub-tasks never starve the pool, the parallelism of a computation being bounded by
+     * the number of tasks it submits.
+     */
+    private static final class SharedExecutorHolder {
+
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("olf-shared-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    private MultiThreadHelper() {
+    }
+
+    public static Executor getSharedExecutor() {
+        return SharedExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Apply a function to each item of a list, using up to the given number of workers of the shared executor (see
+     * {@link #getSharedExecutor()}), each worker taking the next item not yet processed. Results are returned in
+     * the order of the items, whatever the order of completion, so that the result does not depend on the thread
+     * count. With one thread or a single item, the function is applied on the calling thread.
+     */
+    public static <T, R> List<R> map(List<T> items, int threadCount, Function<T, R> mapper) {
+        Objects.requireNonNull(items);
+        Objects.requireNonNull(mapper);
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threadCount);
+        }
+        if (threadCount == 1 || items.size() <= 1) {
+            return items.stream().map(mapper).toList();
+        }
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicReferenceArray<R> results = new AtomicReferenceArray<>(items.size());
+        int workerCount = Math.min(threadCount, items.size());
+        List<Future<Void>> futures = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            futures.add(submit(getSharedExecutor(), () -> {
+                int index;
+                while ((index = nextIndex.getAndIncrement()) < items.size()) {
+                    results.set(index, mapper.apply(items.get(index)));
+                }
+                return null;
+            }));
+        }
+        getAll(futures);
+        List<R> resultList = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            resultList.add(results.get(i));
+        }
+        return resultList;
+    }
+
+    /**
+     * Same as {@link #map(List, int, Function)} but running the function on a given executor, which is not
+     * shut down as not owned. With a single item, the function is applied on the calling thread.
+     */
+    public static <T, R> List<R> map(List<T> items, Executor executor, Function<T, R> mapper) {
+        Objects.requireNonNull(items);
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(mapper);
+        if (items.size() <= 1) {
+            return items.stream().map(mapper).toList();
+        }
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(submit(executor, () -> mapper.apply(item)));
+        }
+        return getAll(futures);
+    }
+
+    /**
+     * Submit a task to an executor which is not necessarily an {@link ExecutorService}.
+     */
+    public static <R> Future<R> submit(Executor executor, Callable<R> callable) {
+        Objects.requireNonNull(executor);
+        FutureTask<R> task = new FutureTask<>(callable);
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Wait for the completion of a future belonging to a group of futures. If the task has failed or if the waiting
+     * thread is interrupted, all the futures of the group are cancelled. A runtime exception thrown by the task is
+     * rethrown as is, any other failure is wrapped in a {@link PowsyblException}.
+     */
+    public static <R> R get(List<? extends Future<?>> futures, Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new PowsyblException("Parallel task interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new PowsyblException(e.getCause());
+        }
+    }
+
+    /**
+     * Wait for the completion of all the futures and get their results in the order of the futures.
+     *
+     * @see #get(List, Future)
+     */
+    public static <R> List<R> getAll(List<? extends Future<R>> futures) {
+        List<R> results = new ArrayList<>(futures.size());
+        for (Future<R> future : futures) {
+            results.add(get(futures, future));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.util.mt;
+
+import com.google.auto.service.AutoService;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Run contingency partitions on a dedicated pool of platform threads, bounded by the number of processors available
+ * to the JVM (which accounts for container CPU limits), so that a run never uses more cores than allocated to the
+ * process, whatever the thread count parameter. Partitions exceeding the pool size are queued. Worker threads have a
+ * lower priority than normal so that they yield to latency sensitive services sharing the host.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(ContingencyExecutionStrategy.class)
+public class PlatformThreadsContingencyExecutionStrategy implements ContingencyExecutionStrategy {
+
+    public static final String NAME = "PlatformThreads";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    static int getPoolSize(int partitionCount) {
+        return Math.max(1, Math.min(partitionCount, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @Override
+    public PartitionExecutor createExecutor(int partitionCount, Executor defaultExecutor) {
+        ExecutorService executor = Executors.newFixedThreadPool(getPoolSize(partitionCount), new ThreadFactoryBuilder()
+                .setNameFormat("olf-contingency-%d")
+                .setDaemon(true)
+                .setPriority(Thread.NORM_PRIORITY - 1)
+                .build());
+        return new PartitionExecutor() {
+            @Override
+            public void execute(Runnable command) {
+                executor.execute(command);
+            }
+
+            @Override
+            public void close() {
+                executor.shutdownNow();
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.util.mt;
+
+import com.google.auto.service.AutoService;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Run each contingency partition on its own virtual thread. Virtual threads are cheap to create and release their
+ * carrier thread while blocked, which suits many light partitions (DC) or partitions mostly waiting for a slow result
+ * writer. CPU usage is bounded by the carrier thread pool of the JVM.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(ContingencyExecutionStrategy.class)
+public class VirtualThreadsContingencyExecutionStrategy implements ContingencyExecutionStrategy {
+
+    public static final String NAME = "VirtualThreads";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public PartitionExecutor createExecutor(int partitionCount, Executor defaultExecutor) {
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name("olf-contingency-", 0)
+                .factory());
+        return new PartitionExecutor() {
+            @Override
+            public void execute(Runnable command) {
+                executor.execute(command);
+            }
+
+            @Override
+            public void close() {
+                executor.shutdownNow();
+            }
+        };
+    }
+}
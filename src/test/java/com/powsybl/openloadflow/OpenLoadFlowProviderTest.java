@@ -73,9 +73,9 @@ class OpenLoadFlowProviderTest {
                 "fictitiousGeneratorVoltageControlCheckMode=FORCED, areaInterchangeControl=false, areaInterchangeControlAreaType=ControlArea, " +
                 "forceTargetQInReactiveLimits=false, disableInconsistentVoltageControls=false, extrapolateReactiveLimits=false, " +
                 "generatorsWithZeroMwTargetAreNotStarted=true, isAcDcNetwork=false, detailedReport=false, includeElementsReconnectingSmallComponents=true, " +
-                "allowNonLinearShuntZeroSection=true), equationSystemCreationParameters=DcEquationSystemCreationParameters(updateFlows=true, " +
+                "allowNonLinearShuntZeroSection=true, detached=false, networkLoadingThreadCount=1), equationSystemCreationParameters=DcEquationSystemCreationParameters(updateFlows=true, " +
                 "forcePhaseControlOffAndAddAngle1Var=true, useTransformerRatio=true, dcApproximationType=IGNORE_R), matrixFactory=DenseMatrixFactory, " +
-                "distributedSlack=true, balanceType=PROPORTIONAL_TO_GENERATION_P_MAX, setVToNan=true, maxOuterLoopIterations=20)",
+                "distributedSlack=true, balanceType=PROPORTIONAL_TO_GENERATION_P_MAX, setVToNan=true, maxOuterLoopIterations=20, jacobianMatrixThreadCount=1)",
                 dcParameters.toString());
     }
 
@@ -97,8 +97,8 @@ class OpenLoadFlowProviderTest {
                 "voltageTargetPriorities=[VOLTAGE_SOURCE_CONVERTER, GENERATOR, TRANSFORMER, SHUNT], fictitiousGeneratorVoltageControlCheckMode=FORCED, " +
                 "areaInterchangeControl=false, areaInterchangeControlAreaType=ControlArea, forceTargetQInReactiveLimits=false, " +
                 "disableInconsistentVoltageControls=false, extrapolateReactiveLimits=false, generatorsWithZeroMwTargetAreNotStarted=true, " +
-                "isAcDcNetwork=false, detailedReport=false, includeElementsReconnectingSmallComponents=true, allowNonLinearShuntZeroSection=true), " +
-                "equationSystemCreationParameters=AcEquationSystemCreationParameters(forceA1Var=false), acSolverParameters=NewtonRaphsonParameters(maxIterations=15, " +
+                "isAcDcNetwork=false, detailedReport=false, includeElementsReconnectingSmallComponents=true, allowNonLinearShuntZeroSection=true, detached=false, networkLoadingThreadCount=1), " +
+                "equationSystemCreationParameters=AcEquationSystemCreationParameters(forceA1Var=false, threadCount=1), acSolverParameters=NewtonRaphsonParameters(maxIterations=15, " +
                 "stoppingCriteria=DefaultNewtonRaphsonStoppingCriteria, stateVectorScalingMode=NONE, alwaysUpdateNetwork=false, " +
                 "lineSearchStateVectorScalingMaxIteration=10, lineSearchStateVectorScalingStepFold=1.3333333333333333, " +
                 "maxVoltageChangeStateVectorScalingMaxDv=0.1, maxVoltageChangeStateVectorScalingMaxDphi=0.17453292519943295), " +
@@ -106,7 +106,7 @@ class OpenLoadFlowProviderTest {
                 "maxOuterLoopIterations=20, matrixFactory=DenseMatrixFactory, voltageInitializer=UniformValueVoltageInitializer, " +
                 "asymmetrical=false, slackDistributionFailureBehavior=FAIL, solverFactory=NewtonRaphsonFactory, detailedReport=false, " +
                 "voltageRemoteControlRobustMode=true, minRealisticVoltage=0.5, maxRealisticVoltage=2.0, minNominalVoltageRealisticVoltageCheck=0.0, " +
-                "fixVoltageTargets=false, vectorized=true, voltageInitReport=true)",
+                "fixVoltageTargets=false, vectorized=true, voltageInitReport=true, jacobianMatrixThreadCount=1)",
                      acParameters.toString());
     }
 
@@ -136,7 +136,7 @@ class OpenLoadFlowProviderTest {
     void specificParametersTest() {
         OpenLoadFlowProvider provider = new OpenLoadFlowProvider();
 
-        assertEquals(82, provider.getSpecificParameters().size());
+        assertEquals(84, provider.getSpecificParameters().size());
 
         LoadFlowParameters parameters = new LoadFlowParameters();
 
@@ -162,7 +162,7 @@ class OpenLoadFlowProviderTest {
         Map<String, String> map = provider.createMapFromSpecificParameters(parametersExt);
         // Null values are not serialized by the provider
         long nullValueCount = parametersExt.toMap().values().stream().filter(Objects::isNull).count();
-        assertEquals(82, map.size() + nullValueCount);
+        assertEquals(84, map.size() + nullValueCount);
         assertEquals(2, nullValueCount); // debugDir and outerLoopNames are nullable
         assertEquals(provider.getRawSpecificParameters().size(), map.size() + nullValueCount);
     }
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.ac.equations;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.test.PhaseShifterTestCaseFactory;
+import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.network.FirstSlackBusSelector;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class AcEquationSystemCreatorTest {
+
+    private static String createAndWrite(Network network, AcEquationSystemCreationParameters creationParameters, int parallelMinBranchCount) {
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), new FirstSlackBusSelector()).getFirst();
+        EquationSystem<AcVariableType, AcEquationType> equationSystem = new AcEquationSystemCreator(lfNetwork, creationParameters, parallelMinBranchCount).create();
+        return equationSystem.writeToString(true);
+    }
+
+    private static void assertSameEquationSystem(Network network, boolean forceA1Var) {
+        String ref = createAndWrite(network, new AcEquationSystemCreationParameters(forceA1Var), 1);
+        assertEquals(ref, createAndWrite(network, new AcEquationSystemCreationParameters(forceA1Var, 4), 1));
+    }
+
+    @Test
+    void testParallelBranchTermCreation() {
+        assertSameEquationSystem(IeeeCdfNetworkFactory.create118(), false);
+        assertSameEquationSystem(PhaseShifterTestCaseFactory.create(), true);
+    }
+}
@@ -17,9 +17,16 @@ import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.ShuntNetworkFactory;
 import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.math3.complex.Complex;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -56,6 +63,36 @@ class AdmittanceMatrixTest {
         }
     }
 
+    @Test
+    void testBulkZ() {
+        Network network = EurostagTutorialExample1Factory.create();
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), new FirstSlackBusSelector()).get(0);
+        var ySystem = AdmittanceEquationSystem.create(lfNetwork, new VariableSet<>());
+        List<Pair<LfBus, LfBus>> busPairs = new ArrayList<>();
+        for (LfBus bus1 : lfNetwork.getBuses()) {
+            for (LfBus bus2 : lfNetwork.getBuses()) {
+                if (bus1 != bus2) {
+                    busPairs.add(Pair.of(bus1, bus2));
+                }
+            }
+        }
+        try (var y = AdmittanceMatrix.create(ySystem, new DenseMatrixFactory())) {
+            assertEquals(AdmittanceMatrix.DEFAULT_MAX_RHS_COLUMN_COUNT, y.getMaxRhsColumnCount());
+            assertThrows(IllegalArgumentException.class, () -> y.setMaxRhsColumnCount(1));
+            // all the pairs in one solve, then in blocks of 2 columns
+            for (int maxRhsColumnCount : List.of(AdmittanceMatrix.DEFAULT_MAX_RHS_COLUMN_COUNT, 2)) {
+                Map<Pair<LfBus, LfBus>, Complex> zByBusPair = y.setMaxRhsColumnCount(maxRhsColumnCount).getZ(busPairs);
+                assertEquals(12, zByBusPair.size());
+                for (Pair<LfBus, LfBus> busPair : busPairs) {
+                    Complex z = y.getZ(busPair.getLeft(), busPair.getRight());
+                    assertEquals(z.getReal(), zByBusPair.get(busPair).getReal(), 1e-9);
+                    assertEquals(z.getImaginary(), zByBusPair.get(busPair).getImaginary(), 1e-9);
+                }
+            }
+            assertEquals(28.582, 1.0 / y.getZ(busPairs).get(Pair.of(lfNetwork.getBusById("VLGEN_0"), lfNetwork.getBusById("VLLOAD_0"))).abs(), 1e-3);
+        }
+    }
+
     @Test
     void testWithShunt() {
         Network network = ShuntNetworkFactory.create();
@@ -17,6 +17,7 @@ import com.powsybl.math.matrix.DenseMatrix;
 import com.powsybl.openloadflow.dc.DcLoadFlowContext;
 import com.powsybl.openloadflow.dc.DcLoadFlowEngine;
 import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.dc.equations.ClosedBranchSide1DcFlowEquationTerm;
 import com.powsybl.openloadflow.equations.EquationTerm;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.action.LfAction;
@@ -33,6 +34,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -112,6 +114,53 @@ class WoodburyEngineTest {
         }
     }
 
+    @Test
+    void testBatchedContingencies() {
+        LfNetwork lfNetwork = LfNetwork.load(fourBusNetwork, new LfNetworkLoaderImpl(), dcParameters.getNetworkParameters()).getFirst();
+        try (DcLoadFlowContext context = new DcLoadFlowContext(lfNetwork, dcParameters)) {
+            new DcLoadFlowEngine(context)
+                    .run();
+            ComputedContingencyElement l23 = new ComputedContingencyElement(new BranchContingency("l23"), lfNetwork, context.getEquationSystem());
+            ComputedContingencyElement l14 = new ComputedContingencyElement(new BranchContingency("l14"), lfNetwork, context.getEquationSystem());
+            List<ComputedContingencyElement> contingencyElements = List.of(l23, l14);
+            ComputedElement.setComputedElementIndexes(contingencyElements);
+
+            DenseMatrix contingenciesStates = ComputedElement.calculateElementsStates(context, contingencyElements);
+            double[] preContingencyStates = WoodburyEngine.runDcLoadFlowWithModifiedTargetVector(context, new DisabledNetwork(), Collections.emptyList(), ReportNode.NO_OP);
+            List<List<ComputedContingencyElement>> contingenciesElements = List.of(List.of(l23), List.of(l14), List.of(l23, l14), Collections.emptyList());
+            double[][] postContingencyStates = new double[contingenciesElements.size()][preContingencyStates.length];
+            WoodburyEngine.toPostContingencyStates(context.getParameters().getEquationSystemCreationParameters(),
+                    contingenciesElements, contingenciesStates, preContingencyStates, postContingencyStates);
+
+            // compare to post contingency states computed one by one
+            for (int i = 0; i < contingenciesElements.size(); i++) {
+                double[] states = preContingencyStates.clone();
+                if (!contingenciesElements.get(i).isEmpty()) {
+                    new WoodburyEngine(context.getParameters().getEquationSystemCreationParameters(), contingenciesElements.get(i), contingenciesStates)
+                            .toPostContingencyAndOperatorStrategyStates(states);
+                }
+                assertArrayEquals(states, postContingencyStates[i], LoadFlowAssert.DELTA_ANGLE);
+            }
+
+            // post contingency flows of monitored branches computed as a single product, compared to flows of post contingency states
+            List<EquationTerm<?, ?>> monitoredFlows = lfNetwork.getBranches().stream()
+                    .map(branch -> (EquationTerm<?, ?>) branch.getP1())
+                    .toList();
+            DenseMatrix preContingencyStatesMatrix = new DenseMatrix(preContingencyStates.length, 1, preContingencyStates);
+            double[] preContingencyFlows = monitoredFlows.stream().mapToDouble(p1 -> p1.calculateSensi(preContingencyStatesMatrix, 0)).toArray();
+            DenseMatrix postContingencyFlows = WoodburyEngine.toPostContingencyFlows(context.getParameters().getEquationSystemCreationParameters(),
+                    contingenciesElements, contingenciesStates, preContingencyStates, monitoredFlows, preContingencyFlows);
+            assertEquals(monitoredFlows.size(), postContingencyFlows.getRowCount());
+            assertEquals(contingenciesElements.size(), postContingencyFlows.getColumnCount());
+            for (int i = 0; i < contingenciesElements.size(); i++) {
+                DenseMatrix statesMatrix = new DenseMatrix(postContingencyStates[i].length, 1, postContingencyStates[i]);
+                for (int m = 0; m < monitoredFlows.size(); m++) {
+                    assertEquals(monitoredFlows.get(m).calculateSensi(statesMatrix, 0), postContingencyFlows.get(m, i), LoadFlowAssert.DELTA_POWER);
+                }
+            }
+        }
+    }
+
     @Test
     void testContingencyAndLineDisconnection() {
         fourBusNetworkRef.getLine("l23").disconnect();
@@ -139,6 +188,39 @@ class WoodburyEngineTest {
         }
     }
 
+    @Test
+    void testProjectedContingencyAndLineDisconnection() {
+        fourBusNetworkRef.getLine("l23").disconnect();
+        fourBusNetworkRef.getLine("l14").disconnect();
+        double[] flowsRef = calculateFlows(fourBusNetworkRef);
+
+        LfNetwork lfNetwork = LfNetwork.load(fourBusNetwork, new LfNetworkLoaderImpl(), dcParameters.getNetworkParameters()).getFirst();
+        try (DcLoadFlowContext context = new DcLoadFlowContext(lfNetwork, dcParameters)) {
+            new DcLoadFlowEngine(context)
+                    .run();
+            List<ComputedContingencyElement> contingencyElements = List.of(new ComputedContingencyElement(new BranchContingency("l23"), lfNetwork, context.getEquationSystem()));
+            ComputedElement.setComputedElementIndexes(contingencyElements);
+
+            List<ComputedElement> actionElements = List.of(ComputedSwitchBranchElement.create(lfNetwork.getBranchById("l14"), false, context.getEquationSystem()));
+            ComputedElement.setComputedElementIndexes(actionElements);
+
+            DenseMatrix contingenciesStates = ComputedElement.calculateElementsStates(context, contingencyElements);
+            DenseMatrix actionsStates = ComputedElement.calculateElementsStates(context, actionElements);
+            WoodburyEngine engine = new WoodburyEngine(context.getParameters().getEquationSystemCreationParameters(), contingencyElements, contingenciesStates, actionElements, actionsStates);
+            double[] flowStatesArray = WoodburyEngine.runDcLoadFlowWithModifiedTargetVector(context, new DisabledNetwork(), Collections.emptyList(), ReportNode.NO_OP);
+            var flowStates = new DenseMatrix(flowStatesArray.length, 1, flowStatesArray);
+
+            // post-contingency flows are directly computed on the monitored branches, pre-contingency states are kept
+            double[] alphas = engine.calculatePostContingencyAndOperatorStrategyAlphas(flowStates)[0];
+            double[] flows = lfNetwork.getBranches().stream()
+                    .filter(branch -> !Set.of("l23", "l14").contains(branch.getId()))
+                    .mapToDouble(branch -> engine.calculatePostContingencyAndOperatorStrategySensi((ClosedBranchSide1DcFlowEquationTerm) branch.getP1(), flowStates, 0, alphas))
+                    .toArray();
+            assertArrayEquals(flowsRef, flows, LoadFlowAssert.DELTA_POWER);
+            assertArrayEquals(flowStatesArray, WoodburyEngine.runDcLoadFlowWithModifiedTargetVector(context, new DisabledNetwork(), Collections.emptyList(), ReportNode.NO_OP), 0);
+        }
+    }
+
     @Test
     void testContingencyAndLineReconnection() {
         double[] flowsRef = calculateFlows(fourBusNetworkRef);
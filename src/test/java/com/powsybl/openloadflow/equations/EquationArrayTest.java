@@ -21,6 +21,8 @@ import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
 import com.powsybl.openloadflow.network.util.UniformValueVoltageInitializer;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -50,14 +52,12 @@ class EquationArrayTest {
         VariableSet<AcVariableType> variableSet = equationSystem.getVariableSet();
         AcEquationSystemCreationParameters creationParameters = new AcEquationSystemCreationParameters();
         AcNetworkVector networkVector = new AcNetworkVector(lfNetwork, equationSystem, creationParameters);
-        AcBranchVector branchVector = networkVector.getBranchVector();
-        AcBusVector busVector = networkVector.getBusVector();
         EquationArray<AcVariableType, AcEquationType> p = equationSystem.createEquationArray(AcEquationType.BUS_TARGET_P);
         EquationTermArray<AcVariableType, AcEquationType> p1Array = new EquationTermArray<>(ElementType.BRANCH,
-                                                                                            new ClosedBranchSide1ActiveFlowEquationTermArrayEvaluator(branchVector, busVector, variableSet));
+                                                                                            new ClosedBranchSide1ActiveFlowEquationTermArrayEvaluator(networkVector, variableSet));
         p.addTermArray(p1Array);
         EquationTermArray<AcVariableType, AcEquationType> p2Array = new EquationTermArray<>(ElementType.BRANCH,
-                                                                                            new ClosedBranchSide2ActiveFlowEquationTermArrayEvaluator(branchVector, busVector, variableSet));
+                                                                                            new ClosedBranchSide2ActiveFlowEquationTermArrayEvaluator(networkVector, variableSet));
         p.addTermArray(p2Array);
         for (LfBranch branch : lfNetwork.getBranches()) {
             LfBus bus1 = branch.getBus1();
@@ -127,6 +127,72 @@ class EquationArrayTest {
                      equationSystem2.getEquationArray(AcEquationType.BUS_TARGET_P).orElseThrow().getElement(1).eval());
     }
 
+    @Test
+    void testStateVersion() {
+        Network network = EurostagTutorialExample1Factory.create();
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), new FirstSlackBusSelector()).get(0);
+        EquationSystem<AcVariableType, AcEquationType> equationSystem = createEquationSystem(lfNetwork);
+        EquationSystem<AcVariableType, AcEquationType> equationSystem2 = createEquationSystemUsingArrayEquations(lfNetwork);
+
+        try (EquationVector<AcVariableType, AcEquationType> equationVector = new EquationVector<>(equationSystem);
+             EquationVector<AcVariableType, AcEquationType> equationVector2 = new EquationVector<>(equationSystem2)) {
+            assertArrayEquals(equationVector.getArray(), equationVector2.getArray());
+
+            // vectorized flows are read from the state vector and only recomputed on version change
+            for (EquationSystem<AcVariableType, AcEquationType> es : List.of(equationSystem, equationSystem2)) {
+                StateVector stateVector = es.getStateVector();
+                long version = stateVector.getVersion();
+                int row = es.getVariable(1, AcVariableType.BUS_V).getRow();
+                stateVector.set(row, 1.05);
+                assertEquals(version + 1, stateVector.getVersion());
+            }
+            assertArrayEquals(equationVector.getArray(), equationVector2.getArray(), 1e-15);
+        }
+    }
+
+    @Test
+    void testBranchFlowReader() {
+        Network network = EurostagTutorialExample1Factory.create();
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), new FirstSlackBusSelector()).get(0);
+        EquationSystem<AcVariableType, AcEquationType> equationSystem = new AcVectorizedEquationSystemCreator(lfNetwork).create();
+        AcSolverUtil.initStateVector(lfNetwork, equationSystem, new UniformValueVoltageInitializer());
+        StateVector stateVector = equationSystem.getStateVector();
+        stateVector.set(equationSystem.getVariable(1, AcVariableType.BUS_PHI).getRow(), -0.05);
+
+        // flows and currents read from the vectorized arrays are the same as the ones evaluated from the terms
+        for (LfBranch branch : lfNetwork.getBranches()) {
+            LfBranch.LfBranchResults flows = lfNetwork.getBranchFlowReader().read(branch);
+            assertNotNull(flows);
+            assertEquals(branch.getP1().eval(), flows.p1(), 0);
+            assertEquals(branch.getQ1().eval(), flows.q1(), 0);
+            assertEquals(branch.getP2().eval(), flows.p2(), 0);
+            assertEquals(branch.getQ2().eval(), flows.q2(), 0);
+            assertEquals(branch.getI1().eval(), flows.i1(), 1e-12);
+            assertEquals(branch.getI2().eval(), flows.i2(), 1e-12);
+        }
+
+        // disabled branch: flows are not maintained in the vectorized arrays, so they have to be evaluated
+        LfBranch branch = lfNetwork.getBranchById("NHV1_NHV2_1");
+        branch.setDisabled(true);
+        assertNull(lfNetwork.getBranchFlowReader().read(branch));
+        assertEquals(branch.getP1().eval(), LfBranchFlowReader.readOrEvaluate(branch).p1(), 0);
+
+        // reader of a replaced equation system does not answer anymore
+        new AcEquationSystemCreator(lfNetwork).create();
+        assertNull(lfNetwork.getBranchFlowReader().read(lfNetwork.getBranchById("NHV1_NHV2_2")));
+    }
+
+    @Test
+    void testBranchFlowReaderResetOnContextClose() {
+        Network network = EurostagTutorialExample1Factory.create();
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), new FirstSlackBusSelector()).get(0);
+        try (var acContext = new AcLoadFlowContext(lfNetwork, new AcLoadFlowParameters().setVectorized(true))) {
+            acContext.getEquationSystem();
+            assertNotSame(LfBranchFlowReader.NONE, lfNetwork.getBranchFlowReader());
+        }
+        assertSame(LfBranchFlowReader.NONE, lfNetwork.getBranchFlowReader());
+    }
+
     /**
      * With SparseMatrixFactory, when calculating the Jacobian Matrix of an equation system with equation arrays,
      * all the terms are added in some order depending on the EquationDerivativeVector order (rows and columns do
@@ -361,6 +361,38 @@ class EquationSystemTest {
         assertEquals(4, equationSystem.getEquationTerms(ElementType.BRANCH, 3).size());
     }
 
+    @Test
+    void variableReferenceCountTest() {
+        LfNetwork network = Networks.load(EurostagTutorialExample1Factory.create(), new FirstSlackBusSelector()).get(0);
+        EquationSystem<AcVariableType, AcEquationType> equationSystem = new EquationSystem<>(AcEquationType.class, network);
+        Variable<AcVariableType> v0 = equationSystem.getVariable(0, AcVariableType.BUS_V);
+        Variable<AcVariableType> v1 = equationSystem.getVariable(1, AcVariableType.BUS_V);
+        assertSame(v0, equationSystem.getVariable(0, AcVariableType.BUS_V));
+        assertEquals(2, equationSystem.getVariableSet().getVariables().size());
+
+        var eq0 = equationSystem.createEquation(network.getBus(0), AcEquationType.BUS_TARGET_V)
+                .addTerm(new VariableEquationTerm<>(v0));
+        var eq1 = equationSystem.createEquation(network.getBus(1), AcEquationType.BUS_TARGET_V)
+                .addTerm(new VariableEquationTerm<>(v0))
+                .addTerm(new VariableEquationTerm<>(v1));
+        assertEquals(List.of(v0, v1), equationSystem.getIndex().getSortedVariablesToFind());
+        assertEquals(2, equationSystem.getIndex().getColumnCount());
+
+        // v0 is still referenced by first equation
+        eq1.setActive(false);
+        assertEquals(List.of(v0), equationSystem.getIndex().getSortedVariablesToFind());
+        assertEquals(-1, v1.getRow());
+
+        eq0.setActive(false);
+        assertTrue(equationSystem.getIndex().getSortedVariablesToFind().isEmpty());
+        assertEquals(-1, v0.getRow());
+
+        eq1.setActive(true);
+        assertEquals(List.of(v0, v1), equationSystem.getIndex().getSortedVariablesToFind());
+        assertEquals(1, equationSystem.getIndex().getColumnCount());
+        assertEquals(2, equationSystem.getEquations().size());
+    }
+
     @Test
     void removeEquationIllegalAccessTest() {
         Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.equations;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.IeeeCdfNetworkFactory;
+import com.powsybl.math.matrix.SparseMatrix;
+import com.powsybl.math.matrix.SparseMatrixFactory;
+import com.powsybl.openloadflow.ac.equations.AcEquationSystemCreator;
+import com.powsybl.openloadflow.ac.equations.AcEquationType;
+import com.powsybl.openloadflow.ac.equations.AcVariableType;
+import com.powsybl.openloadflow.ac.solver.AcSolverUtil;
+import com.powsybl.openloadflow.network.FirstSlackBusSelector;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
+import com.powsybl.openloadflow.network.util.UniformValueVoltageInitializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class JacobianMatrixTest {
+
+    private static void assertSameMatrix(JacobianMatrix<AcVariableType, AcEquationType> j1, JacobianMatrix<AcVariableType, AcEquationType> j2) {
+        SparseMatrix m1 = (SparseMatrix) j1.getMatrix();
+        SparseMatrix m2 = (SparseMatrix) j2.getMatrix();
+        assertArrayEquals(m1.getColumnStart(), m2.getColumnStart());
+        assertArrayEquals(m1.getRowIndices(), m2.getRowIndices());
+        assertEquals(m1.toDense(), m2.toDense());
+    }
+
+    @Test
+    void testParallelInitDer() {
+        Network network = IeeeCdfNetworkFactory.create118();
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), new FirstSlackBusSelector()).getFirst();
+        EquationSystem<AcVariableType, AcEquationType> equationSystem = new AcEquationSystemCreator(lfNetwork).create();
+        AcSolverUtil.initStateVector(lfNetwork, equationSystem, new UniformValueVoltageInitializer());
+
+        try (var j1 = new JacobianMatrix<>(equationSystem, new SparseMatrixFactory());
+             var j2 = new JacobianMatrix<>(equationSystem, new SparseMatrixFactory(), 4, 1)) {
+            assertEquals(4, j2.getThreadCount());
+            assertSameMatrix(j1, j2);
+
+            // update the values only, to check the matrix elements indexes set after the parallel build
+            double[] x = equationSystem.getStateVector().get().clone();
+            Arrays.setAll(x, i -> x[i] * 1.01 + 0.01);
+            equationSystem.getStateVector().set(x);
+            assertSameMatrix(j1, j2);
+        }
+    }
+
+    @Test
+    void testInvalidThreadCount() {
+        LfNetwork lfNetwork = LfNetwork.load(IeeeCdfNetworkFactory.create14(), new LfNetworkLoaderImpl(), new FirstSlackBusSelector()).getFirst();
+        EquationSystem<AcVariableType, AcEquationType> equationSystem = new AcEquationSystemCreator(lfNetwork).create();
+        SparseMatrixFactory matrixFactory = new SparseMatrixFactory();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new JacobianMatrix<>(equationSystem, matrixFactory, 0));
+        assertEquals("Invalid thread count: 0", e.getMessage());
+    }
+}
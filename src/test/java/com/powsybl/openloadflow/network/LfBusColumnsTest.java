@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network;
+
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.openloadflow.network.impl.Networks;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class LfBusColumnsTest {
+
+    @Test
+    void testGrowth() {
+        LfBusColumns columns = new LfBusColumns();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, columns.add(i, -i));
+        }
+        assertEquals(100, columns.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, columns.getV(i), 0);
+            assertEquals(-i, columns.getAngle(i), 0);
+        }
+        columns.setV(42, 400);
+        columns.setAngle(42, 0.1);
+        assertEquals(400, columns.getV(42), 0);
+        assertEquals(0.1, columns.getAngle(42), 0);
+    }
+
+    @Test
+    void testBusView() {
+        LfNetwork network = Networks.load(EurostagTutorialExample1Factory.create(), new FirstSlackBusSelector()).get(0);
+        LfBusColumns columns = network.getBusColumns();
+        assertEquals(network.getBuses().size(), columns.size());
+        LfBus bus = network.getBusById("VLHV1_0");
+        bus.setV(1.02);
+        bus.setAngle(0.05);
+        assertEquals(1.02 * bus.getNominalV(), columns.getV(bus.getNum()), 1e-12);
+        assertEquals(0.05, columns.getAngle(bus.getNum()), 0);
+        columns.setAngle(bus.getNum(), 0.06);
+        assertEquals(0.06, bus.getAngle(), 0);
+    }
+
+    @Test
+    void testNetworkStateRestore() {
+        LfNetwork network = Networks.load(EurostagTutorialExample1Factory.create(), new FirstSlackBusSelector()).get(0);
+        LfBus bus = network.getBusById("VLHV1_0");
+        bus.setV(1.02);
+        bus.setAngle(0.05);
+        NetworkState networkState = NetworkState.save(network);
+        bus.setV(0.9);
+        bus.setAngle(-0.1);
+        networkState.restore();
+        assertEquals(1.02, bus.getV(), 1e-12);
+        assertEquals(0.05, bus.getAngle(), 0);
+
+        LfBusColumns.State otherSizeState = new LfBusColumns.State(new double[1], new double[1]);
+        LfBusColumns columns = network.getBusColumns();
+        assertThrows(IllegalArgumentException.class, () -> columns.restore(otherSizeState));
+    }
+}
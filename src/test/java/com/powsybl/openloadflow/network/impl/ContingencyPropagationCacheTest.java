@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.impl;
+
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.openloadflow.network.LfTopoConfig;
+import com.powsybl.openloadflow.network.NodeBreakerNetworkFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ContingencyPropagationCacheTest {
+
+    private Network network;
+
+    private List<Contingency> contingencies;
+
+    @BeforeEach
+    void setUp() {
+        network = NodeBreakerNetworkFactory.create();
+        contingencies = List.of(new Contingency("c1", new BranchContingency("L1")),
+                                new Contingency("c2", new BranchContingency("L2")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContingencyPropagationCache.clear(network);
+    }
+
+    private record Propagation(Set<String> switchIdsToOpen, List<Set<String>> branchIdsToOpen) {
+    }
+
+    private Propagation propagate(boolean cache) {
+        LfTopoConfig topoConfig = new LfTopoConfig();
+        PropagatedContingencyCreationParameters creationParameters = new PropagatedContingencyCreationParameters()
+                .setHvdcAcEmulation(false)
+                .setPropagationCache(cache);
+        List<PropagatedContingency> propagatedContingencies = PropagatedContingency.createList(network, contingencies, topoConfig, creationParameters);
+        return new Propagation(topoConfig.getSwitchesToOpen().stream().map(Identifiable::getId).collect(Collectors.toSet()),
+                               propagatedContingencies.stream().map(pc -> pc.getBranchIdsToOpen().keySet()).toList());
+    }
+
+    @Test
+    void test() {
+        Propagation expected = propagate(false);
+        ContingencyPropagationCache cache = ContingencyPropagationCache.get(network);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+
+        // first run fills the cache
+        assertEquals(expected, propagate(true));
+        int hitCount = cache.getHitCount();
+        int missCount = cache.getMissCount();
+        assertTrue(missCount > 0);
+
+        // second run fully reuses it
+        assertEquals(expected, propagate(true));
+        assertEquals(hitCount + hitCount + missCount, cache.getHitCount());
+        assertEquals(missCount, cache.getMissCount());
+    }
+
+    @Test
+    void testTopologyChange() {
+        propagate(true);
+        ContingencyPropagationCache cache = ContingencyPropagationCache.get(network);
+        int missCount = cache.getMissCount();
+
+        // a switch operation invalidates the traversals of its voltage level
+        network.getSwitch("C").setOpen(true);
+        Propagation expected = propagate(false);
+        assertEquals(expected, propagate(true));
+        assertTrue(cache.getMissCount() > missCount);
+    }
+
+    @Test
+    void testStructureChange() {
+        propagate(true);
+        ContingencyPropagationCache cache = ContingencyPropagationCache.get(network);
+        int missCount = cache.getMissCount();
+
+        // same switch count and status, but breaker B3 becomes a disconnector
+        VoltageLevel.NodeBreakerView vl2 = network.getVoltageLevel("VL2").getNodeBreakerView();
+        vl2.removeSwitch("B3");
+        vl2.newDisconnector()
+                .setId("B3")
+                .setNode1(0)
+                .setNode2(1)
+                .add();
+        Propagation expected = propagate(false);
+        assertEquals(expected, propagate(true));
+        assertTrue(cache.getMissCount() > missCount);
+    }
+}
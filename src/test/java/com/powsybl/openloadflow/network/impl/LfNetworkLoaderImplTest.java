@@ -14,12 +14,14 @@ import com.powsybl.iidm.network.extensions.ActivePowerControlAdder;
 import com.powsybl.iidm.network.test.BoundaryLineNetworkFactory;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.iidm.network.test.ThreeWindingsTransformerNetworkFactory;
+import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.util.PerUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -331,4 +333,34 @@ class LfNetworkLoaderImplTest extends AbstractLoadFlowNetworkFactory {
         assertEquals(LfGenerator.GeneratorControlType.OFF, generators.get(1).getGeneratorControlType());
         assertEquals(LfGenerator.GeneratorControlType.VOLTAGE, generators.get(2).getGeneratorControlType());
     }
+
+    @Test
+    void testParallelLoading() {
+        Network network = ConnectedComponentNetworkFactory.createTwoUnconnectedCC();
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getLoad("d1").setP0(3); // only in the initial variant
+        network.getVariantManager().allowVariantMultiThreadAccess(true);
+        network.getVariantManager().setWorkingVariant("v");
+        LfNetworkParameters parameters = new LfNetworkParameters()
+                .setSlackBusSelector(new FirstSlackBusSelector())
+                .setComponentMode(LoadFlowParameters.ComponentMode.ALL_CONNECTED);
+        List<LfNetwork> lfNetworks = Networks.load(network, parameters);
+        List<LfNetwork> lfNetworks2 = Networks.load(network, new LfNetworkParameters(parameters).setNetworkLoadingThreadCount(4));
+        assertEquals(2, lfNetworks.size());
+        assertEquals(lfNetworks.size(), lfNetworks2.size());
+        for (int i = 0; i < lfNetworks.size(); i++) {
+            LfNetwork lfNetwork = lfNetworks.get(i);
+            LfNetwork lfNetwork2 = lfNetworks2.get(i);
+            assertEquals(lfNetwork.getNumCC(), lfNetwork2.getNumCC());
+            assertEquals(lfNetwork.getValidity(), lfNetwork2.getValidity());
+            assertEquals(lfNetwork.getBuses().stream().map(LfBus::getId).toList(), lfNetwork2.getBuses().stream().map(LfBus::getId).toList());
+            assertEquals(lfNetwork.getBranches().stream().map(LfBranch::getId).toList(), lfNetwork2.getBranches().stream().map(LfBranch::getId).toList());
+            for (LfBus bus : lfNetwork.getBuses()) {
+                assertEquals(bus.getLoadTargetP(), lfNetwork2.getBusById(bus.getId()).getLoadTargetP(), 0);
+            }
+        }
+        // values of the working variant have been read by worker threads
+        LfBus lfBus1 = lfNetworks2.stream().map(n -> n.getBusById("b1_vl_0")).filter(Objects::nonNull).findFirst().orElseThrow();
+        assertEquals(1 / PerUnit.SB, lfBus1.getLoadTargetP(), 0);
+    }
 }
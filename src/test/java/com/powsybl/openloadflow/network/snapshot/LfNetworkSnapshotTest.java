@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.network.snapshot;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.contingency.violations.BusBreakerViolationLocation;
+import com.powsybl.contingency.violations.NodeBreakerViolationLocation;
+import com.powsybl.contingency.violations.ViolationLocation;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.LimitType;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.ac.AcLoadFlowParameters;
+import com.powsybl.openloadflow.ac.AcloadFlowEngine;
+import com.powsybl.openloadflow.ac.solver.AcSolverStatus;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.dc.DcLoadFlowEngine;
+import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
+import com.powsybl.openloadflow.network.impl.LfSwitch;
+import com.powsybl.openloadflow.network.impl.Networks;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static com.powsybl.openloadflow.util.LoadFlowAssert.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class LfNetworkSnapshotTest {
+
+    @TempDir
+    private Path tmpDir;
+
+    private LfNetwork writeAndRead(LfNetwork lfNetwork, LfNetworkParameters parameters) {
+        Path file = tmpDir.resolve("network.olf");
+        LfNetworkSnapshot.write(lfNetwork, file);
+        List<LfNetwork> lfNetworks = LfNetwork.load(file, new LfNetworkSnapshotLoader(), parameters);
+        assertEquals(1, lfNetworks.size());
+        return lfNetworks.getFirst();
+    }
+
+    private static void runAc(LfNetwork lfNetwork, AcLoadFlowParameters acParameters) {
+        try (var context = new AcLoadFlowContext(lfNetwork, acParameters)) {
+            assertEquals(AcSolverStatus.CONVERGED, new AcloadFlowEngine(context).run().getSolverStatus());
+        }
+    }
+
+    private static void runDc(LfNetwork lfNetwork, DcLoadFlowParameters dcParameters) {
+        try (var context = new DcLoadFlowContext(lfNetwork, dcParameters)) {
+            new DcLoadFlowEngine(context)
+                    .run();
+        }
+    }
+
+    private static void assertSameStructure(LfNetwork expected, LfNetwork actual) {
+        assertEquals(expected.getBuses().stream().map(LfBus::getId).toList(), actual.getBuses().stream().map(LfBus::getId).toList());
+        assertEquals(expected.getBranches().stream().map(LfBranch::getId).toList(), actual.getBranches().stream().map(LfBranch::getId).toList());
+        assertEquals(expected.getSynchronousNetworks().getFirst().getSlackBuses().stream().map(LfBus::getId).toList(),
+                     actual.getSynchronousNetworks().getFirst().getSlackBuses().stream().map(LfBus::getId).toList());
+        for (LfBus expectedBus : expected.getBuses()) {
+            LfBus actualBus = actual.getBusById(expectedBus.getId());
+            assertEquals(expectedBus.getGenerators().stream().map(LfGenerator::getId).toList(), actualBus.getGenerators().stream().map(LfGenerator::getId).toList());
+            assertEquals(expectedBus.getLoads().stream().flatMap(l -> l.getOriginalIds().stream()).toList(), actualBus.getLoads().stream().flatMap(l -> l.getOriginalIds().stream()).toList());
+            assertEquals(expectedBus.isGeneratorVoltageControlled(), actualBus.isGeneratorVoltageControlled());
+            assertEquals(expectedBus.isGeneratorVoltageControlEnabled(), actualBus.isGeneratorVoltageControlEnabled());
+        }
+    }
+
+    private static void assertSameState(LfNetwork expected, LfNetwork actual) {
+        for (LfBus expectedBus : expected.getBuses()) {
+            LfBus actualBus = actual.getBusById(expectedBus.getId());
+            assertEquals(expectedBus.getV(), actualBus.getV(), DELTA_V);
+            assertEquals(expectedBus.getAngle(), actualBus.getAngle(), DELTA_ANGLE);
+        }
+        for (LfBranch expectedBranch : expected.getBranches()) {
+            LfBranch actualBranch = actual.getBranchById(expectedBranch.getId());
+            assertEquals(expectedBranch.getP1().eval(), actualBranch.getP1().eval(), DELTA_POWER);
+            assertEquals(expectedBranch.getP2().eval(), actualBranch.getP2().eval(), DELTA_POWER);
+        }
+    }
+
+    @Test
+    void testAcLoadFlow() {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.createWithFixedCurrentLimits());
+        AcLoadFlowParameters acParameters = new AcLoadFlowParameters()
+                .setMatrixFactory(new DenseMatrixFactory());
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), acParameters.getNetworkParameters()).getFirst();
+        List<LfBranch.LfLimitsGroup> cachedLimits = lfNetwork.getBranchById("NHV1_NHV2_1").getLimits2(LimitType.CURRENT, null);
+        LfNetwork detachedLfNetwork = writeAndRead(lfNetwork, acParameters.getNetworkParameters());
+        // writing has no side effect on the source network
+        assertSame(cachedLimits, lfNetwork.getBranchById("NHV1_NHV2_1").getLimits2(LimitType.CURRENT, null));
+        assertSameStructure(lfNetwork, detachedLfNetwork);
+        assertInstanceOf(LfDetachedBus.class, detachedLfNetwork.getBusById("VLHV1_0"));
+        assertInstanceOf(LfDetachedBranch.class, detachedLfNetwork.getBranchById("NHV1_NHV2_1"));
+
+        runAc(lfNetwork, acParameters);
+        runAc(detachedLfNetwork, acParameters);
+        assertSameState(lfNetwork, detachedLfNetwork);
+        for (LfBranch branch : lfNetwork.getBranches()) {
+            assertEquals(branch.getI1().eval(), detachedLfNetwork.getBranchById(branch.getId()).getI1().eval(), DELTA_I);
+        }
+
+        // limits are restored with same values and acceptable durations
+        LfBranch branch = lfNetwork.getBranchById("NHV1_NHV2_1");
+        LfBranch detachedBranch = detachedLfNetwork.getBranchById("NHV1_NHV2_1");
+        List<LfBranch.LfLimit> limits = branch.getLimits2(LimitType.CURRENT, null).getFirst().getSortedLimits();
+        List<LfBranch.LfLimit> detachedLimits = detachedBranch.getLimits2(LimitType.CURRENT, null).getFirst().getSortedLimits();
+        assertEquals(limits.size(), detachedLimits.size());
+        for (int i = 0; i < limits.size(); i++) {
+            assertEquals(limits.get(i).getName(), detachedLimits.get(i).getName());
+            assertEquals(limits.get(i).getAcceptableDuration(), detachedLimits.get(i).getAcceptableDuration());
+            assertEquals(limits.get(i).getValue(), detachedLimits.get(i).getValue(), 0);
+        }
+
+        // bus results refer to original bus ids
+        assertEquals(lfNetwork.getBusById("VLHV1_0").createBusResults().getFirst().getBusId(),
+                     detachedLfNetwork.getBusById("VLHV1_0").createBusResults().getFirst().getBusId());
+    }
+
+    @Test
+    void testDcLoadFlow() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        DcLoadFlowParameters dcParameters = new DcLoadFlowParameters();
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), dcParameters.getNetworkParameters()).getFirst();
+        LfNetwork detachedLfNetwork = writeAndRead(lfNetwork, dcParameters.getNetworkParameters());
+        assertSameStructure(lfNetwork, detachedLfNetwork);
+
+        runDc(lfNetwork, dcParameters);
+        runDc(detachedLfNetwork, dcParameters);
+        assertSameState(lfNetwork, detachedLfNetwork);
+    }
+
+    @Test
+    void testDetachedNetworkRoundTrip() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        AcLoadFlowParameters acParameters = new AcLoadFlowParameters()
+                .setMatrixFactory(new DenseMatrixFactory());
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), acParameters.getNetworkParameters()).getFirst();
+        LfNetwork detachedLfNetwork = writeAndRead(lfNetwork, acParameters.getNetworkParameters());
+        LfNetwork detachedLfNetwork2 = writeAndRead(detachedLfNetwork, acParameters.getNetworkParameters());
+        assertSameStructure(lfNetwork, detachedLfNetwork2);
+
+        runAc(lfNetwork, acParameters);
+        runAc(detachedLfNetwork2, acParameters);
+        assertSameState(lfNetwork, detachedLfNetwork2);
+    }
+
+    @Test
+    void testDetachNodeBreakerNetwork() {
+        Network network = NodeBreakerNetworkFactory.create();
+        AcLoadFlowParameters acParameters = new AcLoadFlowParameters()
+                .setMatrixFactory(new DenseMatrixFactory());
+        acParameters.getNetworkParameters().setBreakers(true);
+        LfNetwork lfNetwork = Networks.load(network, acParameters.getNetworkParameters()).getFirst();
+        assertInstanceOf(LfSwitch.class, lfNetwork.getBranchById("B3"));
+
+        acParameters.getNetworkParameters().setDetached(true);
+        LfNetwork detachedLfNetwork = Networks.load(network, acParameters.getNetworkParameters()).getFirst();
+        assertSameStructure(lfNetwork, detachedLfNetwork);
+        LfBranch detachedSwitch = detachedLfNetwork.getBranchById("B3");
+        assertInstanceOf(LfDetachedSwitch.class, detachedSwitch);
+        assertEquals(LfBranch.BranchType.SWITCH, detachedSwitch.getBranchType());
+        assertTrue(detachedLfNetwork.getBuses().stream().allMatch(LfDetachedBus.class::isInstance));
+
+        // violation locations are copied
+        for (LfBus bus : lfNetwork.getBuses()) {
+            ViolationLocation location = bus.getViolationLocation();
+            ViolationLocation detachedLocation = detachedLfNetwork.getBusById(bus.getId()).getViolationLocation();
+            if (location == null) {
+                assertNull(detachedLocation);
+            } else {
+                assertEquals(location.getType(), detachedLocation.getType());
+                if (location instanceof NodeBreakerViolationLocation nodeBreakerLocation) {
+                    assertEquals(nodeBreakerLocation.getVoltageLevelId(), ((NodeBreakerViolationLocation) detachedLocation).getVoltageLevelId());
+                    assertEquals(nodeBreakerLocation.getNodes(), ((NodeBreakerViolationLocation) detachedLocation).getNodes());
+                } else {
+                    assertEquals(((BusBreakerViolationLocation) location).getBusIds(), ((BusBreakerViolationLocation) detachedLocation).getBusIds());
+                }
+            }
+        }
+
+        runAc(lfNetwork, acParameters);
+        runAc(detachedLfNetwork, acParameters);
+        assertSameState(lfNetwork, detachedLfNetwork);
+    }
+
+    private static byte[] writeShunt(LfShunt shunt) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            LfNetworkSnapshot.writeShunt(out, shunt);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int getStringSize(String s) {
+        return Integer.BYTES + s.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Test
+    void testShuntRoundTrip() throws IOException {
+        Network network = ShuntNetworkFactory.create();
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), new LfNetworkParameters()).getFirst();
+        LfShunt shunt = lfNetwork.getShunts().getFirst();
+
+        // id, original ids, susceptance, conductance and modification flag, each of them written once
+        int size = getStringSize(shunt.getId()) + Integer.BYTES + shunt.getOriginalIds().stream().mapToInt(LfNetworkSnapshotTest::getStringSize).sum()
+                + 2 * Double.BYTES + 1;
+        byte[] bytes = writeShunt(shunt);
+        assertEquals(size, bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        LfDetachedShunt detachedShunt = LfNetworkSnapshot.readShunt(buffer, lfNetwork);
+        assertFalse(buffer.hasRemaining());
+        assertEquals(shunt.getId(), detachedShunt.getId());
+        assertEquals(shunt.getOriginalIds(), detachedShunt.getOriginalIds());
+        assertEquals(shunt.getB(), detachedShunt.getB());
+        assertEquals(shunt.getG(), detachedShunt.getG());
+        assertEquals(shunt.getB(), detachedShunt.getInitialB());
+        assertEquals(shunt.getG(), detachedShunt.getInitialG());
+
+        // initial values of a modified detached shunt are kept
+        detachedShunt.setB(shunt.getB() + 1);
+        bytes = writeShunt(detachedShunt);
+        assertEquals(size + 2 * Double.BYTES, bytes.length);
+        buffer = ByteBuffer.wrap(bytes);
+        LfDetachedShunt modifiedDetachedShunt = LfNetworkSnapshot.readShunt(buffer, lfNetwork);
+        assertFalse(buffer.hasRemaining());
+        assertEquals(shunt.getB() + 1, modifiedDetachedShunt.getB());
+        assertEquals(shunt.getG(), modifiedDetachedShunt.getG());
+        assertEquals(shunt.getB(), modifiedDetachedShunt.getInitialB());
+        assertEquals(shunt.getG(), modifiedDetachedShunt.getInitialG());
+    }
+
+    @Test
+    void testInvalidBuffer() {
+        Path file = tmpDir.resolve("empty.olf");
+        LfNetworkSnapshot.write(List.of(), file);
+        assertTrue(LfNetworkSnapshot.read(file, new LfNetworkParameters(), ReportNode.NO_OP).isEmpty());
+
+        ByteBuffer buffer = ByteBuffer.allocate(12).putInt(0).putInt(1).putInt(0).flip();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> LfNetworkSnapshot.read(buffer, new LfNetworkParameters(), ReportNode.NO_OP));
+        assertEquals("Buffer does not contain a LfNetwork snapshot", e.getMessage());
+    }
+
+    @Test
+    void testNotSupported() {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        LfNetworkParameters parameters = new LfNetworkParameters()
+                .setTransformerVoltageControl(true);
+        LfNetwork lfNetwork = LfNetwork.load(network, new LfNetworkLoaderImpl(), parameters).getFirst();
+        Path file = tmpDir.resolve("network.olf");
+        PowsyblException e = assertThrows(PowsyblException.class, () -> LfNetworkSnapshot.write(lfNetwork, file));
+        assertEquals("Transformer controls not supported by LfNetwork snapshot (network {CC0 SC0})", e.getMessage());
+        assertEquals(Optional.of("Transformer controls"), LfNetworkSnapshot.findNotSupportedFeature(lfNetwork));
+
+        // detached loading rejects the network instead of keeping it attached
+        parameters.setDetached(true);
+        e = assertThrows(PowsyblException.class, () -> Networks.load(network, parameters));
+        assertEquals("Transformer controls not supported in detached mode (network {CC0 SC0})", e.getMessage());
+    }
+}
@@ -51,7 +51,8 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
 
     @Test
     void specificParametersNamesTest() {
-        assertEquals(List.of("createResultExtension", "contingencyPropagation", "threadCount", "dcFastMode", "contingencyActivePowerLossDistribution", "startWithFrozenACEmulation"),
+        assertEquals(List.of("createResultExtension", "contingencyPropagation", "threadCount", "dcFastMode", "contingencyActivePowerLossDistribution", "startWithFrozenACEmulation", "detachedNetwork", "contingencyPropagationCache", "contextPool", "contingencyExecutionStrategy",
+                "acContingencyScreening", "acContingencyScreeningLoadingThreshold", "acContingencyScreeningMinContingencyCount"),
             provider.getSpecificParametersNames());
     }
 
@@ -92,6 +93,43 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
         assertEquals("Default", parametersExt.getContingencyActivePowerLossDistribution());
         testCount++;
 
+        assertFalse(parametersExt.isDetachedNetwork());
+        parametersExt.setDetachedNetwork(true);
+        assertTrue(parametersExt.isDetachedNetwork());
+        testCount++;
+
+        assertFalse(parametersExt.isContingencyPropagationCache());
+        parametersExt.setContingencyPropagationCache(true);
+        assertTrue(parametersExt.isContingencyPropagationCache());
+        testCount++;
+
+        assertFalse(parametersExt.isContextPool());
+        parametersExt.setContextPool(true);
+        assertTrue(parametersExt.isContextPool());
+        testCount++;
+
+        assertEquals("Default", parametersExt.getContingencyExecutionStrategy());
+        parametersExt.setContingencyExecutionStrategy("VirtualThreads");
+        assertEquals("VirtualThreads", parametersExt.getContingencyExecutionStrategy());
+        testCount++;
+
+        assertFalse(parametersExt.isAcContingencyScreening());
+        parametersExt.setAcContingencyScreening(true);
+        assertTrue(parametersExt.isAcContingencyScreening());
+        testCount++;
+
+        assertEquals(0.9, parametersExt.getAcContingencyScreeningLoadingThreshold());
+        parametersExt.setAcContingencyScreeningLoadingThreshold(0.8);
+        assertEquals(0.8, parametersExt.getAcContingencyScreeningLoadingThreshold());
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setAcContingencyScreeningLoadingThreshold(-1));
+        testCount++;
+
+        assertEquals(0, parametersExt.getAcContingencyScreeningMinContingencyCount());
+        parametersExt.setAcContingencyScreeningMinContingencyCount(10);
+        assertEquals(10, parametersExt.getAcContingencyScreeningMinContingencyCount());
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setAcContingencyScreeningMinContingencyCount(-1));
+        testCount++;
+
         assertEquals(OpenSecurityAnalysisParameters.SPECIFIC_PARAMETERS_NAMES.size(), testCount);
     }
 
@@ -105,6 +143,13 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
         moduleConfig.setStringProperty("startWithFrozenACEmulation", "false");
         moduleConfig.setStringProperty("threadCount", "3");
         moduleConfig.setStringProperty("contingencyActivePowerLossDistribution", "Default");
+        moduleConfig.setStringProperty("detachedNetwork", "true");
+        moduleConfig.setStringProperty("contingencyPropagationCache", "true");
+        moduleConfig.setStringProperty("contextPool", "true");
+        moduleConfig.setStringProperty("contingencyExecutionStrategy", "PlatformThreads");
+        moduleConfig.setStringProperty("acContingencyScreening", "true");
+        moduleConfig.setStringProperty("acContingencyScreeningLoadingThreshold", "0.8");
+        moduleConfig.setStringProperty("acContingencyScreeningMinContingencyCount", "10");
 
         OpenSecurityAnalysisParameters parametersExt = (OpenSecurityAnalysisParameters) provider.loadSpecificParameters(platformConfig).orElseThrow();
         assertTrue(parametersExt.isCreateResultExtension());
@@ -112,6 +157,13 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
         assertTrue(parametersExt.isDcFastMode());
         assertFalse(parametersExt.isStartWithFrozenACEmulation());
         assertEquals(3, parametersExt.getThreadCount());
+        assertTrue(parametersExt.isDetachedNetwork());
+        assertTrue(parametersExt.isContingencyPropagationCache());
+        assertTrue(parametersExt.isContextPool());
+        assertEquals("PlatformThreads", parametersExt.getContingencyExecutionStrategy());
+        assertTrue(parametersExt.isAcContingencyScreening());
+        assertEquals(0.8, parametersExt.getAcContingencyScreeningLoadingThreshold());
+        assertEquals(10, parametersExt.getAcContingencyScreeningMinContingencyCount());
         // check test completeness
 
         assertEquals(OpenSecurityAnalysisParameters.SPECIFIC_PARAMETERS_NAMES.size(), moduleConfig.getPropertyNames().size());
@@ -128,12 +180,20 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
 
     @Test
     void specificParametersFromPropertiesTest() {
-        Map<String, String> properties = Map.of("createResultExtension", "true",
-                "contingencyPropagation", "false",
-                "dcFastMode", "true",
-                "threadCount", "3",
-                "startWithFrozenACEmulation", "false",
-                "contingencyActivePowerLossDistribution", "Default");
+        Map<String, String> properties = Map.ofEntries(
+                Map.entry("createResultExtension", "true"),
+                Map.entry("contingencyPropagation", "false"),
+                Map.entry("dcFastMode", "true"),
+                Map.entry("threadCount", "3"),
+                Map.entry("startWithFrozenACEmulation", "false"),
+                Map.entry("contingencyActivePowerLossDistribution", "Default"),
+                Map.entry("detachedNetwork", "true"),
+                Map.entry("contingencyPropagationCache", "true"),
+                Map.entry("contextPool", "true"),
+                Map.entry("contingencyExecutionStrategy", "PlatformThreads"),
+                Map.entry("acContingencyScreening", "true"),
+                Map.entry("acContingencyScreeningLoadingThreshold", "0.8"),
+                Map.entry("acContingencyScreeningMinContingencyCount", "10"));
         OpenSecurityAnalysisParameters parametersExt = (OpenSecurityAnalysisParameters) provider.loadSpecificParameters(properties).orElseThrow();
         assertTrue(parametersExt.isCreateResultExtension());
         assertFalse(parametersExt.isContingencyPropagation());
@@ -141,6 +201,13 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
         assertEquals(3, parametersExt.getThreadCount());
         assertFalse(parametersExt.isStartWithFrozenACEmulation());
         assertEquals("Default", parametersExt.getContingencyActivePowerLossDistribution());
+        assertTrue(parametersExt.isDetachedNetwork());
+        assertTrue(parametersExt.isContingencyPropagationCache());
+        assertTrue(parametersExt.isContextPool());
+        assertEquals("PlatformThreads", parametersExt.getContingencyExecutionStrategy());
+        assertTrue(parametersExt.isAcContingencyScreening());
+        assertEquals(0.8, parametersExt.getAcContingencyScreeningLoadingThreshold());
+        assertEquals(10, parametersExt.getAcContingencyScreeningMinContingencyCount());
 
         // check test completeness
         assertEquals(OpenSecurityAnalysisParameters.SPECIFIC_PARAMETERS_NAMES.size(), properties.size());
@@ -154,7 +221,14 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
                 .setContingencyPropagation(false)
                 .setDcFastMode(true)
                 .setThreadCount(3)
-                .setStartWithFrozenACEmulation(false);
+                .setStartWithFrozenACEmulation(false)
+                .setDetachedNetwork(true)
+                .setContingencyPropagationCache(true)
+                .setContextPool(true)
+                .setContingencyExecutionStrategy("PlatformThreads")
+                .setAcContingencyScreening(true)
+                .setAcContingencyScreeningLoadingThreshold(0.8)
+                .setAcContingencyScreeningMinContingencyCount(10);
         parameters.addExtension(OpenSecurityAnalysisParameters.class, parametersExt);
         roundTripTest(parameters, JsonSecurityAnalysisParameters::write, JsonSecurityAnalysisParameters::read, "/sa-params.json");
     }
@@ -10,6 +10,7 @@ package com.powsybl.openloadflow.sa;
 import com.google.common.collect.ImmutableList;
 import com.powsybl.action.Action;
 import com.powsybl.action.LoadActionBuilder;
+import com.powsybl.action.SwitchAction;
 import com.powsybl.action.TerminalsConnectionAction;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.report.ReportNode;
@@ -40,6 +41,7 @@ import com.powsybl.loadflow.LoadFlowResult;
 import com.powsybl.loadflow.LoadFlowRunParameters;
 import com.powsybl.openloadflow.CommonTestConfig;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
 import com.powsybl.openloadflow.ac.AcLoadFlowResult;
 import com.powsybl.openloadflow.ac.outerloop.DistributedSlackOuterLoop;
 import com.powsybl.openloadflow.ac.solver.AcSolverStatus;
@@ -53,6 +55,7 @@ import com.powsybl.openloadflow.network.impl.OlfBranchResult;
 import com.powsybl.openloadflow.network.impl.OlfThreeWindingsTransformerResult;
 import com.powsybl.openloadflow.sa.extensions.ContingencyLoadFlowParameters;
 import com.powsybl.openloadflow.util.LoadFlowAssert;
+import com.powsybl.openloadflow.util.mt.ContingencyExecutionStrategy;
 import com.powsybl.openloadflow.util.report.PowsyblOpenLoadFlowReportResourceBundle;
 import com.powsybl.security.PostContingencyComputationStatus;
 import com.powsybl.security.SecurityAnalysisParameters;
@@ -3945,6 +3948,31 @@ class OpenSecurityAnalysisTest extends AbstractOpenSecurityAnalysisTest {
         runSecurityAnalysis(network, contingencies, Collections.emptyList(), securityAnalysisParameters, ReportNode.NO_OP);
     }
 
+    @Test
+    void testContingencyExecutionStrategies() {
+        Network network = createNodeBreakerNetwork();
+
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        OpenSecurityAnalysisParameters securityAnalysisParametersExt = new OpenSecurityAnalysisParameters();
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, securityAnalysisParametersExt);
+
+        List<Contingency> contingencies = Stream.of("L1", "L2")
+                .map(id -> new Contingency(id, new BranchContingency(id)))
+                .toList();
+        List<StateMonitor> monitors = createAllBranchesMonitors(network);
+
+        SecurityAnalysisResult resultOneThread = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+
+        securityAnalysisParametersExt.setThreadCount(2);
+        for (String strategyName : List.of("Default", "PlatformThreads", "VirtualThreads")) {
+            securityAnalysisParametersExt.setContingencyExecutionStrategy(strategyName);
+            assertSameResults(resultOneThread, runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters));
+        }
+
+        PowsyblException e = assertThrows(PowsyblException.class, () -> ContingencyExecutionStrategy.find("Unknown"));
+        assertEquals("ContingencyExecutionStrategy 'Unknown' not found", e.getMessage());
+    }
+
     @Test
     void testMultiThreadsWhenLessContingenciesThanThreads() {
         Network network = createNodeBreakerNetwork();
@@ -3961,6 +3989,229 @@ class OpenSecurityAnalysisTest extends AbstractOpenSecurityAnalysisTest {
         assertDoesNotThrow(() -> runSecurityAnalysis(network, contingencies, Collections.emptyList(), securityAnalysisParameters));
     }
 
+    @Test
+    void testContingencyPropagationCacheAfterTopologyEdit() {
+        Network network = createNodeBreakerNetwork();
+
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        OpenSecurityAnalysisParameters securityAnalysisParametersExt = new OpenSecurityAnalysisParameters()
+                .setContingencyPropagationCache(true);
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, securityAnalysisParametersExt);
+
+        List<Contingency> contingencies = List.of(new Contingency("L1", new BranchContingency("L1")));
+        List<StateMonitor> monitors = createAllBranchesMonitors(network);
+
+        // first run fills the cache
+        runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+
+        // replace breaker B3 by a disconnector: same switch count and status but the propagation now reaches BBS3
+        VoltageLevel.NodeBreakerView vl2 = network.getVoltageLevel("VL2").getNodeBreakerView();
+        vl2.removeSwitch("B3");
+        vl2.newDisconnector()
+                .setId("B3")
+                .setNode1(0)
+                .setNode2(1)
+                .add();
+
+        SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+        securityAnalysisParametersExt.setContingencyPropagationCache(false);
+        SecurityAnalysisResult expectedResult = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+
+        PostContingencyResult postContingencyResult = result.getPostContingencyResults().getFirst();
+        PostContingencyResult expectedPostContingencyResult = expectedResult.getPostContingencyResults().getFirst();
+        assertEquals(expectedPostContingencyResult.getStatus(), postContingencyResult.getStatus());
+        assertEquals(expectedPostContingencyResult.getConnectivityResult().getDisconnectedLoadActivePower(),
+                postContingencyResult.getConnectivityResult().getDisconnectedLoadActivePower(), DELTA_POWER);
+        assertEquals(expectedPostContingencyResult.getNetworkResult().getBranchResults().size(),
+                postContingencyResult.getNetworkResult().getBranchResults().size());
+        for (BranchResult expectedBranchResult : expectedPostContingencyResult.getNetworkResult().getBranchResults()) {
+            BranchResult branchResult = postContingencyResult.getNetworkResult().getBranchResult(expectedBranchResult.getBranchId());
+            assertEquals(expectedBranchResult.getP1(), branchResult.getP1(), DELTA_POWER);
+            assertEquals(expectedBranchResult.getP2(), branchResult.getP2(), DELTA_POWER);
+        }
+    }
+
+    @Test
+    void testDetachedNetwork() {
+        Network network = createNodeBreakerNetwork();
+
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        OpenSecurityAnalysisParameters securityAnalysisParametersExt = new OpenSecurityAnalysisParameters();
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, securityAnalysisParametersExt);
+
+        List<Contingency> contingencies = Stream.of("L1", "L2")
+                .map(id -> new Contingency(id, new BranchContingency(id)))
+                .toList();
+        List<StateMonitor> monitors = createAllBranchesMonitors(network);
+
+        SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+
+        securityAnalysisParametersExt.setDetachedNetwork(true);
+        SecurityAnalysisResult detachedResult = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+        securityAnalysisParametersExt.setThreadCount(2);
+        SecurityAnalysisResult detachedResultTwoThreads = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+
+        for (SecurityAnalysisResult otherResult : List.of(detachedResult, detachedResultTwoThreads)) {
+            assertEquals(result.getPreContingencyResult().getLimitViolationsResult().getLimitViolations().size(),
+                    otherResult.getPreContingencyResult().getLimitViolationsResult().getLimitViolations().size());
+            assertEquals(result.getPostContingencyResults().size(), otherResult.getPostContingencyResults().size());
+            for (int i = 0; i < result.getPostContingencyResults().size(); i++) {
+                PostContingencyResult postContingencyResult = result.getPostContingencyResults().get(i);
+                PostContingencyResult otherPostContingencyResult = otherResult.getPostContingencyResults().get(i);
+                assertEquals(postContingencyResult.getContingency().getId(), otherPostContingencyResult.getContingency().getId());
+                assertEquals(postContingencyResult.getStatus(), otherPostContingencyResult.getStatus());
+                List<LimitViolation> violations = postContingencyResult.getLimitViolationsResult().getLimitViolations();
+                List<LimitViolation> otherViolations = otherPostContingencyResult.getLimitViolationsResult().getLimitViolations();
+                assertEquals(violations.size(), otherViolations.size());
+                for (int j = 0; j < violations.size(); j++) {
+                    assertEquals(violations.get(j).getSubjectId(), otherViolations.get(j).getSubjectId());
+                    assertEquals(violations.get(j).getLimitName(), otherViolations.get(j).getLimitName());
+                    assertEquals(violations.get(j).getValue(), otherViolations.get(j).getValue(), DELTA_I);
+                }
+                for (BranchResult branchResult : postContingencyResult.getNetworkResult().getBranchResults()) {
+                    BranchResult otherBranchResult = otherPostContingencyResult.getNetworkResult().getBranchResult(branchResult.getBranchId());
+                    assertEquals(branchResult.getP1(), otherBranchResult.getP1(), DELTA_POWER);
+                    assertEquals(branchResult.getI1(), otherBranchResult.getI1(), DELTA_I);
+                }
+            }
+        }
+    }
+
+    private static void assertSameBranchResults(NetworkResult expected, NetworkResult actual) {
+        assertEquals(expected.getBranchResults().size(), actual.getBranchResults().size());
+        for (BranchResult branchResult : expected.getBranchResults()) {
+            BranchResult otherBranchResult = actual.getBranchResult(branchResult.getBranchId());
+            assertEquals(branchResult.getP1(), otherBranchResult.getP1(), DELTA_POWER);
+            assertEquals(branchResult.getI1(), otherBranchResult.getI1(), DELTA_I);
+        }
+    }
+
+    private static void assertSameResults(SecurityAnalysisResult expected, SecurityAnalysisResult actual) {
+        assertEquals(expected.getPreContingencyResult().getStatus(), actual.getPreContingencyResult().getStatus());
+        assertSameBranchResults(expected.getPreContingencyResult().getNetworkResult(), actual.getPreContingencyResult().getNetworkResult());
+        assertEquals(expected.getPostContingencyResults().size(), actual.getPostContingencyResults().size());
+        for (int i = 0; i < expected.getPostContingencyResults().size(); i++) {
+            PostContingencyResult postContingencyResult = expected.getPostContingencyResults().get(i);
+            PostContingencyResult otherPostContingencyResult = actual.getPostContingencyResults().get(i);
+            assertEquals(postContingencyResult.getContingency().getId(), otherPostContingencyResult.getContingency().getId());
+            assertEquals(postContingencyResult.getStatus(), otherPostContingencyResult.getStatus());
+            assertEquals(postContingencyResult.getLimitViolationsResult().getLimitViolations().size(),
+                    otherPostContingencyResult.getLimitViolationsResult().getLimitViolations().size());
+            assertSameBranchResults(postContingencyResult.getNetworkResult(), otherPostContingencyResult.getNetworkResult());
+        }
+    }
+
+    @Test
+    void testContextPool() {
+        Network network = createNodeBreakerNetwork();
+
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        OpenSecurityAnalysisParameters securityAnalysisParametersExt = new OpenSecurityAnalysisParameters();
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, securityAnalysisParametersExt);
+
+        List<Contingency> contingencies = Stream.of("L1", "L2")
+                .map(id -> new Contingency(id, new BranchContingency(id)))
+                .toList();
+        List<StateMonitor> monitors = createAllBranchesMonitors(network);
+
+        SecurityAnalysisContextPool<AcLoadFlowContext> contextPool = SecurityAnalysisContextPool.AC_INSTANCE;
+        contextPool.clear();
+        try {
+            SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+            assertEquals(0, contextPool.getIdleEntryCount());
+
+            // first run fills the pool, without leaving any temporary variant in the network
+            securityAnalysisParametersExt.setContextPool(true);
+            assertSameResults(result, runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters));
+            assertEquals(1, contextPool.getIdleEntryCount());
+            assertEquals(1, network.getVariantManager().getVariantIds().size());
+
+            // second run reuses the pooled context
+            assertSameResults(result, runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters));
+            assertEquals(1, contextPool.getIdleEntryCount());
+
+            // an injection change is applied to the pooled network
+            network.getLoad("LD").setP0(network.getLoad("LD").getP0() + 50);
+            assertEquals(1, contextPool.getIdleEntryCount());
+            SecurityAnalysisResult pooledResult = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+            securityAnalysisParametersExt.setContextPool(false);
+            assertSameResults(runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters), pooledResult);
+
+            // a topology change discards the pooled context
+            network.getSwitch("C").setOpen(true);
+            assertEquals(0, contextPool.getIdleEntryCount());
+        } finally {
+            contextPool.clear();
+        }
+    }
+
+    @Test
+    void testContextPoolWithSwitchToClose() {
+        Network network = createNodeBreakerNetwork();
+        network.getSwitch("C").setOpen(true);
+
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        OpenSecurityAnalysisParameters securityAnalysisParametersExt = new OpenSecurityAnalysisParameters()
+                .setContextPool(true);
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, securityAnalysisParametersExt);
+
+        List<Contingency> contingencies = List.of(new Contingency("L1", new BranchContingency("L1")));
+        List<Action> actions = List.of(new SwitchAction("close C", "C", false));
+        List<OperatorStrategy> operatorStrategies = List.of(new OperatorStrategy("strategy", ContingencyContext.specificContingency("L1"),
+                new TrueCondition(), List.of("close C")));
+
+        SecurityAnalysisContextPool<AcLoadFlowContext> contextPool = SecurityAnalysisContextPool.AC_INSTANCE;
+        contextPool.clear();
+        try {
+            // networks built with a switch to close depend on a temporary variant, so they are not pooled
+            SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, Collections.emptyList(), securityAnalysisParameters,
+                    operatorStrategies, actions, ReportNode.NO_OP);
+            assertEquals(1, result.getOperatorStrategyResults().size());
+            assertEquals(0, contextPool.getIdleEntryCount());
+            assertEquals(1, network.getVariantManager().getVariantIds().size());
+        } finally {
+            contextPool.clear();
+        }
+    }
+
+    @Test
+    void testFastDcMultiThreads() {
+        Network network = IeeeCdfNetworkFactory.create14();
+
+        LoadFlowParameters lfParameters = new LoadFlowParameters()
+                .setDc(true);
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        securityAnalysisParameters.setLoadFlowParameters(lfParameters);
+        OpenSecurityAnalysisParameters securityAnalysisParametersExt = new OpenSecurityAnalysisParameters()
+                .setDcFastMode(true);
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, securityAnalysisParametersExt);
+
+        // contingencies on all branches and on a generator, some of them breaking connectivity
+        List<Contingency> contingencies = new ArrayList<>(network.getBranchStream()
+                .map(b -> new Contingency(b.getId(), new BranchContingency(b.getId())))
+                .toList());
+        contingencies.add(new Contingency("B2-G", new GeneratorContingency("B2-G")));
+        List<StateMonitor> monitors = createAllBranchesMonitors(network);
+
+        SecurityAnalysisResult resultOneThread = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+
+        securityAnalysisParametersExt.setThreadCount(4);
+        SecurityAnalysisResult resultFourThreads = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+
+        // same results in the same order
+        assertEquals(resultOneThread.getPostContingencyResults().size(), resultFourThreads.getPostContingencyResults().size());
+        for (int i = 0; i < resultOneThread.getPostContingencyResults().size(); i++) {
+            PostContingencyResult postContingencyResultOneThread = resultOneThread.getPostContingencyResults().get(i);
+            PostContingencyResult postContingencyResultFourThreads = resultFourThreads.getPostContingencyResults().get(i);
+            assertEquals(postContingencyResultOneThread.getContingency().getId(), postContingencyResultFourThreads.getContingency().getId());
+            assertEquals(postContingencyResultOneThread.getLimitViolationsResult().getLimitViolations().size(),
+                    postContingencyResultFourThreads.getLimitViolationsResult().getLimitViolations().size());
+            for (BranchResult branchResult : postContingencyResultOneThread.getNetworkResult().getBranchResults()) {
+                assertEquals(branchResult.getP1(), postContingencyResultFourThreads.getNetworkResult().getBranchResult(branchResult.getBranchId()).getP1(), DELTA_POWER);
+            }
+        }
+    }
+
     @Test
     void testWithFictitiousLoad() {
         testWithFictitiousLoad(LoadFlowParameters.BalanceType.PROPORTIONAL_TO_LOAD);
@@ -5339,4 +5590,49 @@ class OpenSecurityAnalysisTest extends AbstractOpenSecurityAnalysisTest {
         SecurityAnalysisResult resultFiltered2 = runSecurityAnalysis(network, contingencies, monitors, parameters);
         assertEmpty(resultFiltered2.getPostContingencyResults().getFirst().getNetworkResult().getThreeWindingsTransformerResults());
     }
+
+    @Test
+    void testAcContingencyScreening() {
+        Network network = createNodeBreakerNetwork();
+
+        LoadFlowParameters lfParameters = new LoadFlowParameters();
+        setSlackBusId(lfParameters, "VL1_1");
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        securityAnalysisParameters.setLoadFlowParameters(lfParameters);
+        OpenSecurityAnalysisParameters securityAnalysisParametersExt = new OpenSecurityAnalysisParameters()
+                .setAcContingencyScreening(true)
+                .setAcContingencyScreeningLoadingThreshold(0.8);
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, securityAnalysisParametersExt);
+
+        List<Contingency> contingencies = Stream.of("L1", "L2")
+                .map(id -> new Contingency(id, new BranchContingency(id)))
+                .collect(Collectors.toList());
+        contingencies.add(new Contingency("LD", new LoadContingency("LD")));
+
+        // losing one line overloads the other one, so no contingency is screened out
+        SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, Collections.emptyList(), securityAnalysisParameters);
+        assertEquals(3, result.getPostContingencyResults().size());
+        assertSame(PostContingencyComputationStatus.CONVERGED, getPostContingencyResult(result, "L1").getStatus());
+        assertEquals(2, getPostContingencyResult(result, "L1").getLimitViolationsResult().getLimitViolations().size());
+        assertSame(PostContingencyComputationStatus.CONVERGED, getPostContingencyResult(result, "L2").getStatus());
+        assertEquals(2, getPostContingencyResult(result, "L2").getLimitViolationsResult().getLimitViolations().size());
+        assertSame(PostContingencyComputationStatus.CONVERGED, getPostContingencyResult(result, "LD").getStatus());
+
+        // with a threshold above the estimated loadings, line contingencies are screened out, the load contingency
+        // cannot be screened
+        securityAnalysisParametersExt.setAcContingencyScreeningLoadingThreshold(10);
+        result = runSecurityAnalysis(network, contingencies, Collections.emptyList(), securityAnalysisParameters);
+        assertEquals(3, result.getPostContingencyResults().size());
+        assertSame(PostContingencyComputationStatus.NO_COMPUTATION, getPostContingencyResult(result, "L1").getStatus());
+        assertTrue(getPostContingencyResult(result, "L1").getLimitViolationsResult().getLimitViolations().isEmpty());
+        assertSame(PostContingencyComputationStatus.NO_COMPUTATION, getPostContingencyResult(result, "L2").getStatus());
+        assertSame(PostContingencyComputationStatus.CONVERGED, getPostContingencyResult(result, "LD").getStatus());
+
+        // the most severe line contingency is always simulated
+        securityAnalysisParametersExt.setAcContingencyScreeningMinContingencyCount(1);
+        SecurityAnalysisResult result2 = runSecurityAnalysis(network, contingencies, Collections.emptyList(), securityAnalysisParameters);
+        assertEquals(1, Stream.of("L1", "L2")
+                .filter(id -> getPostContingencyResult(result2, id).getStatus() == PostContingencyComputationStatus.CONVERGED)
+                .count());
+    }
 }
@@ -1569,4 +1569,48 @@ class AcSensitivityAnalysisContingenciesTest extends AbstractSensitivityAnalysis
         assertEquals(302.304, result.getBranchFlow1FunctionReferenceValue("NGEN", "NHV1_NHV2_1"), LoadFlowAssert.DELTA_POWER);
         assertEquals(Double.NaN, result.getBranchFlow1FunctionReferenceValue("NGEN", "NGEN_NHV1"), LoadFlowAssert.DELTA_POWER);
     }
+
+    @Test
+    void testLinearizedContingencies() {
+        SensitivityAnalysisParameters sensiParameters = createParameters(false, "b1_vl_0", true);
+        sensiParameters.getLoadFlowParameters().setBalanceType(LoadFlowParameters.BalanceType.PROPORTIONAL_TO_GENERATION_P_MAX);
+
+        Network network = FourBusNetworkFactory.create();
+        runLf(network, sensiParameters.getLoadFlowParameters());
+
+        List<SensitivityFactor> factors = createFactorMatrix(network.getGeneratorStream().collect(Collectors.toList()),
+                                                             network.getBranchStream().collect(Collectors.toList()));
+
+        // the generator contingency is not supported in linearized mode and is simulated with a load flow in between
+        List<Contingency> contingencies = List.of(new Contingency("l14", new BranchContingency("l14")),
+                                                  new Contingency("g4", new GeneratorContingency("g4")),
+                                                  new Contingency("l23", new BranchContingency("l23")),
+                                                  new Contingency("l13+l34", new BranchContingency("l13"), new BranchContingency("l34")));
+
+        SensitivityAnalysisRunParameters runParameters = new SensitivityAnalysisRunParameters()
+                .setContingencies(contingencies)
+                .setParameters(sensiParameters);
+        SensitivityAnalysisResult result = sensiRunner.run(network, factors, runParameters);
+
+        sensiParameters.addExtension(OpenSensitivityAnalysisParameters.class, new OpenSensitivityAnalysisParameters()
+                .setLinearizedAcContingencies(true));
+        SensitivityAnalysisResult linearizedResult = sensiRunner.run(network, factors, runParameters);
+
+        assertEquals(result.getValues().size(), linearizedResult.getValues().size());
+        for (int i = 0; i < result.getValues().size(); i++) {
+            SensitivityValue value = result.getValues().get(i);
+            SensitivityValue linearizedValue = linearizedResult.getValues().get(i);
+            assertEquals(value.getFactorIndex(), linearizedValue.getFactorIndex());
+            assertEquals(value.getContingencyIndex(), linearizedValue.getContingencyIndex());
+            assertEquals(value.getValue(), linearizedValue.getValue(), 1e-2);
+            assertEquals(value.getFunctionReference(), linearizedValue.getFunctionReference(), 1e-2);
+        }
+        for (Contingency contingency : contingencies) {
+            assertEquals(SensitivityAnalysisResult.Status.SUCCESS, linearizedResult.getStateStatus(SensitivityState.postContingency(contingency.getId())));
+        }
+
+        // exact on the lost branches
+        assertEquals(0d, linearizedResult.getBranchFlow1SensitivityValue("l23", "g4", "l23", SensitivityVariableType.INJECTION_ACTIVE_POWER), LoadFlowAssert.DELTA_POWER);
+        assertEquals(Double.NaN, linearizedResult.getBranchFlow1FunctionReferenceValue("l23", "l23"), LoadFlowAssert.DELTA_POWER);
+    }
 }
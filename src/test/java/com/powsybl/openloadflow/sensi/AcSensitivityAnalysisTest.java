@@ -180,6 +180,41 @@ class AcSensitivityAnalysisTest extends AbstractSensitivityAnalysisTest {
 
     }
 
+    @Test
+    void testFactorStatesMultiThreaded() {
+        Network network = IeeeCdfNetworkFactory.create118();
+        SensitivityAnalysisParameters sensiParameters = createParameters(false);
+
+        // more than 2 blocks of factor groups
+        List<Branch> branches = network.getBranchStream().limit(5).collect(Collectors.toList());
+        List<SensitivityFactor> factors = new ArrayList<>(createFactorMatrix(network.getGeneratorStream().collect(Collectors.toList()), branches));
+        factors.addAll(createFactorMatrix(network.getLoadStream().collect(Collectors.toList()), branches));
+        assertTrue(network.getGeneratorCount() + network.getLoadCount() >= 2 * FactorStatesBlockExecutor.MIN_BLOCK_COLUMN_COUNT);
+
+        List<Contingency> contingencies = network.getLineStream().skip(10).limit(2)
+                .map(l -> new Contingency(l.getId(), new LineContingency(l.getId())))
+                .collect(Collectors.toList());
+        SensitivityAnalysisRunParameters runParameters = new SensitivityAnalysisRunParameters()
+                .setParameters(sensiParameters)
+                .setContingencies(contingencies);
+        SensitivityAnalysisResult result = sensiRunner.run(network, factors, runParameters);
+
+        sensiParameters.addExtension(OpenSensitivityAnalysisParameters.class, new OpenSensitivityAnalysisParameters()
+                .setFactorStatesThreadCount(2));
+        SensitivityAnalysisResult resultMt = sensiRunner.run(network, factors, runParameters);
+
+        // same values, written in the same order
+        assertEquals(result.getValues().size(), resultMt.getValues().size());
+        for (int i = 0; i < result.getValues().size(); i++) {
+            SensitivityValue value = result.getValues().get(i);
+            SensitivityValue valueMt = resultMt.getValues().get(i);
+            assertEquals(value.getFactorIndex(), valueMt.getFactorIndex());
+            assertEquals(value.getContingencyIndex(), valueMt.getContingencyIndex());
+            assertEquals(value.getValue(), valueMt.getValue(), LoadFlowAssert.DELTA_POWER);
+            assertEquals(value.getFunctionReference(), valueMt.getFunctionReference(), LoadFlowAssert.DELTA_POWER);
+        }
+    }
+
     @Test
     void testEsgTutoMTWithSpecificContingencyContexts() {
         Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
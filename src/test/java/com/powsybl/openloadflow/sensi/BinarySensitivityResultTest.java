@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityResultWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class BinarySensitivityResultTest {
+
+    @TempDir
+    private Path tmpDir;
+
+    private static final class RecordingWriter implements SensitivityResultWriter {
+
+        private final List<String> results = new ArrayList<>();
+
+        @Override
+        public void writeSensitivityValue(int factorIndex, int contingencyIndex, int operatorStrategyIndex, double value, double functionReference) {
+            results.add("value " + factorIndex + " " + contingencyIndex + " " + operatorStrategyIndex + " " + value + " " + functionReference);
+        }
+
+        @Override
+        public void writeStateStatus(int contingencyIndex, int operatorStrategyIndex, SensitivityAnalysisResult.Status status) {
+            results.add("status " + contingencyIndex + " " + operatorStrategyIndex + " " + status);
+        }
+    }
+
+    private static void writeResults(SensitivityResultWriter writer) {
+        for (int f = 0; f < 5; f++) {
+            writer.writeSensitivityValue(f, -1, -1, f * 0.1, Double.NaN);
+        }
+        for (int c = 0; c < 3; c++) {
+            for (int f = 0; f < 4; f++) {
+                writer.writeSensitivityValue(f, c, c == 2 ? 0 : -1, -f * 0.5, 100.0 + c);
+            }
+            writer.writeStateStatus(c, c == 2 ? 0 : -1, c == 1 ? SensitivityAnalysisResult.Status.NO_IMPACT : SensitivityAnalysisResult.Status.SUCCESS);
+        }
+        writer.writeStateStatus(3, -1, SensitivityAnalysisResult.Status.FAILURE);
+        writer.writeStateStatus(4, -1, SensitivityAnalysisResult.Status.SUCCESS);
+    }
+
+    @Test
+    void testWriteAndRead() {
+        RecordingWriter expected = new RecordingWriter();
+        writeResults(expected);
+
+        // default block size: one block per run of values or statuses, and with blocks smaller than runs
+        for (int blockSize : List.of(BinarySensitivityResultWriter.DEFAULT_BLOCK_SIZE, 3, 1)) {
+            Path file = tmpDir.resolve("results-" + blockSize + ".bin");
+            try (var writer = new BinarySensitivityResultWriter(file, blockSize)) {
+                writeResults(writer);
+            }
+            RecordingWriter actual = new RecordingWriter();
+            BinarySensitivityResultReader.read(file, actual);
+            assertEquals(expected.results, actual.results);
+        }
+    }
+
+    /**
+     * Channel failing after a given number of written bytes.
+     */
+    private static final class FailingChannel implements WritableByteChannel {
+
+        private int remainingBytes;
+
+        private boolean open = true;
+
+        private FailingChannel(int remainingBytes) {
+            this.remainingBytes = remainingBytes;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (src.remaining() > remainingBytes) {
+                throw new IOException("Disk full");
+            }
+            int count = src.remaining();
+            src.position(src.limit());
+            remainingBytes -= count;
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+
+    @Test
+    void testChannelClosedOnFailure() {
+        // header write failure
+        FailingChannel channel = new FailingChannel(0);
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> new BinarySensitivityResultWriter(channel, 10));
+        assertEquals("Disk full", e.getCause().getMessage());
+        assertFalse(channel.isOpen());
+
+        // failure while writing the pending results at closing
+        FailingChannel channel2 = new FailingChannel(BinarySensitivityResultWriter.HEADER_SIZE);
+        BinarySensitivityResultWriter writer = new BinarySensitivityResultWriter(channel2, 10);
+        writer.writeSensitivityValue(0, -1, -1, 1.0, 2.0);
+        assertThrows(UncheckedIOException.class, writer::close);
+        assertFalse(channel2.isOpen());
+    }
+
+    @Test
+    void testEmpty() {
+        Path file = tmpDir.resolve("empty.bin");
+        new BinarySensitivityResultWriter(file).close();
+        RecordingWriter actual = new RecordingWriter();
+        BinarySensitivityResultReader.read(file, actual);
+        assertTrue(actual.results.isEmpty());
+    }
+
+    @Test
+    void testInvalidFiles() throws IOException {
+        Path file = tmpDir.resolve("invalid.bin");
+        RecordingWriter writer = new RecordingWriter();
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        PowsyblException e = assertThrows(PowsyblException.class, () -> BinarySensitivityResultReader.read(file, writer));
+        assertEquals("Not a sensitivity result file", e.getMessage());
+
+        Path file2 = tmpDir.resolve("truncated.bin");
+        try (var binaryWriter = new BinarySensitivityResultWriter(file2)) {
+            writeResults(binaryWriter);
+        }
+        byte[] bytes = Files.readAllBytes(file2);
+        Files.write(file2, Arrays.copyOf(bytes, bytes.length - 1));
+        e = assertThrows(PowsyblException.class, () -> BinarySensitivityResultReader.read(file2, writer));
+        assertEquals("Truncated sensitivity result file", e.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> new BinarySensitivityResultWriter(tmpDir.resolve("other.bin"), 0));
+    }
+}
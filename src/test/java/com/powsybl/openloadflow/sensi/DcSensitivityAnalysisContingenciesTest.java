@@ -176,6 +176,72 @@ class DcSensitivityAnalysisContingenciesTest extends AbstractSensitivityAnalysis
         assertEquals(2, result.getValues(SensitivityState.postContingency("l12")).size());
     }
 
+    @Test
+    void testMaxSensitivityValuesPerFunction() {
+        Network network = FourBusNetworkFactory.create();
+        runDcLf(network);
+
+        SensitivityAnalysisParameters sensiParameters = createParameters(true, "b1_vl_0", true);
+        sensiParameters.getLoadFlowParameters().setBalanceType(LoadFlowParameters.BalanceType.PROPORTIONAL_TO_GENERATION_P_MAX);
+
+        List<Contingency> contingencies = List.of(new Contingency("l12", new BranchContingency("l12")));
+        List<SensitivityFactor> factors = createFactorMatrix(network.getGeneratorStream().toList(),
+                                                             network.getBranchStream().collect(Collectors.toList()));
+        SensitivityAnalysisRunParameters runParameters = new SensitivityAnalysisRunParameters()
+                .setContingencies(contingencies)
+                .setParameters(sensiParameters);
+        SensitivityAnalysisResult fullResult = sensiRunner.run(network, factors, runParameters);
+
+        sensiParameters.addExtension(OpenSensitivityAnalysisParameters.class, new OpenSensitivityAnalysisParameters()
+                .setMaxSensitivityValuesPerFunction(1));
+        SensitivityAnalysisResult result = sensiRunner.run(network, factors, runParameters);
+
+        // only the largest absolute value of each branch is kept, in each state
+        for (SensitivityState state : List.of(SensitivityState.PRE_CONTINGENCY, SensitivityState.postContingency("l12"))) {
+            List<SensitivityValue> values = result.getValues(state);
+            assertEquals(5, values.size());
+            for (SensitivityValue value : values) {
+                String functionId = result.getFactors().get(value.getFactorIndex()).getFunctionId();
+                double maxValue = fullResult.getValues(state).stream()
+                        .filter(v -> fullResult.getFactors().get(v.getFactorIndex()).getFunctionId().equals(functionId))
+                        .mapToDouble(v -> Math.abs(v.getValue()))
+                        .max()
+                        .orElseThrow();
+                assertEquals(maxValue, Math.abs(value.getValue()), LoadFlowAssert.DELTA_POWER);
+            }
+        }
+    }
+
+    @Test
+    void testSkipUnchangedPostContingencyValues() {
+        Network network = FourBusNetworkFactory.create();
+        // contingency on a branch already open has no impact
+        Line l14 = network.getLine("l14");
+        l14.getTerminal1().disconnect();
+        l14.getTerminal2().disconnect();
+        runDcLf(network);
+
+        SensitivityAnalysisParameters sensiParameters = createParameters(true, "b1_vl_0", true);
+        sensiParameters.getLoadFlowParameters().setBalanceType(LoadFlowParameters.BalanceType.PROPORTIONAL_TO_GENERATION_P_MAX);
+        sensiParameters.addExtension(OpenSensitivityAnalysisParameters.class, new OpenSensitivityAnalysisParameters()
+                .setSkipUnchangedPostContingencyValues(true));
+
+        List<Contingency> contingencies = List.of(new Contingency("l14", new BranchContingency("l14")),
+                                                  new Contingency("l23", new BranchContingency("l23")));
+        List<SensitivityFactor> factors = List.of(createBranchFlowPerInjectionIncrease("l12", "g2"),
+                createBranchFlowPerInjectionIncrease("l13", "g2"),
+                createBranchFlowPerInjectionIncrease("l34", "g2"));
+        SensitivityAnalysisRunParameters runParameters = new SensitivityAnalysisRunParameters()
+                .setContingencies(contingencies)
+                .setParameters(sensiParameters);
+        SensitivityAnalysisResult result = sensiRunner.run(network, factors, runParameters);
+
+        assertEquals(3, result.getPreContingencyValues().size());
+        assertEquals(SensitivityAnalysisResult.Status.NO_IMPACT, result.getStateStatus(SensitivityState.postContingency("l14")));
+        assertTrue(result.getValues(SensitivityState.postContingency("l14")).isEmpty());
+        assertEquals(3, result.getValues(SensitivityState.postContingency("l23")).size());
+    }
+
     @Test
     void testFunctionRefOnOneElement() {
         Network network = FourBusNetworkFactory.create();
@@ -853,6 +853,54 @@ class DcSensitivityAnalysisTest extends AbstractSensitivityAnalysisTest {
         assertEquals(-6.3d, result.getBranchFlow1SensitivityValue("PS1", "L1", SensitivityVariableType.TRANSFORMER_PHASE), LoadFlowAssert.DELTA_POWER);
     }
 
+    private void assertSameAsDirectMode(Network network, List<SensitivityFactor> factors, SensitivityAnalysisRunParameters runParameters) {
+        SensitivityAnalysisResult result = sensiRunner.run(network, factors, runParameters);
+        assertEquals(factors.size(), result.getValues().size());
+        for (SensitivityFactor factor : factors) {
+            // a single factor has as many functions as variable groups, so it is computed in direct mode
+            SensitivityAnalysisResult directResult = sensiRunner.run(network, List.of(factor), runParameters);
+            assertEquals(directResult.getValues().getFirst().getValue(),
+                    result.getBranchFlow1SensitivityValue(factor.getVariableId(), factor.getFunctionId(), factor.getVariableType()), LoadFlowAssert.DELTA_POWER);
+            assertEquals(directResult.getValues().getFirst().getFunctionReference(),
+                    result.getBranchFlow1FunctionReferenceValue(factor.getFunctionId()), LoadFlowAssert.DELTA_POWER);
+        }
+    }
+
+    @Test
+    void testAdjointMode() {
+        Network network = FourBusNetworkFactory.create();
+        runDcLf(network);
+
+        List<SensitivityVariableSet> variableSets = List.of(new SensitivityVariableSet("glsk", List.of(new WeightedSensitivityVariable("d2", 30f),
+                                                                                                      new WeightedSensitivityVariable("g2", 10f),
+                                                                                                      new WeightedSensitivityVariable("d3", 50f),
+                                                                                                      new WeightedSensitivityVariable("g1", 10f))));
+        // one function for 6 variable groups: sensitivities are computed in adjoint mode
+        List<SensitivityFactor> factors = new ArrayList<>();
+        for (String injectionId : List.of("g1", "g2", "g4", "d2", "d3")) {
+            factors.add(createBranchFlowPerInjectionIncrease("l14", injectionId));
+        }
+        factors.add(createBranchFlowPerLinearGlsk("l14", "glsk"));
+
+        for (boolean distributedSlack : List.of(false, true)) {
+            SensitivityAnalysisRunParameters runParameters = new SensitivityAnalysisRunParameters()
+                    .setVariableSets(variableSets)
+                    .setParameters(createParameters(true, "b1_vl_0", distributedSlack));
+            assertSameAsDirectMode(network, factors, runParameters);
+        }
+
+        // with a phase shifter
+        Network network2 = PhaseShifterTestCaseFactory.create();
+        runAcLf(network2);
+        List<SensitivityFactor> factors2 = List.of(createBranchFlowPerPSTAngle("L1", "PS1"),
+                                                   createBranchFlowPerInjectionIncrease("L1", "G1"),
+                                                   createBranchFlowPerInjectionIncrease("L1", "LD2"));
+        SensitivityAnalysisRunParameters runParameters2 = new SensitivityAnalysisRunParameters()
+                .setParameters(createParameters(true, "VL2_0"));
+        assertSameAsDirectMode(network2, factors2, runParameters2);
+        assertEquals(-6.3d, sensiRunner.run(network2, factors2, runParameters2).getBranchFlow1SensitivityValue("PS1", "L1", SensitivityVariableType.TRANSFORMER_PHASE), LoadFlowAssert.DELTA_POWER);
+    }
+
     @Test
     void testAdditionalFactors() {
         // test injection increase on loads
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.commons.PowsyblException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class FactorStatesBlockExecutorTest {
+
+    private static AtomicIntegerArray runBlocks(FactorStatesBlockExecutor blockExecutor, int columnCount, Set<Integer> blockSizes) {
+        AtomicIntegerArray runCountByColumn = new AtomicIntegerArray(columnCount);
+        blockExecutor.run(columnCount, (fromColumn, toColumn) -> {
+            blockSizes.add(toColumn - fromColumn);
+            for (int c = fromColumn; c < toColumn; c++) {
+                runCountByColumn.incrementAndGet(c);
+            }
+        });
+        return runCountByColumn;
+    }
+
+    @Test
+    void test() {
+        try (FactorStatesBlockExecutor blockExecutor = new FactorStatesBlockExecutor(4)) {
+            // not enough columns for more than one block
+            Set<Integer> blockSizes = ConcurrentHashMap.newKeySet();
+            AtomicIntegerArray runCountByColumn = runBlocks(blockExecutor, 10, blockSizes);
+            assertEquals(Set.of(10), blockSizes);
+            for (int c = 0; c < runCountByColumn.length(); c++) {
+                assertEquals(1, runCountByColumn.get(c));
+            }
+
+            // 3 blocks, each column run once
+            int columnCount = 3 * FactorStatesBlockExecutor.MIN_BLOCK_COLUMN_COUNT + 1;
+            blockSizes.clear();
+            runCountByColumn = runBlocks(blockExecutor, columnCount, blockSizes);
+            assertEquals(2, blockSizes.size());
+            for (int c = 0; c < runCountByColumn.length(); c++) {
+                assertEquals(1, runCountByColumn.get(c));
+            }
+
+            // task failures are thrown to the caller
+            PowsyblException e = assertThrows(PowsyblException.class, () -> blockExecutor.run(columnCount, (fromColumn, toColumn) -> {
+                throw new PowsyblException("Block failure");
+            }));
+            assertEquals("Block failure", e.getMessage());
+        }
+    }
+
+    @Test
+    void testInvalidThreadCount() {
+        assertThrows(IllegalArgumentException.class, () -> new FactorStatesBlockExecutor(0));
+    }
+}
@@ -45,7 +45,7 @@ class OpenSensitivityAnalysisProviderTest extends AbstractSensitivityAnalysisTes
     void specificParametersTest() {
         var provider = new OpenSensitivityAnalysisProvider();
 
-        assertEquals(3, provider.getSpecificParametersNames().size());
+        assertEquals(9, provider.getSpecificParametersNames().size());
 
         SensitivityAnalysisParameters parameters = new SensitivityAnalysisParameters();
 
@@ -64,6 +64,35 @@ class OpenSensitivityAnalysisProviderTest extends AbstractSensitivityAnalysisTes
         provider.loadSpecificParameters(Map.of(OpenSensitivityAnalysisParameters.THREAD_COUNT_PARAM_NAME, "2"))
                 .ifPresent(parametersExt -> parameters.addExtension((Class) parametersExt.getClass(), parametersExt));
         assertEquals(2, parameters.getExtension(OpenSensitivityAnalysisParameters.class).getThreadCount());
+
+        provider.loadSpecificParameters(Map.of(OpenSensitivityAnalysisParameters.CONTINGENCY_EXECUTION_STRATEGY_PARAM_NAME, "VirtualThreads"))
+                .ifPresent(parametersExt -> parameters.addExtension((Class) parametersExt.getClass(), parametersExt));
+        assertEquals("VirtualThreads", parameters.getExtension(OpenSensitivityAnalysisParameters.class).getContingencyExecutionStrategy());
+
+        provider.loadSpecificParameters(Map.of(OpenSensitivityAnalysisParameters.LINEARIZED_AC_CONTINGENCIES_PARAM_NAME, "true"))
+                .ifPresent(parametersExt -> parameters.addExtension((Class) parametersExt.getClass(), parametersExt));
+        assertTrue(parameters.getExtension(OpenSensitivityAnalysisParameters.class).isLinearizedAcContingencies());
+
+        provider.loadSpecificParameters(Map.of(OpenSensitivityAnalysisParameters.MAX_SENSITIVITY_VALUES_PER_FUNCTION_PARAM_NAME, "10"))
+                .ifPresent(parametersExt -> parameters.addExtension((Class) parametersExt.getClass(), parametersExt));
+        assertEquals(10, parameters.getExtension(OpenSensitivityAnalysisParameters.class).getMaxSensitivityValuesPerFunction());
+
+        provider.loadSpecificParameters(Map.of(OpenSensitivityAnalysisParameters.SKIP_UNCHANGED_POST_CONTINGENCY_VALUES_PARAM_NAME, "true"))
+                .ifPresent(parametersExt -> parameters.addExtension((Class) parametersExt.getClass(), parametersExt));
+        assertTrue(parameters.getExtension(OpenSensitivityAnalysisParameters.class).isSkipUnchangedPostContingencyValues());
+
+        provider.loadSpecificParameters(Map.of(OpenSensitivityAnalysisParameters.UNCHANGED_POST_CONTINGENCY_VALUE_THRESHOLD_PARAM_NAME, "0.001"))
+                .ifPresent(parametersExt -> parameters.addExtension((Class) parametersExt.getClass(), parametersExt));
+        assertEquals(0.001, parameters.getExtension(OpenSensitivityAnalysisParameters.class).getUnchangedPostContingencyValueThreshold());
+
+        provider.loadSpecificParameters(Map.of(OpenSensitivityAnalysisParameters.FACTOR_STATES_THREAD_COUNT_PARAM_NAME, "4"))
+                .ifPresent(parametersExt -> parameters.addExtension((Class) parametersExt.getClass(), parametersExt));
+        assertEquals(4, parameters.getExtension(OpenSensitivityAnalysisParameters.class).getFactorStatesThreadCount());
+
+        OpenSensitivityAnalysisParameters parametersExt = new OpenSensitivityAnalysisParameters();
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setMaxSensitivityValuesPerFunction(-1));
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setUnchangedPostContingencyValueThreshold(-1));
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setFactorStatesThreadCount(0));
     }
 
     @Test
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi.mt;
+
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.sensitivity.SensitivityFactor;
+import com.powsybl.sensitivity.SensitivityFactorReader;
+import com.powsybl.sensitivity.SensitivityFunctionType;
+import com.powsybl.sensitivity.SensitivityVariableType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class BufferedFactorReaderTest {
+
+    private static List<SensitivityFactor> readAll(SensitivityFactorReader reader) {
+        List<SensitivityFactor> factors = new ArrayList<>();
+        reader.read((functionType, functionId, variableType, variableId, variableSet, contingencyContext)
+            -> factors.add(new SensitivityFactor(functionType, functionId, variableType, variableId, variableSet, contingencyContext)));
+        return factors;
+    }
+
+    private static void assertSameFactor(SensitivityFactor expected, SensitivityFactor actual) {
+        assertEquals(expected.getFunctionType(), actual.getFunctionType());
+        assertEquals(expected.getFunctionId(), actual.getFunctionId());
+        assertEquals(expected.getVariableType(), actual.getVariableType());
+        assertEquals(expected.getVariableId(), actual.getVariableId());
+        assertEquals(expected.isVariableSet(), actual.isVariableSet());
+        assertEquals(expected.getContingencyContext().getContextType(), actual.getContingencyContext().getContextType());
+        assertEquals(expected.getContingencyContext().getContingencyId(), actual.getContingencyContext().getContingencyId());
+    }
+
+    @Test
+    void test() {
+        List<SensitivityFactor> factors = new ArrayList<>();
+        // more factors than the initial capacity to check growth
+        for (int i = 0; i < 3000; i++) {
+            ContingencyContext contingencyContext = switch (i % 3) {
+                case 0 -> ContingencyContext.all();
+                case 1 -> ContingencyContext.none();
+                default -> ContingencyContext.specificContingency("c" + (i % 7));
+            };
+            factors.add(new SensitivityFactor(i % 2 == 0 ? SensitivityFunctionType.BRANCH_ACTIVE_POWER_1 : SensitivityFunctionType.BRANCH_CURRENT_2,
+                    "l" + (i % 10), i % 5 == 0 ? SensitivityVariableType.TRANSFORMER_PHASE : SensitivityVariableType.INJECTION_ACTIVE_POWER,
+                    "g" + (i % 13), i % 4 == 0, contingencyContext));
+        }
+        BufferedFactorReader reader = new BufferedFactorReader(handler -> factors.forEach(f -> handler.onFactor(f.getFunctionType(), f.getFunctionId(),
+                f.getVariableType(), f.getVariableId(), f.isVariableSet(), f.getContingencyContext())));
+        assertEquals(3000, reader.getFactorCount());
+
+        // each read replays all the factors in the same order
+        for (int n = 0; n < 2; n++) {
+            List<SensitivityFactor> readFactors = readAll(reader);
+            assertEquals(factors.size(), readFactors.size());
+            for (int i = 0; i < factors.size(); i++) {
+                assertSameFactor(factors.get(i), readFactors.get(i));
+            }
+        }
+        assertSameFactor(factors.get(42), reader.getFactor(42));
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.getFactor(3000));
+
+        // ids are interned: factors sharing an id share the same string instance
+        List<SensitivityFactor> readFactors = readAll(reader);
+        assertSame(readFactors.get(0).getFunctionId(), readFactors.get(10).getFunctionId());
+    }
+}
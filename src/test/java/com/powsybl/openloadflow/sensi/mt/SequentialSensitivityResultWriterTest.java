@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.sensi.mt;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityResultWriter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class SequentialSensitivityResultWriterTest {
+
+    private static final int THREAD_COUNT = 4;
+
+    private static final int CONTINGENCY_COUNT_PER_THREAD = 10;
+
+    private static final int FACTOR_COUNT = 250;
+
+    /**
+     * Not thread safe writer recording results, to check that only one thread writes.
+     */
+    private static final class RecordingWriter implements SensitivityResultWriter {
+
+        private final List<int[]> values = new ArrayList<>();
+
+        private final List<Integer> statuses = new ArrayList<>();
+
+        private final List<Integer> lastValueCountByStatus = new ArrayList<>();
+
+        @Override
+        public void writeSensitivityValue(int factorIndex, int contingencyIndex, int operatorStrategyIndex, double value, double functionReference) {
+            assertEquals(factorIndex, (int) value);
+            assertEquals(contingencyIndex, (int) functionReference);
+            values.add(new int[] {factorIndex, contingencyIndex});
+        }
+
+        @Override
+        public void writeStateStatus(int contingencyIndex, int operatorStrategyIndex, SensitivityAnalysisResult.Status status) {
+            statuses.add(contingencyIndex);
+            lastValueCountByStatus.add((int) values.stream().filter(v -> v[1] == contingencyIndex).count());
+        }
+    }
+
+    private static void writeResults(SequentialSensitivityResultWriter writer, int threadNum) {
+        for (int c = 0; c < CONTINGENCY_COUNT_PER_THREAD; c++) {
+            int contingencyIndex = threadNum * CONTINGENCY_COUNT_PER_THREAD + c;
+            for (int f = 0; f < FACTOR_COUNT; f++) {
+                // every thread writes the base case
+                writer.writeSensitivityValue(f, -1, -1, f, -1);
+                writer.writeSensitivityValue(f, contingencyIndex, -1, f, contingencyIndex);
+            }
+            writer.writeStateStatus(contingencyIndex, -1, SensitivityAnalysisResult.Status.SUCCESS);
+        }
+        writer.flush();
+    }
+
+    @Test
+    void test() throws Exception {
+        RecordingWriter recordingWriter = new RecordingWriter();
+        // only 2 batches for 4 threads to check back-pressure
+        try (var writer = new SequentialSensitivityResultWriter(recordingWriter, FACTOR_COUNT, 2);
+             ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                int threadNum = t;
+                futures.add(executor.submit(() -> writeResults(writer, threadNum)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // base case values are written only once
+        assertEquals(FACTOR_COUNT, recordingWriter.values.stream().filter(v -> v[1] == -1).count());
+        assertEquals((long) THREAD_COUNT * CONTINGENCY_COUNT_PER_THREAD * FACTOR_COUNT, recordingWriter.values.stream().filter(v -> v[1] != -1).count());
+
+        // each status is written after all the values of its contingency
+        assertEquals(THREAD_COUNT * CONTINGENCY_COUNT_PER_THREAD, recordingWriter.statuses.size());
+        assertTrue(recordingWriter.lastValueCountByStatus.stream().allMatch(count -> count == FACTOR_COUNT));
+    }
+
+    @Test
+    void testWriterFailure() {
+        SensitivityResultWriter failingWriter = new SensitivityResultWriter() {
+            @Override
+            public void writeSensitivityValue(int factorIndex, int contingencyIndex, int operatorStrategyIndex, double value, double functionReference) {
+                throw new IllegalStateException("Disk full");
+            }
+
+            @Override
+            public void writeStateStatus(int contingencyIndex, int operatorStrategyIndex, SensitivityAnalysisResult.Status status) {
+                // nothing to do
+            }
+        };
+        var writer = new SequentialSensitivityResultWriter(failingWriter, FACTOR_COUNT, 1);
+        // the computation thread fails fast instead of blocking, as soon as it needs a recycled batch
+        PowsyblException e = assertThrows(PowsyblException.class, () -> writeResults(writer, 0));
+        assertEquals("Sensitivity result writer failed", e.getMessage());
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        IllegalStateException e2 = assertThrows(IllegalStateException.class, writer::close);
+        assertEquals("Disk full", e2.getMessage());
+    }
+
+    @Test
+    void testUnknownFactorCount() {
+        RecordingWriter recordingWriter = new RecordingWriter();
+        try (var writer = new SequentialSensitivityResultWriter(recordingWriter)) {
+            // deduplication grows to factor indexes far beyond the initial capacity
+            for (int f : new int[] {0, 100_000, 5, 100_000, 0, 1_000_000}) {
+                writer.writeSensitivityValue(f, -1, -1, f, -1);
+            }
+            writer.flush();
+        }
+        assertEquals(List.of(0, 100_000, 5, 1_000_000), recordingWriter.values.stream().map(v -> v[0]).toList());
+    }
+
+    @Test
+    void testWriterError() {
+        SensitivityResultWriter failingWriter = new SensitivityResultWriter() {
+            @Override
+            public void writeSensitivityValue(int factorIndex, int contingencyIndex, int operatorStrategyIndex, double value, double functionReference) {
+                throw new OutOfMemoryError("Simulated");
+            }
+
+            @Override
+            public void writeStateStatus(int contingencyIndex, int operatorStrategyIndex, SensitivityAnalysisResult.Status status) {
+                // nothing to do
+            }
+        };
+        var writer = new SequentialSensitivityResultWriter(failingWriter, FACTOR_COUNT, 1);
+        // errors are also recorded so that the computation thread fails fast
+        PowsyblException e1 = assertThrows(PowsyblException.class, () -> writeResults(writer, 0));
+        assertInstanceOf(OutOfMemoryError.class, e1.getCause());
+        OutOfMemoryError e = assertThrows(OutOfMemoryError.class, writer::close);
+        assertEquals("Simulated", e.getMessage());
+    }
+
+    @Test
+    void testClosedWriter() {
+        RecordingWriter recordingWriter = new RecordingWriter();
+        var writer = new SequentialSensitivityResultWriter(recordingWriter, FACTOR_COUNT, 1);
+        writer.close();
+        // the writer thread is stopped, so waiting for a batch would block forever
+        PowsyblException e = assertThrows(PowsyblException.class, () -> writeResults(writer, 0));
+        assertEquals("Sensitivity result writer stopped", e.getMessage());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        SensitivityResultWriter writer = new RecordingWriter();
+        assertThrows(IllegalArgumentException.class, () -> new SequentialSensitivityResultWriter(writer, -1));
+        assertThrows(IllegalArgumentException.class, () -> new SequentialSensitivityResultWriter(writer, FACTOR_COUNT, 0));
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openloadflow.util.mt;
+
+import com.powsybl.commons.PowsyblException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class MultiThreadHelperTest {
+
+    private static final List<Integer> ITEMS = IntStream.range(0, 100).boxed().toList();
+
+    @Test
+    void testMapWithThreadCount() {
+        List<Integer> expected = ITEMS.stream().map(i -> i * 2).toList();
+        assertEquals(expected, MultiThreadHelper.map(ITEMS, 1, i -> i * 2));
+        assertEquals(expected, MultiThreadHelper.map(ITEMS, 4, i -> i * 2));
+        assertThrows(IllegalArgumentException.class, () -> MultiThreadHelper.map(ITEMS, 0, i -> i * 2));
+    }
+
+    @Test
+    void testMapWithExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            // results are in items order whatever the completion order
+            assertEquals(ITEMS.stream().map(i -> -i).toList(), MultiThreadHelper.map(ITEMS, executor, i -> -i));
+            // the executor is not owned so still usable
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailure() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            PowsyblException e = assertThrows(PowsyblException.class, () -> MultiThreadHelper.map(ITEMS, executor, i -> {
+                if (i == 50) {
+                    throw new PowsyblException("Failure " + i);
+                }
+                return i;
+            }));
+            assertEquals("Failure 50", e.getMessage());
+
+            // checked exceptions are wrapped
+            var futures = List.of(MultiThreadHelper.submit(executor, () -> {
+                throw new Exception("Checked failure");
+            }));
+            PowsyblException e2 = assertThrows(PowsyblException.class, () -> MultiThreadHelper.getAll(futures));
+            assertEquals("Checked failure", e2.getCause().getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}